@@ -0,0 +1,52 @@
+package com.moviereservation.api.benchmark;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.moviereservation.api.service.reference.BookingReferenceGenerator;
+
+/**
+ * Booking reference generation: the previous random UUID based reference
+ * against BookingReferenceGenerator, uncontended and with 8 threads sharing
+ * one generator (a busy node).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingReferenceBenchmark {
+
+    private final BookingReferenceGenerator generator = new BookingReferenceGenerator(Clock.systemUTC(), 0);
+
+    @Benchmark
+    public String randomUuidReference() {
+        return "BK" + UUID.randomUUID().toString()
+                .substring(0, 6)
+                .toUpperCase();
+    }
+
+    @Benchmark
+    public String generator() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generatorContended() {
+        return generator.next();
+    }
+}
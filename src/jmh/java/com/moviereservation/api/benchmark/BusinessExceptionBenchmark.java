@@ -0,0 +1,98 @@
+package com.moviereservation.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.moviereservation.api.exception.BusinessException;
+import com.moviereservation.api.exception.SeatUnavailableException;
+import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
+import com.moviereservation.api.web.dto.response.wrappers.PreparedErrorResponse;
+
+/**
+ * A seat conflict from throw to response body: BusinessException with a
+ * stack trace against the stackless SeatUnavailableException, thrown
+ * depth frames deep (the proxy chain of a booking request is ~120), and
+ * the error body through ObjectMapper against PreparedErrorResponse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessExceptionBenchmark {
+
+    private static final String MESSAGE = "Seats no longer available: A5, A6";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final PreparedErrorResponse prepared = PreparedErrorResponse.of(MESSAGE);
+
+    @State(Scope.Benchmark)
+    public static class CallStack {
+
+        @Param({ "20", "120" })
+        private int depth;
+    }
+
+    @Benchmark
+    public BusinessException withStackTrace(final CallStack stack) {
+        return catchAt(stack.depth, () -> new BusinessException(MESSAGE, HttpStatus.CONFLICT));
+    }
+
+    @Benchmark
+    public BusinessException stackless(final CallStack stack) {
+        return catchAt(stack.depth, () -> new SeatUnavailableException(MESSAGE));
+    }
+
+    @Benchmark
+    public byte[] objectMapperBody() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.error(MESSAGE));
+    }
+
+    @Benchmark
+    public byte[] preparedBody() {
+        return PreparedErrorResponse.render(MESSAGE);
+    }
+
+    @Benchmark
+    public byte[] preparedConstantBody() {
+        return prepared.render();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static BusinessException catchAt(final int depth, final ExceptionFactory factory) {
+        try {
+            throwAt(depth, factory);
+            return null;
+        } catch (final BusinessException e) {
+            return e;
+        }
+    }
+
+    private static void throwAt(final int depth, final ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+        throwAt(depth - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+        BusinessException create();
+    }
+}
@@ -0,0 +1,50 @@
+package com.moviereservation.api.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.moviereservation.api.domain.id.UuidV7Generator;
+
+/**
+ * Key generation cost: random UUIDv4 against UUIDv7, uncontended and with
+ * 8 threads. Insert throughput and index size are measured in the database
+ * with src/jmh/sql/uuid-key-benchmark.sql.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return UuidV7Generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomUuidContended() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID uuidV7Contended() {
+        return UuidV7Generator.next();
+    }
+}
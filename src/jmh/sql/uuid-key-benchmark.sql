@@ -0,0 +1,59 @@
+-- ============================================================================
+-- Insert throughput and index size: UUIDv4 against UUIDv7 primary keys
+--
+-- Run against a scratch database with the Flyway migrations applied
+-- (uuid_generate_v7 comes from V7):
+--   psql -d movie_reservation_bench -v rows=20000000 -f src/jmh/sql/uuid-key-benchmark.sql
+--
+-- Each table mimics seat_instance: UUID primary key plus a secondary index,
+-- 120 seats per showtime. Compare the insert timings and the sizes at the
+-- end; leaf density shows how full the primary key pages are.
+-- ============================================================================
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 10000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+DROP TABLE IF EXISTS bench_keys_v4;
+DROP TABLE IF EXISTS bench_keys_v7;
+
+CREATE UNLOGGED TABLE bench_keys_v4 (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    showtime_id UUID NOT NULL,
+    seat_number SMALLINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'AVAILABLE'
+);
+CREATE INDEX ON bench_keys_v4 (showtime_id, status);
+
+CREATE UNLOGGED TABLE bench_keys_v7 (LIKE bench_keys_v4 INCLUDING ALL);
+ALTER TABLE bench_keys_v7 ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+\echo 'Inserting' :rows 'rows with UUIDv4 keys'
+INSERT INTO bench_keys_v4 (showtime_id, seat_number)
+SELECT ('00000000-0000-4000-8000-' || lpad(to_hex(g / 120), 12, '0'))::UUID, (g % 120)::SMALLINT
+FROM generate_series(0, :rows - 1) AS g;
+
+\echo 'Inserting' :rows 'rows with UUIDv7 keys'
+INSERT INTO bench_keys_v7 (showtime_id, seat_number)
+SELECT ('00000000-0000-4000-8000-' || lpad(to_hex(g / 120), 12, '0'))::UUID, (g % 120)::SMALLINT
+FROM generate_series(0, :rows - 1) AS g;
+
+\timing off
+
+SELECT 'v4' AS keys,
+       pg_size_pretty(pg_relation_size('bench_keys_v4_pkey')) AS pkey_size,
+       (pgstatindex('bench_keys_v4_pkey')).avg_leaf_density AS pkey_leaf_density,
+       pg_size_pretty(pg_total_relation_size('bench_keys_v4')) AS total_size
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('bench_keys_v7_pkey')),
+       (pgstatindex('bench_keys_v7_pkey')).avg_leaf_density,
+       pg_size_pretty(pg_total_relation_size('bench_keys_v7'));
+
+-- WAL written per table is visible in pg_stat_statements (wal_bytes) when enabled.
+DROP TABLE bench_keys_v4;
+DROP TABLE bench_keys_v7;
@@ -0,0 +1,30 @@
+package com.moviereservation.api.config;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for the booking funnel metrics.
+ * Showtime tags are low-cardinality by default: every showtime reports as
+ * "other" unless it is listed in hot-showtimes.
+ */
+@ConfigurationProperties(prefix = "app.metrics.booking")
+@Getter
+@Setter
+public class BookingMetricsProperties {
+
+    /** Showtimes that get their own showtime tag value (opt-in high cardinality). */
+    private Set<UUID> hotShowtimes = new LinkedHashSet<>();
+
+    /** Upper bound on distinct showtime tag values; further values are dropped. */
+    private int maxTaggedShowtimes = 50;
+
+    /** Whether latency timers publish percentile histogram buckets. */
+    private boolean percentileHistograms = true;
+}
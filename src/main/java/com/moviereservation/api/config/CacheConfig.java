@@ -0,0 +1,85 @@
+package com.moviereservation.api.config;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviereservation.api.constant.CacheNames;
+import com.moviereservation.api.repository.SeatTemplateRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caffeine-backed Spring cache manager.
+ *
+ * Caches are built from app.cache.specs. Caches with refresh-after-write
+ * are reloaded in the background by the loader registered for them here,
+ * so hot entries never expire under load. Puts and evicts are deferred to
+ * transaction commit so a rolled-back update never evicts or pollutes a cache.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheSpecProperties.class)
+@Slf4j
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            final CacheSpecProperties properties,
+            final SeatTemplateRepository seatTemplateRepository) {
+
+        final Map<String, CacheLoader<Object, Object>> loaders = Map.of(
+                CacheNames.SEAT_TEMPLATES,
+                key -> seatTemplateRepository.findByScreenNumberOrderByRowLabelAscSeatNumberAsc((Short) key));
+
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        // Static mode: only the configured caches below exist
+        cacheManager.setCacheNames(Set.of());
+
+        properties.getSpecs().forEach((name, spec) -> {
+            final Caffeine<Object, Object> builder = toBuilder(spec);
+
+            if (spec.getRefreshAfterWrite() != null) {
+                final CacheLoader<Object, Object> loader = loaders.get(name);
+                if (loader == null) {
+                    throw new IllegalStateException("Cache '" + name + "' has refresh-after-write but no loader");
+                }
+                cacheManager.registerCustomCache(name, builder.build(loader));
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+
+            log.debug("Configured cache: {} (maxSize={}, expireAfterWrite={}, refreshAfterWrite={})",
+                    name, spec.getMaximumSize(), spec.getExpireAfterWrite(), spec.getRefreshAfterWrite());
+        });
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Caffeine<Object, Object> toBuilder(final CacheSpecProperties.Spec spec) {
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getRefreshAfterWrite() != null) {
+            builder.refreshAfterWrite(spec.getRefreshAfterWrite());
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,39 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Per-cache Caffeine settings for Spring @Cacheable caches.
+ * Only caches listed here exist; lookups of any other name fail fast.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class CacheSpecProperties {
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        /** Maximum number of entries kept in the cache. */
+        private Long maximumSize;
+
+        /** Time after write before an entry expires. */
+        private Duration expireAfterWrite;
+
+        /** Time after write before an entry is reloaded in the background. Needs a registered loader. */
+        private Duration refreshAfterWrite;
+
+        /** Whether hit/miss/eviction statistics are recorded and exported. */
+        private boolean recordStats = true;
+    }
+}
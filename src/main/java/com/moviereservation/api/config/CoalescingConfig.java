@@ -0,0 +1,44 @@
+package com.moviereservation.api.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import com.moviereservation.api.service.coalescing.Coalesced;
+import com.moviereservation.api.service.coalescing.CoalescingInterceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Request coalescing for @Coalesced methods.
+ */
+@Configuration
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+
+    /**
+     * Runs outside the cache and transaction advice, so waiting callers hold
+     * no database connection and one execution fills the cache for all.
+     * Dependencies are lazy: advisors are created before bean post-processing
+     * is fully set up.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor coalescingAdvisor(
+            @Lazy final CoalescingProperties properties,
+            @Lazy final MeterRegistry meterRegistry) {
+
+        final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class),
+                new CoalescingInterceptor(properties, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,49 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for coalescing concurrent identical calls of @Coalesced methods.
+ * Per-method settings are keyed by the name given in the annotation.
+ */
+@ConfigurationProperties(prefix = "app.coalescing")
+@Getter
+@Setter
+public class CoalescingProperties {
+
+    /** Master switch; when off every call runs on its own. */
+    private boolean enabled = true;
+
+    /** How long a caller waits for a shared call before running its own. */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /** Overrides per coalesced method name. */
+    private Map<String, MethodSettings> methods = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class MethodSettings {
+
+        private boolean enabled = true;
+
+        /** Wait timeout for this method; defaults to app.coalescing.timeout. */
+        private Duration timeout;
+    }
+
+    public boolean isEnabled(final String name) {
+        final MethodSettings settings = methods.get(name);
+        return enabled && (settings == null || settings.isEnabled());
+    }
+
+    public Duration getTimeout(final String name) {
+        final MethodSettings settings = methods.get(name);
+        return settings != null && settings.getTimeout() != null ? settings.getTimeout() : timeout;
+    }
+}
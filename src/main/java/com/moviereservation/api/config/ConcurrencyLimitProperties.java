@@ -0,0 +1,44 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of the adaptive concurrency limit on booking and payment endpoints.
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Limit until enough latency samples have been seen. */
+    private int initialLimit = 40;
+
+    private int minLimit = 8;
+
+    private int maxLimit = 400;
+
+    /** Latency increase over the long-term average tolerated before the limit shrinks (1.5 = 50%). */
+    private double rttTolerance = 1.5;
+
+    /** Weight of each new limit estimate; lower values react slower but steadier. */
+    private double smoothing = 0.2;
+
+    /** Samples in the long-term latency average. */
+    private int longWindow = 600;
+
+    /** Share of the limit other reservation requests may use. */
+    private double normalShare = 0.9;
+
+    /** Share of the limit new seat holds may use; the rest is kept for payments. */
+    private double sheddableShare = 0.75;
+
+    /** Retry-After sent with shed requests. */
+    private Duration retryAfter = Duration.ofSeconds(1);
+}
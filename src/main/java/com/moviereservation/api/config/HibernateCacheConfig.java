@@ -0,0 +1,61 @@
+package com.moviereservation.api.config;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate second-level cache backed by Caffeine through JCache.
+ *
+ * Regions are created up front from app.hibernate-cache.regions so each one
+ * is bounded; Hibernate is configured to fail on any region not listed there.
+ * Hit/miss statistics are exported by Spring Boot's Hibernate metrics binder.
+ */
+@Configuration
+@EnableConfigurationProperties(HibernateCacheProperties.class)
+@Slf4j
+public class HibernateCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(final HibernateCacheProperties properties) {
+        final CacheManager cacheManager = Caching
+                .getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+
+        properties.getRegions().forEach((name, region) -> {
+            final CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setStatisticsEnabled(true);
+            if (region.getMaximumSize() != null) {
+                configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            }
+            if (region.getTimeToLive() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+            }
+
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration);
+            }
+            log.debug("Created L2 cache region: {} (maxSize={}, ttl={})",
+                    name, region.getMaximumSize(), region.getTimeToLive());
+        });
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(final CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+}
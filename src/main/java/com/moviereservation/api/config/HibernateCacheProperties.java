@@ -0,0 +1,33 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Sizing and expiry of Hibernate second-level cache regions.
+ * Regions without a maximum size or TTL are unbounded / never expire.
+ */
+@ConfigurationProperties(prefix = "app.hibernate-cache")
+@Getter
+@Setter
+public class HibernateCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /** Maximum number of entries kept in the region. */
+        private Long maximumSize;
+
+        /** Time after write before an entry expires. */
+        private Duration timeToLive;
+    }
+}
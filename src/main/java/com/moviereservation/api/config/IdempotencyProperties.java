@@ -0,0 +1,31 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of Idempotency-Key handling on reservation and payment creation.
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /** How long a completed response is replayed for the same key. */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** How long a key stays claimed by a request that never finishes, e.g. on a crashed node. */
+    private Duration inProgressTimeout = Duration.ofMinutes(1);
+
+    /** Completed responses kept in memory on each node. */
+    private int cacheSize = 10_000;
+
+    /** How long a duplicate waits for the request running on this node before answering 409. */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,34 @@
+package com.moviereservation.api.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JDK Flight Recorder settings for the booking recording.
+ */
+@ConfigurationProperties(prefix = "app.diagnostics.jfr")
+@Getter
+@Setter
+public class JfrProperties {
+
+    /** Start the recording when the application is ready, for always-on evidence. */
+    private boolean startOnStartup = false;
+
+    /** Built-in JFR configuration the booking events are added to: default or profile. */
+    private String settings = "default";
+
+    /** How much history the recording keeps. */
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /** Size cap of the recording's on-disk buffer. */
+    private DataSize maxSize = DataSize.ofMegabytes(250);
+
+    /** Directory dumps are written to. */
+    private Path dumpDirectory = Path.of(System.getProperty("java.io.tmpdir"), "jfr");
+}
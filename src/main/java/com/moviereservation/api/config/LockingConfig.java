@@ -0,0 +1,42 @@
+package com.moviereservation.api.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+import com.moviereservation.api.service.locking.LockConflictRetryInterceptor;
+import com.moviereservation.api.service.locking.RetryOnLockConflict;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lock timeout settings and retries for @RetryOnLockConflict methods.
+ */
+@Configuration
+@EnableConfigurationProperties(LockingProperties.class)
+public class LockingConfig {
+
+    /**
+     * Runs outside the transaction advice, so every attempt gets a fresh
+     * transaction; the one that hit the conflict is already rolled back.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor lockConflictRetryAdvisor(
+            @Lazy final LockingProperties properties,
+            @Lazy final MeterRegistry meterRegistry) {
+
+        final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryOnLockConflict.class),
+                new LockConflictRetryInterceptor(properties, meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return advisor;
+    }
+}
@@ -0,0 +1,38 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Seat row locking: how long to wait for a lock and how @RetryOnLockConflict
+ * methods retry after a deadlock or lock timeout.
+ */
+@ConfigurationProperties(prefix = "app.locking")
+@Getter
+@Setter
+public class LockingProperties {
+
+    /** Longest a transaction waits for seat row locks before failing (SET LOCAL lock_timeout). */
+    private Duration lockTimeout = Duration.ofSeconds(2);
+
+    private Retry retry = new Retry();
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        private boolean enabled = true;
+
+        /** Attempts in total, including the first. */
+        private int maxAttempts = 3;
+
+        /** Backoff before the first retry; doubles per retry up to maxBackoff, with jitter. */
+        private Duration initialBackoff = Duration.ofMillis(20);
+
+        private Duration maxBackoff = Duration.ofMillis(200);
+    }
+}
@@ -0,0 +1,30 @@
+package com.moviereservation.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.moviereservation.api.service.metrics.BookingMetrics;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * Application metrics and diagnostics configuration.
+ */
+@Configuration
+@EnableConfigurationProperties({ BookingMetricsProperties.class, JfrProperties.class })
+public class MetricsConfig {
+
+    /**
+     * Safety net for the opt-in showtime tag: once too many distinct showtimes
+     * are tagged, new booking meters are denied instead of growing the registry.
+     */
+    @Bean
+    public MeterFilter bookingShowtimeTagLimit(final BookingMetricsProperties properties) {
+        return MeterFilter.maximumAllowableTags(
+                BookingMetrics.METRIC_PREFIX,
+                BookingMetrics.SHOWTIME_TAG,
+                properties.getMaxTaggedShowtimes() + 1, // plus the shared "other" value
+                MeterFilter.deny());
+    }
+}
@@ -0,0 +1,12 @@
+package com.moviereservation.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Payment reconciliation configuration.
+ */
+@Configuration
+@EnableConfigurationProperties(PaymentReconciliationProperties.class)
+public class PaymentReconciliationConfig {
+}
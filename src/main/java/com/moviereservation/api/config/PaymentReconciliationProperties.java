@@ -0,0 +1,31 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of the reconciler that re-checks stuck PENDING payments with the gateway.
+ */
+@ConfigurationProperties(prefix = "app.payment.reconciliation")
+@Getter
+@Setter
+public class PaymentReconciliationProperties {
+
+    private boolean enabled = true;
+
+    /** PENDING payments older than this are checked; keep it well below the 5 minute seat hold. */
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    /** Minimum time between two checks of the same payment. */
+    private Duration recheckInterval = Duration.ofMinutes(1);
+
+    /** Payments claimed per run. */
+    private int batchSize = 50;
+
+    /** Gateway lookups in flight at once. */
+    private int concurrency = 8;
+}
@@ -0,0 +1,26 @@
+package com.moviereservation.api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.moviereservation.api.service.querybudget.QueryCountingStatementInspector;
+
+/**
+ * Query budget configuration.
+ *
+ * The statement inspector is always installed; it only counts on threads
+ * where the query budget filter has opened a scope for a sampled request.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(
+                AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+}
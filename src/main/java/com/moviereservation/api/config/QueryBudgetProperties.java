@@ -0,0 +1,26 @@
+package com.moviereservation.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of per-endpoint SQL statement budgets.
+ */
+@ConfigurationProperties(prefix = "app.query-budget")
+@Getter
+@Setter
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+
+    /** Fraction of requests whose statements are counted, from 0.0 to 1.0. */
+    private double sampleRate = 0.05;
+
+    /** Fail the request instead of only logging it; for tests. */
+    private boolean failOnExceed = false;
+
+    /** Statement fingerprints logged for a request over its budget. */
+    private int reportedFingerprints = 5;
+}
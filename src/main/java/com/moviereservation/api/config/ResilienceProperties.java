@@ -0,0 +1,54 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Circuit breaker and bulkhead settings per external dependency.
+ * Call timeouts are set on the clients themselves (app.stripe.api.*-timeout
+ * and the mail.smtp.*timeout properties).
+ */
+@ConfigurationProperties(prefix = "app.resilience")
+@Getter
+@Setter
+public class ResilienceProperties {
+
+    private Dependency paymentGateway = new Dependency();
+
+    private Dependency mail = new Dependency();
+
+    @Getter
+    @Setter
+    public static class Dependency {
+
+        /** Calls in flight at once; further calls wait up to max-wait, then are rejected. */
+        private int maxConcurrentCalls = 20;
+
+        private Duration maxWait = Duration.ZERO;
+
+        /** Number of recent calls the failure and slow call rates are computed over. */
+        private int slidingWindowSize = 20;
+
+        /** Calls needed in the window before the rates are evaluated. */
+        private int minimumCalls = 10;
+
+        /** Percentage of failed calls that opens the circuit. */
+        private float failureRateThreshold = 50;
+
+        /** Calls slower than this count as slow. */
+        private Duration slowCallThreshold = Duration.ofSeconds(5);
+
+        /** Percentage of slow calls that opens the circuit. */
+        private float slowCallRateThreshold = 80;
+
+        /** How long an open circuit rejects calls before letting probes through. */
+        private Duration openDuration = Duration.ofSeconds(30);
+
+        /** Probe calls let through while half-open; their outcome closes or reopens the circuit. */
+        private int halfOpenCalls = 3;
+    }
+}
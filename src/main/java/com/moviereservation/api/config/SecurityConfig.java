@@ -2,6 +2,8 @@ package com.moviereservation.api.config;
 
 import java.util.Arrays;
 
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.cache.CachesEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,10 +25,13 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.constant.SecurityConstants;
 import com.moviereservation.api.security.CustomUserDetailsService;
 import com.moviereservation.api.security.JwtAuthenticationEntryPoint;
+import com.moviereservation.api.security.ConcurrencyLimitFilter;
 import com.moviereservation.api.security.JwtAuthenticationFilter;
 import com.moviereservation.api.security.RateLimitFilter;
+import com.moviereservation.api.web.actuator.JfrEndpoint;
 
 import lombok.RequiredArgsConstructor;
 
@@ -40,6 +45,7 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RateLimitFilter rateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
     /**
      * BCrypt password encoder with strength 12.
@@ -81,7 +87,8 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization", "Content-Type"));
+        configuration.setExposedHeaders(Arrays.asList(
+                "Authorization", "Content-Type", SecurityConstants.IDEMPOTENT_REPLAYED_HEADER));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
@@ -111,11 +118,13 @@ public class SecurityConfig {
 
                         // Admin endpoints
                         .requestMatchers(Route.ADMIN + "/**").hasRole("ADMIN")
+                        .requestMatchers(EndpointRequest.to(CachesEndpoint.class, JfrEndpoint.class)).hasRole("ADMIN")
 
                         // All other endpoints require authentication
                         .anyRequest().authenticated())
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(rateLimitFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(concurrencyLimitFilter, RateLimitFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -0,0 +1,29 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings of the background job that refunds a cancelled showtime's reservations.
+ */
+@ConfigurationProperties(prefix = "app.showtime-cancellation")
+@Getter
+@Setter
+public class ShowtimeCancellationProperties {
+
+    /** Reservations loaded and refunded per step; progress is saved after each page. */
+    private int pageSize = 50;
+
+    /** Refunds in flight at once on one node. */
+    private int refundConcurrency = 4;
+
+    /** Refund calls per second to the payment provider from one node. */
+    private double refundsPerSecond = 10;
+
+    /** A running job without progress for this long is taken over by another node. */
+    private Duration stallTimeout = Duration.ofMinutes(2);
+}
@@ -1,5 +1,7 @@
 package com.moviereservation.api.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
@@ -26,9 +28,18 @@ public class StripeConfig {
     @Value("${app.currency:INR}")
     private String currency;
 
+    /** Bounds every Stripe call, so a degraded API cannot hold request threads indefinitely. */
+    @Value("${app.stripe.api.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${app.stripe.api.read-timeout:10s}")
+    private Duration readTimeout;
+
     @PostConstruct
     public void init() {
         Stripe.apiKey = secretKey;
+        Stripe.setConnectTimeout((int) connectTimeout.toMillis());
+        Stripe.setReadTimeout((int) readTimeout.toMillis());
         log.info("Stripe API key initialized successfully.");
     }
 
@@ -0,0 +1,13 @@
+package com.moviereservation.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Virtual waiting room configuration.
+ * The queue store is selected with app.waiting-room.store.
+ */
+@Configuration
+@EnableConfigurationProperties(WaitingRoomProperties.class)
+public class WaitingRoomConfig {
+}
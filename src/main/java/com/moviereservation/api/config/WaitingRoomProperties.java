@@ -0,0 +1,34 @@
+package com.moviereservation.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Virtual waiting room settings for high-demand showtimes.
+ */
+@ConfigurationProperties(prefix = "app.waiting-room")
+@Getter
+@Setter
+public class WaitingRoomProperties {
+
+    /** Where queues live: memory (single node) or database (shared by all nodes). */
+    private Store store = Store.MEMORY;
+
+    /** Admissions per second for showtimes without their own admission rate. */
+    private int admissionRate = 5;
+
+    /** How often waiting users are admitted. */
+    private Duration tickInterval = Duration.ofSeconds(1);
+
+    /** How long an admission stays valid for seat maps and booking. */
+    private Duration admissionWindow = Duration.ofMinutes(10);
+
+    public enum Store {
+        MEMORY,
+        DATABASE
+    }
+}
@@ -0,0 +1,158 @@
+package com.moviereservation.api.config.datasource;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Splits the primary pool into one pool per WorkloadType.
+ *
+ * The primary DataSource becomes a WorkloadRoutingDataSource that fetches
+ * connections from the pool of the current @Workload call. Each pool starts
+ * from spring.datasource.hikari and overrides size and connection timeout,
+ * so a saturated pool fails its own callers quickly instead of queueing
+ * them behind other workloads. With replicas enabled, read-only transactions
+ * still go to the replicas and only primary traffic is split.
+ * Enabled with app.datasource.bulkheads.enabled=true.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.bulkheads", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(BulkheadDataSourceProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class BulkheadDataSourceConfig {
+
+    private final BulkheadDataSourceProperties properties;
+
+    /**
+     * Sets the workload before the transaction advice fetches a connection.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor workloadAdvisor() {
+        final ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Workload.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Workload.class));
+
+        final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new WorkloadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return advisor;
+    }
+
+    @Bean(destroyMethod = "close")
+    public WorkloadPools workloadPools(
+            final DataSourceProperties dataSourceProperties,
+            final Environment environment,
+            final MeterRegistry meterRegistry) {
+
+        final Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (final WorkloadType workload : WorkloadType.values()) {
+            pools.put(workload, createPool(workload, dataSourceProperties, environment, meterRegistry));
+        }
+        log.info("Configured workload connection pools: {}", describe(pools));
+        return new WorkloadPools(pools);
+    }
+
+    @Bean
+    public WorkloadRoutingDataSource primaryDataSource(final WorkloadPools workloadPools) {
+        final WorkloadRoutingDataSource routingDataSource = new WorkloadRoutingDataSource();
+        routingDataSource.setTargetDataSources(Map.copyOf(workloadPools.pools()));
+        routingDataSource.setDefaultTargetDataSource(workloadPools.pools().get(properties.getDefaultWorkload()));
+        return routingDataSource;
+    }
+
+    /**
+     * Application DataSource when replicas are disabled; otherwise
+     * ReplicaDataSourceConfig wraps primaryDataSource itself.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource) {
+        // Fetch the connection on first statement, so cache hits inside a transaction take none
+        return new LazyConnectionDataSourceProxy(primaryDataSource);
+    }
+
+    /**
+     * Owns the workload pools; they are not beans, so only the routing
+     * DataSource is visible to JPA and Flyway.
+     */
+    public record WorkloadPools(Map<WorkloadType, HikariDataSource> pools) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            pools.values().forEach(HikariDataSource::close);
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private HikariDataSource createPool(
+            final WorkloadType workload,
+            final DataSourceProperties dataSourceProperties,
+            final Environment environment,
+            final MeterRegistry meterRegistry) {
+
+        final HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+
+        final BulkheadDataSourceProperties.Pool settings = properties.getPool(workload);
+        final String name = workload.name().toLowerCase();
+        pool.setPoolName("MovieReservation-" + name);
+        pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+        pool.setMinimumIdle(settings.getMinimumIdle());
+        pool.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        // hikaricp.connections.* covers counts and wait times; this is the share in use
+        Gauge.builder("db.pool.saturation", pool, BulkheadDataSourceConfig::saturation)
+                .description("Share of the workload pool's connections in use")
+                .tag("workload", name)
+                .register(meterRegistry);
+        return pool;
+    }
+
+    private static double saturation(final HikariDataSource pool) {
+        final HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        return mxBean != null ? (double) mxBean.getActiveConnections() / pool.getMaximumPoolSize() : 0;
+    }
+
+    private static String describe(final Map<WorkloadType, HikariDataSource> pools) {
+        final StringBuilder description = new StringBuilder();
+        pools.forEach((workload, pool) -> description
+                .append(description.isEmpty() ? "" : ", ")
+                .append(workload).append('=').append(pool.getMaximumPoolSize())
+                .append(" (").append(pool.getConnectionTimeout()).append("ms)"));
+        return description.toString();
+    }
+}
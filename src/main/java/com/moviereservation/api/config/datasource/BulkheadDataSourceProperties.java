@@ -0,0 +1,57 @@
+package com.moviereservation.api.config.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Connection pool per workload, so slow admin or background work cannot
+ * exhaust the connections bookings need.
+ */
+@ConfigurationProperties(prefix = "app.datasource.bulkheads")
+@Getter
+@Setter
+public class BulkheadDataSourceProperties {
+
+    /** Split the primary pool into one pool per workload. */
+    private boolean enabled = false;
+
+    /** Pool for work outside any @Workload call. */
+    private WorkloadType defaultWorkload = WorkloadType.BROWSE;
+
+    private Pool booking = new Pool(10, 2, Duration.ofSeconds(2));
+
+    private Pool browse = new Pool(6, 2, Duration.ofSeconds(1));
+
+    private Pool admin = new Pool(2, 0, Duration.ofSeconds(5));
+
+    private Pool background = new Pool(2, 0, Duration.ofSeconds(10));
+
+    public Pool getPool(final WorkloadType workload) {
+        return switch (workload) {
+            case BOOKING -> booking;
+            case BROWSE -> browse;
+            case ADMIN -> admin;
+            case BACKGROUND -> background;
+        };
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+
+        private int maximumPoolSize;
+
+        private int minimumIdle;
+
+        /** How long a caller waits for a connection before failing. Keep short for request pools. */
+        private Duration connectionTimeout;
+    }
+}
@@ -0,0 +1,26 @@
+package com.moviereservation.api.config.datasource;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Per-thread flag that pins read-only transactions to the primary.
+ * Set for the duration of a request that wrote, or that belongs to a
+ * user who wrote within the sticky window.
+ */
+@UtilityClass
+public class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED.get());
+    }
+
+    public static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,81 @@
+package com.moviereservation.api.config.datasource;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviereservation.api.security.UserPrincipal;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Keeps a user's reads on the primary right after they write.
+ *
+ * Write requests (POST/PUT/PATCH/DELETE) are pinned for their whole
+ * duration. A successful write also pins that user's subsequent requests
+ * for the sticky window, so e.g. a booking is visible on the next page load
+ * even if replicas lag.
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final Cache<UUID, Boolean> recentWriters;
+
+    public ReadYourWritesInterceptor(final Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler) {
+
+        final UUID userId = currentUserId();
+        if (isWrite(request) || (userId != null && recentWriters.getIfPresent(userId) != null)) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex) {
+
+        try {
+            final UUID userId = currentUserId();
+            if (userId != null && isWrite(request) && ex == null && response.getStatus() < 400) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private boolean isWrite(final HttpServletRequest request) {
+        final HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS;
+    }
+
+    private UUID currentUserId() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof final UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.moviereservation.api.config.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes @Transactional(readOnly = true) work to read replicas.
+ *
+ * The application DataSource is a LazyConnectionDataSourceProxy over the
+ * primary pool. Connections are only fetched on first use, after the
+ * transaction manager has marked them read-only, so read-only transactions
+ * are served by the replica routing DataSource and everything else by the
+ * primary. Enabled with app.datasource.replicas.enabled=true.
+ *
+ * With bulkheads enabled the primary is BulkheadDataSourceConfig's
+ * workload routing DataSource instead of a single pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class ReplicaDataSourceConfig implements WebMvcConfigurer {
+
+    private final ReplicaDataSourceProperties properties;
+
+    /**
+     * Primary pool, configured from spring.datasource and spring.datasource.hikari.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.bulkheads", name = "enabled", havingValue = "false", matchIfMissing = true)
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * Owns the replica pools and keeps lagging replicas out of rotation.
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(final MeterRegistry meterRegistry) {
+        final Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        properties.getNodes().forEach(node -> replicas.put(node.getName(), createReplicaPool(node, meterRegistry)));
+        log.info("Configured {} read replica(s): {}", replicas.size(), replicas.keySet());
+
+        return new ReplicaLagMonitor(replicas, properties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            final ReplicaLagMonitor replicaLagMonitor) {
+
+        final Map<Object, Object> targets = new LinkedHashMap<>(replicaLagMonitor.getReplicas());
+        targets.put(ReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+        final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") final DataSource primaryDataSource,
+            final ReplicaRoutingDataSource replicaRoutingDataSource) {
+
+        final LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaRoutingDataSource);
+        return proxy;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new ReadYourWritesInterceptor(properties.getStickyWindow()));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private HikariDataSource createReplicaPool(
+            final ReplicaDataSourceProperties.Node node,
+            final MeterRegistry meterRegistry) {
+
+        final HikariConfig config = new HikariConfig();
+        config.setPoolName("MovieReservationReplica-" + node.getName());
+        config.setJdbcUrl(node.getUrl());
+        config.setUsername(node.getUsername());
+        config.setPassword(node.getPassword());
+        config.setMaximumPoolSize(node.getMaximumPoolSize());
+        config.setReadOnly(true);
+        // Do not fail startup on an unreachable replica; the lag monitor keeps it out of rotation
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,49 @@
+package com.moviereservation.api.config.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Read replica settings for routing read-only transactions.
+ */
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    /** Route read-only transactions to replicas. */
+    private boolean enabled = false;
+
+    /** Replicas lagging more than this are skipped until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** How often replica lag is measured. */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /** How long a user's reads stay on the primary after a successful write request. */
+    private Duration stickyWindow = Duration.ofSeconds(10);
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        /** Short name used in pool names, metrics and logs. */
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
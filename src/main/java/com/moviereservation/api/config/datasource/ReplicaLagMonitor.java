@@ -0,0 +1,109 @@
+package com.moviereservation.api.config.datasource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically measures replication lag of each replica.
+ * Replicas that lag beyond the threshold, or cannot be queried, are
+ * taken out of rotation until the next successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // Zero when everything received has been replayed, otherwise age of the last replayed transaction
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)
+            END
+            """;
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Map<String, JdbcTemplate> lagQueries = new ConcurrentHashMap<>();
+    private final Duration maxLag;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(
+            final Map<String, HikariDataSource> replicas,
+            final Duration maxLag,
+            final MeterRegistry meterRegistry) {
+
+        this.replicas = Map.copyOf(replicas);
+        this.maxLag = maxLag;
+        replicas.forEach((name, dataSource) -> {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+            lagQueries.put(name, jdbcTemplate);
+
+            Gauge.builder("db.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                    .description("Replication lag of the replica in seconds")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Replica pools by name.
+     */
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Replicas currently within the lag threshold.
+     */
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:5s}")
+    public void checkLag() {
+        final double maxLagSeconds = maxLag.toMillis() / 1000.0;
+
+        healthyReplicas = lagQueries.entrySet().stream()
+                .filter(entry -> isWithinLag(entry.getKey(), entry.getValue(), maxLagSeconds))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Close all replica pools on shutdown.
+     */
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private boolean isWithinLag(final String name, final JdbcTemplate jdbcTemplate, final double maxLagSeconds) {
+        try {
+            final Double lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+            lagSeconds.put(name, lag);
+
+            if (lag == null || lag > maxLagSeconds) {
+                log.warn("Replica {} lagging {}s (max {}s), routing reads to other nodes", name, lag, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (final RuntimeException ex) {
+            lagSeconds.remove(name);
+            log.warn("Replica {} lag check failed: {}", name, ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.moviereservation.api.config.datasource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Read-only DataSource that spreads connections over healthy replicas.
+ * Falls back to the primary when the caller is pinned for read-your-writes
+ * or when no replica is within the lag threshold.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(final ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        final List<String> healthyReplicas = lagMonitor.getHealthyReplicas();
+        if (healthyReplicas.isEmpty()) {
+            return PRIMARY;
+        }
+
+        return healthyReplicas.get(Math.floorMod(next.getAndIncrement(), healthyReplicas.size()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.moviereservation.api.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the connection pool for a bean or method when bulkheads are enabled.
+ *
+ * The outermost annotated call wins: an admin export that calls
+ * ReservationService stays in the ADMIN pool, so it cannot take
+ * connections from customer bookings.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    WorkloadType value();
+}
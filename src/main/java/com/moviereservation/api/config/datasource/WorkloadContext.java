@@ -0,0 +1,24 @@
+package com.moviereservation.api.config.datasource;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Per-thread workload of the current call, read when a connection is fetched.
+ */
+@UtilityClass
+public class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    public static WorkloadType current() {
+        return CURRENT.get();
+    }
+
+    public static void set(final WorkloadType workload) {
+        CURRENT.set(workload);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
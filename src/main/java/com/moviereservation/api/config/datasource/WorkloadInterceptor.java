@@ -0,0 +1,55 @@
+package com.moviereservation.api.config.datasource;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * Sets the WorkloadContext for @Workload beans and methods. A method
+ * annotation overrides the class annotation; an already set workload is kept.
+ */
+public class WorkloadInterceptor implements MethodInterceptor {
+
+    private final Map<Method, Optional<WorkloadType>> workloads = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        if (WorkloadContext.current() != null) {
+            return invocation.proceed();
+        }
+
+        final Optional<WorkloadType> workload = workloads.computeIfAbsent(
+                invocation.getMethod(), _ -> resolve(invocation));
+        if (workload.isEmpty()) {
+            return invocation.proceed();
+        }
+
+        WorkloadContext.set(workload.get());
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadContext.clear();
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static Optional<WorkloadType> resolve(final MethodInvocation invocation) {
+        final Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        final Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+        Workload annotation = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+        }
+        return Optional.ofNullable(annotation).map(Workload::value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.moviereservation.api.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Picks the workload pool from WorkloadContext. Work outside any @Workload
+ * call (Flyway, security filters, unannotated services) uses the default pool.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
@@ -0,0 +1,19 @@
+package com.moviereservation.api.config.datasource;
+
+/**
+ * Kinds of database work, each served by its own connection pool.
+ */
+public enum WorkloadType {
+
+    /** Holds, confirmations, cancellations and payments. */
+    BOOKING,
+
+    /** Customer-facing catalogue, showtime and seat map reads. Default for unannotated work. */
+    BROWSE,
+
+    /** Admin screens, exports and analytics. */
+    ADMIN,
+
+    /** Scheduled jobs and email delivery. */
+    BACKGROUND
+}
@@ -0,0 +1,15 @@
+package com.moviereservation.api.constant;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Spring cache names used with @Cacheable.
+ * Each cache is configured under app.cache.specs.
+ */
+@UtilityClass
+public final class CacheNames {
+
+    public static final String SEAT_TEMPLATES = "seatTemplates";
+    public static final String MOVIE_DETAILS = "movieDetails";
+    public static final String SHOWTIME_DETAILS = "showtimeDetails";
+}
@@ -0,0 +1,21 @@
+package com.moviereservation.api.constant;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Hibernate second-level cache region names.
+ * Each region needs a matching entry under app.hibernate-cache.regions.
+ */
+@UtilityClass
+public final class CacheRegions {
+
+    // Entity regions
+    public static final String MOVIES = "movies";
+    public static final String SHOWTIMES = "showtimes";
+    public static final String SEAT_TEMPLATES = "seat-templates";
+    public static final String USERS = "users";
+
+    // Hibernate query cache regions
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+}
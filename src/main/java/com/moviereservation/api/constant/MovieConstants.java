@@ -11,6 +11,10 @@ public final class MovieConstants {
     // Default values for showtime/movie
     public static final short DEFAULT_AVAILABLE_SEATS = 120;
 
+    // Screens (chk_showtimes_screen)
+    public static final short MIN_SCREEN_NUMBER = 1;
+    public static final short MAX_SCREEN_NUMBER = 5;
+
     // Movie duration constraints (in minutes)
     public static final int MIN_MOVIE_DURATION = 1;
     public static final int MAX_MOVIE_DURATION = 600; // 10 hours
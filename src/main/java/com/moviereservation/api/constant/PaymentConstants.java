@@ -24,6 +24,12 @@ public final class PaymentConstants {
     // Payment description format
     public static final String PAYMENT_DESCRIPTION_FORMAT = "Movie Reservation - Booking Ref: %s";
 
+    // Idempotency key of a payment intent: reservation ID and attempt number
+    public static final String IDEMPOTENCY_KEY_FORMAT = "payment-intent-%s-%d";
+
+    // Idempotency key of a refund: payment ID
+    public static final String REFUND_IDEMPOTENCY_KEY_FORMAT = "refund-%s";
+
     // Refund reason
     public static final String REFUND_REASON_CUSTOMER_REQUEST = "Customer cancellation";
     public static final String REFUND_REASON_SHOWTIME_CANCELLED = "Showtime cancelled by theater";
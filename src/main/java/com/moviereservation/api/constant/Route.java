@@ -19,6 +19,7 @@ public final class Route {
     public static final String RESERVATIONS = API_V1 + "/reservations";
     public static final String PAYMENTS = API_V1 + "/payments";
     public static final String SHOWTIMES = API_V1 + "/showtimes";
+    public static final String WAITING_ROOM = API_V1 + "/waiting-room";
 
     // Swagger UI
     public static final String SWAGGER_UI = "/swagger-ui/**";
@@ -16,6 +16,11 @@ public final class SecurityConstants {
     // JWT and authentication headers
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String AUTH_HEADER = "Authorization";
+    public static final String WAITING_ROOM_TOKEN_HEADER = "X-Waiting-Room-Token";
+
+    // Idempotent request headers
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
 
     // Token expiration (in milliseconds)
     public static final long JWT_EXPIRATION_MS = 86400000L; // 24 hours
@@ -10,6 +10,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.moviereservation.api.domain.enums.EmailStatus;
 import com.moviereservation.api.domain.enums.EmailType;
+import com.moviereservation.api.domain.id.UuidV7;
 
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -25,7 +26,7 @@ import lombok.ToString;
 public class EmailLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "email_log_id")
     private UUID id;
 
@@ -4,12 +4,15 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.moviereservation.api.constant.CacheRegions;
 import com.moviereservation.api.domain.enums.Genre;
 import com.moviereservation.api.domain.enums.MovieStatus;
 
@@ -19,6 +22,8 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MOVIES)
 @Table(name = "movies")
 @EntityListeners(AuditingEntityListener.class)
 @SQLDelete(sql = "UPDATE movies SET deleted_at = CURRENT_TIMESTAMP WHERE movie_id = ?")
@@ -59,6 +64,9 @@ public class Movie {
     @Column(name = "status", nullable = false)
     private MovieStatus status = MovieStatus.ACTIVE;
 
+    @Column(name = "high_demand", nullable = false)
+    private boolean highDemand = false;
+
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
@@ -11,6 +11,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.moviereservation.api.domain.enums.PaymentStatus;
+import com.moviereservation.api.domain.id.UuidV7;
 
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -26,7 +27,7 @@ import lombok.ToString;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "payment_id")
     private UUID id;
 
@@ -51,7 +52,8 @@ public class Payment {
     @Column(name = "payment_method", length = 50)
     private String paymentMethod = "STRIPE";
 
-    @Column(name = "stripe_payment_intent_id", nullable = false, unique = true)
+    // Null while INITIATED, until the gateway has created the intent
+    @Column(name = "stripe_payment_intent_id", unique = true)
     private String paymentIntentId; // Simplified field name
 
     @Column(name = "stripe_charge_id")
@@ -63,6 +65,10 @@ public class Payment {
     @Column(name = "attempt_number", nullable = false)
     private Short attemptNumber = 1;
 
+    // Last check with the payment provider by the reconciler; set by its claim query
+    @Column(name = "reconciled_at", insertable = false, updatable = false)
+    private Instant reconciledAt;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
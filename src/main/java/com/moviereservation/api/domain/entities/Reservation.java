@@ -14,6 +14,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.moviereservation.api.domain.enums.ReservationStatus;
+import com.moviereservation.api.domain.id.UuidV7;
 
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -29,7 +30,7 @@ import lombok.ToString;
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "reservation_id")
     private UUID id;
 
@@ -15,6 +15,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.moviereservation.api.domain.enums.SeatStatus;
 import com.moviereservation.api.domain.enums.SeatType;
+import com.moviereservation.api.domain.id.UuidV7;
 
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -32,7 +33,7 @@ import lombok.ToString;
 public class SeatInstance {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "seat_instance_id")
     private UUID id;
 
@@ -5,10 +5,13 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.moviereservation.api.constant.CacheRegions;
 import com.moviereservation.api.domain.enums.SeatType;
 
 import jakarta.persistence.*;
@@ -16,6 +19,8 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SEAT_TEMPLATES)
 @Table(name = "seat_template")
 @EntityListeners(AuditingEntityListener.class)
 @Getter
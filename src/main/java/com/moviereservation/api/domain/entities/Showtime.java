@@ -5,6 +5,9 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedBy;
@@ -12,7 +15,8 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import com.moviereservation.api.constant.MovieConstants;
+import com.moviereservation.api.constant.CacheRegions;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
 import com.moviereservation.api.domain.enums.ShowtimeStatus;
 
 import jakarta.persistence.*;
@@ -20,14 +24,26 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
+/**
+ * Cached in the second-level cache, which holds metadata only. The available
+ * seat count changes with every booking and is written in SQL, so it is read
+ * through the uncached ShowtimeSeatCount. status stays cached: it changes a
+ * few times in a showtime's life, always through Hibernate.
+ * DynamicUpdate also makes Hibernate evict the entry on writes rather than
+ * cache the written state, so entries are only built from database reads,
+ * where seatCount is always set.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SHOWTIMES)
 @Table(name = "showtimes")
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE showtimes SET deleted_at = CURRENT_TIMESTAMP WHERE showtime_id = ?")
 @SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
-@ToString(exclude = { "movie", "createdBy" }) // Avoid lazy loading and circular references
+@ToString(exclude = { "movie", "seatCount", "createdBy" }) // Avoid lazy loading and circular references
 public class Showtime {
 
     @Id
@@ -55,8 +71,19 @@ public class Showtime {
     @Column(name = "status", nullable = false)
     private ShowtimeStatus status = ShowtimeStatus.SCHEDULED;
 
-    @Column(name = "available_seats_count", nullable = false)
-    private Short availableSeatsCount = MovieConstants.DEFAULT_AVAILABLE_SEATS;
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "showtime_id", insertable = false, updatable = false)
+    private ShowtimeSeatCount seatCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "seat_storage_mode", nullable = false, updatable = false)
+    private SeatStorageMode seatStorageMode = SeatStorageMode.ROWS;
+
+    @Column(name = "high_demand", nullable = false)
+    private boolean highDemand = false;
+
+    @Column(name = "admission_rate")
+    private Short admissionRate; // waiting room admissions per second, null = default
 
     @Column(name = "deleted_at")
     private Instant deletedAt;
@@ -74,6 +101,13 @@ public class Showtime {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    /**
+     * Seats still available, read from the database rather than the cache.
+     */
+    public Short getAvailableSeatsCount() {
+        return seatCount.getAvailableSeatsCount();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o)
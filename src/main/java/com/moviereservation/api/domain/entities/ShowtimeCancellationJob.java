@@ -0,0 +1,80 @@
+package com.moviereservation.api.domain.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import com.moviereservation.api.domain.enums.CancellationJobStatus;
+import com.moviereservation.api.domain.id.UuidV7;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Table(name = "showtime_cancellation_jobs")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@ToString(exclude = {"lastError"})
+public class ShowtimeCancellationJob {
+
+    @Id
+    @UuidV7
+    @Column(name = "job_id")
+    private UUID id;
+
+    @Column(name = "showtime_id", nullable = false, updatable = false)
+    private UUID showtimeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CancellationJobStatus status = CancellationJobStatus.RUNNING;
+
+    @Column(name = "total_reservations", nullable = false)
+    private int totalReservations;
+
+    @Column(name = "refunded_count", nullable = false)
+    private int refundedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "seats_released", nullable = false)
+    private int seatsReleased;
+
+    @Column(name = "last_reservation_id")
+    private UUID lastReservationId;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ShowtimeCancellationJob)) return false;
+        ShowtimeCancellationJob job = (ShowtimeCancellationJob) o;
+        return id != null && Objects.equals(id, job.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
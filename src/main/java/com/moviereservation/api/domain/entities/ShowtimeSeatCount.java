@@ -0,0 +1,47 @@
+package com.moviereservation.api.domain.entities;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Available seat count of a showtime, mapped read-only onto its showtimes row.
+ * Not cached: the count changes with every booking and is only written in SQL
+ * (ShowtimeSeatCountRepository, book_seats()), so the cached Showtime holds
+ * the reference to it rather than the count itself.
+ */
+@Entity
+@Immutable
+@Table(name = "showtimes")
+@Getter
+@Setter
+@ToString
+public class ShowtimeSeatCount {
+
+    @Id
+    @Column(name = "showtime_id")
+    private UUID showtimeId;
+
+    @Column(name = "available_seats_count", nullable = false)
+    private Short availableSeatsCount;
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof final ShowtimeSeatCount that))
+            return false;
+        return showtimeId != null && Objects.equals(showtimeId, that.showtimeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,61 @@
+package com.moviereservation.api.domain.entities;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Compact seat status storage for a COMPACT showtime.
+ * Holds one status byte per template seat in canonical order
+ * (row label, then seat number). Kept in its own table so that booking
+ * traffic does not rewrite the showtime row.
+ */
+@Entity
+@Table(name = "showtime_seat_maps")
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@ToString(exclude = { "statusMap" })
+public class ShowtimeSeatMap {
+
+    @Id
+    @Column(name = "showtime_id")
+    private UUID showtimeId;
+
+    @Column(name = "seat_count", nullable = false)
+    private Short seatCount;
+
+    @Column(name = "status_map", nullable = false)
+    private byte[] statusMap;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof final ShowtimeSeatMap that))
+            return false;
+        return showtimeId != null && Objects.equals(showtimeId, that.showtimeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -4,10 +4,13 @@ import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.moviereservation.api.constant.CacheRegions;
 import com.moviereservation.api.domain.enums.UserRole;
 
 import jakarta.persistence.*;
@@ -16,6 +19,8 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USERS)
 @Table(name = "users")
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -0,0 +1,12 @@
+package com.moviereservation.api.domain.enums;
+
+/**
+ * How seat bookings are written.
+ * JPA locks the seats with SELECT FOR UPDATE and saves the entities.
+ * FUNCTION calls the book_seats() database function, one round trip per booking;
+ * COMPACT showtimes always use JPA.
+ */
+public enum BookingMode {
+    JPA,
+    FUNCTION
+}
@@ -0,0 +1,10 @@
+package com.moviereservation.api.domain.enums;
+
+/**
+ * Showtime cancellation job status.
+ */
+public enum CancellationJobStatus {
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_FAILURES
+}
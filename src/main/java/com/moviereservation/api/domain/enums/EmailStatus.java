@@ -4,7 +4,10 @@ package com.moviereservation.api.domain.enums;
  * Email delivery status.
  */
 public enum EmailStatus {
+    // Waiting for delivery by EmailService.sendQueuedEmails()
+    QUEUED,
+    // Being sent
     PENDING,
     SENT,
     FAILED
-}
\ No newline at end of file
+}
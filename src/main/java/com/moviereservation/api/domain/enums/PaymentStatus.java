@@ -1,5 +1,5 @@
 package com.moviereservation.api.domain.enums;
 
 public enum PaymentStatus {
-    PENDING,PAID,FAILED,CANCELLED,REFUNDED
+    INITIATED,PENDING,PAID,FAILED,CANCELLED,REFUNDED
 }
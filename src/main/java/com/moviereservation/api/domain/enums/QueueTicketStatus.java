@@ -0,0 +1,6 @@
+package com.moviereservation.api.domain.enums;
+
+public enum QueueTicketStatus {
+    WAITING,
+    ADMITTED
+}
@@ -0,0 +1,12 @@
+package com.moviereservation.api.domain.enums;
+
+/**
+ * How per-showtime seat state is persisted.
+ * ROWS materializes one seat_instance row per template seat at showtime creation.
+ * COMPACT keeps a one-byte-per-seat status map and only materializes
+ * seat_instance rows for seats that get held or reserved.
+ */
+public enum SeatStorageMode {
+    ROWS,
+    COMPACT
+}
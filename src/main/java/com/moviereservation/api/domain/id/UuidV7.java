@@ -0,0 +1,19 @@
+package com.moviereservation.api.domain.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Generate the identifier as a time-ordered UUIDv7 (RFC 9562).
+ * Use on high-insert tables: new keys land at the right edge of the
+ * primary key index instead of on random pages.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface UuidV7 {
+}
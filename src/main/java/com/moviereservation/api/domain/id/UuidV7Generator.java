@@ -0,0 +1,65 @@
+package com.moviereservation.api.domain.id;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * UUIDv7 generator (RFC 9562), monotonic within this JVM.
+ *
+ * <pre>
+ * | unix_ts_ms (48) | ver (4) | counter (12) | var (2) | random (62) |
+ * </pre>
+ *
+ * The 12-bit counter (RFC 9562 method 1) orders keys created in the same
+ * millisecond; more than 4096 keys in one millisecond borrow the next
+ * millisecond. The random bits come from SecureRandom, so keys stay as hard
+ * to guess as the random UUIDs they replace.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Last issued (unix_ts_ms << COUNTER_BITS | counter)
+    private static final AtomicLong LAST_ISSUED = new AtomicLong();
+
+    @Override
+    public Object generate(
+            final SharedSessionContractImplementor session,
+            final Object owner,
+            final Object currentValue,
+            final EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * Create a UUIDv7 outside of Hibernate, e.g. for rows inserted with JDBC.
+     */
+    public static UUID next() {
+        final long now = System.currentTimeMillis() << COUNTER_BITS;
+        final long issued = LAST_ISSUED.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+
+        final long timestamp = issued >>> COUNTER_BITS;
+        final long counter = issued & ((1L << COUNTER_BITS) - 1);
+
+        final long mostSignificant = (timestamp << 16) | VERSION_7 | counter;
+        final long leastSignificant = VARIANT_RFC | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
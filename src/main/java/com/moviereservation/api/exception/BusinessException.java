@@ -9,7 +9,17 @@ public class BusinessException extends RuntimeException {
     private final HttpStatus status;
 
     public BusinessException(final String message, final HttpStatus status) {
-        super(message);
+        this(message, status, true);
+    }
+
+    /**
+     * @param stackTrace Whether to capture a stack trace. Expected outcomes
+     *                   (seat conflicts, unknown ids, rejected input) are only
+     *                   logged by message, so they skip the walk through the
+     *                   proxy chain.
+     */
+    protected BusinessException(final String message, final HttpStatus status, final boolean stackTrace) {
+        super(message, null, stackTrace, stackTrace);
         this.status = status;
     }
 
@@ -0,0 +1,11 @@
+package com.moviereservation.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class CancellationJobNotFoundException extends BusinessException {
+
+    public CancellationJobNotFoundException(final String message) {
+        super(message, HttpStatus.NOT_FOUND);
+    }
+
+}
@@ -1,9 +1,13 @@
 package com.moviereservation.api.exception;
 
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +15,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
+import com.moviereservation.api.web.dto.response.wrappers.PreparedErrorResponse;
 
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
@@ -18,16 +23,37 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Global exception handler for all REST controllers.
  * Provides consistent error responses across the application.
+ *
+ * Business exceptions and fixed messages are written as
+ * {@link PreparedErrorResponse} bodies (same JSON as ApiResponse.error),
+ * since they are frequent under load; the rest go through ApiResponse.
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private static final PreparedErrorResponse AUTHENTICATION_FAILED = PreparedErrorResponse.of("Authentication failed");
+    private static final PreparedErrorResponse INVALID_TOKEN = PreparedErrorResponse.of("Invalid or expired token");
+    private static final PreparedErrorResponse ACCESS_DENIED = PreparedErrorResponse.of("Access denied");
+    private static final PreparedErrorResponse MALFORMED_JSON = PreparedErrorResponse.of("Malformed JSON request");
+    private static final PreparedErrorResponse SERVICE_UNAVAILABLE = PreparedErrorResponse.of(
+            "Service temporarily unavailable, please retry");
+    private static final PreparedErrorResponse INTERNAL_ERROR = PreparedErrorResponse.of("Internal server error");
+
     // --- Business exceptions (all custom domain errors) ---
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ApiResponse<Void>> handleBusinessException(final BusinessException ex) {
+    public ResponseEntity<byte[]> handleBusinessException(final BusinessException ex) {
         log.warn("Business exception: {}", ex.getMessage());
-        return ResponseEntity.status(ex.getStatus()).body(ApiResponse.error(ex.getMessage()));
+        return json(ResponseEntity.status(ex.getStatus()), PreparedErrorResponse.render(ex.getMessage()));
+    }
+
+    // --- Payment provider unavailable (circuit open or bulkhead full) ---
+    @ExceptionHandler(PaymentUnavailableException.class)
+    public ResponseEntity<byte[]> handlePaymentUnavailable(final PaymentUnavailableException ex) {
+        log.warn("Payment provider unavailable: {}", ex.getMessage());
+        return json(ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds()))),
+                PreparedErrorResponse.render(ex.getMessage()));
     }
 
     // --- Validation errors ---
@@ -64,29 +90,29 @@ public class GlobalExceptionHandler {
 
     // --- Authentication / JWT errors ---
     @ExceptionHandler(AuthenticationException.class)
-    public ResponseEntity<ApiResponse<Void>> handleAuthenticationException(final AuthenticationException ex) {
+    public ResponseEntity<byte[]> handleAuthenticationException(final AuthenticationException ex) {
         log.warn("Authentication failed: {}", ex.getMessage());
-        return ResponseEntity.status(401).body(ApiResponse.error("Authentication failed"));
+        return json(ResponseEntity.status(401), AUTHENTICATION_FAILED.render());
     }
 
     @ExceptionHandler(JwtException.class)
-    public ResponseEntity<ApiResponse<Void>> handleJwtException(final JwtException ex) {
+    public ResponseEntity<byte[]> handleJwtException(final JwtException ex) {
         log.error("JWT exception: {}", ex.getMessage());
-        return ResponseEntity.status(401).body(ApiResponse.error("Invalid or expired token"));
+        return json(ResponseEntity.status(401), INVALID_TOKEN.render());
     }
 
     // --- Authorization / role violations ---
     @ExceptionHandler(AccessDeniedException.class)
-    public ResponseEntity<ApiResponse<Void>> handleAccessDenied(final AccessDeniedException ex) {
+    public ResponseEntity<byte[]> handleAccessDenied(final AccessDeniedException ex) {
         log.warn("Access denied: {}", ex.getMessage());
-        return ResponseEntity.status(403).body(ApiResponse.error("Access denied"));
+        return json(ResponseEntity.status(403), ACCESS_DENIED.render());
     }
 
     // --- Malformed JSON ---
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ApiResponse<Void>> handleMalformedJson(final HttpMessageNotReadableException ex) {
+    public ResponseEntity<byte[]> handleMalformedJson(final HttpMessageNotReadableException ex) {
         log.warn("Malformed JSON request: {}", ex.getMessage());
-        return ResponseEntity.badRequest().body(ApiResponse.error("Malformed JSON request"));
+        return json(ResponseEntity.badRequest(), MALFORMED_JSON.render());
     }
 
     // --- Wrong HTTP method ---
@@ -96,10 +122,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(405).body(ApiResponse.error("Method not supported: " + ex.getMethod()));
     }
 
+    // --- No database connection in time (workload pool saturated or database down) ---
+    @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+    public ResponseEntity<byte[]> handleConnectionUnavailable(final Exception ex) {
+        log.warn("Database connection unavailable: {}", ex.getMessage());
+        return json(ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1"), SERVICE_UNAVAILABLE.render());
+    }
+
     // --- Fallback for any other unexpected exceptions ---
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleGenericException(final Exception ex) {
+    public ResponseEntity<byte[]> handleGenericException(final Exception ex) {
         log.error("Unexpected error occurred", ex);
-        return ResponseEntity.status(500).body(ApiResponse.error("Internal server error"));
+        return json(ResponseEntity.status(500), INTERNAL_ERROR.render());
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static ResponseEntity<byte[]> json(final ResponseEntity.BodyBuilder response, final byte[] body) {
+        return response.contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
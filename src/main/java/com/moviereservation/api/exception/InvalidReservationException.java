@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 
 public class InvalidReservationException extends BusinessException {
     public InvalidReservationException(final String message) {
-        super(message, HttpStatus.BAD_REQUEST);
+        super(message, HttpStatus.BAD_REQUEST, false);
     }
 
 }
@@ -0,0 +1,10 @@
+package com.moviereservation.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class LockConflictException extends BusinessException {
+    public LockConflictException(final String message) {
+        super(message, HttpStatus.CONFLICT, false);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.moviereservation.api.exception;
+
+import java.time.Duration;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+
+/**
+ * The payment provider is unavailable; the request can be retried after
+ * {@link #getRetryAfter()}.
+ */
+@Getter
+public class PaymentUnavailableException extends BusinessException {
+
+    private final Duration retryAfter;
+
+    public PaymentUnavailableException(final String message, final Duration retryAfter) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, false);
+        this.retryAfter = retryAfter;
+    }
+}
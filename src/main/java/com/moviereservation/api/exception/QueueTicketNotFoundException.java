@@ -0,0 +1,10 @@
+package com.moviereservation.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class QueueTicketNotFoundException extends BusinessException {
+    public QueueTicketNotFoundException(final String message) {
+        super(message, HttpStatus.NOT_FOUND);
+    }
+
+}
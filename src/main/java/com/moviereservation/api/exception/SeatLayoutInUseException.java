@@ -0,0 +1,11 @@
+package com.moviereservation.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class SeatLayoutInUseException extends BusinessException {
+
+    public SeatLayoutInUseException(final String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+
+}
@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 
 public class SeatNotFoundException  extends BusinessException {
     public SeatNotFoundException(final String message) {
-        super(message, HttpStatus.NOT_FOUND);
+        super(message, HttpStatus.NOT_FOUND, false);
     }
 
     
@@ -4,7 +4,7 @@ import org.springframework.http.HttpStatus;
 
 public class SeatUnavailableException extends BusinessException {
     public SeatUnavailableException(final String message) {
-        super(message, HttpStatus.CONFLICT);
+        super(message, HttpStatus.CONFLICT, false);
     }
 
 }
\ No newline at end of file
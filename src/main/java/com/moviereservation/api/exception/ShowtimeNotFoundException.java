@@ -5,7 +5,7 @@ import org.springframework.http.HttpStatus;
 public class ShowtimeNotFoundException extends BusinessException {
 
     public ShowtimeNotFoundException(final String message) {
-        super(message, HttpStatus.NOT_FOUND);
+        super(message, HttpStatus.NOT_FOUND, false);
     }
 
 }
@@ -0,0 +1,10 @@
+package com.moviereservation.api.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class WaitingRoomRequiredException extends BusinessException {
+    public WaitingRoomRequiredException(final String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, false);
+    }
+
+}
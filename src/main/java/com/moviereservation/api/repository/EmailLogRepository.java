@@ -3,14 +3,21 @@ package com.moviereservation.api.repository;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.moviereservation.api.domain.entities.EmailLog;
 import com.moviereservation.api.domain.enums.EmailStatus;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for EmailLog entity operations.
  */
@@ -32,6 +39,15 @@ public interface EmailLogRepository extends JpaRepository<EmailLog, UUID> {
             @Param("maxRetries") int maxRetries,
             @Param("failed") EmailStatus failed);
 
+    /**
+     * Lock the oldest emails in a status, e.g. queued emails awaiting delivery.
+     * Rows another node is claiming are skipped; claimed emails leave the
+     * status before they are sent, so no email goes out twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SeatInstanceRepository.SKIP_LOCKED))
+    List<EmailLog> findByStatusOrderByCreatedAtAsc(EmailStatus status, Limit limit);
+
     /**
      * Find all email logs for a specific reservation.
      */
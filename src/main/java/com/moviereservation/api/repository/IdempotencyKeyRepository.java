@@ -0,0 +1,136 @@
+package com.moviereservation.api.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Idempotency keys and their stored responses, shared by all nodes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    // A key can be taken over once it has expired: a completed response
+    // past its TTL, or an IN_PROGRESS claim whose node never finished it.
+    // The conflict update is skipped otherwise, so exactly one concurrent
+    // insert or takeover reports a row.
+    private static final String CLAIM = """
+            INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, claim_token, expires_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, idempotency_key) DO UPDATE
+            SET request_hash = EXCLUDED.request_hash,
+                claim_token = EXCLUDED.claim_token,
+                status = 'IN_PROGRESS',
+                response_status = NULL,
+                response_content_type = NULL,
+                response_body = NULL,
+                created_at = CURRENT_TIMESTAMP,
+                expires_at = EXCLUDED.expires_at
+            WHERE idempotency_keys.expires_at <= ?
+            """;
+
+    private static final String FIND = """
+            SELECT request_hash, status, response_status, response_content_type, response_body
+            FROM idempotency_keys
+            WHERE user_id = ? AND idempotency_key = ? AND expires_at > ?
+            """;
+
+    private static final String COMPLETE = """
+            UPDATE idempotency_keys
+            SET status = 'COMPLETED', response_status = ?, response_content_type = ?, response_body = ?,
+                expires_at = ?
+            WHERE user_id = ? AND idempotency_key = ? AND claim_token = ? AND status = 'IN_PROGRESS'
+            """;
+
+    private static final String RELEASE = """
+            DELETE FROM idempotency_keys
+            WHERE user_id = ? AND idempotency_key = ? AND claim_token = ? AND status = 'IN_PROGRESS'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * A key as stored; response is null while its request is in progress.
+     */
+    public record StoredKey(String requestHash, StoredResponse response) {
+
+        public boolean completed() {
+            return response != null;
+        }
+    }
+
+    /**
+     * Claim a key for a request, held IN_PROGRESS until claimExpiresAt.
+     *
+     * @param claimToken Identifies this claim to complete and release
+     * @return true if this call claimed the key; false if it is taken
+     */
+    public boolean claim(
+            final UUID userId,
+            final String key,
+            final String requestHash,
+            final UUID claimToken,
+            final Instant now,
+            final Instant claimExpiresAt) {
+
+        return jdbcTemplate.update(CLAIM,
+                userId, key, requestHash, claimToken, Timestamp.from(claimExpiresAt), Timestamp.from(now)) == 1;
+    }
+
+    /**
+     * Find a key that has not expired.
+     */
+    public Optional<StoredKey> find(final UUID userId, final String key, final Instant now) {
+        return jdbcTemplate.query(FIND,
+                (rs, _) -> new StoredKey(
+                        rs.getString("request_hash"),
+                        "COMPLETED".equals(rs.getString("status"))
+                                ? new StoredResponse(
+                                        rs.getInt("response_status"),
+                                        rs.getString("response_content_type"),
+                                        rs.getBytes("response_body"))
+                                : null),
+                userId, key, Timestamp.from(now))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Store the response of a claimed key, kept until expiresAt.
+     *
+     * @return true if stored; false if the claim expired and was taken over
+     */
+    public boolean complete(
+            final UUID userId,
+            final String key,
+            final UUID claimToken,
+            final StoredResponse response,
+            final Instant expiresAt) {
+
+        return jdbcTemplate.update(COMPLETE,
+                response.status(), response.contentType(), response.body(), Timestamp.from(expiresAt),
+                userId, key, claimToken) == 1;
+    }
+
+    /**
+     * Give up a claimed key so a retry runs the request again.
+     * Does nothing if the claim was taken over.
+     */
+    public void release(final UUID userId, final String key, final UUID claimToken) {
+        jdbcTemplate.update(RELEASE, userId, key, claimToken);
+    }
+
+    public int purgeExpired(final Instant now) {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at <= ?", Timestamp.from(now));
+    }
+}
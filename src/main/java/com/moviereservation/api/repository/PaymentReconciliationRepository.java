@@ -0,0 +1,62 @@
+package com.moviereservation.api.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Claims stale PENDING payments for the payment reconciler.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentReconciliationRepository {
+
+    // SKIP LOCKED lets nodes claim disjoint batches concurrently; the
+    // reconciled_at stamp keeps a claimed payment from being claimed again
+    // until the recheck interval has passed, without holding row locks
+    // while the gateway is called.
+    private static final String CLAIM_STALE = """
+            UPDATE payments SET reconciled_at = ?
+            WHERE payment_id IN (
+                SELECT payment_id FROM payments
+                WHERE status = 'PENDING'
+                  AND created_at < ?
+                  AND (reconciled_at IS NULL OR reconciled_at < ?)
+                ORDER BY created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING payment_id, stripe_payment_intent_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StalePayment(UUID paymentId, String paymentIntentId) {
+    }
+
+    /**
+     * Claim up to batchSize PENDING payments created before staleBefore
+     * and not checked since recheckBefore.
+     */
+    @Transactional
+    public List<StalePayment> claimStalePayments(
+            final Instant staleBefore,
+            final Instant recheckBefore,
+            final int batchSize) {
+
+        return jdbcTemplate.query(CLAIM_STALE,
+                (rs, _) -> new StalePayment(
+                        rs.getObject("payment_id", UUID.class),
+                        rs.getString("stripe_payment_intent_id")),
+                Timestamp.from(Instant.now()),
+                Timestamp.from(staleBefore),
+                Timestamp.from(recheckBefore),
+                batchSize);
+    }
+}
@@ -1,9 +1,11 @@
 package com.moviereservation.api.repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,6 +13,8 @@ import org.springframework.stereotype.Repository;
 import com.moviereservation.api.domain.entities.Payment;
 import com.moviereservation.api.domain.enums.PaymentStatus;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository for Payment entity operations.
  */
@@ -23,6 +27,14 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
      */
     Optional<Payment> findByPaymentIntentId(String paymentIntentId);
 
+    /**
+     * Find and lock a payment (SELECT ... FOR UPDATE).
+     * Serializes the webhook and the reconciler applying an intent status.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdWithLock(@Param("id") UUID id);
+
     /**
      * Find payment by reservation ID.
      */
@@ -38,6 +50,21 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
             @Param("reservationId") UUID reservationId,
             @Param("status") PaymentStatus status);
 
+    /**
+     * Find the payment of a reservation in one of the given statuses.
+     * Used to resume a payment attempt in progress; there is at most one
+     * (uq_payments_reservation_in_progress).
+     */
+    @Query("SELECT p FROM Payment p WHERE p.reservation.id = :reservationId AND p.status IN :statuses")
+    Optional<Payment> findByReservationIdAndStatusIn(
+            @Param("reservationId") UUID reservationId,
+            @Param("statuses") Collection<PaymentStatus> statuses);
+
+    /**
+     * Count payment attempts of a reservation.
+     */
+    long countByReservationId(UUID reservationId);
+
     /**
      * Check if payment exists for reservation with any of the given statuses.
      * Used to prevent duplicate payment attempts.
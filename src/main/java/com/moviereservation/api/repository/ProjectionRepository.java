@@ -0,0 +1,173 @@
+package com.moviereservation.api.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import com.moviereservation.api.domain.entities.Movie;
+import com.moviereservation.api.domain.entities.Reservation;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.repository.projection.MovieSummary;
+import com.moviereservation.api.repository.projection.ReservationSeatSummary;
+import com.moviereservation.api.repository.projection.ReservationSummary;
+import com.moviereservation.api.repository.projection.ShowtimeSummary;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Read-only list queries that select only the columns of a response.
+ *
+ * The entity Specifications supply the filters; instead of entities, each
+ * row is constructed straight into a summary record. Nothing enters the
+ * persistence context, so there are no snapshots to dirty-check and no
+ * lazy associations left to load while mapping.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectionRepository {
+
+    private static final String FIND_RESERVATION_SEATS = """
+            SELECT new com.moviereservation.api.repository.projection.ReservationSeatSummary(
+                rs.reservation.id, si.id, si.rowLabel, si.seatNumber, si.type, rs.pricePaid)
+            FROM ReservationSeat rs
+            JOIN rs.seatInstance si
+            WHERE rs.reservation.id IN :reservationIds
+            ORDER BY si.rowLabel, si.seatNumber
+            """;
+
+    private final EntityManager entityManager;
+
+    public Page<MovieSummary> findMovieSummaries(final Specification<Movie> spec, final Pageable pageable) {
+        return findPage(Movie.class, spec, pageable, MovieSummary.class, movie -> List.of(
+                movie.get("id"),
+                movie.get("title"),
+                movie.get("description"),
+                movie.get("duration"),
+                movie.get("genre"),
+                movie.get("releaseDate"),
+                movie.get("posterUrl"),
+                movie.get("rating"),
+                movie.get("status")));
+    }
+
+    public Page<ShowtimeSummary> findShowtimeSummaries(final Specification<Showtime> spec, final Pageable pageable) {
+        return findPage(Showtime.class, spec, pageable, ShowtimeSummary.class, showtime -> {
+            final Path<Movie> movie = showtime.get("movie");
+            return List.of(
+                    showtime.get("id"),
+                    showtime.get("startTime"),
+                    showtime.get("endTime"),
+                    showtime.get("screenNumber"),
+                    showtime.get("basePrice"),
+                    showtime.get("seatCount").get("availableSeatsCount"),
+                    movie.get("id"),
+                    movie.get("title"),
+                    movie.get("description"),
+                    movie.get("duration"),
+                    movie.get("genre"),
+                    movie.get("rating"),
+                    movie.get("releaseDate"),
+                    movie.get("posterUrl"));
+        });
+    }
+
+    /**
+     * Page of reservations with their seats: one query for the page and
+     * one for the seats of all its reservations.
+     */
+    public Page<ReservationSummary> findReservationSummaries(
+            final Specification<Reservation> spec,
+            final Pageable pageable) {
+
+        final Page<ReservationSummary> page = findPage(Reservation.class, spec, pageable, ReservationSummary.class,
+                reservation -> {
+                    final Path<Showtime> showtime = reservation.get("showtime");
+                    return List.of(
+                            reservation.get("id"),
+                            reservation.get("bookingReference"),
+                            reservation.get("status"),
+                            reservation.get("totalPrice"),
+                            reservation.get("createdAt"),
+                            showtime.get("id"),
+                            showtime.get("movie").get("title"),
+                            showtime.get("startTime"),
+                            showtime.get("endTime"),
+                            showtime.get("screenNumber"));
+                });
+        if (page.isEmpty()) {
+            return page;
+        }
+
+        final Map<UUID, List<ReservationSeatSummary>> seats = entityManager
+                .createQuery(FIND_RESERVATION_SEATS, ReservationSeatSummary.class)
+                .setParameter("reservationIds", page.map(ReservationSummary::id).getContent())
+                .getResultStream()
+                .collect(Collectors.groupingBy(ReservationSeatSummary::reservationId));
+
+        return page.map(reservation -> reservation.withSeats(seats.getOrDefault(reservation.id(), List.of())));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Run a Specification as a constructor query into the projection type,
+     * counting only when the page does not reveal the total.
+     */
+    private <T, R> Page<R> findPage(
+            final Class<T> entityType,
+            final Specification<T> spec,
+            final Pageable pageable,
+            final Class<R> projectionType,
+            final Function<Root<T>, List<Selection<?>>> columns) {
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<R> query = cb.createQuery(projectionType);
+        final Root<T> root = query.from(entityType);
+
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(projectionType, columns.apply(root).toArray(Selection[]::new)));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        final TypedQuery<R> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(entityType, spec));
+    }
+
+    private <T> long count(final Class<T> entityType, final Specification<T> spec) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<T> root = query.from(entityType);
+
+        final Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -6,6 +6,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -40,6 +42,40 @@ public interface ReservationRepository extends JpaRepository<Reservation, UUID>,
 
         Optional<Reservation> findByBookingReference(String bookingReference);
 
+        /**
+         * Reservation with its seats, for reservations inserted outside Hibernate.
+         */
+        @EntityGraph(attributePaths = { "reservationSeats", "reservationSeats.seatInstance" })
+        Optional<Reservation> findWithSeatsById(UUID id);
+
+        /**
+         * Booking references issued since a point in time.
+         * Used to seed the booking reference generator on startup.
+         */
+        @Query("SELECT r.bookingReference FROM Reservation r WHERE r.createdAt > :since")
+        List<String> findBookingReferencesCreatedAfter(@Param("since") Instant since);
+
+        /**
+         * Next page of a showtime's reservations in a status, in id order after the given id.
+         * Used by showtime cancellation jobs to page through reservations to refund.
+         */
+        @Query("""
+                               SELECT r.id FROM Reservation r
+                               WHERE r.showtime.id = :showtimeId
+                               AND r.status = :status
+                               AND r.id > :afterId
+                               ORDER BY r.id
+                        """)
+        List<UUID> findIdsByShowtimeIdAndStatusAfter(
+                        @Param("showtimeId") UUID showtimeId,
+                        @Param("status") ReservationStatus status,
+                        @Param("afterId") UUID afterId,
+                        Limit limit);
+
+        long countByShowtimeIdAndStatus(UUID showtimeId, ReservationStatus status);
+
+        List<Reservation> findByShowtimeIdAndStatus(UUID showtimeId, ReservationStatus status);
+
         @Query("SELECT r FROM Reservation r WHERE r.status = :pendingStatus " +
                         "AND r.createdAt < :expiryTime")
         List<Reservation> findExpiredPendingReservations(
@@ -0,0 +1,97 @@
+package com.moviereservation.api.repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.moviereservation.api.exception.InvalidReservationException;
+import com.moviereservation.api.exception.SeatNotFoundException;
+import com.moviereservation.api.exception.SeatUnavailableException;
+import com.moviereservation.api.exception.ShowtimeNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Calls the book_seats() database function (V8 and V13 migrations).
+ * Runs in the caller's transaction; the function's errors are mapped to the
+ * same exceptions the JPA booking path throws.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatBookingRepository {
+
+    private static final String BOOK_SEATS = "SELECT reservation_id, total_price, seat_count FROM book_seats(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record BookedSeats(UUID reservationId, BigDecimal totalPrice, int seatCount) {
+    }
+
+    /**
+     * Hold the seats and insert a PENDING_PAYMENT reservation.
+     * The lock timeout applies to the rest of the calling transaction.
+     *
+     * @return ID, total price and seat count of the new reservation
+     */
+    public BookedSeats bookSeats(
+            final UUID userId,
+            final UUID showtimeId,
+            final List<UUID> seatIds,
+            final String bookingReference,
+            final int holdMinutes,
+            final Duration lockTimeout) {
+
+        try {
+            return jdbcTemplate.query(connection -> {
+                final PreparedStatement statement = connection.prepareStatement(BOOK_SEATS);
+                statement.setObject(1, userId);
+                statement.setObject(2, showtimeId);
+                statement.setArray(3, connection.createArrayOf("uuid", seatIds.toArray()));
+                statement.setString(4, bookingReference);
+                statement.setInt(5, holdMinutes);
+                statement.setInt(6, Math.toIntExact(lockTimeout.toMillis()));
+                return statement;
+            }, rs -> {
+                rs.next();
+                return new BookedSeats(
+                        rs.getObject("reservation_id", UUID.class),
+                        rs.getBigDecimal("total_price"),
+                        rs.getInt("seat_count"));
+            });
+        } catch (final DataAccessException e) {
+            throw translate(e);
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static RuntimeException translate(final DataAccessException e) {
+        if (!(e.getMostSpecificCause() instanceof final SQLException sqlException)
+                || sqlException.getSQLState() == null) {
+            return e;
+        }
+        return switch (sqlException.getSQLState()) {
+            case "MRB01" -> new ShowtimeNotFoundException("Showtime not found");
+            case "MRB02" -> new InvalidReservationException(serverMessage(sqlException));
+            case "MRB03" -> new SeatNotFoundException("One or more seats not found");
+            case "MRB04" -> new InvalidReservationException("All seats must belong to the same showtime");
+            case "MRB05" -> new SeatUnavailableException("One or more seats are no longer available");
+            default -> e;
+        };
+    }
+
+    /**
+     * The RAISE message without the driver's "ERROR: " prefix and details.
+     */
+    private static String serverMessage(final SQLException e) {
+        final String message = e.getMessage().lines().findFirst().orElse("");
+        return message.startsWith("ERROR: ") ? message.substring("ERROR: ".length()) : message;
+    }
+}
@@ -1,24 +1,140 @@
 package com.moviereservation.api.repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.moviereservation.api.domain.entities.SeatInstance;
+import com.moviereservation.api.domain.enums.ReservationStatus;
+import com.moviereservation.api.domain.enums.SeatStatus;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface SeatInstanceRepository
                 extends JpaRepository<SeatInstance, UUID>, JpaSpecificationExecutor<SeatInstance> {
 
+        // Lock timeout value Hibernate renders as SKIP LOCKED
+        String SKIP_LOCKED = "-2";
+
+        /**
+         * Lock seats in primary key order. Rows are locked as the sorted result
+         * is read, so transactions locking overlapping seats wait for each
+         * other instead of deadlocking.
+         */
         @Lock(LockModeType.PESSIMISTIC_WRITE)
-        @Query(" SELECT s FROM SeatInstance s WHERE s.id IN :ids ")
+        @Query(" SELECT s FROM SeatInstance s WHERE s.id IN :ids ORDER BY s.id ")
         List<SeatInstance> findAllByIdWithLock(@Param("ids") List<UUID> ids);
+
+        /**
+         * Limit how long the current transaction waits for row locks
+         * (SET LOCAL lock_timeout); a timeout fails with SQLState 55P03.
+         *
+         * @param timeout PostgreSQL duration, e.g. "2000ms"
+         */
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seat_instance"))
+        @Query(value = "SELECT set_config('lock_timeout', :timeout, true)", nativeQuery = true)
+        String setLocalLockTimeout(@Param("timeout") String timeout);
+
+        /**
+         * Lock the given seats that are AVAILABLE or whose hold started before
+         * heldBefore (expired), skipping rows another transaction has locked
+         * (FOR UPDATE SKIP LOCKED).
+         * Used by best-available allocation: a short result means the block is contested.
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+        @Query("""
+                        SELECT s FROM SeatInstance s
+                        WHERE s.id IN :ids
+                          AND (s.status = :available OR (s.status = :held AND s.heldAt < :heldBefore))
+                        """)
+        List<SeatInstance> findClaimableByIdSkipLocked(
+                        @Param("ids") List<UUID> ids,
+                        @Param("heldBefore") Instant heldBefore,
+                        @Param("available") SeatStatus available,
+                        @Param("held") SeatStatus held);
+
+        /**
+         * Materialize a seat instance row from its template if it does not exist yet.
+         * Used by COMPACT showtimes, which only keep rows for touched seats.
+         * Concurrent callers race safely: the loser's insert is a no-op.
+         * Declares its table space so Hibernate does not evict every L2 cache region.
+         */
+        @Modifying
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "seat_instance"))
+        @Query(value = """
+                        INSERT INTO seat_instance
+                            (seat_instance_id, showtime_id, seat_template_id, row_label, seat_number, type, price, status)
+                        SELECT :seatInstanceId, :showtimeId, t.seat_template_id, t.row_label, t.seat_number,
+                               t.type, t.base_price, 'AVAILABLE'
+                        FROM seat_template t
+                        WHERE t.seat_template_id = :seatTemplateId
+                        ON CONFLICT DO NOTHING
+                        """, nativeQuery = true)
+        int insertIfAbsent(
+                        @Param("seatInstanceId") UUID seatInstanceId,
+                        @Param("showtimeId") UUID showtimeId,
+                        @Param("seatTemplateId") UUID seatTemplateId);
+
+        /**
+         * Seats in a status that belong to the showtime's reservations in a status.
+         */
+        @Query("""
+                        SELECT rs.seatInstance FROM ReservationSeat rs
+                        WHERE rs.reservation.showtime.id = :showtimeId
+                          AND rs.reservation.status = :reservationStatus
+                          AND rs.seatInstance.status = :seatStatus
+                        """)
+        List<SeatInstance> findAllByReservationStatus(
+                        @Param("showtimeId") UUID showtimeId,
+                        @Param("reservationStatus") ReservationStatus reservationStatus,
+                        @Param("seatStatus") SeatStatus seatStatus);
+
+        /**
+         * Ids of the seats of the showtime's reservations in a status.
+         * Read without loading the seats, so locking them afterwards reads their current state.
+         */
+        @Query("""
+                        SELECT rs.seatInstance.id FROM ReservationSeat rs
+                        WHERE rs.reservation.showtime.id = :showtimeId
+                          AND rs.reservation.status = :reservationStatus
+                        """)
+        List<UUID> findIdsByReservationStatus(
+                        @Param("showtimeId") UUID showtimeId,
+                        @Param("reservationStatus") ReservationStatus reservationStatus);
+
+        /**
+         * Move the seats of the showtime's reservations in a status from one
+         * seat status to another in one statement.
+         * Used to release the reserved seats of a cancelled showtime's refunded reservations.
+         *
+         * @return Number of seats updated
+         */
+        @Modifying
+        @Query("""
+                        UPDATE SeatInstance s SET s.status = :to, s.heldAt = NULL, s.heldBy = NULL
+                        WHERE s.status = :from
+                          AND s.id IN (
+                              SELECT rs.seatInstance.id FROM ReservationSeat rs
+                              WHERE rs.reservation.showtime.id = :showtimeId
+                                AND rs.reservation.status = :reservationStatus)
+                        """)
+        int updateStatusByReservationStatus(
+                        @Param("showtimeId") UUID showtimeId,
+                        @Param("reservationStatus") ReservationStatus reservationStatus,
+                        @Param("from") SeatStatus from,
+                        @Param("to") SeatStatus to);
 }
@@ -3,14 +3,25 @@ package com.moviereservation.api.repository;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.moviereservation.api.domain.entities.SeatTemplate;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SeatTemplateRepository extends JpaRepository<SeatTemplate, UUID> {
     List<SeatTemplate> findByScreenNumber(Short screenNumber);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<SeatTemplate> findByScreenNumberOrderByRowLabelAscSeatNumberAsc(Short screenNumber);
+
     void deleteByScreenNumber(Short screenNumber);
+
+    @Query("SELECT DISTINCT t.screenNumber FROM SeatTemplate t ORDER BY t.screenNumber")
+    List<Short> findDistinctScreenNumbers();
 }
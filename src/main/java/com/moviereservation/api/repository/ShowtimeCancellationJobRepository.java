@@ -0,0 +1,49 @@
+package com.moviereservation.api.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
+import com.moviereservation.api.domain.enums.CancellationJobStatus;
+
+/**
+ * Repository for ShowtimeCancellationJob entity operations.
+ */
+@Repository
+public interface ShowtimeCancellationJobRepository extends JpaRepository<ShowtimeCancellationJob, UUID> {
+
+    Optional<ShowtimeCancellationJob> findByShowtimeId(UUID showtimeId);
+
+    /**
+     * Running jobs whose node has not reported progress since staleBefore.
+     */
+    @Query("""
+            SELECT j.id FROM ShowtimeCancellationJob j \
+            WHERE j.status = :running AND j.updatedAt < :staleBefore""")
+    List<UUID> findStalledJobIds(
+            @Param("running") CancellationJobStatus running,
+            @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * Take over a stalled job. Only one node's update matches.
+     *
+     * @return 1 if claimed, 0 if another node was first or the job moved on
+     */
+    @Modifying
+    @Query("""
+            UPDATE ShowtimeCancellationJob j SET j.updatedAt = :now \
+            WHERE j.id = :jobId AND j.status = :running AND j.updatedAt < :staleBefore""")
+    int claimStalled(
+            @Param("jobId") UUID jobId,
+            @Param("running") CancellationJobStatus running,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("now") Instant now);
+}
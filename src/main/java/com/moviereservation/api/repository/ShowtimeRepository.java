@@ -2,8 +2,10 @@ package com.moviereservation.api.repository;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -11,10 +13,20 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
 import com.moviereservation.api.domain.enums.ShowtimeStatus;
+import com.moviereservation.api.service.screen.ScreenSlot;
 
 @Repository
 public interface ShowtimeRepository extends JpaRepository<Showtime, UUID>, JpaSpecificationExecutor<Showtime> {
+  /**
+   * Showtime with its movie and seat count, for responses mapped (and cached)
+   * after the transaction has ended, where the lazy proxies cannot load. Booking paths
+   * use findById and never touch the movie.
+   */
+  @EntityGraph(attributePaths = { "movie", "seatCount" })
+  Optional<Showtime> findWithMovieById(UUID id);
+
   /**
    * Check if a movie has any showtimes scheduled after a specific time.
    * Used to prevent deletion of movies with future showtimes.
@@ -26,29 +38,25 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, UUID>, JpaSp
   boolean existsByMovieIdAndStartTimeAfter(UUID movieId, Instant startTime);
 
   /**
-   * Check for conflicting showtimes on the same screen.
-   * Used to prevent scheduling overlapping showtimes.
-   * 
-   * @param screenNumber
-   * @param startTime
-   * @param endTime
-   * @param excludeShowtimeId
-   * @return true if conflicting showtimes exist
+   * Check if a screen has showtimes of the given storage mode that have not ended.
+   * Compact seat maps index into the screen's seat templates, so their layout
+   * must not change while such showtimes exist.
+   */
+  boolean existsByScreenNumberAndSeatStorageModeAndEndTimeAfter(Short screenNumber,
+      SeatStorageMode seatStorageMode, Instant endTime);
+
+  /**
+   * Screen time occupied by showtimes that have not ended, for the
+   * in-memory conflict index. Cancelled showtimes keep their slot until
+   * deleted, as they do in showtimes_no_overlap.
    */
   @Query("""
-        SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END
+        SELECT new com.moviereservation.api.service.screen.ScreenSlot(s.id, s.screenNumber, s.startTime, s.endTime)
         FROM Showtime s
-        WHERE s.screenNumber = :screenNumber
-          AND s.status <> 'CANCELLED'
-          AND (:excludeId IS NULL OR s.id <> :excludeId)
+        WHERE s.endTime > :now
           AND s.deletedAt IS NULL
-          AND (s.startTime < :endTime AND s.endTime > :startTime)
       """)
-  boolean existsConflictingShowtime(
-      @Param("screenNumber") Short screenNumber,
-      @Param("startTime") Instant startTime,
-      @Param("endTime") Instant endTime,
-      @Param("excludeShowtimeId") UUID excludeShowtimeId);
+  List<ScreenSlot> findScreenSlotsEndingAfter(@Param("now") Instant now);
 
   @Query("""
         SELECT s FROM Showtime s
@@ -59,4 +67,19 @@ public interface ShowtimeRepository extends JpaRepository<Showtime, UUID>, JpaSp
       List<Showtime> findScheduledShowtimesEndedBefore(@Param("now") Instant now,
       @Param("scheduled") ShowtimeStatus scheduled);
 
-}
\ No newline at end of file
+  /**
+   * Upcoming SCHEDULED showtimes behind the waiting room: flagged themselves
+   * or belonging to a flagged movie.
+   */
+  @Query("""
+        SELECT s FROM Showtime s
+        JOIN s.movie m
+        WHERE (s.highDemand = true OR m.highDemand = true)
+          AND s.status = :scheduled
+          AND s.endTime > :now
+          AND s.deletedAt IS NULL
+      """)
+  List<Showtime> findHighDemandShowtimes(@Param("now") Instant now,
+      @Param("scheduled") ShowtimeStatus scheduled);
+
+}
@@ -0,0 +1,60 @@
+package com.moviereservation.api.repository;
+
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.ShowtimeSeatCount;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Atomic changes to showtimes.available_seats_count.
+ * The count is adjusted in SQL rather than read from a Showtime and saved
+ * back, so concurrent writers cannot lose updates. It is not part of the
+ * cached Showtime (see ShowtimeSeatCount), so nothing needs evicting.
+ * The count tracks seats moving in and out of AVAILABLE; callers pass
+ * only the seats whose status actually changed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShowtimeSeatCountRepository {
+
+    private static final String ADJUST = """
+            UPDATE showtimes
+            SET available_seats_count = available_seats_count + ?
+            WHERE showtime_id = ?
+            """;
+
+    private static final String SET = """
+            UPDATE showtimes
+            SET available_seats_count = ?
+            WHERE showtime_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * Add delta (negative when seats are taken) to the showtime's available count.
+     * Joins the caller's transaction.
+     */
+    public void adjust(final UUID showtimeId, final int delta) {
+        if (delta == 0) {
+            return;
+        }
+        jdbcTemplate.update(ADJUST, delta, showtimeId);
+    }
+
+    /**
+     * Set the count of a new, flushed showtime to its number of seats and
+     * attach the count to the entity for its response.
+     */
+    public void initialize(final Showtime showtime, final int seatCount) {
+        jdbcTemplate.update(SET, seatCount, showtime.getId());
+        showtime.setSeatCount(entityManager.find(ShowtimeSeatCount.class, showtime.getId()));
+    }
+}
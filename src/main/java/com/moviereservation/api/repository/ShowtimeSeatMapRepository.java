@@ -0,0 +1,43 @@
+package com.moviereservation.api.repository;
+
+import java.util.UUID;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.moviereservation.api.domain.entities.ShowtimeSeatMap;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ShowtimeSeatMapRepository extends JpaRepository<ShowtimeSeatMap, UUID> {
+
+    /**
+     * Set a single seat status byte in place.
+     * Done in SQL so concurrent bookings on different seats of the same
+     * showtime never overwrite each other's changes. Declares its table space
+     * so Hibernate does not evict every L2 cache region.
+     *
+     * @param showtimeId Showtime ID
+     * @param index      Canonical seat index (0-based)
+     * @param status     Status code to store
+     * @return number of rows updated
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "showtime_seat_maps"))
+    @Query(value = """
+            UPDATE showtime_seat_maps
+            SET status_map = set_byte(status_map, :index, :status),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE showtime_id = :showtimeId
+            """, nativeQuery = true)
+    int updateSeatStatus(
+            @Param("showtimeId") UUID showtimeId,
+            @Param("index") int index,
+            @Param("status") int status);
+}
@@ -0,0 +1,22 @@
+package com.moviereservation.api.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.moviereservation.api.domain.enums.Genre;
+import com.moviereservation.api.domain.enums.MovieStatus;
+
+/**
+ * Columns of a movie shown in customer movie lists.
+ */
+public record MovieSummary(
+        UUID id,
+        String title,
+        String description,
+        Integer duration,
+        Genre genre,
+        Instant releaseDate,
+        String posterUrl,
+        String rating,
+        MovieStatus status) {
+}
@@ -0,0 +1,18 @@
+package com.moviereservation.api.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.moviereservation.api.domain.enums.SeatType;
+
+/**
+ * A booked seat of a {@link ReservationSummary}.
+ */
+public record ReservationSeatSummary(
+        UUID reservationId,
+        UUID seatInstanceId,
+        Character rowLabel,
+        Short seatNumber,
+        SeatType type,
+        BigDecimal pricePaid) {
+}
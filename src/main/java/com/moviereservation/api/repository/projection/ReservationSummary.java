@@ -0,0 +1,49 @@
+package com.moviereservation.api.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import com.moviereservation.api.domain.enums.ReservationStatus;
+
+/**
+ * Columns of a reservation, its showtime and its seats shown in customer
+ * reservation lists. Seats are loaded by a second query for the whole page.
+ */
+public record ReservationSummary(
+        UUID id,
+        String bookingReference,
+        ReservationStatus status,
+        BigDecimal totalPrice,
+        Instant createdAt,
+        UUID showtimeId,
+        String movieTitle,
+        Instant startTime,
+        Instant endTime,
+        Short screenNumber,
+        List<ReservationSeatSummary> seats) {
+
+    /**
+     * Row of the reservation query, seats not loaded yet.
+     */
+    public ReservationSummary(
+            final UUID id,
+            final String bookingReference,
+            final ReservationStatus status,
+            final BigDecimal totalPrice,
+            final Instant createdAt,
+            final UUID showtimeId,
+            final String movieTitle,
+            final Instant startTime,
+            final Instant endTime,
+            final Short screenNumber) {
+        this(id, bookingReference, status, totalPrice, createdAt,
+                showtimeId, movieTitle, startTime, endTime, screenNumber, List.of());
+    }
+
+    public ReservationSummary withSeats(final List<ReservationSeatSummary> seats) {
+        return new ReservationSummary(id, bookingReference, status, totalPrice, createdAt,
+                showtimeId, movieTitle, startTime, endTime, screenNumber, seats);
+    }
+}
@@ -0,0 +1,27 @@
+package com.moviereservation.api.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.moviereservation.api.domain.enums.Genre;
+
+/**
+ * Columns of a showtime and its movie shown in customer showtime lists.
+ */
+public record ShowtimeSummary(
+        UUID id,
+        Instant startTime,
+        Instant endTime,
+        Short screenNumber,
+        BigDecimal basePrice,
+        Short availableSeatsCount,
+        UUID movieId,
+        String movieTitle,
+        String movieDescription,
+        Integer movieDuration,
+        Genre movieGenre,
+        String movieRating,
+        Instant movieReleaseDate,
+        String moviePosterUrl) {
+}
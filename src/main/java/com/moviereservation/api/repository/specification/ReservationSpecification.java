@@ -89,7 +89,8 @@ public class ReservationSpecification {
             }
 
             // Enable fetching to avoid N+1 queries
-            if (query != null) {
+            // (entity queries only; count and projection queries select no Reservation)
+            if (query != null && Reservation.class.equals(query.getResultType())) {
                 query.distinct(true);
                 root.fetch("user", JoinType.LEFT);
                 root.fetch("showtime", JoinType.LEFT)
@@ -54,7 +54,8 @@ public class ShowtimeSpecification {
             }
 
             // Optimize queries by fetching movie eagerly to avoid N+1
-            if (query != null) {
+            // (entity queries only; count and projection queries select no Showtime)
+            if (query != null && Showtime.class.equals(query.getResultType())) {
                 query.distinct(true);
                 root.fetch("movie", JoinType.LEFT);
             }
@@ -0,0 +1,93 @@
+package com.moviereservation.api.security;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.moviereservation.api.config.ConcurrencyLimitProperties;
+import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.service.overload.AdaptiveConcurrencyLimiter;
+import com.moviereservation.api.service.overload.RequestPriority;
+import com.moviereservation.api.web.dto.response.wrappers.PreparedErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sheds reservation and payment requests beyond the adaptive concurrency
+ * limit with a fast 503 and Retry-After. Runs after the per-IP rate limit,
+ * which bounds single clients but not total in-flight work.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String WEBHOOKS = "/api/webhooks";
+    private static final String BEST_AVAILABLE = Route.RESERVATIONS + "/best-available";
+    private static final PreparedErrorResponse SERVICE_BUSY = PreparedErrorResponse.of("Service busy, please retry");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire(priorityOf(request));
+        if (permit.isEmpty()) {
+            shed(response);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            permit.get().release(System.nanoTime() - start, failed);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final String path = request.getRequestURI();
+        return !properties.isEnabled()
+                || !(path.startsWith(Route.RESERVATIONS)
+                        || path.startsWith(Route.PAYMENTS)
+                        || path.startsWith(WEBHOOKS));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static RequestPriority priorityOf(final HttpServletRequest request) {
+        final String path = request.getRequestURI();
+        if (path.startsWith(Route.PAYMENTS) || path.startsWith(WEBHOOKS)) {
+            return RequestPriority.CRITICAL;
+        }
+        if (HttpMethod.POST.matches(request.getMethod())
+                && (path.equals(Route.RESERVATIONS) || path.equals(BEST_AVAILABLE))) {
+            return RequestPriority.SHEDDABLE;
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    private void shed(final HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(SERVICE_BUSY.render());
+    }
+}
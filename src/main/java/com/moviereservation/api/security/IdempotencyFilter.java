@@ -0,0 +1,244 @@
+package com.moviereservation.api.security;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.moviereservation.api.config.IdempotencyProperties;
+import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.constant.SecurityConstants;
+import com.moviereservation.api.repository.IdempotencyKeyRepository.StoredResponse;
+import com.moviereservation.api.service.idempotency.IdempotencyService;
+import com.moviereservation.api.service.idempotency.IdempotencyService.Outcome;
+import com.moviereservation.api.web.dto.response.wrappers.PreparedErrorResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Makes reservation and payment creation safe to retry with an
+ * Idempotency-Key header.
+ *
+ * The first request with a key runs normally and its response is stored;
+ * a retry with the same key and body gets the stored response back byte for
+ * byte, marked with Idempotent-Replayed, without reaching the controller.
+ * Requests without the header are not affected.
+ *
+ * Not part of the security filter chain: it runs after it, once the user
+ * is authenticated, since keys are scoped per user.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private static final String BEST_AVAILABLE = Route.RESERVATIONS + "/best-available";
+    private static final String CREATE_INTENT = Route.PAYMENTS + "/create-intent/";
+
+    // Printable ASCII, as a UUID or any other client-generated token
+    private static final Pattern VALID_KEY = Pattern.compile("[\\x21-\\x7E]{1,255}");
+
+    private static final PreparedErrorResponse INVALID_KEY = PreparedErrorResponse
+            .of("Idempotency-Key must be 1 to 255 printable ASCII characters");
+    private static final PreparedErrorResponse KEY_IN_PROGRESS = PreparedErrorResponse
+            .of("A request with this Idempotency-Key is still being processed");
+    private static final PreparedErrorResponse KEY_REUSED = PreparedErrorResponse
+            .of("Idempotency-Key was already used with a different request");
+
+    private final IdempotencyService idempotencyService;
+    private final IdempotencyProperties properties;
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof final UserPrincipal principal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String key = request.getHeader(SecurityConstants.IDEMPOTENCY_KEY_HEADER);
+        if (!VALID_KEY.matcher(key).matches()) {
+            reject(response, HttpStatus.BAD_REQUEST, INVALID_KEY);
+            return;
+        }
+
+        final CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        final Outcome outcome = idempotencyService.begin(principal.getUserId(), key, fingerprint(cachedRequest));
+
+        switch (outcome) {
+            case Outcome.Execute execute -> execute(cachedRequest, response, filterChain, execute);
+            case Outcome.Replay replay -> replay(response, replay.response());
+            case Outcome.InProgress _ -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(response, HttpStatus.CONFLICT, KEY_IN_PROGRESS);
+            }
+            case Outcome.Mismatch _ -> reject(response, HttpStatus.UNPROCESSABLE_ENTITY, KEY_REUSED);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        if (!properties.isEnabled()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(SecurityConstants.IDEMPOTENCY_KEY_HEADER) == null) {
+            return true;
+        }
+        final String path = request.getRequestURI();
+        return !(path.equals(Route.RESERVATIONS)
+                || path.equals(BEST_AVAILABLE)
+                || path.startsWith(CREATE_INTENT));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Run the request and store its response, or release the key if a
+     * retry could get a different answer.
+     */
+    private void execute(final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain,
+            final Outcome.Execute execute)
+            throws ServletException, IOException {
+
+        final ContentCachingResponseWrapper capturedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, capturedResponse);
+            if (isReplayable(capturedResponse.getStatus())) {
+                idempotencyService.complete(execute.ticket(), new StoredResponse(
+                        capturedResponse.getStatus(),
+                        capturedResponse.getContentType(),
+                        capturedResponse.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(execute.ticket());
+            }
+            capturedResponse.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Successes and client errors are final. Server errors, seat conflicts
+     * (409) and waiting room or rate limit rejections (429) may succeed on
+     * a retry.
+     */
+    private static boolean isReplayable(final int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value()
+                && status != HttpStatus.CONFLICT.value()
+                && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static void replay(final HttpServletResponse response, final StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(SecurityConstants.IDEMPOTENT_REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static void reject(final HttpServletResponse response,
+            final HttpStatus status,
+            final PreparedErrorResponse body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(body.render());
+    }
+
+    /**
+     * SHA-256 of method, path and body, so a key reused for another request is detected.
+     */
+    private static String fingerprint(final CachedBodyRequest request) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '\n')
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request whose body is read up front, for the fingerprint, and can
+     * still be read by the controller.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(final HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            final ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(final byte[] buffer, final int offset, final int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(final ReadListener listener) {
+                    throw new UnsupportedOperationException("Body is already read");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            final String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.moviereservation.api.security;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.moviereservation.api.config.QueryBudgetProperties;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.querybudget.QueryBudgetExceededException;
+import com.moviereservation.api.service.querybudget.QueryCounter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the SQL statements of a sample of requests and checks them
+ * against the {@link QueryBudget} of the endpoint that served them.
+ *
+ * A request over budget is logged with its most repeated statement
+ * fingerprints and counted in db.query.budget.exceeded by endpoint; with
+ * app.query-budget.fail-on-exceed (tests) it fails instead. Statements per
+ * request are exported as db.queries.per.request.
+ *
+ * Not part of the security filter chain: authentication lookups are not
+ * charged to the endpoint.
+ */
+@Component
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final String ENDPOINT_TAG = "endpoint";
+
+    private final QueryBudgetProperties properties;
+    private final Map<Method, OptionalInt> budgets = new ConcurrentHashMap<>();
+    private final Meter.MeterProvider<DistributionSummary> queriesSummary;
+    private final Meter.MeterProvider<Counter> exceededCounter;
+
+    public QueryBudgetFilter(final QueryBudgetProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queriesSummary = DistributionSummary.builder("db.queries.per.request")
+                .description("SQL statements run by sampled requests, by endpoint")
+                .baseUnit("statements")
+                .withRegistry(meterRegistry);
+        this.exceededCounter = Counter.builder("db.query.budget.exceeded")
+                .description("Sampled requests that ran more SQL statements than their endpoint's budget")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Budget of a handler method: its own annotation, else its controller's.
+     */
+    public static OptionalInt budgetOf(final Method method) {
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(method, QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), QueryBudget.class);
+        }
+        return budget != null ? OptionalInt.of(budget.value()) : OptionalInt.empty();
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            filterChain.doFilter(request, response);
+            check(request, scope);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void check(final HttpServletRequest request, final QueryCounter.Scope scope) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                instanceof final HandlerMethod handler)) {
+            return; // Static resources, actuator and requests rejected before a handler was chosen
+        }
+
+        final String endpoint = request.getMethod() + " "
+                + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        queriesSummary.withTag(ENDPOINT_TAG, endpoint).record(scope.count());
+
+        final OptionalInt budget = budgets.computeIfAbsent(handler.getMethod(), QueryBudgetFilter::budgetOf);
+        if (budget.isEmpty() || scope.count() <= budget.getAsInt()) {
+            return;
+        }
+
+        exceededCounter.withTag(ENDPOINT_TAG, endpoint).increment();
+        final String message = "%s ran %d SQL statements, budget is %d. Most repeated:%n%s".formatted(
+                endpoint, scope.count(), budget.getAsInt(),
+                scope.topFingerprints(properties.getReportedFingerprints()).stream()
+                        .map(fingerprint -> "  " + fingerprint.count() + "x " + fingerprint.sql())
+                        .collect(Collectors.joining(System.lineSeparator())));
+
+        if (properties.isFailOnExceed()) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+}
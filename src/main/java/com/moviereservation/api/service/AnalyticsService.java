@@ -8,6 +8,9 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
  * Uses PostgreSQL functions and materialized views for performance.
  */
 @Service
+@Workload(WorkloadType.ADMIN)
 @RequiredArgsConstructor
 @Slf4j
 public class AnalyticsService {
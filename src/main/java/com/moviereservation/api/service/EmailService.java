@@ -1,21 +1,29 @@
 package com.moviereservation.api.service;
 
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.domain.entities.EmailLog;
 import com.moviereservation.api.domain.entities.Reservation;
 import com.moviereservation.api.domain.entities.ReservationSeat;
 import com.moviereservation.api.domain.enums.EmailStatus;
 import com.moviereservation.api.domain.enums.EmailType;
 import com.moviereservation.api.repository.EmailLogRepository;
+import com.moviereservation.api.service.resilience.DependencyGuard;
+import com.moviereservation.api.service.resilience.DependencyUnavailableException;
+import com.moviereservation.api.service.resilience.ExternalDependency;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -25,17 +33,23 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Service for sending email notifications.
  * All email operations are asynchronous to avoid blocking API responses.
+ * Sends go through the mail circuit breaker and bulkhead; an email rejected
+ * by them is QUEUED and delivered later by sendQueuedEmails().
  */
 @Service
+@Workload(WorkloadType.BACKGROUND)
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM dd, yyyy 'at' hh:mm a");
     private static final int MAX_RETRY_ATTEMPTS = 3;
+    private static final int QUEUED_BATCH_SIZE = 50;
 
     private final JavaMailSender mailSender;
     private final EmailLogRepository emailLogRepository;
+    private final DependencyGuard dependencyGuard;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Send booking confirmation email (on payment success).
@@ -98,6 +112,61 @@ public class EmailService {
                 reservation.getId());
     }
 
+    /**
+     * Queue a refund notification for delivery by sendQueuedEmails().
+     * Nothing is sent here, so bulk refunds do not wait on the mail server.
+     */
+    @Transactional
+    public void queueRefundNotification(final Reservation reservation, final String reason) {
+        createEmailLog(
+                reservation.getUser().getEmail(),
+                "Refund Processed - " + reservation.getBookingReference(),
+                buildRefundEmail(reservation, reason),
+                EmailType.REFUND_NOTIFICATION,
+                reservation.getUser().getId(),
+                reservation.getId(),
+                EmailStatus.QUEUED);
+    }
+
+    /**
+     * Send queued emails (called by scheduled task).
+     * A batch is claimed (QUEUED to PENDING) in a short transaction and sent
+     * outside it, so no connection is held while the mail server answers and
+     * no other sender picks the same emails up.
+     * Failures are marked FAILED and picked up by retryFailedEmails();
+     * while the mail server is unavailable the rest go back to the queue.
+     */
+    public void sendQueuedEmails() {
+        final List<EmailLog> claimedEmails = transactionTemplate.execute(_ -> {
+            final List<EmailLog> queuedEmails = emailLogRepository.findByStatusOrderByCreatedAtAsc(
+                    EmailStatus.QUEUED, Limit.of(QUEUED_BATCH_SIZE));
+            queuedEmails.forEach(emailLog -> emailLog.setStatus(EmailStatus.PENDING));
+            return emailLogRepository.saveAll(queuedEmails);
+        });
+
+        if (claimedEmails.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < claimedEmails.size(); i++) {
+            final EmailLog emailLog = claimedEmails.get(i);
+            try {
+                send(emailLog.getRecipientEmail(), emailLog.getSubject(), emailLog.getEmailBody());
+                emailLog.setStatus(EmailStatus.SENT);
+            } catch (MailException | MessagingException e) {
+                emailLog.setStatus(EmailStatus.FAILED);
+                emailLog.setErrorMessage(e.getMessage());
+                log.warn("Failed to send queued email: {}", emailLog.getId());
+            } catch (DependencyUnavailableException e) {
+                final List<EmailLog> unsentEmails = claimedEmails.subList(i, claimedEmails.size());
+                unsentEmails.forEach(unsent -> unsent.setStatus(EmailStatus.QUEUED));
+                log.info("Mail server unavailable, {} emails stay queued", unsentEmails.size());
+                break;
+            }
+        }
+        transactionTemplate.executeWithoutResult(_ -> emailLogRepository.saveAll(claimedEmails));
+    }
+
     /**
      * Send payment failure notification.
      */
@@ -132,7 +201,12 @@ public class EmailService {
         log.info("Retrying {} failed emails", failedEmails.size());
 
         for (final EmailLog emailLog : failedEmails) {
-            retryEmail(emailLog);
+            try {
+                retryEmail(emailLog);
+            } catch (DependencyUnavailableException e) {
+                log.info("Mail server unavailable, email retries postponed");
+                break;
+            }
         }
     }
 
@@ -150,18 +224,12 @@ public class EmailService {
             final UUID reservationId) {
 
         // Create email log
-        final EmailLog emailLog = createEmailLog(recipientEmail, subject, body, emailType, userId, reservationId);
+        final EmailLog emailLog = createEmailLog(
+                recipientEmail, subject, body, emailType, userId, reservationId, EmailStatus.PENDING);
 
         try {
             // Send email
-            final MimeMessage message = mailSender.createMimeMessage();
-            final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(recipientEmail);
-            helper.setSubject(subject);
-            helper.setText(body, true); // true = HTML content
-
-            mailSender.send(message);
+            send(recipientEmail, subject, body);
 
             // Mark as sent
             emailLog.setStatus(EmailStatus.SENT);
@@ -176,35 +244,53 @@ public class EmailService {
             emailLogRepository.save(emailLog);
 
             log.error("Failed to send email: {} to {}", emailType, recipientEmail, e);
+
+        } catch (DependencyUnavailableException e) {
+            // sendQueuedEmails() delivers it later
+            emailLog.setStatus(EmailStatus.QUEUED);
+            emailLogRepository.save(emailLog);
+
+            log.info("Mail server unavailable, queued email: {} to {}", emailType, recipientEmail);
         }
     }
 
     /**
-     * Retry sending a failed email.
+     * Send an HTML email.
+     *
+     * @throws DependencyUnavailableException if the mail circuit is open or its bulkhead full
      */
-    private void retryEmail(final EmailLog emailLog) {
-        log.debug("Retrying email: {} (attempt {})", emailLog.getId(), emailLog.getRetryCount() + 1);
+    private void send(final String recipientEmail, final String subject, final String body)
+            throws MessagingException {
+        final MimeMessage message = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
 
-        emailLog.setRetryCount((short) (emailLog.getRetryCount() + 1));
+        helper.setTo(recipientEmail);
+        helper.setSubject(subject);
+        helper.setText(body, true); // true = HTML content
 
-        try {
-            final MimeMessage message = mailSender.createMimeMessage();
-            final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        dependencyGuard.run(ExternalDependency.MAIL, () -> mailSender.send(message));
+    }
 
-            helper.setTo(emailLog.getRecipientEmail());
-            helper.setSubject(emailLog.getSubject());
-            helper.setText(emailLog.getEmailBody(), true);
+    /**
+     * Retry sending a failed email.
+     * A rejected send throws before the attempt is counted.
+     */
+    private void retryEmail(final EmailLog emailLog) {
+        final short attempt = (short) (emailLog.getRetryCount() + 1);
+        log.debug("Retrying email: {} (attempt {})", emailLog.getId(), attempt);
 
-            mailSender.send(message);
+        try {
+            send(emailLog.getRecipientEmail(), emailLog.getSubject(), emailLog.getEmailBody());
 
             emailLog.setStatus(EmailStatus.SENT);
             log.info("Email retry successful: {}", emailLog.getId());
 
         } catch (MailException | MessagingException e) {
             emailLog.setErrorMessage(e.getMessage());
-            log.warn("Email retry failed: {} (attempt {})", emailLog.getId(), emailLog.getRetryCount());
+            log.warn("Email retry failed: {} (attempt {})", emailLog.getId(), attempt);
         }
 
+        emailLog.setRetryCount(attempt);
         emailLogRepository.save(emailLog);
     }
 
@@ -217,7 +303,8 @@ public class EmailService {
             final String body,
             final EmailType emailType,
             final UUID userId,
-            final UUID reservationId) {
+            final UUID reservationId,
+            final EmailStatus status) {
 
         final EmailLog emailLog = new EmailLog();
         emailLog.setRecipientEmail(recipientEmail);
@@ -226,7 +313,7 @@ public class EmailService {
         emailLog.setEmailType(emailType);
         emailLog.setUserId(userId);
         emailLog.setReservationId(reservationId);
-        emailLog.setStatus(EmailStatus.PENDING);
+        emailLog.setStatus(status);
 
         return emailLogRepository.save(emailLog);
     }
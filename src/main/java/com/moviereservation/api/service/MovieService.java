@@ -4,11 +4,17 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.constant.CacheNames;
 import com.moviereservation.api.domain.entities.Movie;
 import com.moviereservation.api.domain.entities.User;
 import com.moviereservation.api.domain.enums.MovieStatus;
@@ -17,9 +23,12 @@ import com.moviereservation.api.exception.MovieAlreadyExistsException;
 import com.moviereservation.api.exception.MovieDeletionException;
 import com.moviereservation.api.exception.MovieNotFoundException;
 import com.moviereservation.api.repository.MovieRepository;
+import com.moviereservation.api.repository.ProjectionRepository;
 import com.moviereservation.api.repository.ReservationRepository;
 import com.moviereservation.api.repository.ShowtimeRepository;
+import com.moviereservation.api.repository.projection.MovieSummary;
 import com.moviereservation.api.repository.specification.MovieSpecification;
+import com.moviereservation.api.service.coalescing.Coalesced;
 import com.moviereservation.api.web.dto.request.movie.CreateMovieRequest;
 import com.moviereservation.api.web.dto.request.movie.MovieFilterRequest;
 import com.moviereservation.api.web.dto.request.movie.UpdateMovieRequest;
@@ -34,6 +43,7 @@ import lombok.extern.slf4j.Slf4j;
  * Handles movie CRUD operations with proper validation and business logic.
  */
 @Service
+@Workload(WorkloadType.BROWSE)
 @RequiredArgsConstructor
 @Slf4j
 public class MovieService {
@@ -41,6 +51,7 @@ public class MovieService {
     private final MovieRepository movieRepository;
     private final ShowtimeRepository showtimeRepository;
     private final ReservationRepository reservationRepository;
+    private final ProjectionRepository projectionRepository;
     private final UserService userService;
     private final MovieMapper movieMapper;
 
@@ -75,6 +86,10 @@ public class MovieService {
      * @throws MovieNotFoundException if movie not found
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.MOVIE_DETAILS, key = "#movieId"),
+            @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, allEntries = true)
+    })
     public Movie update(final UUID movieId, final UpdateMovieRequest request) {
         log.debug("Updating movie: {}", movieId);
 
@@ -97,6 +112,10 @@ public class MovieService {
      * @return Updated movie entity
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.MOVIE_DETAILS, key = "#movieId"),
+            @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, allEntries = true)
+    })
     public Movie updateStatus(final UUID movieId, final MovieStatus status) {
         log.debug("Updating movie status: {} to {}", movieId, status);
 
@@ -108,6 +127,28 @@ public class MovieService {
         return updatedMovie;
     }
 
+    /**
+     * Flag or unflag a movie as high-demand.
+     * All upcoming showtimes of a high-demand movie go through the waiting room.
+     *
+     * @param movieId Movie ID
+     * @param enabled Whether the movie is high-demand
+     * @return Updated movie entity
+     */
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.MOVIE_DETAILS, key = "#movieId"),
+            @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, allEntries = true)
+    })
+    public Movie updateHighDemand(final UUID movieId, final boolean enabled) {
+        final Movie movie = findById(movieId);
+        movie.setHighDemand(enabled);
+        final Movie updatedMovie = movieRepository.save(movie);
+
+        log.info("Movie high-demand flag updated: {} -> {}", movie.getId(), enabled);
+        return updatedMovie;
+    }
+
     /**
      * Soft delete a movie.
      * Cannot delete if movie has:
@@ -120,6 +161,10 @@ public class MovieService {
      * @throws MovieDeletionException if deletion constraints violated
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.MOVIE_DETAILS, key = "#movieId"),
+            @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, allEntries = true)
+    })
     public void delete(final UUID movieId, final UUID adminId) {
         log.debug("Deleting movie: {} by admin: {}", movieId, adminId);
 
@@ -155,9 +200,12 @@ public class MovieService {
     /**
      * Find movie by ID (customer access - visible statuses only).
      * Only returns ACTIVE or COMING_SOON movies.
+     * Cached; evicted when the movie is updated or deleted.
      *
      * @throws MovieNotFoundException if not found or not customer-visible
      */
+    @Coalesced("movie-details")
+    @Cacheable(value = CacheNames.MOVIE_DETAILS, key = "#movieId")
     @Transactional(readOnly = true)
     public Movie findByIdForCustomer(final UUID movieId) {
         return movieRepository.findOne(
@@ -183,12 +231,13 @@ public class MovieService {
     /**
      * Find all movies for customer with filters and pagination.
      * Auto-restricts to ACTIVE and COMING_SOON statuses.
+     * Selects only the columns of the customer response.
      */
     @Transactional(readOnly = true)
-    public Page<Movie> findAllForCustomer(final Pageable pageable, final MovieFilterRequest filters) {
+    public Page<MovieSummary> findAllForCustomer(final Pageable pageable, final MovieFilterRequest filters) {
         log.debug("Finding movies for customer with filters: {}", filters);
 
-        return movieRepository.findAll(
+        return projectionRepository.findMovieSummaries(
                 MovieSpecification.forCustomer(filters),
                 pageable);
     }
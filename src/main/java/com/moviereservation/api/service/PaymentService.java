@@ -1,12 +1,22 @@
 package com.moviereservation.api.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.moviereservation.api.config.StripeConfig;
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.constant.PaymentConstants;
 import com.moviereservation.api.domain.entities.Payment;
 import com.moviereservation.api.domain.entities.Reservation;
@@ -14,21 +24,26 @@ import com.moviereservation.api.domain.enums.PaymentStatus;
 import com.moviereservation.api.domain.enums.ReservationStatus;
 import com.moviereservation.api.exception.PaymentException;
 import com.moviereservation.api.exception.PaymentNotFoundException;
+import com.moviereservation.api.exception.PaymentUnavailableException;
 import com.moviereservation.api.repository.PaymentRepository;
-import com.stripe.exception.StripeException;
-import com.stripe.model.PaymentIntent;
-import com.stripe.model.Refund;
-import com.stripe.param.PaymentIntentCreateParams;
-import com.stripe.param.RefundCreateParams;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+import com.moviereservation.api.service.payment.GatewayIntentStatus;
+import com.moviereservation.api.service.payment.GatewayPaymentIntent;
+import com.moviereservation.api.service.payment.PaymentGateway;
+import com.moviereservation.api.service.payment.PaymentGatewayException;
+import com.moviereservation.api.service.resilience.DependencyGuard;
+import com.moviereservation.api.service.resilience.DependencyUnavailableException;
+import com.moviereservation.api.service.resilience.ExternalDependency;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Service for payment processing via Stripe.
+ * Service for payment processing via the configured payment gateway (Stripe).
  * Handles payment intent creation, webhook processing, and refunds.
  */
 @Service
+@Workload(WorkloadType.BOOKING)
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
@@ -36,57 +51,53 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final ReservationService reservationService;
     private final StripeConfig stripeConfig;
+    private final PaymentGateway paymentGateway;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final DependencyGuard dependencyGuard;
 
     /**
      * Create a Stripe PaymentIntent for a reservation.
      * Returns client secret for frontend to complete payment.
      *
+     * Runs in three steps so no connection is held during the gateway call:
+     * record an INITIATED payment, create the intent outside any transaction,
+     * then store the intent ID. The gateway call carries an idempotency key
+     * derived from the reservation and attempt number, so a retried request
+     * (or one whose first call timed out) resumes the same attempt and gets
+     * the same intent back instead of creating a second one.
+     *
      * @param reservationId Reservation ID
      * @param userId        User ID (for verification)
      * @return Client secret for Stripe.js
      * @throws PaymentException if payment intent creation fails
+     * @throws PaymentUnavailableException if the payment provider is unavailable (retryable)
      */
-    @Transactional
     public String createPaymentIntent(UUID reservationId, UUID userId) {
         log.debug("Creating payment intent for reservation: {}", reservationId);
 
-        // Fetch and validate reservation
-        Reservation reservation = reservationService.findById(reservationId);
-        validateReservationForPayment(reservation, userId);
-
-        // Convert amount to paise (Stripe uses smallest currency unit)
-        long amountInCents = reservation.getTotalPrice()
-                .multiply(new BigDecimal("100"))
-                .longValue();
+        // Step 1: record the attempt
+        PaymentAttempt attempt = beginPaymentAttempt(reservationId, userId);
 
         try {
-            // Create Stripe PaymentIntent
-            PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
-                    .setAmount(amountInCents)
-                    .setCurrency(stripeConfig.getCurrency().toLowerCase())
-                    .setDescription(String.format(
-                            PaymentConstants.PAYMENT_DESCRIPTION_FORMAT,
-                            reservation.getBookingReference()))
-                    .putMetadata("reservationId", reservationId.toString())
-                    .putMetadata("bookingReference", reservation.getBookingReference())
-                    .putMetadata("userId", userId.toString())
-                    .setAutomaticPaymentMethods(
-                            PaymentIntentCreateParams.AutomaticPaymentMethods.builder()
-                                    .setEnabled(true)
-                                    .build())
-                    .build();
-
-            PaymentIntent paymentIntent = PaymentIntent.create(params);
-
-            // Create payment record
-            createPaymentRecord(reservation, paymentIntent);
+            // Step 2: create PaymentIntent with the gateway, outside any transaction
+            GatewayPaymentIntent paymentIntent = callGateway("create_intent", () -> paymentGateway.createPaymentIntent(
+                    attempt.amountInCents(),
+                    stripeConfig.getCurrency().toLowerCase(),
+                    attempt.description(),
+                    attempt.metadata(),
+                    attempt.idempotencyKey()));
+
+            // Step 3: store the intent
+            transactionTemplate.executeWithoutResult(_ -> completePaymentAttempt(attempt, paymentIntent));
 
             log.info("Payment intent created: {} for reservation: {}",
-                    paymentIntent.getId(), reservationId);
+                    paymentIntent.id(), reservationId);
 
-            return paymentIntent.getClientSecret();
+            return paymentIntent.clientSecret();
 
-        } catch (StripeException e) {
+        } catch (PaymentGatewayException e) {
+            // The attempt stays INITIATED; a retry reuses its idempotency key
             log.error("Failed to create payment intent for reservation: {}", reservationId, e);
             throw new PaymentException("Failed to create payment intent: " + e.getMessage());
         }
@@ -99,75 +110,84 @@ public class PaymentService {
      * @param paymentIntentId Stripe PaymentIntent ID
      * @param eventType       Stripe event type
      * @throws PaymentNotFoundException if payment not found
+     * @throws PaymentException if the refund of a late payment fails
      */
-    @Transactional
     public void processWebhookEvent(String paymentIntentId, String eventType) {
         log.debug("Processing webhook event: {} for PaymentIntent: {}", eventType, paymentIntentId);
 
-        Payment payment = paymentRepository.findByPaymentIntentId(paymentIntentId)
+        GatewayIntentStatus status = switch (eventType) {
+            case PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED -> GatewayIntentStatus.SUCCEEDED;
+            case PaymentConstants.EVENT_PAYMENT_INTENT_FAILED -> GatewayIntentStatus.FAILED;
+            case PaymentConstants.EVENT_PAYMENT_INTENT_CANCELED -> GatewayIntentStatus.CANCELED;
+            default -> null;
+        };
+        if (status == null) {
+            log.warn("Unhandled webhook event type: {}", eventType);
+            return;
+        }
+
+        UUID paymentId = paymentRepository.findByPaymentIntentId(paymentIntentId)
+                .map(Payment::getId)
                 .orElseThrow(() -> new PaymentNotFoundException(
                         "Payment not found for PaymentIntent: " + paymentIntentId));
 
-        switch (eventType) {
-            case PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED:
-                handlePaymentSuccess(payment);
-                break;
-
-            case PaymentConstants.EVENT_PAYMENT_INTENT_FAILED:
-                handlePaymentFailure(payment);
-                break;
-
-            case PaymentConstants.EVENT_PAYMENT_INTENT_CANCELED:
-                handlePaymentCancellation(payment);
-                break;
+        applyIntentStatus(paymentId, status);
+    }
 
-            default:
-                log.warn("Unhandled webhook event type: {}", eventType);
-        }
+    /**
+     * Apply a payment intent status fetched from the gateway to a PENDING payment.
+     * Goes through the same transition as the matching webhook event.
+     *
+     * @param paymentId Payment ID
+     * @param status    Intent status reported by the gateway
+     * @return Payment status afterwards; unchanged if no longer PENDING (the webhook won)
+     * @throws PaymentException if the refund of a late payment fails
+     */
+    public PaymentStatus reconcile(UUID paymentId, GatewayIntentStatus status) {
+        return applyIntentStatus(paymentId, status);
     }
 
     /**
      * Process refund for a reservation.
      * Creates Stripe refund and records it in database.
      *
+     * Runs in three steps like createPaymentIntent, so no connection is held
+     * during the gateway call: find the PAID payment, refund it outside any
+     * transaction, then mark the payment and reservation REFUNDED. The refund
+     * carries an idempotency key derived from the payment, so a retry after
+     * the last step failed gets the same refund back.
+     *
      * @param reservationId Reservation ID
      * @param reason        Refund reason
      * @throws PaymentException if refund fails
+     * @throws PaymentUnavailableException if the payment provider is unavailable (retryable)
      */
-    @Transactional
     public void processRefund(UUID reservationId, String reason) {
         log.debug("Processing refund for reservation: {}", reservationId);
 
-        Reservation reservation = reservationService.findById(reservationId);
-
-        // Find successful payment for this reservation
-        Payment payment = paymentRepository.findByReservationIdAndStatus(
-                reservationId, PaymentStatus.PAID)
-                .orElseThrow(() -> new PaymentNotFoundException(
-                        "No successful payment found for reservation: " + reservationId));
+        // Step 1: find the successful payment for this reservation
+        Payment payment = transactionTemplate.execute(_ -> {
+            reservationService.findById(reservationId);
+            return paymentRepository.findByReservationIdAndStatus(reservationId, PaymentStatus.PAID)
+                    .orElseThrow(() -> new PaymentNotFoundException(
+                            "No successful payment found for reservation: " + reservationId));
+        });
 
         try {
-            // Create Stripe refund
-            RefundCreateParams params = RefundCreateParams.builder()
-                    .setPaymentIntent(payment.getPaymentIntentId())
-                    .setReason(RefundCreateParams.Reason.REQUESTED_BY_CUSTOMER)
-                    .putMetadata("reservationId", reservationId.toString())
-                    .putMetadata("reason", reason)
-                    .build();
+            // Step 2: create refund with the gateway, outside any transaction
+            String refundId = callGateway("refund", () -> paymentGateway.refund(
+                    payment.getPaymentIntentId(),
+                    Map.of(
+                            "reservationId", reservationId.toString(),
+                            "reason", reason),
+                    String.format(PaymentConstants.REFUND_IDEMPOTENCY_KEY_FORMAT, payment.getId())));
 
-            Refund refund = Refund.create(params);
+            // Step 3: record the refund
+            transactionTemplate.executeWithoutResult(_ -> completeRefund(payment.getId(), reservationId));
 
-            // Update payment status
-            payment.setStatus(PaymentStatus.REFUNDED);
-            paymentRepository.save(payment);
-
-            // Update reservation status
-            reservation.setStatus(ReservationStatus.REFUNDED);
-            // Note: Reservation is saved by ReservationService
+            log.info("Refund processed: {} for reservation: {}", refundId, reservationId);
 
-            log.info("Refund processed: {} for reservation: {}", refund.getId(), reservationId);
-
-        } catch (StripeException e) {
+        } catch (PaymentGatewayException e) {
             log.error("Failed to process refund for reservation: {}", reservationId, e);
             throw new PaymentException("Failed to process refund: " + e.getMessage());
         }
@@ -190,22 +210,212 @@ public class PaymentService {
     // ========== Private Helper Methods ==========
 
     /**
-     * Create payment record in database.
+     * Call the payment gateway through its circuit breaker and bulkhead.
+     *
+     * @throws PaymentUnavailableException if the call was rejected without being made
+     */
+    private <T> T callGateway(String operation, Supplier<T> call) {
+        try {
+            return dependencyGuard.call(ExternalDependency.PAYMENT_GATEWAY, () -> timeGatewayCall(operation, call));
+        } catch (DependencyUnavailableException e) {
+            log.warn("Payment gateway call {} rejected: {}", operation, e.getMessage());
+            throw new PaymentUnavailableException(
+                    "Payment provider temporarily unavailable, please retry", e.getRetryAfter());
+        }
+    }
+
+    /**
+     * Call the payment gateway and record its latency and outcome.
+     */
+    private <T> T timeGatewayCall(String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            bookingMetrics.recordGatewayCall(operation, success, nanos);
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                // The transaction's connection sat idle for the whole call
+                bookingMetrics.recordConnectionIdleDuringGatewayCall(operation, nanos);
+            }
+        }
+    }
+
+    /**
+     * Validate the reservation and record an INITIATED payment, or resume
+     * the attempt already in progress.
+     */
+    private PaymentAttempt beginPaymentAttempt(UUID reservationId, UUID userId) {
+        try {
+            return transactionTemplate.execute(_ -> {
+                Reservation reservation = reservationService.findById(reservationId);
+                validateReservationForPayment(reservation, userId);
+
+                Payment payment = paymentRepository.findByReservationIdAndStatusIn(
+                        reservationId, List.of(PaymentStatus.INITIATED, PaymentStatus.PENDING))
+                        .orElseGet(() -> createPaymentRecord(reservation));
+
+                return toPaymentAttempt(reservation, payment);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request recorded its attempt first (uq_payments_reservation_in_progress)
+            throw new PaymentException("Payment already in progress for this reservation");
+        }
+    }
+
+    /**
+     * Store the intent ID of an INITIATED payment.
+     * A resumed attempt that already has its intent is left as it is.
      */
-    private void createPaymentRecord(Reservation reservation, PaymentIntent paymentIntent) {
+    private void completePaymentAttempt(PaymentAttempt attempt, GatewayPaymentIntent paymentIntent) {
+        Payment payment = paymentRepository.findById(attempt.paymentId())
+                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + attempt.paymentId()));
+
+        if (payment.getStatus() != PaymentStatus.INITIATED) {
+            return;
+        }
+
+        payment.setPaymentIntentId(paymentIntent.id());
+        payment.setStatus(PaymentStatus.PENDING);
+        paymentRepository.save(payment);
+        bookingMetrics.recordHoldToPayment(Duration.between(attempt.reservationCreatedAt(), Instant.now()));
+
+        log.debug("Payment record completed for reservation: {}", attempt.reservationId());
+    }
+
+    /**
+     * Mark a refunded payment and its reservation REFUNDED.
+     * A payment refunded concurrently is left as it is.
+     */
+    private void completeRefund(UUID paymentId, UUID reservationId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentId));
+
+        if (payment.getStatus() != PaymentStatus.PAID) {
+            return;
+        }
+
+        payment.setStatus(PaymentStatus.REFUNDED);
+        paymentRepository.save(payment);
+
+        // Saved when the transaction commits
+        Reservation reservation = reservationService.findById(reservationId);
+        reservation.setStatus(ReservationStatus.REFUNDED);
+    }
+
+    /**
+     * Create INITIATED payment record in database.
+     */
+    private Payment createPaymentRecord(Reservation reservation) {
         Payment payment = new Payment();
         payment.setReservation(reservation);
         payment.setUser(reservation.getUser());
         payment.setAmount(reservation.getTotalPrice());
         payment.setCurrency(stripeConfig.getCurrency());
-        payment.setStatus(PaymentStatus.PENDING);
+        payment.setStatus(PaymentStatus.INITIATED);
         payment.setPaymentMethod(PaymentConstants.PAYMENT_METHOD_STRIPE);
-        payment.setPaymentIntentId(paymentIntent.getId());
-        payment.setAttemptNumber((short) 1);
+        payment.setAttemptNumber((short) (paymentRepository.countByReservationId(reservation.getId()) + 1));
 
-        paymentRepository.save(payment);
+        Payment savedPayment = paymentRepository.saveAndFlush(payment);
+
+        log.debug("Payment record created for reservation: {} (attempt {})",
+                reservation.getId(), savedPayment.getAttemptNumber());
+        return savedPayment;
+    }
+
+    /**
+     * Capture what the gateway call needs, so it can run after the transaction.
+     */
+    private PaymentAttempt toPaymentAttempt(Reservation reservation, Payment payment) {
+        // Convert amount to paise (Stripe uses smallest currency unit)
+        long amountInCents = payment.getAmount()
+                .multiply(new BigDecimal("100"))
+                .longValue();
 
-        log.debug("Payment record created for reservation: {}", reservation.getId());
+        return new PaymentAttempt(
+                payment.getId(),
+                reservation.getId(),
+                reservation.getCreatedAt(),
+                amountInCents,
+                String.format(
+                        PaymentConstants.PAYMENT_DESCRIPTION_FORMAT,
+                        reservation.getBookingReference()),
+                Map.of(
+                        "reservationId", reservation.getId().toString(),
+                        "bookingReference", reservation.getBookingReference(),
+                        "userId", reservation.getUser().getId().toString()),
+                String.format(
+                        PaymentConstants.IDEMPOTENCY_KEY_FORMAT,
+                        reservation.getId(),
+                        payment.getAttemptNumber()));
+    }
+
+    /**
+     * Apply an intent status to a payment, for webhooks and reconciliation alike.
+     *
+     * Only a PENDING payment of a PENDING_PAYMENT reservation that still holds
+     * all its seats can be confirmed; a repeated event finds the payment settled
+     * and changes nothing. A payment that succeeded after its reservation was no
+     * longer payable, or had lost seats, is refunded, since the seats may already
+     * be sold again. Gateway calls run outside any
+     * transaction, like in createPaymentIntent: the decision is recorded first,
+     * and the payment stays PENDING until its refund is recorded, so a failed
+     * refund is retried by the reconciler with the same idempotency key.
+     */
+    private PaymentStatus applyIntentStatus(UUID paymentId, GatewayIntentStatus status) {
+        // Step 1: apply the status, or decide to refund
+        IntentTransition transition = transactionTemplate.execute(_ -> beginTransition(paymentId, status));
+
+        if (transition.refundReason() != null) {
+            // Steps 2 and 3: refund outside any transaction, then record it
+            return refundLatePayment(transition);
+        }
+        if (transition.confirmed()) {
+            // Steps 2 and 3: fetch the charge outside any transaction, then store it
+            storeChargeId(transition);
+        }
+        return transition.status();
+    }
+
+    /**
+     * Lock the payment and apply the intent status if it is still PENDING.
+     */
+    private IntentTransition beginTransition(UUID paymentId, GatewayIntentStatus status) {
+        Payment payment = paymentRepository.findByIdWithLock(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentId));
+
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.debug("Payment {} already {}; ignoring intent status {}", paymentId, payment.getStatus(), status);
+            return IntentTransition.settled(payment);
+        }
+
+        return switch (status) {
+            case SUCCEEDED -> {
+                Reservation reservation = payment.getReservation();
+                if (reservation.getStatus() != ReservationStatus.PENDING_PAYMENT
+                        || !reservationService.confirmPaid(reservation)) {
+                    yield IntentTransition.refund(payment,
+                            "Reservation " + reservation.getStatus().name().toLowerCase());
+                }
+                handlePaymentSuccess(payment);
+                yield IntentTransition.confirmed(payment);
+            }
+            case FAILED -> {
+                handlePaymentFailure(payment);
+                yield IntentTransition.settled(payment);
+            }
+            case CANCELED -> {
+                handlePaymentCancellation(payment);
+                yield IntentTransition.settled(payment);
+            }
+            case PENDING -> {
+                log.debug("PaymentIntent still pending: {}", payment.getPaymentIntentId());
+                yield IntentTransition.settled(payment);
+            }
+        };
     }
 
     /**
@@ -216,32 +426,11 @@ public class PaymentService {
 
         // Update payment status
         payment.setStatus(PaymentStatus.PAID);
-
-        try {
-            // Retrieve the PaymentIntent from Stripe
-            PaymentIntent paymentIntent = PaymentIntent.retrieve(payment.getPaymentIntentId());
-
-            // Safely extract the latest charge ID (works in Stripe Java SDK v24+)
-            String chargeId = paymentIntent.getLatestCharge();
-            if (chargeId != null) {
-                payment.setChargeId(chargeId);
-            } else {
-                log.warn("No charge found for PaymentIntent: {}", payment.getPaymentIntentId());
-            }
-
-        } catch (StripeException e) {
-            log.warn("Failed to fetch charge ID for PaymentIntent: {}", payment.getPaymentIntentId(), e);
-        }
-
-        // Persist payment update
         paymentRepository.save(payment);
 
-        // Update reservation status
+        // The reservation has been confirmed with its seats
         Reservation reservation = payment.getReservation();
-        reservation.setStatus(ReservationStatus.CONFIRMED);
-
-        // If not cascaded, explicitly persist reservation
-        // reservationRepository.save(reservation);
+        bookingMetrics.recordPaymentToConfirm(Duration.between(payment.getCreatedAt(), Instant.now()));
 
         // TODO: Send booking confirmation email asynchronously
         // emailService.sendBookingConfirmation(reservation);
@@ -249,6 +438,30 @@ public class PaymentService {
         log.info("Payment successful for reservation: {}", reservation.getBookingReference());
     }
 
+    /**
+     * Retrieve the latest charge ID of a confirmed payment from the gateway and store it.
+     * The charge ID is informational, so a failed lookup is only logged.
+     */
+    private void storeChargeId(IntentTransition transition) {
+        try {
+            String chargeId = callGateway("get_charge",
+                    () -> paymentGateway.getLatestChargeId(transition.paymentIntentId()));
+            if (chargeId == null) {
+                log.warn("No charge found for PaymentIntent: {}", transition.paymentIntentId());
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(_ -> paymentRepository.findById(transition.paymentId())
+                    .ifPresent(payment -> {
+                        payment.setChargeId(chargeId);
+                        paymentRepository.save(payment);
+                    }));
+
+        } catch (PaymentGatewayException | PaymentUnavailableException e) {
+            log.warn("Failed to fetch charge ID for PaymentIntent: {}", transition.paymentIntentId(), e);
+        }
+    }
+
     /**
      * Handle failed payment.
      */
@@ -281,6 +494,91 @@ public class PaymentService {
         log.info("Payment cancelled for reservation: {}", payment.getReservation().getBookingReference());
     }
 
+    /**
+     * Refund a payment that succeeded after its reservation was no longer payable,
+     * then mark it REFUNDED.
+     */
+    private PaymentStatus refundLatePayment(IntentTransition transition) {
+        log.warn("PaymentIntent {} succeeded for reservation {} ({}); refunding",
+                transition.paymentIntentId(), transition.reservationId(), transition.refundReason());
+
+        try {
+            String refundId = callGateway("refund", () -> paymentGateway.refund(
+                    transition.paymentIntentId(),
+                    Map.of(
+                            "reservationId", transition.reservationId().toString(),
+                            "reason", transition.refundReason()),
+                    String.format(PaymentConstants.REFUND_IDEMPOTENCY_KEY_FORMAT, transition.paymentId())));
+
+            PaymentStatus status = transactionTemplate.execute(_ -> completeLateRefund(transition.paymentId()));
+
+            log.info("Late payment refunded: {} for reservation: {}", refundId, transition.reservationId());
+            return status;
+
+        } catch (PaymentGatewayException e) {
+            // The payment stays PENDING, so the reconciler retries the refund
+            throw new PaymentException("Failed to refund late payment: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Mark a refunded late payment REFUNDED.
+     * A payment settled concurrently is left as it is.
+     */
+    private PaymentStatus completeLateRefund(UUID paymentId) {
+        Payment payment = paymentRepository.findByIdWithLock(paymentId)
+                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentId));
+
+        if (payment.getStatus() == PaymentStatus.PENDING) {
+            payment.setStatus(PaymentStatus.REFUNDED);
+            paymentRepository.save(payment);
+        }
+        return payment.getStatus();
+    }
+
+    /**
+     * Outcome of applying an intent status, detached from the persistence context.
+     *
+     * @param confirmed    Whether the payment was just confirmed, so its charge ID is due
+     * @param refundReason Why the payment must be refunded; null if it must not
+     */
+    private record IntentTransition(
+            UUID paymentId,
+            String paymentIntentId,
+            UUID reservationId,
+            PaymentStatus status,
+            boolean confirmed,
+            String refundReason) {
+
+        static IntentTransition settled(Payment payment) {
+            return new IntentTransition(payment.getId(), payment.getPaymentIntentId(),
+                    payment.getReservation().getId(), payment.getStatus(), false, null);
+        }
+
+        static IntentTransition confirmed(Payment payment) {
+            return new IntentTransition(payment.getId(), payment.getPaymentIntentId(),
+                    payment.getReservation().getId(), payment.getStatus(), true, null);
+        }
+
+        static IntentTransition refund(Payment payment, String reason) {
+            return new IntentTransition(payment.getId(), payment.getPaymentIntentId(),
+                    payment.getReservation().getId(), payment.getStatus(), false, reason);
+        }
+    }
+
+    /**
+     * A recorded payment attempt, detached from the persistence context.
+     */
+    private record PaymentAttempt(
+            UUID paymentId,
+            UUID reservationId,
+            Instant reservationCreatedAt,
+            long amountInCents,
+            String description,
+            Map<String, String> metadata,
+            String idempotencyKey) {
+    }
+
     // ========== Validation Methods ==========
 
     /**
@@ -298,14 +596,13 @@ public class PaymentService {
                     "Reservation cannot be paid. Current status: " + reservation.getStatus());
         }
 
-        // Check if payment already exists
+        // Check if payment already completed; an attempt in progress is resumed
         boolean paymentExists = paymentRepository.existsByReservationIdAndStatusIn(
                 reservation.getId(),
-                PaymentStatus.PAID,
-                PaymentStatus.PENDING);
+                PaymentStatus.PAID);
 
         if (paymentExists) {
-            throw new PaymentException("Payment already initiated or completed for this reservation");
+            throw new PaymentException("Payment already completed for this reservation");
         }
     }
 }
\ No newline at end of file
@@ -3,23 +3,58 @@ package com.moviereservation.api.service;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.moviereservation.api.config.LockingProperties;
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.domain.entities.*;
+import com.moviereservation.api.domain.enums.BookingMode;
 import com.moviereservation.api.domain.enums.ReservationStatus;
 import com.moviereservation.api.domain.enums.SeatStatus;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
 import com.moviereservation.api.domain.enums.ShowtimeStatus;
 import com.moviereservation.api.exception.*;
+import com.moviereservation.api.repository.ProjectionRepository;
 import com.moviereservation.api.repository.ReservationRepository;
+import com.moviereservation.api.repository.SeatBookingRepository;
+import com.moviereservation.api.repository.SeatBookingRepository.BookedSeats;
 import com.moviereservation.api.repository.SeatInstanceRepository;
 import com.moviereservation.api.repository.ShowtimeRepository;
+import com.moviereservation.api.repository.ShowtimeSeatCountRepository;
+import com.moviereservation.api.repository.projection.ReservationSummary;
 import com.moviereservation.api.repository.specification.ReservationSpecification;
+import com.moviereservation.api.repository.specification.SeatSpecification;
+import com.moviereservation.api.service.allocation.BestSeatAllocator;
+import com.moviereservation.api.service.allocation.BestSeatAllocator.SeatBlock;
+import com.moviereservation.api.service.diagnostics.HoldExpirySweepEvent;
+import com.moviereservation.api.service.diagnostics.SeatHoldEvent;
+import com.moviereservation.api.service.diagnostics.SeatLockEvent;
+import com.moviereservation.api.service.diagnostics.SeatReleaseEvent;
+import com.moviereservation.api.service.locking.RetryOnLockConflict;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+import com.moviereservation.api.service.metrics.BookingMetrics.HoldOutcome;
+import com.moviereservation.api.service.reference.BookingReferenceGenerator;
+import com.moviereservation.api.web.dto.request.reservation.CreateBestAvailableReservationRequest;
 import com.moviereservation.api.web.dto.request.reservation.CreateReservationRequest;
 import com.moviereservation.api.web.dto.request.reservation.ReservationFilterRequest;
 
@@ -31,6 +66,7 @@ import lombok.extern.slf4j.Slf4j;
  * Handles booking, cancellation, and seat hold management.
  */
 @Service
+@Workload(WorkloadType.BOOKING)
 @RequiredArgsConstructor
 @Slf4j
 public class ReservationService {
@@ -39,16 +75,34 @@ public class ReservationService {
     private static final int SEAT_HOLD_MINUTES = 5;
     private static final int MIN_CANCEL_HOURS = 2;
     private static final int MAX_SEATS_PER_BOOKING = 10;
+    private static final int MAX_CANDIDATE_BLOCKS = 50;
+    private static final int MAX_ALLOCATION_ATTEMPTS = 5;
+    private static final String LOCK_OUTCOME_LOCKED = "LOCKED";
+    private static final String SWEEP_OUTCOME_EMPTY = "EMPTY";
 
     private final ReservationRepository reservationRepository;
+    private final ProjectionRepository projectionRepository;
     private final SeatInstanceRepository seatInstanceRepository;
     private final ShowtimeRepository showtimeRepository;
     private final UserService userService;
+    private final SeatStatusMapService seatStatusMapService;
+    private final BookingMetrics bookingMetrics;
+    private final BestSeatAllocator bestSeatAllocator;
+    private final BookingReferenceGenerator bookingReferenceGenerator;
+    private final SeatBookingRepository seatBookingRepository;
+    private final ShowtimeSeatCountRepository showtimeSeatCountRepository;
+    private final LockingProperties lockingProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.reservation.booking-mode:JPA}")
+    private BookingMode bookingMode;
 
     /**
      * Create a new reservation (book seats).
      * Seats are held with pessimistic locking to prevent double-booking.
      * Status is set to PENDING_PAYMENT with 5-minute hold timer.
+     * With booking mode FUNCTION, ROWS showtimes are booked by the
+     * book_seats() database function instead.
      *
      * @param userId  User ID making the reservation
      * @param request Reservation details (showtime and seat IDs)
@@ -57,43 +111,27 @@ public class ReservationService {
      * @throws SeatUnavailableException    if seats not available
      */
     @Transactional
+    @RetryOnLockConflict
     public Reservation create(final UUID userId, final CreateReservationRequest request) {
-        log.debug("Creating reservation for user: {} with {} seats",
-                userId, request.getSeatInstanceIds().size());
-
-        // Validate request
-        validateSeatCount(request.getSeatInstanceIds().size());
-
-        // Fetch entities
-        final User user = userService.findById(userId);
-        final Showtime showtime = showtimeRepository.findById(request.getShowtimeId())
-                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found"));
-
-        // Validate showtime is bookable
-        validateShowtimeBookable(showtime);
-
-        // Lock and validate seats (pessimistic locking)
-        final List<SeatInstance> seats = lockAndValidateSeats(
-                request.getSeatInstanceIds(),
-                showtime.getId(),
-                userId);
-
-        // Hold seats
-        final Instant now = Instant.now();
-        holdSeats(seats, user, now);
-
-        // Calculate total price
-        final BigDecimal totalPrice = calculateTotalPrice(seats);
-
-        // Create reservation
-        final Reservation reservation = buildReservation(user, showtime, totalPrice, seats);
-
-        final Reservation savedReservation = reservationRepository.save(reservation);
-
-        log.info("Reservation created: {} for user: {} with {} seats (Total: {})",
-                savedReservation.getBookingReference(), userId, seats.size(), totalPrice);
+        return withHoldMetrics(request.getShowtimeId(), () -> bookingMode == BookingMode.FUNCTION
+                ? bookWithFunction(userId, request)
+                : holdAndReserve(userId, request));
+    }
 
-        return savedReservation;
+    /**
+     * Create a reservation for the best available block of adjacent seats.
+     * Candidate blocks are ranked in memory and claimed with SKIP LOCKED;
+     * if a block is contested the next best one is tried within the same request.
+     *
+     * @param userId  User ID making the reservation
+     * @param request Showtime, number of seats and optional seat type
+     * @return Created reservation entity
+     * @throws InvalidReservationException if validation fails
+     * @throws SeatUnavailableException    if no suitable block could be claimed
+     */
+    @Transactional
+    public Reservation createBestAvailable(final UUID userId, final CreateBestAvailableReservationRequest request) {
+        return withHoldMetrics(request.getShowtimeId(), () -> holdBestAvailable(userId, request));
     }
 
     /**
@@ -107,6 +145,7 @@ public class ReservationService {
      * @throws InvalidReservationCancellationException if cannot be cancelled
      */
     @Transactional
+    @RetryOnLockConflict
     public Reservation cancel(final String bookingReference, final UUID userId) {
         log.debug("Cancelling reservation: {} by user: {}", bookingReference, userId);
 
@@ -119,11 +158,9 @@ public class ReservationService {
         reservation.setStatus(ReservationStatus.CANCELLED);
         final Reservation cancelledReservation = reservationRepository.save(reservation);
 
-        // Release seats
-        releaseSeats(reservation);
-
-        // Update showtime available count
-        updateShowtimeAvailableSeats(reservation.getShowtime(), reservation.getReservationSeats().size());
+        // Release seats and update the showtime's available count
+        final int released = releaseSeats(reservation, true);
+        showtimeSeatCountRepository.adjust(reservation.getShowtime().getId(), released);
 
         log.info("Reservation cancelled: {} by user: {}", bookingReference, userId);
 
@@ -138,6 +175,7 @@ public class ReservationService {
      * @return Cancelled reservation entity
      */
     @Transactional
+    @RetryOnLockConflict
     public Reservation cancelByAdmin(final UUID reservationId) {
         log.debug("Admin cancelling reservation: {}", reservationId);
 
@@ -153,11 +191,9 @@ public class ReservationService {
         reservation.setStatus(ReservationStatus.CANCELLED);
         final Reservation cancelledReservation = reservationRepository.save(reservation);
 
-        // Release seats
-        releaseSeats(reservation);
-
-        // Update showtime available count
-        updateShowtimeAvailableSeats(reservation.getShowtime(), reservation.getReservationSeats().size());
+        // Release seats and update the showtime's available count
+        final int released = releaseSeats(reservation, true);
+        showtimeSeatCountRepository.adjust(reservation.getShowtime().getId(), released);
 
         log.info("Reservation cancelled by admin: {}", reservationId);
 
@@ -211,16 +247,18 @@ public class ReservationService {
     /**
      * Find all reservations for a customer with filters and pagination.
      * Auto-scoped to user's own reservations.
+     * Selects only the columns of the customer response; seats of the page
+     * are loaded by a single second query.
      */
     @Transactional(readOnly = true)
-    public Page<Reservation> findAllForCustomer(
+    public Page<ReservationSummary> findAllForCustomer(
             final UUID userId,
             final Pageable pageable,
             final ReservationFilterRequest filters) {
 
         log.debug("Finding reservations for customer: {}", userId);
 
-        return reservationRepository.findAll(
+        return projectionRepository.findReservationSummaries(
                 ReservationSpecification.forCustomer(userId, filters),
                 pageable);
     }
@@ -241,35 +279,355 @@ public class ReservationService {
                 pageable);
     }
 
+    /**
+     * Confirm a reservation that has just been paid: mark it CONFIRMED and its
+     * seats RESERVED, so they cannot be claimed once its hold would have expired.
+     * A partial booking is never confirmed: if any seat is no longer held for
+     * the reservation, it is expired instead and its remaining seats released.
+     * Joins the payment's transaction.
+     *
+     * @return Whether the reservation was confirmed; if not, the payment must be refunded
+     */
+    @Transactional
+    public boolean confirmPaid(final Reservation reservation) {
+        final List<SeatInstance> lockedSeats = lockSeats(seatIdsOf(reservation));
+        final List<SeatInstance> seats = lockedSeats.stream()
+                .filter(seat -> isHeldFor(seat, reservation, false))
+                .toList();
+        if (reservation.getShowtime().getStatus() == ShowtimeStatus.CANCELLED) {
+            log.warn("Paid reservation {} belongs to a cancelled showtime; cancelling it",
+                    reservation.getBookingReference());
+            endPendingReservation(reservation, ReservationStatus.CANCELLED, lockedSeats);
+            return false;
+        }
+        if (seats.size() < reservation.getReservationSeats().size()) {
+            log.warn("Only {} of {} seats are still held for paid reservation: {}; expiring it",
+                    seats.size(), reservation.getReservationSeats().size(), reservation.getBookingReference());
+            endPendingReservation(reservation, ReservationStatus.EXPIRED, lockedSeats);
+            return false;
+        }
+
+        reservation.setStatus(ReservationStatus.CONFIRMED);
+        reservationRepository.save(reservation);
+
+        seats.forEach(seat -> {
+            seat.setStatus(SeatStatus.RESERVED);
+            seat.setHeldAt(null);
+            seat.setHeldBy(null);
+        });
+        seatInstanceRepository.saveAll(seats);
+        syncSeatStatusMap(reservation.getShowtime(), seats);
+        return true;
+    }
+
+    /**
+     * Cancel the PENDING_PAYMENT reservations of a cancelled showtime and
+     * release their held seats. A payment that still succeeds for one of
+     * them is refunded (see confirmPaid).
+     *
+     * The seats are locked before the reservations are read, so a
+     * reservation confirmed concurrently is read as CONFIRMED and left to
+     * the refund of the cancellation job.
+     *
+     * @return Number of reservations cancelled
+     */
+    @Transactional
+    @RetryOnLockConflict
+    public int cancelPendingForShowtime(final UUID showtimeId) {
+        final List<UUID> seatIds = seatInstanceRepository.findIdsByReservationStatus(
+                showtimeId, ReservationStatus.PENDING_PAYMENT);
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+
+        final Map<UUID, SeatInstance> lockedSeats = lockSeats(seatIds).stream()
+                .collect(Collectors.toMap(SeatInstance::getId, Function.identity()));
+
+        // Reservations booked after the seats were locked are left to the hold expiry sweep
+        final List<Reservation> reservations = reservationRepository
+                .findByShowtimeIdAndStatus(showtimeId, ReservationStatus.PENDING_PAYMENT).stream()
+                .filter(reservation -> lockedSeats.keySet().containsAll(seatIdsOf(reservation)))
+                .toList();
+
+        for (final Reservation reservation : reservations) {
+            endPendingReservation(reservation, ReservationStatus.CANCELLED, seatIdsOf(reservation).stream()
+                    .map(lockedSeats::get)
+                    .toList());
+        }
+
+        log.info("Cancelled {} pending reservations of showtime: {}", reservations.size(), showtimeId);
+        return reservations.size();
+    }
+
     /**
      * Process expired holds (background job).
      * Releases seats and marks reservations as EXPIRED.
      * Should be called every minute by @Scheduled task.
+     *
+     * The seats of all expired reservations are locked with one query in id
+     * order, so the sweep cannot deadlock with bookings or with itself.
      */
     @Transactional
+    @RetryOnLockConflict
     public void processExpiredHolds() {
+        final HoldExpirySweepEvent sweepEvent = new HoldExpirySweepEvent();
+        sweepEvent.begin();
+
         final Instant expiryTime = Instant.now().minus(SEAT_HOLD_MINUTES, ChronoUnit.MINUTES);
 
         final List<Reservation> expiredReservations = reservationRepository
                 .findExpiredPendingReservations(expiryTime, ReservationStatus.PENDING_PAYMENT);
 
+        bookingMetrics.recordExpiredHolds(expiredReservations.size());
+
         if (expiredReservations.isEmpty()) {
+            sweepEvent.record(0, SWEEP_OUTCOME_EMPTY);
             return;
         }
 
         log.info("Processing {} expired holds", expiredReservations.size());
 
+        final Map<UUID, SeatInstance> lockedSeats = lockSeats(expiredReservations.stream()
+                .flatMap(reservation -> seatIdsOf(reservation).stream())
+                .distinct()
+                .toList())
+                .stream()
+                .collect(Collectors.toMap(SeatInstance::getId, Function.identity()));
+
         for (final Reservation reservation : expiredReservations) {
-            expireReservation(reservation);
+            endPendingReservation(reservation, ReservationStatus.EXPIRED, seatIdsOf(reservation).stream()
+                    .map(lockedSeats::get)
+                    .toList());
         }
 
-        reservationRepository.saveAll(expiredReservations);
+        sweepEvent.record(expiredReservations.size(), ReservationStatus.EXPIRED.name());
 
         log.info("Processed {} expired reservations", expiredReservations.size());
     }
 
     // ========== Private Helper Methods ==========
 
+    /**
+     * Validate the request, lock and hold the seats and save the reservation.
+     */
+    private Reservation holdAndReserve(final UUID userId, final CreateReservationRequest request) {
+        log.debug("Creating reservation for user: {} with {} seats",
+                userId, request.getSeatInstanceIds().size());
+
+        // Validate request
+        validateSeatCount(request.getSeatInstanceIds().size());
+
+        // Fetch entities
+        final User user = userService.findById(userId);
+        final Showtime showtime = showtimeRepository.findById(request.getShowtimeId())
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found"));
+
+        // Validate showtime is bookable
+        validateShowtimeBookable(showtime);
+
+        // Compact showtimes only have rows for touched seats
+        if (isCompact(showtime)) {
+            seatStatusMapService.materializeSeats(showtime, request.getSeatInstanceIds());
+        }
+
+        // Lock and validate seats (pessimistic locking)
+        final List<SeatInstance> seats = lockAndValidateSeats(
+                request.getSeatInstanceIds(),
+                showtime.getId(),
+                userId);
+
+        return holdAndSave(user, showtime, seats);
+    }
+
+    /**
+     * Validate, hold the seats and insert the reservation with one call to
+     * book_seats(), so seat row locks are held only for that call.
+     * COMPACT showtimes need their seat rows materialized first and take the JPA path.
+     */
+    private Reservation bookWithFunction(final UUID userId, final CreateReservationRequest request) {
+        validateSeatCount(request.getSeatInstanceIds().size());
+
+        // Usually served from the second-level cache
+        final Showtime showtime = showtimeRepository.findById(request.getShowtimeId())
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found"));
+        if (isCompact(showtime)) {
+            return holdAndReserve(userId, request);
+        }
+
+        final BookedSeats booked = seatBookingRepository.bookSeats(
+                userId,
+                showtime.getId(),
+                request.getSeatInstanceIds(),
+                bookingReferenceGenerator.next(),
+                SEAT_HOLD_MINUTES,
+                lockingProperties.getLockTimeout());
+
+        log.info("Reservation created via book_seats(): {} for user: {} with {} seats (Total: {})",
+                booked.reservationId(), userId, booked.seatCount(), booked.totalPrice());
+
+        Hibernate.initialize(showtime.getMovie());
+        // Seats are mapped into the response after the transaction
+        return reservationRepository.findWithSeatsById(booked.reservationId())
+                .orElseThrow(() -> new ReservationNotFoundException(booked.reservationId().toString()));
+    }
+
+    /**
+     * Rank blocks of adjacent available seats and claim the best uncontested one.
+     */
+    private Reservation holdBestAvailable(final UUID userId, final CreateBestAvailableReservationRequest request) {
+        log.debug("Creating best-available reservation for user: {} with {} seats",
+                userId, request.getSeatCount());
+
+        validateSeatCount(request.getSeatCount());
+
+        final User user = userService.findById(userId);
+        final Showtime showtime = showtimeRepository.findById(request.getShowtimeId())
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found"));
+
+        validateShowtimeBookable(showtime);
+
+        final List<SeatInstance> layout = isCompact(showtime)
+                ? seatStatusMapService.getSeatLayout(showtime, null)
+                : seatInstanceRepository.findAll(SeatSpecification.forSeatMap(showtime.getId()));
+
+        final List<SeatBlock> candidates = bestSeatAllocator.rankBlocks(
+                layout, request.getSeatCount(), request.getSeatType(), holdsExpiredBefore(), MAX_CANDIDATE_BLOCKS);
+
+        final List<SeatInstance> seats = claimBlock(showtime, candidates);
+
+        return holdAndSave(user, showtime, seats);
+    }
+
+    /**
+     * Try candidate blocks best first until one is locked completely.
+     * Seats found taken are remembered, so overlapping blocks are not retried.
+     */
+    private List<SeatInstance> claimBlock(final Showtime showtime, final List<SeatBlock> candidates) {
+        final Set<UUID> takenSeatIds = new HashSet<>();
+        int attempts = 0;
+
+        for (final SeatBlock block : candidates) {
+            final List<UUID> seatIds = block.seats().stream().map(SeatInstance::getId).toList();
+            if (seatIds.stream().anyMatch(takenSeatIds::contains)) {
+                continue;
+            }
+            if (attempts++ == MAX_ALLOCATION_ATTEMPTS) {
+                break;
+            }
+
+            if (isCompact(showtime)) {
+                seatStatusMapService.materializeSeats(showtime, seatIds);
+            }
+
+            final long lockStart = System.nanoTime();
+            final List<SeatInstance> locked = lockBlock(seatIds);
+            bookingMetrics.recordLockWait(showtime.getId(), System.nanoTime() - lockStart);
+
+            if (locked.size() == seatIds.size()) {
+                return locked;
+            }
+
+            final Set<UUID> lockedIds = locked.stream().map(SeatInstance::getId).collect(Collectors.toSet());
+            seatIds.stream().filter(id -> !lockedIds.contains(id)).forEach(takenSeatIds::add);
+            log.debug("Seat block contested for showtime: {}, trying next best", showtime.getId());
+        }
+
+        throw new SeatUnavailableException("No block of adjacent seats is available for this request");
+    }
+
+    /**
+     * Lock the claimable seats of one block under a savepoint. A partly
+     * locked block is rolled back to the savepoint, which releases its row
+     * locks instead of holding them until the request commits.
+     */
+    private List<SeatInstance> lockBlock(final List<UUID> seatIds) {
+        // Pending writes (materialized compact seats) must not be undone by the rollback
+        seatInstanceRepository.flush();
+
+        final TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        return savepoint.execute(status -> {
+            final List<SeatInstance> locked = seatInstanceRepository.findClaimableByIdSkipLocked(
+                    seatIds, holdsExpiredBefore(), SeatStatus.AVAILABLE, SeatStatus.HELD);
+            if (locked.size() < seatIds.size()) {
+                status.setRollbackOnly();
+            }
+            return locked;
+        });
+    }
+
+    /**
+     * Hold locked seats and save the PENDING_PAYMENT reservation.
+     */
+    private Reservation holdAndSave(final User user, final Showtime showtime, final List<SeatInstance> seats) {
+        // Expired and own holds were already counted as taken
+        final int newlyHeld = (int) seats.stream()
+                .filter(seat -> seat.getStatus() == SeatStatus.AVAILABLE)
+                .count();
+
+        // Hold seats
+        final Instant now = Instant.now();
+        holdSeats(showtime, seats, user, now);
+        syncSeatStatusMap(showtime, seats);
+
+        // Calculate total price
+        final BigDecimal totalPrice = calculateTotalPrice(seats);
+
+        // Create reservation
+        final Reservation reservation = buildReservation(user, showtime, totalPrice, seats);
+
+        final Reservation savedReservation = reservationRepository.save(reservation);
+
+        // Last, so the showtime row lock is held as briefly as possible
+        showtimeSeatCountRepository.adjust(showtime.getId(), -newlyHeld);
+
+        // The response shows the movie title; usually served from the second-level cache
+        Hibernate.initialize(showtime.getMovie());
+
+        log.info("Reservation created: {} for user: {} with {} seats (Total: {})",
+                savedReservation.getBookingReference(), user.getId(), seats.size(), totalPrice);
+
+        return savedReservation;
+    }
+
+    /**
+     * Run a hold attempt and record its latency by outcome. Success is
+     * recorded once the transaction has committed, so holds rolled back at
+     * commit count as errors.
+     */
+    private Reservation withHoldMetrics(final UUID showtimeId, final Supplier<Reservation> holdAttempt) {
+        final long start = System.nanoTime();
+        final Reservation reservation;
+        try {
+            reservation = holdAttempt.get();
+        } catch (final SeatUnavailableException e) {
+            bookingMetrics.recordHold(showtimeId, HoldOutcome.CONFLICT, System.nanoTime() - start);
+            throw e;
+        } catch (final BusinessException e) {
+            bookingMetrics.recordHold(showtimeId, HoldOutcome.REJECTED, System.nanoTime() - start);
+            throw e;
+        } catch (final RuntimeException e) {
+            bookingMetrics.recordHoldError(showtimeId, e.getClass().getSimpleName(), System.nanoTime() - start);
+            throw e;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bookingMetrics.recordHold(showtimeId, HoldOutcome.SUCCESS, System.nanoTime() - start);
+            return reservation;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    bookingMetrics.recordHold(showtimeId, HoldOutcome.SUCCESS, System.nanoTime() - start);
+                } else {
+                    bookingMetrics.recordHoldError(showtimeId, "rollback", System.nanoTime() - start);
+                }
+            }
+        });
+        return reservation;
+    }
+
     /**
      * Lock seats with SELECT FOR UPDATE and validate availability.
      */
@@ -279,7 +637,42 @@ public class ReservationService {
             final UUID userId) {
 
         // Lock seats (pessimistic locking)
-        final List<SeatInstance> seats = seatInstanceRepository.findAllByIdWithLock(seatIds);
+        final SeatLockEvent lockEvent = new SeatLockEvent();
+        lockEvent.begin();
+        final long lockStart = System.nanoTime();
+        final List<SeatInstance> seats = lockSeats(seatIds);
+        bookingMetrics.recordLockWait(showtimeId, System.nanoTime() - lockStart);
+        lockEvent.end();
+
+        String outcome = LOCK_OUTCOME_LOCKED;
+        try {
+            validateLockedSeats(seats, seatIds, showtimeId, userId);
+        } catch (final BusinessException e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            lockEvent.record(showtimeId, seatIds.size(), outcome);
+        }
+
+        return seats;
+    }
+
+    /**
+     * Lock seats with SELECT FOR UPDATE in ID order, waiting at most the configured lock timeout.
+     */
+    private List<SeatInstance> lockSeats(final List<UUID> seatIds) {
+        seatInstanceRepository.setLocalLockTimeout(lockingProperties.getLockTimeout().toMillis() + "ms");
+        return seatInstanceRepository.findAllByIdWithLock(seatIds.stream().sorted().toList());
+    }
+
+    /**
+     * Validate the locked seats: all found, same showtime and available to the user.
+     */
+    private void validateLockedSeats(
+            final List<SeatInstance> seats,
+            final List<UUID> seatIds,
+            final UUID showtimeId,
+            final UUID userId) {
 
         // Validate all seats found
         if (seats.size() != seatIds.size()) {
@@ -299,8 +692,6 @@ public class ReservationService {
         for (final SeatInstance seat : seats) {
             validateSeatAvailability(seat, userId, now);
         }
-
-        return seats;
     }
 
     /**
@@ -313,13 +704,8 @@ public class ReservationService {
         }
 
         if (seat.getStatus() == SeatStatus.HELD) {
-            // Check if hold expired
-            if (isHoldExpired(seat, now)) {
-                // Release expired hold
-                seat.setStatus(SeatStatus.AVAILABLE);
-                seat.setHeldAt(null);
-                seat.setHeldBy(null);
-            } else if (!seat.getHeldBy().getId().equals(userId)) {
+            // An expired hold is taken over as it is, so it is not counted as available again
+            if (!isHoldExpired(seat, now) && !seat.getHeldBy().getId().equals(userId)) {
                 // Different user holding the seat
                 throw new SeatUnavailableException(
                         "Seat " + seat.getRowLabel() + seat.getSeatNumber() +
@@ -331,33 +717,99 @@ public class ReservationService {
     /**
      * Hold seats for a user.
      */
-    private void holdSeats(final List<SeatInstance> seats, final User user, final Instant now) {
+    private void holdSeats(
+            final Showtime showtime,
+            final List<SeatInstance> seats,
+            final User user,
+            final Instant now) {
+
+        final SeatHoldEvent holdEvent = new SeatHoldEvent();
+        holdEvent.begin();
+
         seats.forEach(seat -> {
             seat.setStatus(SeatStatus.HELD);
             seat.setHeldAt(now);
             seat.setHeldBy(user);
         });
         seatInstanceRepository.saveAll(seats);
+
+        holdEvent.record(showtime.getId(), seats.size(), SeatStatus.HELD.name());
     }
 
     /**
-     * Release seats back to AVAILABLE.
+     * Lock the reservation's seats and release them back to AVAILABLE.
+     *
+     * @param confirmed Whether the reservation was paid, so its seats may be RESERVED
+     * @return Number of seats released
      */
-    private void releaseSeats(final Reservation reservation) {
-        final List<UUID> seatIds = reservation.getReservationSeats().stream()
-                .map(rs -> rs.getSeatInstance().getId())
-                .toList();
+    private int releaseSeats(final Reservation reservation, final boolean confirmed) {
+        // Lock in the same order as bookings do, so a release cannot deadlock with a booking
+        return releaseLockedSeats(reservation, lockSeats(seatIdsOf(reservation)), confirmed);
+    }
+
+    /**
+     * Release locked seats of the reservation back to AVAILABLE. Seats another
+     * reservation has taken over since this one's hold expired are left alone.
+     *
+     * @return Number of seats released
+     */
+    private int releaseLockedSeats(
+            final Reservation reservation,
+            final List<SeatInstance> lockedSeats,
+            final boolean confirmed) {
 
-        final List<SeatInstance> seats = seatInstanceRepository.findAllById(seatIds);
+        final SeatReleaseEvent releaseEvent = new SeatReleaseEvent();
+        releaseEvent.begin();
+
+        final List<SeatInstance> seats = lockedSeats.stream()
+                .filter(seat -> isHeldFor(seat, reservation, confirmed))
+                .toList();
         seats.forEach(seat -> {
             seat.setStatus(SeatStatus.AVAILABLE);
             seat.setHeldAt(null);
             seat.setHeldBy(null);
         });
         seatInstanceRepository.saveAll(seats);
+        syncSeatStatusMap(reservation.getShowtime(), seats);
+
+        releaseEvent.record(reservation.getShowtime().getId(), seats.size(), reservation.getStatus().name());
 
         log.debug("Released {} seats for reservation: {}",
                 seats.size(), reservation.getBookingReference());
+        return seats.size();
+    }
+
+    /**
+     * Whether the seat still carries this reservation's hold or booking.
+     * A hold started after the reservation was created belongs to a later one.
+     */
+    private boolean isHeldFor(final SeatInstance seat, final Reservation reservation, final boolean confirmed) {
+        return switch (seat.getStatus()) {
+            case AVAILABLE -> false;
+            case HELD -> seat.getHeldBy() != null
+                    && seat.getHeldBy().getId().equals(reservation.getUser().getId())
+                    && !seat.getHeldAt().isAfter(reservation.getCreatedAt());
+            case RESERVED -> confirmed;
+        };
+    }
+
+    private List<UUID> seatIdsOf(final Reservation reservation) {
+        return reservation.getReservationSeats().stream()
+                .map(rs -> rs.getSeatInstance().getId())
+                .toList();
+    }
+
+    /**
+     * Mirror seat status changes into the status map of COMPACT showtimes.
+     */
+    private void syncSeatStatusMap(final Showtime showtime, final List<SeatInstance> seats) {
+        if (isCompact(showtime)) {
+            seatStatusMapService.updateStatus(showtime, seats);
+        }
+    }
+
+    private boolean isCompact(final Showtime showtime) {
+        return showtime.getSeatStorageMode() == SeatStorageMode.COMPACT;
     }
 
     /**
@@ -383,7 +835,7 @@ public class ReservationService {
         reservation.setShowtime(showtime);
         reservation.setStatus(ReservationStatus.PENDING_PAYMENT);
         reservation.setTotalPrice(totalPrice);
-        reservation.setBookingReference(generateBookingReference());
+        reservation.setBookingReference(bookingReferenceGenerator.next());
 
         // Add seats
         seats.forEach(seat -> {
@@ -397,33 +849,28 @@ public class ReservationService {
     }
 
     /**
-     * Expire a reservation and release its seats.
+     * End an unpaid reservation as EXPIRED or CANCELLED and release the
+     * seats it still holds, already locked by the caller.
      */
-    private void expireReservation(final Reservation reservation) {
-        reservation.setStatus(ReservationStatus.EXPIRED);
+    private void endPendingReservation(
+            final Reservation reservation,
+            final ReservationStatus status,
+            final List<SeatInstance> lockedSeats) {
 
-        releaseSeats(reservation);
-        updateShowtimeAvailableSeats(reservation.getShowtime(), reservation.getReservationSeats().size());
+        reservation.setStatus(status);
+        reservationRepository.save(reservation);
 
-        log.info("Reservation expired: {}", reservation.getBookingReference());
-    }
+        final int released = releaseLockedSeats(reservation, lockedSeats, false);
+        showtimeSeatCountRepository.adjust(reservation.getShowtime().getId(), released);
 
-    /**
-     * Update showtime available seats count.
-     */
-    private void updateShowtimeAvailableSeats(final Showtime showtime, final int seatCount) {
-        showtime.setAvailableSeatsCount(
-                (short) (showtime.getAvailableSeatsCount() + seatCount));
-        showtimeRepository.save(showtime);
+        log.info("Reservation {}: {}", status.name().toLowerCase(), reservation.getBookingReference());
     }
 
     /**
-     * Generate unique booking reference.
+     * Holds started before this instant have expired.
      */
-    private String generateBookingReference() {
-        return "BK" + UUID.randomUUID().toString()
-                .substring(0, 6)
-                .toUpperCase();
+    private Instant holdsExpiredBefore() {
+        return Instant.now().minus(SEAT_HOLD_MINUTES, ChronoUnit.MINUTES);
     }
 
     /**
@@ -6,12 +6,17 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.domain.entities.SeatInstance;
 import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
 import com.moviereservation.api.exception.ShowtimeNotFoundException;
 import com.moviereservation.api.repository.SeatInstanceRepository;
 import com.moviereservation.api.repository.ShowtimeRepository;
 import com.moviereservation.api.repository.specification.SeatSpecification;
+import com.moviereservation.api.service.coalescing.Coalesced;
+import com.moviereservation.api.service.metrics.BookingMetrics;
 import com.moviereservation.api.web.dto.request.seat.SeatMapFilterRequest;
 import com.moviereservation.api.web.dto.response.seat.SeatMapResponse;
 import com.moviereservation.api.web.mapper.SeatMapMapper;
@@ -24,13 +29,16 @@ import lombok.extern.slf4j.Slf4j;
  * Provides real-time seat availability for showtimes.
  */
 @Service
+@Workload(WorkloadType.BROWSE)
 @RequiredArgsConstructor
 @Slf4j
 public class SeatMapService {
 
     private final SeatInstanceRepository seatInstanceRepository;
     private final ShowtimeRepository showtimeRepository;
+    private final SeatStatusMapService seatStatusMapService;
     private final SeatMapMapper seatMapMapper;
+    private final BookingMetrics bookingMetrics;
 
     /**
      * Get complete seat map for a showtime with optional row filtering.
@@ -41,21 +49,25 @@ public class SeatMapService {
      * @return Seat map response with grouped rows
      * @throws ShowtimeNotFoundException if showtime not found
      */
+    @Coalesced("seat-map")
     @Transactional(readOnly = true)
     public SeatMapResponse getSeatMap(final UUID showtimeId, final SeatMapFilterRequest filterRequest) {
         log.debug("Fetching seat map for showtime: {}", showtimeId);
+        final long start = System.nanoTime();
 
         // Validate showtime exists
         final Showtime showtime = showtimeRepository.findById(showtimeId)
                 .orElseThrow(() -> new ShowtimeNotFoundException(showtimeId.toString()));
 
-        // Fetch seat instances with filters
-        final List<SeatInstance> seats = seatInstanceRepository.findAll(
-                SeatSpecification.withFilters(showtimeId, filterRequest));
+        // Fetch seat instances with filters (overlay status map for compact showtimes)
+        final List<SeatInstance> seats = showtime.getSeatStorageMode() == SeatStorageMode.COMPACT
+                ? seatStatusMapService.getSeatLayout(showtime, filterRequest)
+                : seatInstanceRepository.findAll(SeatSpecification.withFilters(showtimeId, filterRequest));
 
         // Map to response
         final SeatMapResponse response = seatMapMapper.toSeatMapResponse(showtime, seats);
 
+        bookingMetrics.recordSeatMapRender(showtimeId, showtime.getSeatStorageMode(), System.nanoTime() - start);
         log.debug("Seat map fetched: {} seats for showtime: {}", seats.size(), showtimeId);
 
         return response;
@@ -0,0 +1,221 @@
+package com.moviereservation.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moviereservation.api.domain.entities.SeatInstance;
+import com.moviereservation.api.domain.entities.SeatTemplate;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.ShowtimeSeatMap;
+import com.moviereservation.api.domain.enums.SeatStatus;
+import com.moviereservation.api.repository.SeatInstanceRepository;
+import com.moviereservation.api.repository.ShowtimeSeatMapRepository;
+import com.moviereservation.api.repository.specification.SeatSpecification;
+import com.moviereservation.api.web.dto.request.seat.SeatMapFilterRequest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for COMPACT seat storage.
+ * Keeps one status byte per template seat (canonical order from
+ * {@link SeatTemplateService#getTemplatesForScreen}) and only materializes
+ * seat_instance rows for seats that are actually held or booked.
+ * Seat instance IDs are derived deterministically from showtime and template,
+ * so IDs handed out in a seat map stay valid once the row is materialized.
+ * SeatTemplateService refuses layout changes on a screen while its compact
+ * showtimes have not ended, so the byte offsets stay valid.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeatStatusMapService {
+
+    // Status codes stored in the map
+    private static final byte AVAILABLE_CODE = 0;
+    private static final byte HELD_CODE = 1;
+    private static final byte RESERVED_CODE = 2;
+
+    private final ShowtimeSeatMapRepository showtimeSeatMapRepository;
+    private final SeatInstanceRepository seatInstanceRepository;
+    private final SeatTemplateService seatTemplateService;
+
+    /**
+     * Create an all-AVAILABLE status map for a new showtime.
+     * Replaces the per-seat inserts done for ROWS showtimes.
+     *
+     * @param showtime Saved showtime entity
+     * @return Number of seats in the map
+     */
+    @Transactional
+    public int initialize(final Showtime showtime) {
+        final List<SeatTemplate> templates = seatTemplateService.getTemplatesForScreen(showtime.getScreenNumber());
+
+        final ShowtimeSeatMap seatMap = new ShowtimeSeatMap();
+        seatMap.setShowtimeId(showtime.getId());
+        seatMap.setSeatCount((short) templates.size());
+        seatMap.setStatusMap(new byte[templates.size()]);
+        showtimeSeatMapRepository.save(seatMap);
+
+        log.debug("Created compact seat map with {} seats for showtime: {}", templates.size(), showtime.getId());
+        return templates.size();
+    }
+
+    /**
+     * Deterministic seat instance ID for a template seat in a showtime.
+     */
+    public UUID seatInstanceId(final UUID showtimeId, final UUID seatTemplateId) {
+        return UUID.nameUUIDFromBytes(
+                (showtimeId + ":" + seatTemplateId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Ensure seat_instance rows exist for the requested seats so they can be locked.
+     * Unknown IDs are skipped; the caller's lock step reports them as not found.
+     *
+     * @param showtime Showtime being booked
+     * @param seatIds  Requested seat instance IDs
+     */
+    @Transactional
+    public void materializeSeats(final Showtime showtime, final List<UUID> seatIds) {
+        final Map<UUID, SeatTemplate> templatesBySeatId = templatesBySeatId(showtime);
+
+        int inserted = 0;
+        for (final UUID seatId : seatIds) {
+            final SeatTemplate template = templatesBySeatId.get(seatId);
+            if (template != null) {
+                inserted += seatInstanceRepository.insertIfAbsent(seatId, showtime.getId(), template.getId());
+            }
+        }
+
+        log.debug("Materialized {} seat instances for showtime: {}", inserted, showtime.getId());
+    }
+
+    /**
+     * Mirror the current status of materialized seats into the status map.
+     *
+     * @param showtime Showtime the seats belong to
+     * @param seats    Seats whose status changed
+     */
+    @Transactional
+    public void updateStatus(final Showtime showtime, final List<SeatInstance> seats) {
+        final Map<UUID, Integer> indexByTemplateId = indexByTemplateId(showtime);
+
+        for (final SeatInstance seat : seats) {
+            final Integer index = indexByTemplateId.get(seat.getSeatTemplate().getId());
+            if (index == null) {
+                throw new IllegalStateException("Seat template not in layout for showtime " + showtime.getId());
+            }
+            showtimeSeatMapRepository.updateSeatStatus(showtime.getId(), index, toCode(seat.getStatus()));
+        }
+    }
+
+    /**
+     * Build the seat layout of a COMPACT showtime.
+     * Statuses come from the status map overlaid on the cached templates;
+     * only currently HELD seats are read from seat_instance (for hold expiry).
+     * Returned seat instances are detached views and must not be saved.
+     *
+     * @param showtime Showtime entity
+     * @param filters  Optional row filters
+     * @return Seat instances in canonical order
+     */
+    @Transactional(readOnly = true)
+    public List<SeatInstance> getSeatLayout(final Showtime showtime, final SeatMapFilterRequest filters) {
+        final List<SeatTemplate> templates = seatTemplateService.getTemplatesForScreen(showtime.getScreenNumber());
+        final byte[] statusMap = findSeatMap(showtime.getId()).getStatusMap();
+        final List<Character> rowLabels = filters != null ? filters.getRowLabelsAsList() : List.of();
+
+        final Map<UUID, SeatInstance> heldSeats = containsCode(statusMap, HELD_CODE)
+                ? seatInstanceRepository.findAll(SeatSpecification.forShowtime(showtime.getId())
+                        .and(SeatSpecification.isHeld()))
+                        .stream()
+                        .collect(Collectors.toMap(SeatInstance::getId, Function.identity()))
+                : Map.of();
+
+        final List<SeatInstance> seats = new ArrayList<>(templates.size());
+        for (int i = 0; i < templates.size(); i++) {
+            final SeatTemplate template = templates.get(i);
+            if (!rowLabels.isEmpty() && !rowLabels.contains(template.getRowLabel())) {
+                continue;
+            }
+
+            final SeatInstance seat = new SeatInstance();
+            seat.setId(seatInstanceId(showtime.getId(), template.getId()));
+            seat.setShowtime(showtime);
+            seat.setSeatTemplate(template);
+            seat.setRowLabel(template.getRowLabel());
+            seat.setSeatNumber(template.getSeatNumber());
+            seat.setType(template.getType());
+            seat.setPrice(template.getBasePrice());
+            seat.setStatus(fromCode(statusMap[i]));
+
+            final SeatInstance held = heldSeats.get(seat.getId());
+            if (held != null) {
+                seat.setHeldAt(held.getHeldAt());
+            }
+
+            seats.add(seat);
+        }
+
+        return seats;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private ShowtimeSeatMap findSeatMap(final UUID showtimeId) {
+        return showtimeSeatMapRepository.findById(showtimeId)
+                .orElseThrow(() -> new IllegalStateException("No seat map for compact showtime " + showtimeId));
+    }
+
+    private Map<UUID, SeatTemplate> templatesBySeatId(final Showtime showtime) {
+        final List<SeatTemplate> templates = seatTemplateService.getTemplatesForScreen(showtime.getScreenNumber());
+        final Map<UUID, SeatTemplate> result = new HashMap<>(templates.size() * 2);
+        templates.forEach(template -> result.put(seatInstanceId(showtime.getId(), template.getId()), template));
+        return result;
+    }
+
+    private Map<UUID, Integer> indexByTemplateId(final Showtime showtime) {
+        final List<SeatTemplate> templates = seatTemplateService.getTemplatesForScreen(showtime.getScreenNumber());
+        final Map<UUID, Integer> result = new HashMap<>(templates.size() * 2);
+        for (int i = 0; i < templates.size(); i++) {
+            result.put(templates.get(i).getId(), i);
+        }
+        return result;
+    }
+
+    private boolean containsCode(final byte[] statusMap, final byte code) {
+        for (final byte status : statusMap) {
+            if (status == code) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte toCode(final SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> AVAILABLE_CODE;
+            case HELD -> HELD_CODE;
+            case RESERVED -> RESERVED_CODE;
+        };
+    }
+
+    private static SeatStatus fromCode(final byte code) {
+        return switch (code) {
+            case AVAILABLE_CODE -> SeatStatus.AVAILABLE;
+            case HELD_CODE -> SeatStatus.HELD;
+            case RESERVED_CODE -> SeatStatus.RESERVED;
+            default -> throw new IllegalStateException("Unknown seat status code: " + code);
+        };
+    }
+}
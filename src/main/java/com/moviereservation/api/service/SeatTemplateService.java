@@ -1,6 +1,8 @@
 package com.moviereservation.api.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
@@ -8,8 +10,12 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviereservation.api.constant.CacheNames;
 import com.moviereservation.api.domain.entities.SeatTemplate;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
+import com.moviereservation.api.exception.SeatLayoutInUseException;
 import com.moviereservation.api.repository.SeatTemplateRepository;
+import com.moviereservation.api.repository.ShowtimeRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,36 +25,84 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SeatTemplateService {
     private final SeatTemplateRepository seatTemplateRepository;
+    private final ShowtimeRepository showtimeRepository;
 
-    @Cacheable(value = "seatTemplates", key = "#screenNumber", unless = "#result == null || #result.isEmpty()")
+    /**
+     * Get seat templates for a screen in canonical order (row label, then seat number).
+     * Compact seat maps index into this order, so it must stay stable.
+     */
+    @Cacheable(value = CacheNames.SEAT_TEMPLATES, key = "#screenNumber", unless = "#result == null || #result.isEmpty()")
     @Transactional(readOnly = true)
     public List<SeatTemplate> getTemplatesForScreen(final Short screenNumber) {
 
-        return seatTemplateRepository.findByScreenNumber(screenNumber);
+        return seatTemplateRepository.findByScreenNumberOrderByRowLabelAscSeatNumberAsc(screenNumber);
     }
 
-    @CachePut(value = "seatTemplates", key = "#seatTemplate.screenNumber")
+    /**
+     * Save a seat template. Price and type changes are always allowed;
+     * adding or moving a seat changes the canonical order and is refused
+     * while compact showtimes on the screen have not ended.
+     *
+     * @throws SeatLayoutInUseException if the layout is in use by compact showtimes
+     */
+    @CachePut(value = CacheNames.SEAT_TEMPLATES, key = "#seatTemplate.screenNumber")
+    @Transactional
     public List<SeatTemplate> updateSeatTemplate(final SeatTemplate seatTemplate) {
+        final SeatTemplate existing = seatTemplate.getId() != null
+                ? seatTemplateRepository.findById(seatTemplate.getId()).orElse(null)
+                : null;
+        if (existing == null || !samePosition(existing, seatTemplate)) {
+            requireNoCompactShowtimes(seatTemplate.getScreenNumber());
+            if (existing != null) {
+                requireNoCompactShowtimes(existing.getScreenNumber());
+            }
+        }
+
         seatTemplateRepository.save(seatTemplate);
-        return seatTemplateRepository.findByScreenNumber(seatTemplate.getScreenNumber());
+        return seatTemplateRepository.findByScreenNumberOrderByRowLabelAscSeatNumberAsc(seatTemplate.getScreenNumber());
     }
 
-    @CacheEvict(value = "seatTemplates", key = "#screenNumber")
+    /**
+     * @throws SeatLayoutInUseException if the layout is in use by compact showtimes
+     */
+    @CacheEvict(value = CacheNames.SEAT_TEMPLATES, key = "#screenNumber")
+    @Transactional
     public void deleteTemplatesForScreen(final Short screenNumber) {
+        requireNoCompactShowtimes(screenNumber);
         seatTemplateRepository.deleteByScreenNumber(screenNumber);
     }
 
-    @CacheEvict(value = "seatTemplates", allEntries = true)
+    @CacheEvict(value = CacheNames.SEAT_TEMPLATES, allEntries = true)
     public void evictAllCacheValues() {
         log.info("Evicted all cache entries for seatTemplates");
 
     }
 
-    public void preloadAllSeatTemplates() {
-        for ( short i = 1; i <= 5; i++) {
-            final List<SeatTemplate> templates = getTemplatesForScreen(i);
-            log.info("Preloaded {} seat templates for screen number {}", templates.size(), i);
+    /**
+     * Get the screen numbers that have seat templates configured.
+     */
+    @Transactional(readOnly = true)
+    public List<Short> getScreenNumbers() {
+        return seatTemplateRepository.findDistinctScreenNumbers();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Compact status maps store seats by their index in the canonical
+     * order; changing the layout would shift the seats of existing maps.
+     */
+    private void requireNoCompactShowtimes(final Short screenNumber) {
+        if (showtimeRepository.existsByScreenNumberAndSeatStorageModeAndEndTimeAfter(
+                screenNumber, SeatStorageMode.COMPACT, Instant.now())) {
+            throw new SeatLayoutInUseException(
+                    "Seat layout of screen " + screenNumber + " is in use by upcoming compact showtimes");
         }
     }
 
+    private static boolean samePosition(final SeatTemplate existing, final SeatTemplate updated) {
+        return Objects.equals(existing.getScreenNumber(), updated.getScreenNumber())
+                && Objects.equals(existing.getRowLabel(), updated.getRowLabel())
+                && Objects.equals(existing.getSeatNumber(), updated.getSeatNumber());
+    }
 }
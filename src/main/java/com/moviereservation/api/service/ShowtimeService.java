@@ -1,29 +1,50 @@
 package com.moviereservation.api.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.constant.CacheNames;
+import com.moviereservation.api.constant.MovieConstants;
 import com.moviereservation.api.domain.entities.Movie;
 import com.moviereservation.api.domain.entities.SeatInstance;
 import com.moviereservation.api.domain.entities.SeatTemplate;
 import com.moviereservation.api.domain.entities.Showtime;
 import com.moviereservation.api.domain.enums.ReservationStatus;
 import com.moviereservation.api.domain.enums.SeatStatus;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
 import com.moviereservation.api.domain.enums.ShowtimeStatus;
 import com.moviereservation.api.exception.*;
+import com.moviereservation.api.repository.ProjectionRepository;
 import com.moviereservation.api.repository.ReservationRepository;
 import com.moviereservation.api.repository.SeatInstanceRepository;
 import com.moviereservation.api.repository.ShowtimeRepository;
+import com.moviereservation.api.repository.ShowtimeSeatCountRepository;
+import com.moviereservation.api.repository.projection.ShowtimeSummary;
 import com.moviereservation.api.repository.specification.ShowtimeSpecification;
+import com.moviereservation.api.service.cancellation.ShowtimeCancellationJobRunner;
+import com.moviereservation.api.service.coalescing.Coalesced;
+import com.moviereservation.api.service.screen.FreeSlot;
+import com.moviereservation.api.service.screen.ScreenScheduleIndex;
+import com.moviereservation.api.service.screen.ScreenSlot;
 import com.moviereservation.api.web.dto.request.showtime.CreateShowtimeRequest;
+import com.moviereservation.api.web.dto.request.showtime.FreeSlotSearchRequest;
 import com.moviereservation.api.web.dto.request.showtime.ShowtimeFilterRequest;
 import com.moviereservation.api.web.dto.request.showtime.UpdateShowtimeRequest;
 import com.moviereservation.api.web.mapper.ShowtimeMapper;
@@ -37,6 +58,7 @@ import lombok.extern.slf4j.Slf4j;
  * Handles showtime scheduling, validation, and seat instance creation.
  */
 @Service
+@Workload(WorkloadType.BROWSE)
 @RequiredArgsConstructor
 @Slf4j
 public class ShowtimeService {
@@ -44,13 +66,25 @@ public class ShowtimeService {
     // Constants
     private static final int BUFFER_MINUTES = 15;
     private static final int MAX_ADVANCE_DAYS = 60;
+    private static final String NO_OVERLAP_CONSTRAINT = "showtimes_no_overlap";
+    /** Fetched with the showtime where the response is mapped after the transaction. */
+    private static final String MOVIE = "movie";
+    private static final String SEAT_COUNT = "seatCount";
 
     private final ShowtimeRepository showtimeRepository;
     private final ReservationRepository reservationRepository;
+    private final ProjectionRepository projectionRepository;
     private final SeatInstanceRepository seatInstanceRepository;
+    private final ShowtimeSeatCountRepository showtimeSeatCountRepository;
     private final SeatTemplateService seatTemplateService;
+    private final SeatStatusMapService seatStatusMapService;
     private final MovieService movieService;
     private final ShowtimeMapper showtimeMapper;
+    private final ScreenScheduleIndex screenScheduleIndex;
+    private final ShowtimeCancellationJobRunner cancellationJobRunner;
+
+    @Value("${app.seats.storage-mode:ROWS}")
+    private SeatStorageMode seatStorageMode;
 
     /**
      * Create a new showtime with seat instances.
@@ -83,11 +117,16 @@ public class ShowtimeService {
         showtime.setMovie(movie);
         showtime.setEndTime(endTime);
         showtime.setStatus(ShowtimeStatus.SCHEDULED);
+        showtime.setSeatStorageMode(seatStorageMode);
 
-        final Showtime savedShowtime = showtimeRepository.save(showtime);
+        final Showtime savedShowtime = saveWithoutOverlap(showtime);
+        screenScheduleIndex.update(savedShowtime);
 
-        // Create seat instances from templates
-        createSeatInstances(savedShowtime);
+        // Create seat storage from templates
+        final int seatCount = seatStorageMode == SeatStorageMode.COMPACT
+                ? seatStatusMapService.initialize(savedShowtime)
+                : createSeatInstances(savedShowtime);
+        showtimeSeatCountRepository.initialize(savedShowtime, seatCount);
 
         log.info("Showtime created: {} for movie: {} at screen: {}",
                 savedShowtime.getId(), movie.getTitle(), request.getScreenNumber());
@@ -103,10 +142,12 @@ public class ShowtimeService {
      * @param showtimeId Showtime ID
      * @param request    Update details
      * @return Updated showtime entity
-     * @throws ShowtimeUpdateException   if showtime has reservations
+     * @throws ShowtimeUpdateException   if showtime has reservations, or its
+     *                                   screen changes while seats are stored COMPACT
      * @throws ShowtimeConflictException if screen conflict detected
      */
     @Transactional
+    @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, key = "#showtimeId")
     public Showtime update(final UUID showtimeId, final UpdateShowtimeRequest request) {
         log.debug("Updating showtime: {}", showtimeId);
 
@@ -114,6 +155,7 @@ public class ShowtimeService {
 
         // Cannot update if reservations exist
         validateNoReservations(showtimeId);
+        validateScreenChange(showtime, request.getScreenNumber());
 
         // Handle start time update
         if (request.getStartTime() != null) {
@@ -140,7 +182,8 @@ public class ShowtimeService {
 
         // Apply updates
         showtimeMapper.updateEntity(request, showtime);
-        final Showtime updatedShowtime = showtimeRepository.save(showtime);
+        final Showtime updatedShowtime = saveWithoutOverlap(showtime);
+        screenScheduleIndex.update(updatedShowtime);
 
         log.info("Showtime updated: {}", showtimeId);
         return updatedShowtime;
@@ -148,7 +191,10 @@ public class ShowtimeService {
 
     /**
      * Cancel a showtime.
-     * Marks showtime as CANCELLED and triggers refunds for all reservations.
+     * Marks showtime as CANCELLED and starts a background job that cancels
+     * unpaid reservations, refunds all confirmed reservations, queues
+     * notifications and releases seats.
+     * Progress is reported at GET /admin/showtimes/{id}/cancellation.
      *
      * @param showtimeId Showtime ID
      * @return Cancelled showtime entity
@@ -156,6 +202,7 @@ public class ShowtimeService {
      * @throws ShowtimeCancellationException     if cannot be cancelled
      */
     @Transactional
+    @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, key = "#showtimeId")
     public Showtime cancel(final UUID showtimeId) {
         log.debug("Cancelling showtime: {}", showtimeId);
 
@@ -167,14 +214,41 @@ public class ShowtimeService {
         // Mark as cancelled
         showtime.setStatus(ShowtimeStatus.CANCELLED);
         final Showtime cancelledShowtime = showtimeRepository.save(showtime);
+        screenScheduleIndex.update(cancelledShowtime);
 
-        // TODO: Trigger refund process when payment is implemented
-        // refundService.refundAllReservations(showtimeId);
+        // Refund reservations in the background once the cancellation commits
+        cancellationJobRunner.start(cancelledShowtime);
 
         log.info("Showtime cancelled: {}", showtimeId);
         return cancelledShowtime;
     }
 
+    /**
+     * Flag or unflag a showtime as high-demand.
+     * High-demand showtimes admit users to seat maps and booking through the waiting room.
+     *
+     * @param showtimeId    Showtime ID
+     * @param enabled       Whether the showtime is high-demand
+     * @param admissionRate Admissions per second, null for the configured default
+     * @return Updated showtime entity
+     * @throws InvalidShowtimeException if the admission rate is not positive
+     */
+    @Transactional
+    @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, key = "#showtimeId")
+    public Showtime updateHighDemand(final UUID showtimeId, final boolean enabled, final Short admissionRate) {
+        if (admissionRate != null && admissionRate <= 0) {
+            throw new InvalidShowtimeException("Admission rate must be positive");
+        }
+
+        final Showtime showtime = findById(showtimeId);
+        showtime.setHighDemand(enabled);
+        showtime.setAdmissionRate(admissionRate);
+        final Showtime updatedShowtime = showtimeRepository.save(showtime);
+
+        log.info("Showtime high-demand flag updated: {} -> {} (admission rate {})", showtimeId, enabled, admissionRate);
+        return updatedShowtime;
+    }
+
     /**
      * Soft delete a showtime.
      * Can only delete future showtimes with no reservations.
@@ -183,6 +257,7 @@ public class ShowtimeService {
      * @throws ShowtimeDeletionException if deletion constraints violated
      */
     @Transactional
+    @CacheEvict(value = CacheNames.SHOWTIME_DETAILS, key = "#showtimeId")
     public void delete(final UUID showtimeId) {
         log.debug("Deleting showtime: {}", showtimeId);
 
@@ -192,33 +267,38 @@ public class ShowtimeService {
         validateCanBeDeleted(showtime);
 
         showtimeRepository.delete(showtime);
+        screenScheduleIndex.remove(showtimeId);
 
         log.info("Showtime deleted: {}", showtimeId);
     }
 
     /**
-     * Find showtime by ID (all access).
+     * Find showtime by ID (all access), with its movie.
      *
      * @throws ShowtimeNotFoundException if not found
      */
     @Transactional(readOnly = true)
     public Showtime findById(final @NonNull UUID showtimeId) {
-        return showtimeRepository.findById(showtimeId)
+        return showtimeRepository.findWithMovieById(showtimeId)
                 .orElseThrow(() -> new ShowtimeNotFoundException(showtimeId.toString()));
     }
 
     /**
      * Find showtime by ID (customer access - future SCHEDULED only).
+     * Cached with its movie; the short TTL bounds how stale the seat count can get.
      *
      * @throws ShowtimeNotFoundException if not found or not customer-visible
      */
+    @Coalesced("showtime-details")
+    @Cacheable(value = CacheNames.SHOWTIME_DETAILS, key = "#showtimeId")
     @Transactional(readOnly = true)
     public Showtime findByIdForCustomer(final UUID showtimeId) {
-        return showtimeRepository.findOne(
+        return showtimeRepository.findBy(
                 ShowtimeSpecification.isNotDeleted()
                         .and(ShowtimeSpecification.isFuture())
                         .and(ShowtimeSpecification.isScheduled())
-                        .and((root, _, cb) -> cb.equal(root.get("id"), showtimeId)))
+                        .and((root, _, cb) -> cb.equal(root.get("id"), showtimeId)),
+                query -> query.project(MOVIE, SEAT_COUNT).one())
                 .orElseThrow(() -> new ShowtimeNotFoundException(showtimeId.toString()));
     }
 
@@ -230,24 +310,61 @@ public class ShowtimeService {
     public Page<Showtime> findAllForAdmin(final Pageable pageable, final ShowtimeFilterRequest filters) {
         log.debug("Finding showtimes for admin with filters");
 
-        return showtimeRepository.findAll(
+        return showtimeRepository.findBy(
                 ShowtimeSpecification.forAdmin(filters),
-                pageable);
+                query -> query.project(MOVIE, SEAT_COUNT).page(pageable));
     }
 
     /**
      * Find all showtimes for customer with filters and pagination.
      * Auto-restricts to future SCHEDULED showtimes.
+     * Selects the showtime and movie columns of the customer response in one query.
      */
     @Transactional(readOnly = true)
-    public Page<Showtime> findAllForCustomer(final Pageable pageable, final ShowtimeFilterRequest filters) {
+    public Page<ShowtimeSummary> findAllForCustomer(final Pageable pageable, final ShowtimeFilterRequest filters) {
         log.debug("Finding showtimes for customer with filters");
 
-        return showtimeRepository.findAll(
+        return projectionRepository.findShowtimeSummaries(
                 ShowtimeSpecification.forCustomer(filters),
                 pageable);
     }
 
+    /**
+     * Find free time on the screens that fits the movie, buffer included.
+     * Answered from the screen schedule index; the range is clipped to
+     * what can still be scheduled.
+     *
+     * @param request Movie, time range and optional screen
+     * @return Free slots by screen, then start time
+     * @throws InvalidShowtimeException if the range is empty
+     */
+    @Transactional(readOnly = true)
+    public List<FreeSlot> findFreeSlots(final FreeSlotSearchRequest request) {
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new InvalidShowtimeException("'from' must be before 'to'");
+        }
+
+        final Movie movie = movieService.findById(request.getMovieId());
+        final Duration length = Duration.ofMinutes(movie.getDuration() + BUFFER_MINUTES);
+
+        final Instant now = Instant.now();
+        final Instant latestEnd = now.plus(MAX_ADVANCE_DAYS, ChronoUnit.DAYS).plus(length);
+        final Instant from = request.getFrom().isAfter(now) ? request.getFrom() : now;
+        final Instant to = request.getTo().isBefore(latestEnd) ? request.getTo() : latestEnd;
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+
+        final IntStream screens = request.getScreenNumber() != null
+                ? IntStream.of(request.getScreenNumber())
+                : IntStream.rangeClosed(MovieConstants.MIN_SCREEN_NUMBER, MovieConstants.MAX_SCREEN_NUMBER);
+
+        return screens
+                .mapToObj(screen -> screenScheduleIndex.findFreeSlots((short) screen, from, to, length))
+                .flatMap(List::stream)
+                .toList();
+    }
+
     // ========== Private Helper Methods ==========
 
     /**
@@ -257,10 +374,29 @@ public class ShowtimeService {
         return startTime.plus(movieDuration + BUFFER_MINUTES, ChronoUnit.MINUTES);
     }
 
+    /**
+     * Save and flush, so an overlap the index did not know about (a change
+     * made on another node since its last reload) is reported as a conflict.
+     */
+    private Showtime saveWithoutOverlap(final Showtime showtime) {
+        try {
+            return showtimeRepository.saveAndFlush(showtime);
+        } catch (final DataIntegrityViolationException e) {
+            if (e.getMostSpecificCause().getMessage() != null
+                    && e.getMostSpecificCause().getMessage().contains(NO_OVERLAP_CONSTRAINT)) {
+                throw new ShowtimeConflictException(
+                        "Screen " + showtime.getScreenNumber() + " is already booked for this time slot");
+            }
+            throw e;
+        }
+    }
+
     /**
      * Create seat instances from templates for a showtime.
+     *
+     * @return Number of seats created
      */
-    private void createSeatInstances(final Showtime showtime) {
+    private int createSeatInstances(final Showtime showtime) {
         final List<SeatTemplate> templates = seatTemplateService.getTemplatesForScreen(showtime.getScreenNumber());
 
         final List<SeatInstance> seatInstances = templates.stream()
@@ -269,11 +405,8 @@ public class ShowtimeService {
 
         seatInstanceRepository.saveAll(seatInstances);
 
-        // Update available seats count
-        showtime.setAvailableSeatsCount((short) seatInstances.size());
-        showtimeRepository.save(showtime);
-
         log.debug("Created {} seat instances for showtime: {}", seatInstances.size(), showtime.getId());
+        return seatInstances.size();
     }
 
     /**
@@ -341,15 +474,15 @@ public class ShowtimeService {
             final Instant endTime,
             final UUID excludeShowtimeId) {
 
-        final boolean hasConflict = showtimeRepository.existsConflictingShowtime(
+        final Optional<ScreenSlot> conflict = screenScheduleIndex.findConflict(
                 screenNumber,
                 startTime,
                 endTime,
                 excludeShowtimeId);
 
-        if (hasConflict) {
-            log.warn("Screen conflict detected for screen {} between {} and {}",
-                    screenNumber, startTime, endTime);
+        if (conflict.isPresent()) {
+            log.warn("Screen conflict detected for screen {} between {} and {} with showtime {}",
+                    screenNumber, startTime, endTime, conflict.get().showtimeId());
             throw new ShowtimeConflictException(
                     "Screen " + screenNumber + " is already booked for this time slot");
         }
@@ -365,6 +498,19 @@ public class ShowtimeService {
         }
     }
 
+    /**
+     * A COMPACT showtime's status map is indexed by the seat templates of its
+     * screen, and its seat IDs are derived from them, so the screen is fixed.
+     */
+    private void validateScreenChange(final Showtime showtime, final Short screenNumber) {
+        if (screenNumber != null
+                && !screenNumber.equals(showtime.getScreenNumber())
+                && showtime.getSeatStorageMode() == SeatStorageMode.COMPACT) {
+            throw new ShowtimeUpdateException(
+                    "Cannot change the screen of a showtime with a compact seat map; cancel it and create a new one");
+        }
+    }
+
     private void validateCanBeCancelled(final Showtime showtime) {
         if (showtime.getStatus() == ShowtimeStatus.CANCELLED) {
             throw new ShowtimeAlreadyCancelledException("Showtime is already cancelled");
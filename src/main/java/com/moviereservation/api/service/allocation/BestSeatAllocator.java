@@ -0,0 +1,134 @@
+package com.moviereservation.api.service.allocation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.domain.entities.SeatInstance;
+import com.moviereservation.api.domain.enums.SeatStatus;
+import com.moviereservation.api.domain.enums.SeatType;
+
+/**
+ * Ranks blocks of adjacent available seats for "best available" booking.
+ *
+ * Works purely in memory on a showtime's seat layout. Row A is closest to
+ * the screen; the best row sits about two thirds of the way back and the
+ * best seats are at the middle of the row. A block is a run of consecutive
+ * seat numbers in one row, all free and of the same type. A seat is free
+ * when AVAILABLE or when its hold has expired.
+ */
+@Component
+public class BestSeatAllocator {
+
+    // Ideal row position, as a fraction of the hall depth from the screen
+    private static final double IDEAL_ROW_POSITION = 0.65;
+    private static final double ROW_WEIGHT = 1.0;
+    private static final double CENTER_WEIGHT = 0.8;
+
+    /**
+     * A candidate block with its score; lower scores are better.
+     */
+    public record SeatBlock(List<SeatInstance> seats, double score) {
+    }
+
+    /**
+     * Rank all blocks of the requested size, best first.
+     *
+     * @param layout    All seats of the showtime, any status
+     * @param seatCount Number of adjacent seats wanted
+     * @param seatType   Optional seat type the whole block must have
+     * @param heldBefore Seats held before this instant have expired holds and count as free
+     * @param limit      Maximum number of blocks returned
+     * @return Candidate blocks ordered by score
+     */
+    public List<SeatBlock> rankBlocks(
+            final List<SeatInstance> layout,
+            final int seatCount,
+            final SeatType seatType,
+            final Instant heldBefore,
+            final int limit) {
+
+        final Map<Character, List<SeatInstance>> rows = groupByRow(layout);
+        final int rowCount = rows.size();
+        final double idealRow = (rowCount - 1) * IDEAL_ROW_POSITION;
+
+        final List<SeatBlock> blocks = new ArrayList<>();
+        int rowIndex = 0;
+        for (final List<SeatInstance> row : rows.values()) {
+            final double rowScore = ROW_WEIGHT * Math.abs(rowIndex - idealRow) / Math.max(rowCount, 1);
+            collectRowBlocks(row, seatCount, seatType, heldBefore, rowScore, blocks);
+            rowIndex++;
+        }
+
+        return blocks.stream()
+                .sorted(Comparator.comparingDouble(SeatBlock::score))
+                .limit(limit)
+                .toList();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Map<Character, List<SeatInstance>> groupByRow(final List<SeatInstance> layout) {
+        final Map<Character, List<SeatInstance>> rows = new TreeMap<>();
+        layout.forEach(seat -> rows.computeIfAbsent(seat.getRowLabel(), _ -> new ArrayList<>()).add(seat));
+        rows.values().forEach(row -> row.sort(Comparator.comparing(SeatInstance::getSeatNumber)));
+        return rows;
+    }
+
+    /**
+     * Slide a window of seatCount seats along the row and keep every valid block.
+     */
+    private void collectRowBlocks(
+            final List<SeatInstance> row,
+            final int seatCount,
+            final SeatType seatType,
+            final Instant heldBefore,
+            final double rowScore,
+            final List<SeatBlock> blocks) {
+
+        final double rowCenter = (row.getFirst().getSeatNumber() + row.getLast().getSeatNumber()) / 2.0;
+        final double rowWidth = Math.max(row.size(), 1);
+
+        for (int start = 0; start + seatCount <= row.size(); start++) {
+            final List<SeatInstance> window = row.subList(start, start + seatCount);
+            if (!isValidBlock(window, seatType, heldBefore)) {
+                continue;
+            }
+
+            final double blockCenter = (window.getFirst().getSeatNumber() + window.getLast().getSeatNumber()) / 2.0;
+            final double centerScore = CENTER_WEIGHT * Math.abs(blockCenter - rowCenter) / rowWidth;
+            blocks.add(new SeatBlock(List.copyOf(window), rowScore + centerScore));
+        }
+    }
+
+    private boolean isValidBlock(final List<SeatInstance> window, final SeatType seatType, final Instant heldBefore) {
+        final SeatType blockType = window.getFirst().getType();
+        if (seatType != null && blockType != seatType) {
+            return false;
+        }
+
+        for (int i = 0; i < window.size(); i++) {
+            final SeatInstance seat = window.get(i);
+            if (!isFree(seat, heldBefore) || seat.getType() != blockType) {
+                return false;
+            }
+            // No gaps (e.g. an aisle or a removed seat)
+            if (i > 0 && seat.getSeatNumber() != window.get(i - 1).getSeatNumber() + 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFree(final SeatInstance seat, final Instant heldBefore) {
+        return seat.getStatus() == SeatStatus.AVAILABLE
+                || (seat.getStatus() == SeatStatus.HELD
+                        && seat.getHeldAt() != null
+                        && seat.getHeldAt().isBefore(heldBefore));
+    }
+}
@@ -1,15 +1,21 @@
 package com.moviereservation.api.service.cache;
 
+import java.util.List;
+
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.domain.entities.SeatTemplate;
 import com.moviereservation.api.service.SeatTemplateService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
+@Workload(WorkloadType.BACKGROUND)
 @RequiredArgsConstructor
 @Slf4j
 public class CacheWarmupService {
@@ -19,8 +25,12 @@ public class CacheWarmupService {
     public void warmUpCaches() {
         log.info("Warming up caches...");
 
-        // Preload seat templates into cache
-        seatTemplateService.preloadAllSeatTemplates();
+        // Preload seat templates for every configured screen (through the cache proxy)
+        final List<Short> screenNumbers = seatTemplateService.getScreenNumbers();
+        for (final Short screenNumber : screenNumbers) {
+            final List<SeatTemplate> templates = seatTemplateService.getTemplatesForScreen(screenNumber);
+            log.info("Preloaded {} seat templates for screen number {}", templates.size(), screenNumber);
+        }
 
         log.info("Cache warm-up completed.");
     }
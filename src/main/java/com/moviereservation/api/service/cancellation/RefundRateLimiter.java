@@ -0,0 +1,34 @@
+package com.moviereservation.api.service.cancellation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spaces calls evenly at a fixed rate. Each caller reserves the next free
+ * slot and sleeps until it comes, so bursts are smoothed instead of sent
+ * to the payment provider at once.
+ */
+class RefundRateLimiter {
+
+    private final long intervalNanos;
+    private final AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+    RefundRateLimiter(final double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("Refund rate must be positive: " + permitsPerSecond);
+        }
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    /**
+     * Wait for the next slot.
+     */
+    void acquire() throws InterruptedException {
+        final long now = System.nanoTime();
+        final long previous = nextSlot.getAndAccumulate(now, (next, time) -> Math.max(next, time) + intervalNanos);
+        final long wait = Math.max(previous, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.moviereservation.api.service.cancellation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviereservation.api.config.ShowtimeCancellationProperties;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs showtime cancellation jobs in the background.
+ *
+ * A job first cancels the showtime's unpaid reservations, then pages
+ * through its confirmed reservations in id order.
+ * Refunds of a page run concurrently, bounded by refund-concurrency and
+ * paced to refunds-per-second for the payment provider; the rate applies
+ * per node. After each page the cursor and counts are saved, so a job
+ * stopped by a restart or crash is picked up where it left off by
+ * resumeStalledJobs() on any node.
+ *
+ * Failed refunds are counted and skipped; their reservations stay
+ * CONFIRMED and a retry runs another pass over just those.
+ */
+@Component
+@Slf4j
+public class ShowtimeCancellationJobRunner {
+
+    private final ShowtimeCancellationJobService jobService;
+    private final ShowtimeCancellationProperties properties;
+    private final RefundRateLimiter rateLimiter;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<UUID> activeJobs = ConcurrentHashMap.newKeySet();
+
+    public ShowtimeCancellationJobRunner(
+            final ShowtimeCancellationJobService jobService,
+            final ShowtimeCancellationProperties properties) {
+        this.jobService = jobService;
+        this.properties = properties;
+        this.rateLimiter = new RefundRateLimiter(properties.getRefundsPerSecond());
+    }
+
+    /**
+     * Create the cancellation job of a showtime and start it once the
+     * cancelling transaction commits.
+     */
+    public ShowtimeCancellationJob start(final Showtime showtime) {
+        final ShowtimeCancellationJob job = jobService.create(showtime);
+        final UUID jobId = job.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(jobId);
+                }
+            });
+        } else {
+            submit(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Retry the failed refunds of a showtime's cancellation.
+     */
+    public ShowtimeCancellationJob retry(final UUID showtimeId) {
+        final ShowtimeCancellationJob job = jobService.restart(showtimeId);
+        submit(job.getId());
+        return job;
+    }
+
+    /**
+     * Take over jobs whose node stopped reporting progress (called by scheduled task).
+     */
+    public void resumeStalledJobs() {
+        final List<UUID> jobIds = jobService.claimStalled(Instant.now().minus(properties.getStallTimeout()));
+        if (!jobIds.isEmpty()) {
+            log.info("Resuming {} stalled cancellation jobs", jobIds.size());
+            jobIds.forEach(this::submit);
+        }
+    }
+
+    /**
+     * Stop running jobs. They are resumed from their last saved page.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void submit(final UUID jobId) {
+        if (activeJobs.add(jobId)) {
+            executor.submit(() -> run(jobId));
+        }
+    }
+
+    private void run(final UUID jobId) {
+        try {
+            final ShowtimeCancellationJob job = jobService.findById(jobId);
+            log.info("Cancellation job {} started for showtime {} ({} reservations)",
+                    jobId, job.getShowtimeId(), job.getTotalReservations());
+
+            final int cancelled = jobService.cancelPendingReservations(job.getShowtimeId());
+            if (cancelled > 0) {
+                log.info("Cancellation job {} cancelled {} unpaid reservations", jobId, cancelled);
+            }
+
+            UUID cursor = job.getLastReservationId();
+            List<UUID> page;
+            while (!(page = jobService.nextReservations(job.getShowtimeId(), cursor, properties.getPageSize()))
+                    .isEmpty()) {
+                final PageOutcome outcome = refundPage(page);
+                cursor = page.getLast();
+                jobService.recordProgress(jobId, cursor, outcome.refunded(), outcome.failed(), outcome.lastError());
+            }
+
+            final ShowtimeCancellationJob completed = jobService.complete(jobId);
+            log.info("Cancellation job {} finished: {} refunded, {} failed, {} seats released",
+                    jobId, completed.getRefundedCount(), completed.getFailedCount(), completed.getSeatsReleased());
+
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Cancellation job {} interrupted; it resumes from its last saved page", jobId);
+        } catch (final Exception e) {
+            log.error("Cancellation job {} stopped; it resumes from its last saved page", jobId, e);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    /**
+     * Refund a page of reservations concurrently and wait for all of them.
+     */
+    private PageOutcome refundPage(final List<UUID> reservationIds) throws InterruptedException {
+        final AtomicInteger refunded = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicReference<String> lastError = new AtomicReference<>();
+        final Semaphore inFlight = new Semaphore(properties.getRefundConcurrency());
+
+        try (ExecutorService refunds = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final UUID reservationId : reservationIds) {
+                inFlight.acquire();
+                rateLimiter.acquire();
+                refunds.submit(() -> {
+                    try {
+                        jobService.refund(reservationId);
+                        refunded.incrementAndGet();
+                    } catch (final Exception e) {
+                        failed.incrementAndGet();
+                        lastError.set(reservationId + ": " + e.getMessage());
+                        log.warn("Refund failed for reservation {}: {}", reservationId, e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return new PageOutcome(refunded.get(), failed.get(), lastError.get());
+    }
+
+    private record PageOutcome(int refunded, int failed, String lastError) {
+    }
+}
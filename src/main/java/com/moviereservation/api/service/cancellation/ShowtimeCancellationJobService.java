@@ -0,0 +1,245 @@
+package com.moviereservation.api.service.cancellation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.domain.entities.SeatInstance;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
+import com.moviereservation.api.domain.enums.CancellationJobStatus;
+import com.moviereservation.api.domain.enums.ReservationStatus;
+import com.moviereservation.api.domain.enums.SeatStatus;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
+import com.moviereservation.api.exception.CancellationJobNotFoundException;
+import com.moviereservation.api.exception.ShowtimeCancellationException;
+import com.moviereservation.api.exception.ShowtimeNotFoundException;
+import com.moviereservation.api.repository.ReservationRepository;
+import com.moviereservation.api.repository.SeatInstanceRepository;
+import com.moviereservation.api.repository.ShowtimeCancellationJobRepository;
+import com.moviereservation.api.repository.ShowtimeRepository;
+import com.moviereservation.api.repository.ShowtimeSeatCountRepository;
+import com.moviereservation.api.service.EmailService;
+import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.ReservationService;
+import com.moviereservation.api.service.SeatStatusMapService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Transactional steps of showtime cancellation jobs.
+ * Each step commits on its own, so a job's progress survives a restart;
+ * ShowtimeCancellationJobRunner drives the steps.
+ */
+@Service
+@Workload(WorkloadType.BACKGROUND)
+@RequiredArgsConstructor
+@Slf4j
+public class ShowtimeCancellationJobService {
+
+    static final String REFUND_REASON = "Showtime cancelled";
+
+    // Below every UUID in PostgreSQL's ordering, the cursor of a new job
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final ShowtimeCancellationJobRepository jobRepository;
+    private final ReservationRepository reservationRepository;
+    private final SeatInstanceRepository seatInstanceRepository;
+    private final ShowtimeRepository showtimeRepository;
+    private final ShowtimeSeatCountRepository showtimeSeatCountRepository;
+    private final SeatStatusMapService seatStatusMapService;
+    private final ReservationService reservationService;
+    private final PaymentService paymentService;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Record a new job for a showtime being cancelled.
+     * Joins the cancelling transaction, so the job exists exactly when the cancellation does.
+     */
+    @Transactional
+    public ShowtimeCancellationJob create(final Showtime showtime) {
+        final ShowtimeCancellationJob job = new ShowtimeCancellationJob();
+        job.setShowtimeId(showtime.getId());
+        job.setTotalReservations((int) reservationRepository.countByShowtimeIdAndStatus(
+                showtime.getId(), ReservationStatus.CONFIRMED));
+        return jobRepository.save(job);
+    }
+
+    /**
+     * @throws CancellationJobNotFoundException if not found
+     */
+    @Transactional(readOnly = true)
+    public ShowtimeCancellationJob findById(final UUID jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new CancellationJobNotFoundException(
+                        "Cancellation job not found: " + jobId));
+    }
+
+    /**
+     * @throws CancellationJobNotFoundException if the showtime was never cancelled
+     */
+    @Transactional(readOnly = true)
+    public ShowtimeCancellationJob findByShowtimeId(final UUID showtimeId) {
+        return jobRepository.findByShowtimeId(showtimeId)
+                .orElseThrow(() -> new CancellationJobNotFoundException(
+                        "No cancellation job for showtime: " + showtimeId));
+    }
+
+    /**
+     * Cancel the showtime's PENDING_PAYMENT reservations and release their
+     * held seats, so none of them can be confirmed on the cancelled showtime.
+     * Runs before the refunds; finds nothing when a job is resumed or retried.
+     *
+     * @return Number of reservations cancelled
+     */
+    public int cancelPendingReservations(final UUID showtimeId) {
+        return reservationService.cancelPendingForShowtime(showtimeId);
+    }
+
+    /**
+     * Next confirmed reservations after the cursor, in id order.
+     */
+    @Transactional(readOnly = true)
+    public List<UUID> nextReservations(final UUID showtimeId, final UUID afterId, final int pageSize) {
+        return reservationRepository.findIdsByShowtimeIdAndStatusAfter(
+                showtimeId,
+                ReservationStatus.CONFIRMED,
+                afterId != null ? afterId : FIRST_ID,
+                Limit.of(pageSize));
+    }
+
+    /**
+     * Refund one reservation and queue its notification.
+     * Not transactional: the payment provider is called between short
+     * transactions (see PaymentService.processRefund), so concurrent refunds
+     * do not hold connections of the background pool while they wait.
+     * A failed refund leaves the reservation CONFIRMED for a retry.
+     */
+    public void refund(final UUID reservationId) {
+        paymentService.processRefund(reservationId, REFUND_REASON);
+
+        transactionTemplate.executeWithoutResult(_ -> emailService.queueRefundNotification(
+                reservationService.findById(reservationId), REFUND_REASON));
+    }
+
+    /**
+     * Save a page's outcome and move the cursor. Also serves as the heartbeat
+     * that keeps other nodes from taking the job over.
+     */
+    @Transactional
+    public void recordProgress(
+            final UUID jobId,
+            final UUID lastReservationId,
+            final int refunded,
+            final int failed,
+            final String lastError) {
+
+        final ShowtimeCancellationJob job = findById(jobId);
+        job.setLastReservationId(lastReservationId);
+        job.setRefundedCount(job.getRefundedCount() + refunded);
+        job.setFailedCount(job.getFailedCount() + failed);
+        if (lastError != null) {
+            job.setLastError(lastError);
+        }
+        jobRepository.save(job);
+    }
+
+    /**
+     * Release the seats of the showtime's refunded reservations and close the job.
+     * With failed refunds nothing is released until a retry succeeds;
+     * held seats were released by cancelPendingReservations.
+     */
+    @Transactional
+    public ShowtimeCancellationJob complete(final UUID jobId) {
+        final ShowtimeCancellationJob job = findById(jobId);
+
+        if (job.getFailedCount() == 0) {
+            job.setSeatsReleased(job.getSeatsReleased() + releaseSeats(job.getShowtimeId()));
+            job.setStatus(CancellationJobStatus.COMPLETED);
+        } else {
+            job.setStatus(CancellationJobStatus.COMPLETED_WITH_FAILURES);
+        }
+        job.setCompletedAt(Instant.now());
+
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Start another pass over the reservations whose refund failed.
+     *
+     * @throws ShowtimeCancellationException if the job has no failed refunds to retry
+     */
+    @Transactional
+    public ShowtimeCancellationJob restart(final UUID showtimeId) {
+        final ShowtimeCancellationJob job = findByShowtimeId(showtimeId);
+        if (job.getStatus() != CancellationJobStatus.COMPLETED_WITH_FAILURES) {
+            throw new ShowtimeCancellationException(
+                    "Only cancellations with failed refunds can be retried. Current status: " + job.getStatus());
+        }
+
+        job.setStatus(CancellationJobStatus.RUNNING);
+        job.setLastReservationId(null);
+        job.setFailedCount(0);
+        job.setLastError(null);
+        job.setCompletedAt(null);
+        return jobRepository.save(job);
+    }
+
+    /**
+     * Claim running jobs whose node stopped reporting progress.
+     *
+     * @return Ids of the jobs this node now owns
+     */
+    @Transactional
+    public List<UUID> claimStalled(final Instant staleBefore) {
+        final Instant now = Instant.now();
+        return jobRepository.findStalledJobIds(CancellationJobStatus.RUNNING, staleBefore).stream()
+                .filter(jobId -> jobRepository.claimStalled(
+                        jobId, CancellationJobStatus.RUNNING, staleBefore, now) == 1)
+                .toList();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Release the reserved seats of the showtime's refunded reservations,
+     * found through reservation_seats.
+     * ROWS showtimes take one bulk update; COMPACT showtimes also mirror
+     * the released seats into their status map.
+     */
+    private int releaseSeats(final UUID showtimeId) {
+        final Showtime showtime = showtimeRepository.findById(showtimeId)
+                .orElseThrow(() -> new ShowtimeNotFoundException("Showtime not found: " + showtimeId));
+
+        final int released;
+        if (showtime.getSeatStorageMode() == SeatStorageMode.COMPACT) {
+            final List<SeatInstance> seats = seatInstanceRepository.findAllByReservationStatus(
+                    showtimeId, ReservationStatus.REFUNDED, SeatStatus.RESERVED);
+            seats.forEach(seat -> {
+                seat.setStatus(SeatStatus.AVAILABLE);
+                seat.setHeldAt(null);
+                seat.setHeldBy(null);
+            });
+            seatInstanceRepository.saveAll(seats);
+            seatStatusMapService.updateStatus(showtime, seats);
+            released = seats.size();
+        } else {
+            released = seatInstanceRepository.updateStatusByReservationStatus(
+                    showtimeId, ReservationStatus.REFUNDED, SeatStatus.RESERVED, SeatStatus.AVAILABLE);
+        }
+
+        showtimeSeatCountRepository.adjust(showtimeId, released);
+
+        log.info("Released {} seats of cancelled showtime: {}", released, showtimeId);
+        return released;
+    }
+}
@@ -0,0 +1,28 @@
+package com.moviereservation.api.service.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls with equal arguments share one execution and its result
+ * (or exception). Only for read-only methods whose result depends on the
+ * arguments alone, not on the calling user; argument types need value
+ * equality.
+ *
+ * Calls made inside an active transaction are not coalesced, so they keep
+ * their own transaction's view of the data.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+
+    /**
+     * Name used for app.coalescing.methods settings and the method metric tag.
+     * Defaults to ClassName.methodName.
+     */
+    String value() default "";
+}
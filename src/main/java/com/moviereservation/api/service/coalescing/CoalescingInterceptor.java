@@ -0,0 +1,136 @@
+package com.moviereservation.api.service.coalescing;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviereservation.api.config.CoalescingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single-flight execution of @Coalesced methods.
+ *
+ * The first caller for a method and argument list becomes the leader and
+ * runs the method; callers arriving while it runs wait for the leader's
+ * result instead of running the same queries again. The in-flight entry is
+ * removed as soon as the leader finishes, so nothing is cached beyond the
+ * call itself.
+ *
+ * The coalescing.calls counter is tagged by role: leader, follower (served
+ * by a leader), timeout (gave up waiting and ran on its own) and bypassed
+ * (disabled or inside a transaction). The coalescing ratio is
+ * follower / (leader + follower).
+ */
+@Slf4j
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+    private final CoalescingProperties properties;
+    private final Meter.MeterProvider<Counter> callCounter;
+
+    private enum Role {
+        LEADER, FOLLOWER, TIMEOUT, BYPASSED
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {
+    }
+
+    public CoalescingInterceptor(final CoalescingProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.callCounter = Counter.builder("coalescing.calls")
+                .description("Calls of coalesced methods by role")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final String name = names.computeIfAbsent(invocation.getMethod(), this::resolveName);
+
+        if (!properties.isEnabled(name) || TransactionSynchronizationManager.isActualTransactionActive()) {
+            count(name, Role.BYPASSED);
+            return invocation.proceed();
+        }
+
+        final CallKey key = new CallKey(invocation.getMethod(), Arrays.asList(invocation.getArguments()));
+        final CompletableFuture<Object> call = new CompletableFuture<>();
+        final CompletableFuture<Object> leaderCall = inFlight.putIfAbsent(key, call);
+
+        if (leaderCall == null) {
+            count(name, Role.LEADER);
+            return lead(invocation, key, call);
+        }
+        return follow(invocation, name, leaderCall);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private Object lead(
+            final MethodInvocation invocation,
+            final CallKey key,
+            final CompletableFuture<Object> call) throws Throwable {
+
+        try {
+            final Object result = invocation.proceed();
+            call.complete(result);
+            return result;
+        } catch (final Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Object follow(
+            final MethodInvocation invocation,
+            final String name,
+            final CompletableFuture<Object> leaderCall) throws Throwable {
+
+        final long timeoutNanos = properties.getTimeout(name).toNanos();
+        try {
+            final Object result = leaderCall.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            count(name, Role.FOLLOWER);
+            return result;
+        } catch (final ExecutionException e) {
+            count(name, Role.FOLLOWER);
+            throw e.getCause();
+        } catch (final TimeoutException e) {
+            log.warn("Coalesced call {} still running after {}; running this call separately",
+                    name, properties.getTimeout(name));
+            count(name, Role.TIMEOUT);
+            return invocation.proceed();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private void count(final String name, final Role role) {
+        callCounter.withTags("method", name, "role", role.name().toLowerCase(Locale.ROOT)).increment();
+    }
+
+    private String resolveName(final Method method) {
+        final Coalesced annotation = AnnotatedElementUtils.findMergedAnnotation(method, Coalesced.class);
+        if (annotation != null && !annotation.value().isEmpty()) {
+            return annotation.value();
+        }
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
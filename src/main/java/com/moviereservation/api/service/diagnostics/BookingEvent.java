@@ -0,0 +1,40 @@
+package com.moviereservation.api.service.diagnostics;
+
+import java.util.UUID;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the seat booking JFR events.
+ * The event duration covers the instrumented step; call {@link #begin()}
+ * before it and {@link #record} once the outcome is known.
+ */
+@Category({ "Movie Reservation", "Booking" })
+@StackTrace(false)
+public abstract class BookingEvent extends Event {
+
+    @Label("Showtime ID")
+    String showtimeId;
+
+    @Label("Seat Count")
+    int seatCount;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Fill in the payload and commit, if a recording has the event enabled.
+     */
+    public void record(final UUID showtimeId, final int seatCount, final String outcome) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.showtimeId = showtimeId != null ? showtimeId.toString() : null;
+        this.seatCount = seatCount;
+        this.outcome = outcome;
+        commit();
+    }
+}
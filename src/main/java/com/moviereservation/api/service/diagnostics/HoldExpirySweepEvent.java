@@ -0,0 +1,39 @@
+package com.moviereservation.api.service.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One run of the expired hold sweep.
+ */
+@Name(HoldExpirySweepEvent.NAME)
+@Label("Hold Expiry Sweep")
+@Description("Expired PENDING_PAYMENT reservations released in one sweep")
+@Category({ "Movie Reservation", "Booking" })
+@StackTrace(false)
+public class HoldExpirySweepEvent extends Event {
+
+    public static final String NAME = "moviereservation.HoldExpirySweep";
+
+    @Label("Expired Reservations")
+    int expiredReservations;
+
+    @Label("Outcome")
+    String outcome;
+
+    /**
+     * Fill in the payload and commit, if a recording has the event enabled.
+     */
+    public void record(final int expiredReservations, final String outcome) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.expiredReservations = expiredReservations;
+        this.outcome = outcome;
+        commit();
+    }
+}
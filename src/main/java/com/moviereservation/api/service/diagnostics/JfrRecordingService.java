@@ -0,0 +1,211 @@
+package com.moviereservation.api.service.diagnostics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.moviereservation.api.config.JfrProperties;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Manages the JDK Flight Recorder recording with the booking events enabled.
+ * The booking events are added to a built-in JFR configuration, so lock waits
+ * show up next to GC, safepoints and virtual thread pinning in one timeline.
+ * At most one booking recording runs at a time.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JfrRecordingService {
+
+    private static final String RECORDING_NAME = "movie-reservation-booking";
+    private static final String DUMP_PREFIX = "booking-";
+    private static final String DUMP_SUFFIX = ".jfr";
+    private static final Pattern DUMP_FILE_NAME = Pattern.compile("booking-\\d{8}-\\d{6}-\\d{3}\\.jfr");
+    private static final DateTimeFormatter DUMP_TIMESTAMP = DateTimeFormatter
+            .ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    private static final List<Class<? extends Event>> BOOKING_EVENTS = List.of(
+            SeatLockEvent.class,
+            SeatHoldEvent.class,
+            SeatReleaseEvent.class,
+            HoldExpirySweepEvent.class);
+
+    private final JfrProperties properties;
+
+    private Recording recording;
+    private String recordingSettings;
+    private Path lastDump;
+
+    /**
+     * Snapshot of the booking recording.
+     */
+    public record RecordingStatus(
+            String name,
+            String state,
+            String settings,
+            Instant startTime,
+            Duration maxAge,
+            long maxSizeBytes,
+            List<String> bookingEvents,
+            String dumpDirectory,
+            String lastDump) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnStartup() {
+        if (properties.isStartOnStartup()) {
+            start(null, null);
+        }
+    }
+
+    /**
+     * Start the booking recording. Does nothing if it is already running.
+     *
+     * @param settings Built-in JFR configuration name, defaults to app.diagnostics.jfr.settings
+     * @param maxAge   History to keep, defaults to app.diagnostics.jfr.max-age
+     * @return Recording status
+     * @throws IllegalArgumentException if the configuration name is unknown
+     */
+    public synchronized RecordingStatus start(final String settings, final Duration maxAge) {
+        if (isRunning()) {
+            log.debug("Booking recording already running");
+            return status();
+        }
+
+        final String settingsName = settings != null ? settings : properties.getSettings();
+        final Recording newRecording = new Recording(loadConfiguration(settingsName));
+        newRecording.setName(RECORDING_NAME);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(maxAge != null ? maxAge : properties.getMaxAge());
+        newRecording.setMaxSize(properties.getMaxSize().toBytes());
+
+        BOOKING_EVENTS.forEach(event -> newRecording.enable(event).withThreshold(Duration.ZERO));
+        newRecording.enable(SeatLockEvent.class).withStackTrace();
+
+        newRecording.start();
+        closeRecording();
+        recording = newRecording;
+        recordingSettings = settingsName;
+
+        log.info("Started JFR booking recording (settings={}, maxAge={})", settingsName, newRecording.getMaxAge());
+        return status();
+    }
+
+    /**
+     * Dump the running recording to the dump directory.
+     *
+     * @return Recording status including the dump file
+     * @throws IllegalStateException if no recording is running
+     */
+    public synchronized RecordingStatus dump() {
+        if (!isRunning()) {
+            throw new IllegalStateException("No booking recording is running");
+        }
+        lastDump = writeDump();
+        return status();
+    }
+
+    /**
+     * Dump and stop the booking recording. Does nothing if it is not running.
+     *
+     * @return Recording status including the final dump file
+     */
+    public synchronized RecordingStatus stop() {
+        if (isRunning()) {
+            lastDump = writeDump();
+            recording.stop();
+            log.info("Stopped JFR booking recording");
+        }
+        return status();
+    }
+
+    public synchronized RecordingStatus status() {
+        return new RecordingStatus(
+                RECORDING_NAME,
+                recording != null ? recording.getState().name() : RecordingState.NEW.name(),
+                recordingSettings,
+                recording != null ? recording.getStartTime() : null,
+                recording != null ? recording.getMaxAge() : properties.getMaxAge(),
+                recording != null ? recording.getMaxSize() : properties.getMaxSize().toBytes(),
+                BOOKING_EVENTS.stream().map(Class::getSimpleName).toList(),
+                properties.getDumpDirectory().toString(),
+                lastDump != null ? lastDump.getFileName().toString() : null);
+    }
+
+    /**
+     * Resolve a dump file written by this service.
+     *
+     * @param fileName Dump file name as reported in the status
+     * @return Path of the dump file
+     * @throws IllegalArgumentException if the name is not a dump file name or the file does not exist
+     */
+    public Path resolveDump(final String fileName) {
+        if (!DUMP_FILE_NAME.matcher(fileName).matches()) {
+            throw new IllegalArgumentException("Not a booking recording dump: " + fileName);
+        }
+        final Path file = properties.getDumpDirectory().resolve(fileName);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Dump not found: " + fileName);
+        }
+        return file;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeRecording();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    private Path writeDump() {
+        final Path file = properties.getDumpDirectory()
+                .resolve(DUMP_PREFIX + DUMP_TIMESTAMP.format(Instant.now()) + DUMP_SUFFIX);
+        try {
+            Files.createDirectories(file.getParent());
+            recording.dump(file);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to dump booking recording to " + file, e);
+        }
+        log.info("Dumped JFR booking recording to {}", file);
+        return file;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Configuration loadConfiguration(final String name) {
+        try {
+            return Configuration.getConfiguration(name);
+        } catch (final IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR configuration: " + name, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.moviereservation.api.service.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Locked seats marked HELD for a user and flushed.
+ */
+@Name(SeatHoldEvent.NAME)
+@Label("Seat Hold")
+@Description("Seats marked HELD for a reservation")
+public class SeatHoldEvent extends BookingEvent {
+
+    public static final String NAME = "moviereservation.SeatHold";
+}
@@ -0,0 +1,19 @@
+package com.moviereservation.api.service.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SELECT ... FOR UPDATE on the requested seats.
+ * The duration is the lock wait; the outcome is the result of validating the locked seats.
+ */
+@Name(SeatLockEvent.NAME)
+@Label("Seat Lock")
+@Description("Row locks taken on the requested seats; duration is the lock wait")
+@StackTrace(true)
+public class SeatLockEvent extends BookingEvent {
+
+    public static final String NAME = "moviereservation.SeatLock";
+}
@@ -0,0 +1,16 @@
+package com.moviereservation.api.service.diagnostics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Seats of a cancelled or expired reservation returned to AVAILABLE.
+ */
+@Name(SeatReleaseEvent.NAME)
+@Label("Seat Release")
+@Description("Seats of a cancelled or expired reservation released")
+public class SeatReleaseEvent extends BookingEvent {
+
+    public static final String NAME = "moviereservation.SeatRelease";
+}
@@ -0,0 +1,261 @@
+package com.moviereservation.api.service.idempotency;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviereservation.api.config.IdempotencyProperties;
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.repository.IdempotencyKeyRepository;
+import com.moviereservation.api.repository.IdempotencyKeyRepository.StoredKey;
+import com.moviereservation.api.repository.IdempotencyKeyRepository.StoredResponse;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency keys of reservation and payment creation requests.
+ *
+ * Completed responses are kept in an in-memory LRU in front of the
+ * idempotency_keys table, so a retry on the node that served the original
+ * request is answered without a query. Duplicates arriving on the same
+ * node while the original runs wait for its response instead of claiming
+ * the key in the database; duplicates on other nodes find the key claimed
+ * and get {@link Outcome.InProgress}.
+ *
+ * A request whose response is not stored (see {@link #release(Ticket)})
+ * gives up its key, and the next duplicate runs the request itself.
+ */
+@Service
+@Workload(WorkloadType.BOOKING)
+@Slf4j
+public class IdempotencyService {
+
+    private static final String OUTCOME_EXECUTED = "executed";
+    private static final String OUTCOME_REPLAYED = "replayed";
+    private static final String OUTCOME_IN_PROGRESS = "in_progress";
+    private static final String OUTCOME_MISMATCH = "mismatch";
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+    private final BookingMetrics bookingMetrics;
+
+    private final Cache<KeyId, Completed> completed;
+    private final Map<KeyId, CompletableFuture<Completed>> inFlight = new ConcurrentHashMap<>();
+
+    private record KeyId(UUID userId, String key) {
+    }
+
+    /**
+     * Stored response with the fingerprint of the request that produced it.
+     */
+    private record Completed(String requestHash, StoredResponse response) {
+    }
+
+    /**
+     * What to do with a request carrying an idempotency key.
+     */
+    public sealed interface Outcome {
+
+        /** The key is claimed; run the request, then complete or release the ticket. */
+        record Execute(Ticket ticket) implements Outcome {
+        }
+
+        /** The key was used before; send the stored response. */
+        record Replay(StoredResponse response) implements Outcome {
+        }
+
+        /** The original request is still running elsewhere. */
+        record InProgress() implements Outcome {
+        }
+
+        /** The key was used with a different request. */
+        record Mismatch() implements Outcome {
+        }
+    }
+
+    public IdempotencyService(
+            final IdempotencyKeyRepository repository,
+            final IdempotencyProperties properties,
+            final BookingMetrics bookingMetrics) {
+        this.repository = repository;
+        this.properties = properties;
+        this.bookingMetrics = bookingMetrics;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    /**
+     * Decide how to handle a request with an idempotency key.
+     *
+     * @param userId      Authenticated user; keys are scoped per user
+     * @param key         Idempotency-Key header value
+     * @param requestHash Fingerprint of the request (method, path and body)
+     */
+    public Outcome begin(final UUID userId, final String key, final String requestHash) {
+        final KeyId id = new KeyId(userId, key);
+        final long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            final Completed cached = completed.getIfPresent(id);
+            if (cached != null) {
+                return replay(cached, requestHash);
+            }
+
+            final CompletableFuture<Completed> call = new CompletableFuture<>();
+            final CompletableFuture<Completed> leaderCall = inFlight.putIfAbsent(id, call);
+            if (leaderCall == null) {
+                return lead(id, requestHash, call);
+            }
+
+            final Completed result;
+            try {
+                result = leaderCall.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                return inProgress();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return inProgress();
+            } catch (final ExecutionException e) {
+                continue; // The leader could not reach the database; try on our own
+            }
+            if (result != null) {
+                return replay(result, requestHash);
+            }
+            // The leader released the key or found it claimed by another node; look again
+        }
+    }
+
+    /**
+     * Store the response of an executed request for replay.
+     */
+    public void complete(final Ticket ticket, final StoredResponse response) {
+        final KeyId id = ticket.id;
+        Completed result = null;
+        try {
+            if (repository.complete(id.userId(), id.key(), ticket.claimToken, response,
+                    Instant.now().plus(properties.getTtl()))) {
+                result = new Completed(ticket.requestHash, response);
+                completed.put(id, result);
+            } else {
+                // Taken over after the in-progress timeout; the new claim decides what is replayed
+                log.warn("Claim of idempotency key {} expired before its response was stored", id.key());
+            }
+        } catch (final RuntimeException e) {
+            // The claim expires after the in-progress timeout and the key can be used again
+            log.warn("Failed to store response of idempotency key {}: {}", id.key(), e.getMessage());
+        } finally {
+            finish(id, ticket.call, result);
+        }
+    }
+
+    /**
+     * Give up a key without storing a response, so a retry runs the request again.
+     */
+    public void release(final Ticket ticket) {
+        final KeyId id = ticket.id;
+        try {
+            repository.release(id.userId(), id.key(), ticket.claimToken);
+        } catch (final RuntimeException e) {
+            log.warn("Failed to release idempotency key {}: {}", id.key(), e.getMessage());
+        } finally {
+            finish(id, ticket.call, null);
+        }
+    }
+
+    /**
+     * Delete expired keys (called by scheduled task).
+     *
+     * @return Number of keys deleted
+     */
+    public int purgeExpired() {
+        return repository.purgeExpired(Instant.now());
+    }
+
+    /**
+     * A claimed key. Pass it to exactly one of complete or release.
+     */
+    public static final class Ticket {
+
+        private final KeyId id;
+        private final String requestHash;
+        private final UUID claimToken;
+        private final CompletableFuture<Completed> call;
+
+        private Ticket(final KeyId id, final String requestHash, final UUID claimToken,
+                final CompletableFuture<Completed> call) {
+            this.id = id;
+            this.requestHash = requestHash;
+            this.claimToken = claimToken;
+            this.call = call;
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Claim the key in the database, or resolve it from what is stored there.
+     */
+    private Outcome lead(final KeyId id, final String requestHash, final CompletableFuture<Completed> call) {
+        try {
+            final Instant now = Instant.now();
+            final UUID claimToken = UUID.randomUUID();
+            if (repository.claim(id.userId(), id.key(), requestHash, claimToken,
+                    now, now.plus(properties.getInProgressTimeout()))) {
+                bookingMetrics.recordIdempotentRequest(OUTCOME_EXECUTED);
+                return new Outcome.Execute(new Ticket(id, requestHash, claimToken, call));
+            }
+
+            final StoredKey stored = repository.find(id.userId(), id.key(), now).orElse(null);
+            if (stored == null || !stored.completed()) {
+                finish(id, call, null);
+                return stored != null && !stored.requestHash().equals(requestHash) ? mismatch() : inProgress();
+            }
+
+            final Completed result = new Completed(stored.requestHash(), stored.response());
+            completed.put(id, result);
+            finish(id, call, result);
+            return replay(result, requestHash);
+
+        } catch (final RuntimeException e) {
+            inFlight.remove(id, call);
+            call.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void finish(final KeyId id, final CompletableFuture<Completed> call, final Completed result) {
+        inFlight.remove(id, call);
+        call.complete(result);
+    }
+
+    private Outcome replay(final Completed result, final String requestHash) {
+        if (!result.requestHash().equals(requestHash)) {
+            return mismatch();
+        }
+        bookingMetrics.recordIdempotentRequest(OUTCOME_REPLAYED);
+        return new Outcome.Replay(result.response());
+    }
+
+    private Outcome inProgress() {
+        bookingMetrics.recordIdempotentRequest(OUTCOME_IN_PROGRESS);
+        return new Outcome.InProgress();
+    }
+
+    private Outcome mismatch() {
+        bookingMetrics.recordIdempotentRequest(OUTCOME_MISMATCH);
+        return new Outcome.Mismatch();
+    }
+}
@@ -0,0 +1,38 @@
+package com.moviereservation.api.service.locking;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * PostgreSQL lock failures that succeed when the transaction is retried.
+ */
+public enum LockConflict {
+
+    DEADLOCK("40P01"),
+    LOCK_TIMEOUT("55P03");
+
+    private final String sqlState;
+
+    LockConflict(final String sqlState) {
+        this.sqlState = sqlState;
+    }
+
+    /**
+     * Find the lock conflict behind an exception, however deeply Hibernate
+     * and Spring have wrapped the SQLException.
+     */
+    public static Optional<LockConflict> of(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof final SQLException sqlException && sqlException.getSQLState() != null) {
+                final Optional<LockConflict> conflict = Arrays.stream(values())
+                        .filter(value -> value.sqlState.equals(sqlException.getSQLState()))
+                        .findFirst();
+                if (conflict.isPresent()) {
+                    return conflict;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,109 @@
+package com.moviereservation.api.service.locking;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviereservation.api.config.LockingProperties;
+import com.moviereservation.api.exception.LockConflictException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retries @RetryOnLockConflict methods after deadlocks and lock timeouts.
+ *
+ * Backoff doubles from initialBackoff up to maxBackoff, and each wait is
+ * drawn from its upper half, so transactions that deadlocked each other do
+ * not collide again in lockstep. When attempts run out the caller gets a
+ * 409 LockConflictException instead of a 500.
+ *
+ * The lock.conflicts counter is tagged by method, conflict (deadlock,
+ * lock_timeout) and outcome: retried, recovered (a retry succeeded) or
+ * exhausted.
+ */
+@Slf4j
+public class LockConflictRetryInterceptor implements MethodInterceptor {
+
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+    private final LockingProperties properties;
+    private final Meter.MeterProvider<Counter> conflictCounter;
+
+    private enum Outcome {
+        RETRIED, RECOVERED, EXHAUSTED
+    }
+
+    public LockConflictRetryInterceptor(final LockingProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.conflictCounter = Counter.builder("lock.conflicts")
+                .description("Deadlocks and lock timeouts of retried methods by outcome")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final LockingProperties.Retry retry = properties.getRetry();
+        if (!retry.isEnabled()
+                || TransactionSynchronizationManager.isActualTransactionActive()
+                || !(invocation instanceof final ProxyMethodInvocation proxyInvocation)) {
+            return invocation.proceed();
+        }
+
+        final String name = names.computeIfAbsent(invocation.getMethod(),
+                method -> method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        LockConflict lastConflict = null;
+
+        for (int attempt = 1;; attempt++) {
+            try {
+                final Object result = proxyInvocation.invocableClone().proceed();
+                if (lastConflict != null) {
+                    count(name, lastConflict, Outcome.RECOVERED);
+                }
+                return result;
+            } catch (final Exception e) {
+                final Optional<LockConflict> conflict = LockConflict.of(e);
+                if (conflict.isEmpty()) {
+                    throw e;
+                }
+                lastConflict = conflict.get();
+
+                if (attempt >= retry.getMaxAttempts()) {
+                    count(name, lastConflict, Outcome.EXHAUSTED);
+                    log.warn("{} failed with {} after {} attempts", name, lastConflict, attempt);
+                    throw new LockConflictException(
+                            "The seats are in high demand right now, please try again");
+                }
+
+                count(name, lastConflict, Outcome.RETRIED);
+                log.debug("{} hit {} on attempt {}, retrying", name, lastConflict, attempt);
+                Thread.sleep(backoffMillis(retry, attempt));
+            }
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static long backoffMillis(final LockingProperties.Retry retry, final int attempt) {
+        final long ceiling = Math.min(
+                retry.getMaxBackoff().toMillis(),
+                retry.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    private void count(final String name, final LockConflict conflict, final Outcome outcome) {
+        conflictCounter.withTags(
+                "method", name,
+                "conflict", conflict.name().toLowerCase(Locale.ROOT),
+                "outcome", outcome.name().toLowerCase(Locale.ROOT)).increment();
+    }
+}
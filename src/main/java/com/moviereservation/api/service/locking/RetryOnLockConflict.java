@@ -0,0 +1,21 @@
+package com.moviereservation.api.service.locking;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Rerun the method in a new transaction when it loses a deadlock or times
+ * out waiting for a row lock, up to app.locking.retry.max-attempts times.
+ * Only for @Transactional methods without side effects outside the database.
+ *
+ * Calls made inside an already active transaction are not retried; the
+ * outer transaction is aborted and has to be retried as a whole.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnLockConflict {
+}
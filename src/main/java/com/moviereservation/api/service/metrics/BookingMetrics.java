@@ -0,0 +1,222 @@
+package com.moviereservation.api.service.metrics;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.config.BookingMetricsProperties;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Micrometer instrumentation of the booking funnel.
+ *
+ * Covers seat holds (by outcome), row lock waits, hold-to-payment and
+ * payment-to-confirm latency, payment gateway calls, payment
+ * reconciliation, idempotent request replays, expiry sweeps and seat map rendering, so a slow checkout can be attributed to lock
+ * contention, the payment provider or the database.
+ *
+ * Durations are passed in as nanoseconds measured by the caller, which
+ * keeps the hot path free of wrappers and this class trivial to mock.
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String METRIC_PREFIX = "booking";
+    public static final String SHOWTIME_TAG = "showtime";
+
+    private static final String OTHER_SHOWTIME = "other";
+    private static final String NO_EXCEPTION = "none";
+
+    private final BookingMetricsProperties properties;
+    private final Meter.MeterProvider<Timer> holdTimer;
+    private final Meter.MeterProvider<Timer> lockWaitTimer;
+    private final Meter.MeterProvider<Timer> seatMapTimer;
+    private final Meter.MeterProvider<Timer> gatewayTimer;
+    private final Meter.MeterProvider<Timer> gatewayConnectionIdleTimer;
+    private final Meter.MeterProvider<Counter> reconciliationCounter;
+    private final Meter.MeterProvider<Counter> idempotencyCounter;
+    private final Timer holdToPaymentTimer;
+    private final Timer paymentToConfirmTimer;
+    private final DistributionSummary expiredHoldsSummary;
+
+    /**
+     * Outcome of a hold attempt.
+     */
+    public enum HoldOutcome {
+        /** Seats held and reservation created. */
+        SUCCESS,
+        /** A requested seat was held or booked by someone else. */
+        CONFLICT,
+        /** Rejected by validation (showtime state, seat count, unknown seats). */
+        REJECTED,
+        /** Failed unexpectedly or rolled back at commit; the exception tag says why. */
+        ERROR
+    }
+
+    public BookingMetrics(final MeterRegistry meterRegistry, final BookingMetricsProperties properties) {
+        this.properties = properties;
+        final boolean histograms = properties.isPercentileHistograms();
+
+        this.holdTimer = Timer.builder(METRIC_PREFIX + ".hold")
+                .description("Seat hold attempts, from request to reservation committed")
+                .publishPercentileHistogram(histograms)
+                .withRegistry(meterRegistry);
+
+        this.lockWaitTimer = Timer.builder(METRIC_PREFIX + ".seat.lock.wait")
+                .description("Time spent acquiring row locks on the requested seats")
+                .publishPercentileHistogram(histograms)
+                .withRegistry(meterRegistry);
+
+        this.seatMapTimer = Timer.builder(METRIC_PREFIX + ".seatmap.render")
+                .description("Time to load and map a showtime's seat map")
+                .publishPercentileHistogram(histograms)
+                .withRegistry(meterRegistry);
+
+        this.gatewayTimer = Timer.builder(METRIC_PREFIX + ".payment.gateway")
+                .description("Payment gateway calls")
+                .publishPercentileHistogram(histograms)
+                .withRegistry(meterRegistry);
+
+        this.gatewayConnectionIdleTimer = Timer.builder(METRIC_PREFIX + ".payment.gateway.connection.idle")
+                .description("Time a transaction's connection sat idle during a payment gateway call")
+                .publishPercentileHistogram(histograms)
+                .withRegistry(meterRegistry);
+
+        this.reconciliationCounter = Counter.builder(METRIC_PREFIX + ".payment.reconciliation")
+                .description("Stale PENDING payments re-checked with the gateway, by outcome")
+                .withRegistry(meterRegistry);
+
+        this.idempotencyCounter = Counter.builder(METRIC_PREFIX + ".idempotency.requests")
+                .description("Requests carrying an Idempotency-Key, by outcome")
+                .withRegistry(meterRegistry);
+
+        this.holdToPaymentTimer = Timer.builder(METRIC_PREFIX + ".hold.to.payment")
+                .description("Time from seat hold to payment intent creation")
+                .publishPercentileHistogram(histograms)
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry);
+
+        this.paymentToConfirmTimer = Timer.builder(METRIC_PREFIX + ".payment.to.confirm")
+                .description("Time from payment intent creation to confirmed booking")
+                .publishPercentileHistogram(histograms)
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry);
+
+        this.expiredHoldsSummary = DistributionSummary.builder(METRIC_PREFIX + ".holds.expired")
+                .description("Reservations expired per hold expiry sweep")
+                .baseUnit("reservations")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a hold attempt. The timer count per outcome gives attempts,
+     * successes and conflicts.
+     */
+    public void recordHold(final UUID showtimeId, final HoldOutcome outcome, final long nanos) {
+        recordHold(showtimeId, outcome, NO_EXCEPTION, nanos);
+    }
+
+    /**
+     * Record a hold attempt that failed unexpectedly.
+     *
+     * @param exception Simple name of the exception, or "rollback" when the
+     *                  transaction did not commit
+     */
+    public void recordHoldError(final UUID showtimeId, final String exception, final long nanos) {
+        recordHold(showtimeId, HoldOutcome.ERROR, exception, nanos);
+    }
+
+    /**
+     * Record the wait for SELECT ... FOR UPDATE on the requested seats.
+     */
+    public void recordLockWait(final UUID showtimeId, final long nanos) {
+        lockWaitTimer.withTags(SHOWTIME_TAG, showtimeTag(showtimeId))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHoldToPayment(final Duration duration) {
+        holdToPaymentTimer.record(duration);
+    }
+
+    public void recordPaymentToConfirm(final Duration duration) {
+        paymentToConfirmTimer.record(duration);
+    }
+
+    /**
+     * Record a payment gateway call.
+     *
+     * @param operation Gateway operation, e.g. create_intent
+     * @param success   Whether the call returned normally
+     * @param nanos     Call duration
+     */
+    public void recordGatewayCall(final String operation, final boolean success, final long nanos) {
+        gatewayTimer.withTags("operation", operation, "outcome", success ? "success" : "error")
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a payment gateway call made inside a transaction, during which
+     * the transaction's pooled connection could not serve anyone else.
+     */
+    public void recordConnectionIdleDuringGatewayCall(final String operation, final long nanos) {
+        gatewayConnectionIdleTimer.withTags("operation", operation)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a reconciled payment.
+     *
+     * @param outcome Resulting payment status, or "error"
+     */
+    public void recordReconciliation(final String outcome) {
+        reconciliationCounter.withTags("outcome", outcome.toLowerCase(Locale.ROOT)).increment();
+    }
+
+    /**
+     * Record a request carrying an Idempotency-Key.
+     *
+     * @param outcome executed, replayed, in_progress or mismatch
+     */
+    public void recordIdempotentRequest(final String outcome) {
+        idempotencyCounter.withTags("outcome", outcome).increment();
+    }
+
+    /**
+     * Record one expiry sweep; empty sweeps are recorded too.
+     */
+    public void recordExpiredHolds(final int expired) {
+        expiredHoldsSummary.record(expired);
+    }
+
+    public void recordSeatMapRender(final UUID showtimeId, final SeatStorageMode storageMode, final long nanos) {
+        seatMapTimer.withTags(
+                SHOWTIME_TAG, showtimeTag(showtimeId),
+                "storage_mode", storageMode.name().toLowerCase(Locale.ROOT))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void recordHold(final UUID showtimeId, final HoldOutcome outcome, final String exception, final long nanos) {
+        holdTimer.withTags(
+                SHOWTIME_TAG, showtimeTag(showtimeId),
+                "outcome", outcome.name().toLowerCase(Locale.ROOT),
+                "exception", exception)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private String showtimeTag(final UUID showtimeId) {
+        return showtimeId != null && properties.getHotShowtimes().contains(showtimeId)
+                ? showtimeId.toString()
+                : OTHER_SHOWTIME;
+    }
+}
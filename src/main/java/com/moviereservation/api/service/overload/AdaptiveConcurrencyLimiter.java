@@ -0,0 +1,151 @@
+package com.moviereservation.api.service.overload;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.config.ConcurrencyLimitProperties;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Gradient based concurrency limit on in-flight requests.
+ *
+ * Each completed request compares its latency with a long-term average.
+ * While latency stays within rtt-tolerance of the average the limit grows
+ * by about sqrt(limit) per estimate; once it rises beyond that, the limit
+ * shrinks in proportion (at most halving per estimate), so queues in the
+ * database stop growing instead of turning into timeouts. Requests over
+ * the limit are rejected at once. Estimates are smoothed, and samples taken
+ * while less than half the limit was in use are ignored, since latency
+ * then says nothing about capacity. Latency that stays high becomes the
+ * new average within about long-window requests.
+ *
+ * Lower priorities only get a share of the limit, so new holds are shed
+ * before payments that complete bookings.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final String METRIC_PREFIX = BookingMetrics.METRIC_PREFIX + ".concurrency";
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Meter.MeterProvider<Counter> rejectedCounter;
+
+    private volatile double limit;
+
+    // Guarded by this
+    private double longRttNanos;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(final ConcurrencyLimitProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+
+        Gauge.builder(METRIC_PREFIX + ".limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit on in-flight booking requests")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".inflight", inFlight, AtomicInteger::get)
+                .description("Booking requests in flight")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Booking requests shed by the concurrency limit, by priority")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Take a slot for a request.
+     *
+     * @return Permit to release when the request completes, or empty if the
+     *         request must be shed
+     */
+    public Optional<Permit> tryAcquire(final RequestPriority priority) {
+        final int allowed = Math.max(1, (int) (limit * share(priority)));
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= allowed) {
+                rejectedCounter.withTags("priority", priority.name().toLowerCase(Locale.ROOT)).increment();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        return Optional.of(new Permit(current + 1));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Slot held by an admitted request.
+     */
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /**
+         * Release the slot and feed the request's latency to the limit.
+         *
+         * @param rttNanos Request duration
+         * @param failed   Whether the request failed on the server side;
+         *                 failures never let the limit grow
+         */
+        public void release(final long rttNanos, final boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                inFlight.decrementAndGet();
+                onSample(rttNanos, inFlightAtStart, failed);
+            }
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private double share(final RequestPriority priority) {
+        return switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> properties.getNormalShare();
+            case SHEDDABLE -> properties.getSheddableShare();
+        };
+    }
+
+    private synchronized void onSample(final long rttNanos, final int inFlightAtStart, final boolean failed) {
+        final double rtt = Math.max(1, rttNanos);
+        samples++;
+        longRttNanos += samples <= WARMUP_SAMPLES
+                ? (rtt - longRttNanos) / samples
+                : (rtt - longRttNanos) * 2 / (properties.getLongWindow() + 1);
+
+        if (longRttNanos / rtt > 2) {
+            // Load dropped well below the long-term average; let the baseline catch up
+            longRttNanos *= 0.95;
+        }
+        if (!failed && inFlightAtStart < limit / 2) {
+            return;
+        }
+
+        final double gradient = Math.clamp(properties.getRttTolerance() * longRttNanos / rtt, 0.5, 1.0);
+        final double headroom = failed ? 0 : Math.sqrt(limit);
+        final double estimate = limit * gradient + headroom;
+        final double smoothed = limit * (1 - properties.getSmoothing()) + estimate * properties.getSmoothing();
+        limit = Math.clamp(smoothed, properties.getMinLimit(), properties.getMaxLimit());
+    }
+}
@@ -0,0 +1,17 @@
+package com.moviereservation.api.service.overload;
+
+/**
+ * Priority of a request under the adaptive concurrency limit.
+ * Lower priorities may only use a share of the limit, so they are shed first.
+ */
+public enum RequestPriority {
+
+    /** Payment intents and webhooks: completes bookings already holding seats. */
+    CRITICAL,
+
+    /** Reads and cancellations of existing reservations. */
+    NORMAL,
+
+    /** New seat holds. */
+    SHEDDABLE
+}
@@ -0,0 +1,94 @@
+package com.moviereservation.api.service.payment;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process {@link PaymentGateway} that never takes real payments.
+ * For load tests and local runs only; an optional latency simulates
+ * the provider round trip. Payments are completed by feeding the
+ * returned intent ID to PaymentService.processWebhookEvent; intents
+ * report PENDING to reconciliation until {@link #markPaid} is called,
+ * so the reconciler never confirms a payment nobody made.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payment.gateway", havingValue = "fake")
+@Slf4j
+public class FakePaymentGateway implements PaymentGateway {
+
+    private final Duration latency;
+    private final Set<String> paidIntentIds = ConcurrentHashMap.newKeySet();
+
+    public FakePaymentGateway(@Value("${app.payment.fake.latency:0ms}") final Duration latency) {
+        this.latency = latency;
+        log.warn("Fake payment gateway active - no real payments will be taken");
+    }
+
+    @Override
+    public GatewayPaymentIntent createPaymentIntent(
+            final long amount,
+            final String currency,
+            final String description,
+            final Map<String, String> metadata,
+            final String idempotencyKey) {
+
+        simulateLatency();
+        // Derived from the key, so a repeated call returns the same intent
+        final String id = "pi_fake_" + UUID.nameUUIDFromBytes(idempotencyKey.getBytes(StandardCharsets.UTF_8))
+                .toString().replace("-", "");
+        return new GatewayPaymentIntent(id, id + "_secret_fake");
+    }
+
+    @Override
+    public String getLatestChargeId(final String paymentIntentId) {
+        simulateLatency();
+        return "ch_fake_" + paymentIntentId.substring(paymentIntentId.length() - 12);
+    }
+
+    @Override
+    public GatewayIntentStatus getPaymentIntentStatus(final String paymentIntentId) {
+        simulateLatency();
+        return paidIntentIds.contains(paymentIntentId) ? GatewayIntentStatus.SUCCEEDED : GatewayIntentStatus.PENDING;
+    }
+
+    /**
+     * Record that the customer paid the intent, as the provider would
+     * before sending the success webhook.
+     */
+    public void markPaid(final String paymentIntentId) {
+        paidIntentIds.add(paymentIntentId);
+    }
+
+    @Override
+    public String refund(final String paymentIntentId, final Map<String, String> metadata,
+            final String idempotencyKey) {
+        simulateLatency();
+        // Derived from the key, so a repeated call returns the same refund
+        return "re_fake_" + UUID.nameUUIDFromBytes(idempotencyKey.getBytes(StandardCharsets.UTF_8))
+                .toString().replace("-", "");
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void simulateLatency() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("Interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.moviereservation.api.service.payment;
+
+/**
+ * Payment intent status as reported by the payment gateway,
+ * reduced to what decides a payment's outcome.
+ */
+public enum GatewayIntentStatus {
+    /** Customer has not finished paying yet. */
+    PENDING,
+    SUCCEEDED,
+    /** Last payment attempt was declined. */
+    FAILED,
+    CANCELED
+}
@@ -0,0 +1,7 @@
+package com.moviereservation.api.service.payment;
+
+/**
+ * Payment intent as returned by the payment gateway.
+ */
+public record GatewayPaymentIntent(String id, String clientSecret) {
+}
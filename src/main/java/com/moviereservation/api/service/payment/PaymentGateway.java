@@ -0,0 +1,51 @@
+package com.moviereservation.api.service.payment;
+
+import java.util.Map;
+
+/**
+ * Abstraction over the external payment provider.
+ * Stripe in production; a fake implementation can be selected with
+ * app.payment.gateway=fake for load tests and local runs.
+ */
+public interface PaymentGateway {
+
+    /**
+     * Create a payment intent.
+     *
+     * @param amount      Amount in the smallest currency unit
+     * @param currency    ISO currency code (lowercase)
+     * @param description Statement description
+     * @param metadata       Metadata attached to the intent
+     * @param idempotencyKey Repeating a call with the same key returns the
+     *                       intent created by the first one
+     * @return Created intent ID and client secret
+     * @throws PaymentGatewayException if the provider call fails
+     */
+    GatewayPaymentIntent createPaymentIntent(long amount, String currency, String description,
+            Map<String, String> metadata, String idempotencyKey);
+
+    /**
+     * Get the latest charge ID of a payment intent, or null if none.
+     *
+     * @throws PaymentGatewayException if the provider call fails
+     */
+    String getLatestChargeId(String paymentIntentId);
+
+    /**
+     * Get the current status of a payment intent.
+     * Used to reconcile payments whose webhook never arrived.
+     *
+     * @throws PaymentGatewayException if the provider call fails
+     */
+    GatewayIntentStatus getPaymentIntentStatus(String paymentIntentId);
+
+    /**
+     * Refund a payment intent in full.
+     *
+     * @param idempotencyKey Repeating a call with the same key returns the
+     *                       refund created by the first one
+     * @return Refund ID
+     * @throws PaymentGatewayException if the provider call fails
+     */
+    String refund(String paymentIntentId, Map<String, String> metadata, String idempotencyKey);
+}
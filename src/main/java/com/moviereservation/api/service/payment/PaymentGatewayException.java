@@ -0,0 +1,27 @@
+package com.moviereservation.api.service.payment;
+
+import lombok.Getter;
+
+/**
+ * Failure talking to the payment provider.
+ * Translated to PaymentException by PaymentService.
+ */
+@Getter
+public class PaymentGatewayException extends RuntimeException {
+
+    /**
+     * Whether the provider itself failed (unreachable, 5xx, rate limited),
+     * as opposed to rejecting the request. Only provider failures count
+     * towards opening the payment gateway circuit breaker.
+     */
+    private final boolean providerFailure;
+
+    public PaymentGatewayException(final String message, final Throwable cause) {
+        this(message, cause, true);
+    }
+
+    public PaymentGatewayException(final String message, final Throwable cause, final boolean providerFailure) {
+        super(message, cause);
+        this.providerFailure = providerFailure;
+    }
+}
@@ -0,0 +1,141 @@
+package com.moviereservation.api.service.payment;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.config.PaymentReconciliationProperties;
+import com.moviereservation.api.domain.enums.PaymentStatus;
+import com.moviereservation.api.repository.PaymentReconciliationRepository;
+import com.moviereservation.api.repository.PaymentReconciliationRepository.StalePayment;
+import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+import com.moviereservation.api.service.resilience.DependencyGuard;
+import com.moviereservation.api.service.resilience.ExternalDependency;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Re-checks PENDING payments whose webhook never arrived.
+ *
+ * Each run claims a batch of stale payments, looks up their intents with
+ * the gateway concurrently (bounded by the configured concurrency) and
+ * applies the results through PaymentService.reconcile one by one, so the
+ * database work stays on the calling thread and its workload pool. Claims
+ * use SKIP LOCKED, so any number of nodes can run the reconciler.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReconciler {
+
+    private static final String OUTCOME_ERROR = "error";
+
+    private final PaymentReconciliationRepository reconciliationRepository;
+    private final PaymentGateway paymentGateway;
+    private final PaymentService paymentService;
+    private final BookingMetrics bookingMetrics;
+    private final PaymentReconciliationProperties properties;
+    private final DependencyGuard dependencyGuard;
+
+    /**
+     * Reconcile one batch of stale payments (called by scheduled task).
+     *
+     * @return Number of payments checked
+     */
+    public int reconcileStalePayments() throws InterruptedException {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        if (dependencyGuard.state(ExternalDependency.PAYMENT_GATEWAY) == CircuitBreaker.State.OPEN) {
+            return 0; // Leave the payments unclaimed until the gateway recovers
+        }
+
+        final Instant now = Instant.now();
+        final List<StalePayment> payments = reconciliationRepository.claimStalePayments(
+                now.minus(properties.getStaleAfter()),
+                now.minus(properties.getRecheckInterval()),
+                properties.getBatchSize());
+        if (payments.isEmpty()) {
+            return 0;
+        }
+
+        final List<Future<GatewayIntentStatus>> statuses = lookUpStatuses(payments);
+        for (int i = 0; i < payments.size(); i++) {
+            apply(payments.get(i), statuses.get(i));
+        }
+
+        log.info("Reconciled {} stale payments", payments.size());
+        return payments.size();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Fetch intent statuses concurrently; waits for all lookups to finish.
+     */
+    private List<Future<GatewayIntentStatus>> lookUpStatuses(final List<StalePayment> payments)
+            throws InterruptedException {
+        final Semaphore inFlight = new Semaphore(properties.getConcurrency());
+        final List<Future<GatewayIntentStatus>> statuses = new ArrayList<>(payments.size());
+
+        try (ExecutorService lookups = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final StalePayment payment : payments) {
+                inFlight.acquire();
+                statuses.add(lookups.submit(() -> {
+                    try {
+                        return lookUpStatus(payment.paymentIntentId());
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+        return statuses;
+    }
+
+    private GatewayIntentStatus lookUpStatus(final String paymentIntentId) {
+        return dependencyGuard.call(ExternalDependency.PAYMENT_GATEWAY, () -> {
+            final long start = System.nanoTime();
+            boolean success = false;
+            try {
+                final GatewayIntentStatus status = paymentGateway.getPaymentIntentStatus(paymentIntentId);
+                success = true;
+                return status;
+            } finally {
+                bookingMetrics.recordGatewayCall("get_intent_status", success, System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Apply one lookup result. Failures are left for the next check.
+     */
+    private void apply(final StalePayment payment, final Future<GatewayIntentStatus> status) {
+        if (status.state() != Future.State.SUCCESS) {
+            bookingMetrics.recordReconciliation(OUTCOME_ERROR);
+            log.warn("Failed to look up PaymentIntent {}: {}",
+                    payment.paymentIntentId(), status.exceptionNow().getMessage());
+            return;
+        }
+
+        try {
+            final PaymentStatus result = paymentService.reconcile(payment.paymentId(), status.resultNow());
+            bookingMetrics.recordReconciliation(result.name());
+            if (result != PaymentStatus.PENDING) {
+                log.info("Reconciled PaymentIntent {}: {}", payment.paymentIntentId(), result);
+            }
+        } catch (final RuntimeException e) {
+            bookingMetrics.recordReconciliation(OUTCOME_ERROR);
+            log.warn("Failed to reconcile PaymentIntent {}", payment.paymentIntentId(), e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.moviereservation.api.service.payment;
+
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.RateLimitException;
+import com.stripe.exception.StripeException;
+import com.stripe.model.PaymentIntent;
+import com.stripe.model.Refund;
+import com.stripe.net.RequestOptions;
+import com.stripe.param.PaymentIntentCreateParams;
+import com.stripe.param.RefundCreateParams;
+
+/**
+ * Stripe implementation of {@link PaymentGateway}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.payment.gateway", havingValue = "stripe", matchIfMissing = true)
+public class StripePaymentGateway implements PaymentGateway {
+
+    @Override
+    public GatewayPaymentIntent createPaymentIntent(
+            final long amount,
+            final String currency,
+            final String description,
+            final Map<String, String> metadata,
+            final String idempotencyKey) {
+
+        final PaymentIntentCreateParams params = PaymentIntentCreateParams.builder()
+                .setAmount(amount)
+                .setCurrency(currency)
+                .setDescription(description)
+                .putAllMetadata(metadata)
+                .setAutomaticPaymentMethods(
+                        PaymentIntentCreateParams.AutomaticPaymentMethods.builder()
+                                .setEnabled(true)
+                                .build())
+                .build();
+
+        try {
+            final PaymentIntent paymentIntent = PaymentIntent.create(params, RequestOptions.builder()
+                    .setIdempotencyKey(idempotencyKey)
+                    .build());
+            return new GatewayPaymentIntent(paymentIntent.getId(), paymentIntent.getClientSecret());
+        } catch (final StripeException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public String getLatestChargeId(final String paymentIntentId) {
+        try {
+            return PaymentIntent.retrieve(paymentIntentId).getLatestCharge();
+        } catch (final StripeException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public GatewayIntentStatus getPaymentIntentStatus(final String paymentIntentId) {
+        try {
+            final PaymentIntent paymentIntent = PaymentIntent.retrieve(paymentIntentId);
+            return switch (paymentIntent.getStatus()) {
+                case "succeeded" -> GatewayIntentStatus.SUCCEEDED;
+                case "canceled" -> GatewayIntentStatus.CANCELED;
+                // Back to requires_payment_method after a declined attempt
+                case "requires_payment_method" -> paymentIntent.getLastPaymentError() != null
+                        ? GatewayIntentStatus.FAILED
+                        : GatewayIntentStatus.PENDING;
+                default -> GatewayIntentStatus.PENDING;
+            };
+        } catch (final StripeException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public String refund(final String paymentIntentId, final Map<String, String> metadata,
+            final String idempotencyKey) {
+        final RefundCreateParams params = RefundCreateParams.builder()
+                .setPaymentIntent(paymentIntentId)
+                .setReason(RefundCreateParams.Reason.REQUESTED_BY_CUSTOMER)
+                .putAllMetadata(metadata)
+                .build();
+
+        try {
+            return Refund.create(params, RequestOptions.builder()
+                    .setIdempotencyKey(idempotencyKey)
+                    .build()).getId();
+        } catch (final StripeException e) {
+            throw translate(e);
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Wrap a Stripe error, marking outages (no response, 5xx, rate limited)
+     * as provider failures.
+     */
+    private static PaymentGatewayException translate(final StripeException e) {
+        final Integer statusCode = e.getStatusCode();
+        final boolean providerFailure = e instanceof ApiConnectionException
+                || e instanceof RateLimitException
+                || statusCode == null
+                || statusCode >= 500;
+        return new PaymentGatewayException(e.getMessage(), e, providerFailure);
+    }
+}
@@ -0,0 +1,22 @@
+package com.moviereservation.api.service.querybudget;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements one request to a controller endpoint may run.
+ *
+ * On a handler method it applies to that endpoint; on a controller class
+ * it applies to every endpoint without its own. A request that runs more
+ * statements is reported by the query budget filter, and fails in tests.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int value();
+}
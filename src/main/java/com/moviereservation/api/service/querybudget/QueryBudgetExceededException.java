@@ -0,0 +1,13 @@
+package com.moviereservation.api.service.querybudget;
+
+/**
+ * A request ran more SQL statements than its endpoint's budget, with
+ * app.query-budget.fail-on-exceed set. Meant to fail tests, not to reach
+ * clients.
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(final String message) {
+        super(message);
+    }
+}
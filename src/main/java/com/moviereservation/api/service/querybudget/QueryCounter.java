@@ -0,0 +1,92 @@
+package com.moviereservation.api.service.querybudget;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Per-thread count of the SQL statements run inside an open scope.
+ *
+ * Statements are counted only while a scope is open, so threads outside a
+ * sampled request pay for a single ThreadLocal read per statement.
+ */
+@UtilityClass
+public class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting on this thread. Close the scope on the same thread.
+     */
+    public static Scope open() {
+        final Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Count a statement in the open scope and the scopes enclosing it.
+     */
+    public static void record(final String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.add(sql);
+        }
+    }
+
+    /**
+     * A statement fingerprint and how often it ran.
+     */
+    public record Fingerprint(String sql, int count) {
+    }
+
+    /**
+     * Statements counted since the scope was opened.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> statements = new HashMap<>();
+        private int count;
+
+        private Scope(final Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Most frequent statements, grouped by fingerprint so an N+1 shows
+         * up as one line with its repeat count.
+         */
+        public List<Fingerprint> topFingerprints(final int limit) {
+            final Map<String, Integer> fingerprints = new HashMap<>();
+            statements.forEach((sql, times) -> fingerprints.merge(SqlFingerprint.of(sql), times, Integer::sum));
+            return fingerprints.entrySet().stream()
+                    .map(entry -> new Fingerprint(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingInt(Fingerprint::count).reversed())
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+
+        private void add(final String sql) {
+            count++;
+            // Hibernate reuses the same SQL string per query, so this stays small;
+            // fingerprints are only computed when a scope is reported
+            statements.merge(sql, 1, Integer::sum);
+        }
+    }
+}
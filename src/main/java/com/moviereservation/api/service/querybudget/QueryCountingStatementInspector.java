@@ -0,0 +1,15 @@
+package com.moviereservation.api.service.querybudget;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares in the current {@link QueryCounter} scope.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(final String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
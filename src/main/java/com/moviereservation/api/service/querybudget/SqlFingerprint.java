@@ -0,0 +1,30 @@
+package com.moviereservation.api.service.querybudget;
+
+import java.util.regex.Pattern;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Normalized form of a SQL statement, for grouping repeated statements.
+ *
+ * Literals become ?, IN lists of any length become (?...), and whitespace
+ * is collapsed, so the statements of an N+1 loop share one fingerprint.
+ */
+@UtilityClass
+public class SqlFingerprint {
+
+    private static final int MAX_LENGTH = 300;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public static String of(final String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = PARAMETER_LIST.matcher(fingerprint).replaceAll("(?...)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ").strip();
+        return fingerprint.length() > MAX_LENGTH ? fingerprint.substring(0, MAX_LENGTH) + "..." : fingerprint;
+    }
+}
@@ -0,0 +1,275 @@
+package com.moviereservation.api.service.reference;
+
+import java.nio.CharBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.repository.ReservationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates booking references that are unique without a database round trip.
+ *
+ * A reference is 8 Crockford base32 characters (0-9, A-Z without I, L, O, U),
+ * so it satisfies chk_reservations_booking_reference. The first 7 characters
+ * encode 35 bits:
+ *
+ * <pre>
+ * | minutes since 2025-01-01 (24 bits) | node id (3 bits) | sequence (8 bits) |
+ * </pre>
+ *
+ * and the 8th is a check character. Since the alphabet is in ASCII order,
+ * references sort by creation time, and new ones land at the right edge of
+ * the unique index instead of at random pages.
+ *
+ * Each node issues strictly increasing values. When a node issues more than
+ * 256 references in one minute it borrows the following minutes and catches
+ * up once the burst is over; bursts cost nothing but a little time accuracy.
+ * On startup the node continues after the newest reference it issued, so a
+ * restart during a burst cannot reuse values.
+ *
+ * Limits of the layout: at most 8 instances (node ids 0-7) may issue
+ * references at the same time, and each sustains 256 references per minute
+ * (about 4 per second). Above that rate the borrowed minutes pile up, and
+ * after a day ahead a restart may no longer see them when seeding. Running
+ * more instances or a higher sustained rate needs a wider node or sequence
+ * field, i.e. a longer reference. The time field lasts until 2056.
+ */
+@Component
+@Slf4j
+public class BookingReferenceGenerator {
+
+    public static final int LENGTH = 8;
+    public static final int MAX_NODE_ID = 7;
+
+    static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    private static final int DATA_LENGTH = LENGTH - 1;
+    private static final int BITS_PER_CHAR = 5;
+    private static final int NODE_BITS = 3;
+    private static final int SEQUENCE_BITS = 8;
+    private static final int TIME_BITS = DATA_LENGTH * BITS_PER_CHAR - NODE_BITS - SEQUENCE_BITS;
+    private static final long MAX_MINUTE = (1L << TIME_BITS) - 1;
+    // x^5 + x^2 + 1, a primitive polynomial for GF(32) check characters
+    private static final int CHECK_POLYNOMIAL = 0b100101;
+    // Check character modulus before the GF(32) check; only read when seeding
+    private static final int LEGACY_CHECK_MODULUS = 31;
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    // Legacy and foreign references decoding further ahead than this are ignored when seeding
+    private static final Duration MAX_SEED_AHEAD = Duration.ofDays(1);
+
+    private static final int[] CHAR_VALUES = new int[128];
+
+    static {
+        Arrays.fill(CHAR_VALUES, -1);
+        for (int i = 0; i < ALPHABET.length(); i++) {
+            CHAR_VALUES[ALPHABET.charAt(i)] = i;
+        }
+    }
+
+    private final Clock clock;
+    private final int nodeId;
+    private final ReservationRepository reservationRepository;
+
+    // Last issued (minute << SEQUENCE_BITS | sequence)
+    private final AtomicLong lastIssued = new AtomicLong(-1);
+
+    // Set once lastIssued continues after the references of the last day
+    private volatile boolean seeded;
+
+    @Autowired
+    public BookingReferenceGenerator(
+            @Value("${app.booking-reference.node-id:0}") final int nodeId,
+            final ReservationRepository reservationRepository) {
+        this(Clock.systemUTC(), nodeId, reservationRepository);
+    }
+
+    /**
+     * Standalone generator, not seeded from the database.
+     */
+    public BookingReferenceGenerator(final Clock clock, final int nodeId) {
+        this(clock, nodeId, null);
+    }
+
+    private BookingReferenceGenerator(
+            final Clock clock,
+            final int nodeId,
+            final ReservationRepository reservationRepository) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "Booking reference node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.clock = clock;
+        this.nodeId = nodeId;
+        this.reservationRepository = reservationRepository;
+        this.seeded = reservationRepository == null;
+    }
+
+    /**
+     * Seed from the last day's reservations once the application is up,
+     * instead of querying the database while beans are created. A booking
+     * taken before that seeds first.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Workload(WorkloadType.BACKGROUND)
+    public void seedFromRecentReservations() {
+        ensureSeeded();
+    }
+
+    /**
+     * Issue the next booking reference of this node.
+     */
+    public String next() {
+        if (!seeded) {
+            ensureSeeded();
+        }
+
+        final long nowValue = currentMinute() << SEQUENCE_BITS;
+        final long issued = lastIssued.accumulateAndGet(nowValue, (last, now) -> Math.max(last + 1, now));
+
+        final long minute = issued >>> SEQUENCE_BITS;
+        if (minute > MAX_MINUTE) {
+            throw new IllegalStateException("Booking reference time range exhausted");
+        }
+        final long sequence = issued & ((1L << SEQUENCE_BITS) - 1);
+        return encode((minute << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence);
+    }
+
+    /**
+     * Continue after the newest of the given references issued by this node.
+     * References of other nodes, legacy formats and values too far ahead are ignored.
+     *
+     * @param references Recently issued references
+     */
+    public void seed(final Collection<String> references) {
+        final long maxMinute = currentMinute() + MAX_SEED_AHEAD.toMinutes();
+        final long floor = references.stream()
+                .filter(reference -> isValid(reference) || hasLegacyCheck(reference))
+                .mapToLong(BookingReferenceGenerator::decode)
+                .filter(value -> nodeOf(value) == nodeId && minuteOf(value) <= maxMinute)
+                .map(value -> minuteOf(value) << SEQUENCE_BITS | (value & ((1L << SEQUENCE_BITS) - 1)))
+                .max()
+                .orElse(-1);
+
+        lastIssued.accumulateAndGet(floor, Math::max);
+        log.info("Booking reference generator started (node {}, continuing after minute {})",
+                nodeId, floor >= 0 ? floor >>> SEQUENCE_BITS : "none");
+    }
+
+    /**
+     * Whether the reference has the generator's format and a correct check character.
+     */
+    public static boolean isValid(final String reference) {
+        return hasFormat(reference) && ALPHABET.charAt(checksum(reference)) == reference.charAt(DATA_LENGTH);
+    }
+
+    /**
+     * Creation time of a reference, to the minute.
+     */
+    public static Instant issuedAt(final String reference) {
+        return EPOCH.plus(Duration.ofMinutes(minuteOf(decode(reference))));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private synchronized void ensureSeeded() {
+        if (!seeded) {
+            seed(reservationRepository.findBookingReferencesCreatedAfter(clock.instant().minus(MAX_SEED_AHEAD)));
+            seeded = true;
+        }
+    }
+
+    private long currentMinute() {
+        return Duration.between(EPOCH, clock.instant()).toMinutes();
+    }
+
+    private static String encode(final long value) {
+        final char[] chars = new char[LENGTH];
+        long remaining = value;
+        for (int i = DATA_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (remaining & (ALPHABET.length() - 1)));
+            remaining >>>= BITS_PER_CHAR;
+        }
+        chars[DATA_LENGTH] = ALPHABET.charAt(checksum(CharBuffer.wrap(chars, 0, DATA_LENGTH)));
+        return new String(chars);
+    }
+
+    private static long decode(final String reference) {
+        long value = 0;
+        for (int i = 0; i < DATA_LENGTH; i++) {
+            value = (value << BITS_PER_CHAR) | valueOf(reference.charAt(i));
+        }
+        return value;
+    }
+
+    private static boolean hasFormat(final String reference) {
+        if (reference == null || reference.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (valueOf(reference.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The data characters as a polynomial over GF(32), evaluated at x.
+     * Every character can come out, and any single wrong character or swap
+     * of two different neighbours changes the result.
+     */
+    private static int checksum(final CharSequence reference) {
+        int check = 0;
+        for (int i = 0; i < DATA_LENGTH; i++) {
+            check = timesX(check) ^ valueOf(reference.charAt(i));
+        }
+        return check;
+    }
+
+    private static int timesX(final int value) {
+        final int shifted = value << 1;
+        return shifted >= ALPHABET.length() ? shifted ^ CHECK_POLYNOMIAL : shifted;
+    }
+
+    /**
+     * Check character of references issued before the GF(32) check. Can go
+     * once none of them is younger than MAX_SEED_AHEAD.
+     */
+    private static boolean hasLegacyCheck(final String reference) {
+        if (!hasFormat(reference)) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < DATA_LENGTH; i++) {
+            sum += (i + 1) * valueOf(reference.charAt(i));
+        }
+        return ALPHABET.charAt(sum % LEGACY_CHECK_MODULUS) == reference.charAt(DATA_LENGTH);
+    }
+
+    private static int valueOf(final char c) {
+        return c < CHAR_VALUES.length ? CHAR_VALUES[c] : -1;
+    }
+
+    private static long minuteOf(final long value) {
+        return value >>> (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    private static int nodeOf(final long value) {
+        return (int) ((value >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
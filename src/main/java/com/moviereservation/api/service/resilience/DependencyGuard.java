@@ -0,0 +1,118 @@
+package com.moviereservation.api.service.resilience;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.config.ResilienceProperties;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Runs calls to external dependencies through a bulkhead and a circuit breaker.
+ *
+ * The bulkhead caps the threads one dependency can tie up, so a degraded
+ * provider cannot starve request handling. The circuit breaker opens once
+ * failed or slow calls cross their thresholds within the sliding window;
+ * while open, calls are rejected at once, and after open-duration a few
+ * probe calls decide whether it closes again. Rejected calls throw
+ * {@link DependencyUnavailableException}; callers decide the fallback.
+ */
+@Component
+public class DependencyGuard {
+
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final Map<ExternalDependency, Guard> guards = new EnumMap<>(ExternalDependency.class);
+
+    public DependencyGuard(
+            final ResilienceProperties properties,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry) {
+        register(ExternalDependency.PAYMENT_GATEWAY, properties.getPaymentGateway(),
+                circuitBreakerRegistry, bulkheadRegistry);
+        register(ExternalDependency.MAIL, properties.getMail(),
+                circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    /**
+     * Call a dependency.
+     *
+     * @throws DependencyUnavailableException if the call was rejected without being made
+     */
+    public <T> T call(final ExternalDependency dependency, final Supplier<T> call) {
+        final Guard guard = guards.get(dependency);
+        try {
+            return Bulkhead.decorateSupplier(guard.bulkhead(),
+                    CircuitBreaker.decorateSupplier(guard.circuitBreaker(), call))
+                    .get();
+        } catch (final CallNotPermittedException e) {
+            throw new DependencyUnavailableException(dependency, guard.openDuration(), e);
+        } catch (final BulkheadFullException e) {
+            throw new DependencyUnavailableException(dependency, BULKHEAD_RETRY_AFTER, e);
+        }
+    }
+
+    /**
+     * Call a dependency for its side effect.
+     *
+     * @throws DependencyUnavailableException if the call was rejected without being made
+     */
+    public void run(final ExternalDependency dependency, final Runnable call) {
+        call(dependency, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Current circuit breaker state of a dependency.
+     */
+    public CircuitBreaker.State state(final ExternalDependency dependency) {
+        return guards.get(dependency).circuitBreaker().getState();
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private void register(
+            final ExternalDependency dependency,
+            final ResilienceProperties.Dependency settings,
+            final CircuitBreakerRegistry circuitBreakerRegistry,
+            final BulkheadRegistry bulkheadRegistry) {
+
+        final CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.getSlidingWindowSize())
+                .minimumNumberOfCalls(settings.getMinimumCalls())
+                .failureRateThreshold(settings.getFailureRateThreshold())
+                .slowCallDurationThreshold(settings.getSlowCallThreshold())
+                .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+                .waitDurationInOpenState(settings.getOpenDuration())
+                .permittedNumberOfCallsInHalfOpenState(settings.getHalfOpenCalls())
+                .recordException(dependency.failure())
+                .build();
+
+        final BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+                .maxWaitDuration(settings.getMaxWait())
+                .build();
+
+        guards.put(dependency, new Guard(
+                circuitBreakerRegistry.circuitBreaker(dependency.id(), circuitBreakerConfig),
+                bulkheadRegistry.bulkhead(dependency.id(), bulkheadConfig),
+                settings.getOpenDuration()));
+    }
+
+    private record Guard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, Duration openDuration) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.moviereservation.api.service.resilience;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * A call to an external dependency was rejected without being made,
+ * because its circuit is open or its bulkhead is full.
+ */
+@Getter
+public class DependencyUnavailableException extends RuntimeException {
+
+    private final ExternalDependency dependency;
+
+    /** Suggested wait before calling again. */
+    private final Duration retryAfter;
+
+    public DependencyUnavailableException(
+            final ExternalDependency dependency,
+            final Duration retryAfter,
+            final Throwable cause) {
+        super(dependency.id() + " unavailable: " + cause.getMessage(), cause);
+        this.dependency = dependency;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,44 @@
+package com.moviereservation.api.service.resilience;
+
+import java.util.function.Predicate;
+
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+
+import com.moviereservation.api.service.payment.PaymentGatewayException;
+
+/**
+ * External systems guarded by {@link DependencyGuard}.
+ */
+public enum ExternalDependency {
+
+    /** Payment provider; requests it rejects (declined, invalid) are not failures. */
+    PAYMENT_GATEWAY("payment-gateway",
+            e -> !(e instanceof PaymentGatewayException gateway) || gateway.isProviderFailure()),
+
+    /** SMTP server; messages we failed to build are not failures. */
+    MAIL("mail",
+            e -> !(e instanceof MailPreparationException || e instanceof MailParseException));
+
+    private final String id;
+    private final Predicate<Throwable> failure;
+
+    ExternalDependency(final String id, final Predicate<Throwable> failure) {
+        this.id = id;
+        this.failure = failure;
+    }
+
+    /**
+     * Circuit breaker and bulkhead name, also used as the metrics tag.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Whether an exception thrown by a call counts as a dependency failure.
+     */
+    public Predicate<Throwable> failure() {
+        return failure;
+    }
+}
@@ -3,8 +3,16 @@ package com.moviereservation.api.service.scheduled;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
+import com.moviereservation.api.service.EmailService;
 import com.moviereservation.api.service.ReservationService;
 import com.moviereservation.api.service.ShowtimeService;
+import com.moviereservation.api.service.cancellation.ShowtimeCancellationJobRunner;
+import com.moviereservation.api.service.idempotency.IdempotencyService;
+import com.moviereservation.api.service.payment.PaymentReconciler;
+import com.moviereservation.api.service.screen.ScreenScheduleIndex;
+import com.moviereservation.api.service.waitingroom.WaitingRoomService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,15 +22,26 @@ import lombok.extern.slf4j.Slf4j;
  * Handles periodic operations like:
  * - Releasing expired seat holds
  * - Marking completed showtimes
+ * - Admitting users from waiting rooms
+ * - Resuming showtime cancellation jobs and sending queued emails
+ * - Reconciling payments whose webhook never arrived
+ * - Purging expired idempotency keys
  * - Cleanup operations
  */
 @Service
+@Workload(WorkloadType.BACKGROUND)
 @RequiredArgsConstructor
 @Slf4j
 public class ScheduledTasksService {
 
     private final ReservationService reservationService;
     private final ShowtimeService showtimeService;
+    private final WaitingRoomService waitingRoomService;
+    private final ScreenScheduleIndex screenScheduleIndex;
+    private final ShowtimeCancellationJobRunner cancellationJobRunner;
+    private final EmailService emailService;
+    private final PaymentReconciler paymentReconciler;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Release expired seat holds.
@@ -63,6 +82,103 @@ public class ScheduledTasksService {
         }
     }
 
+    /**
+     * Admit the next users from each waiting room.
+     * Runs every app.waiting-room.tick-interval (default 1 second).
+     */
+    @Scheduled(fixedDelayString = "${app.waiting-room.tick-interval:1s}")
+    public void admitWaitingRoomUsers() {
+        try {
+            waitingRoomService.admitWaitingUsers();
+        } catch (final Exception e) {
+            log.error("Error admitting waiting room users", e);
+        }
+    }
+
+    /**
+     * Reload high-demand showtimes, picking up new showtimes of flagged movies.
+     * Runs every 30 seconds.
+     */
+    @Scheduled(fixedRate = 30_000) // Every 30 seconds
+    public void refreshHighDemandShowtimes() {
+        try {
+            waitingRoomService.refreshHighDemandShowtimes();
+        } catch (final Exception e) {
+            log.error("Error refreshing high-demand showtimes", e);
+        }
+    }
+
+    /**
+     * Rebuild the screen schedule index from the database, picking up
+     * showtimes changed on other nodes.
+     * Runs every 5 minutes.
+     */
+    @Scheduled(fixedRate = 300_000) // Every 5 minutes
+    public void refreshScreenScheduleIndex() {
+        try {
+            screenScheduleIndex.reload();
+        } catch (final Exception e) {
+            log.error("Error refreshing screen schedule index", e);
+        }
+    }
+
+    /**
+     * Resume showtime cancellation jobs whose node stopped, e.g. after a restart.
+     * Runs every 1 minute.
+     */
+    @Scheduled(fixedRate = 60_000) // Every 60 seconds
+    public void resumeCancellationJobs() {
+        try {
+            cancellationJobRunner.resumeStalledJobs();
+        } catch (final Exception e) {
+            log.error("Error resuming cancellation jobs", e);
+        }
+    }
+
+    /**
+     * Send queued emails, such as refund notifications of cancelled showtimes.
+     * Runs every 30 seconds.
+     */
+    @Scheduled(fixedRate = 30_000) // Every 30 seconds
+    public void sendQueuedEmails() {
+        try {
+            emailService.sendQueuedEmails();
+        } catch (final Exception e) {
+            log.error("Error sending queued emails", e);
+        }
+    }
+
+    /**
+     * Re-check stale PENDING payments with the payment gateway.
+     * Runs every 30 seconds, so a lost webhook is caught before the seat hold expires.
+     */
+    @Scheduled(fixedRate = 30_000) // Every 30 seconds
+    public void reconcilePayments() {
+        try {
+            paymentReconciler.reconcileStalePayments();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            log.error("Error reconciling payments", e);
+        }
+    }
+
+    /**
+     * Delete idempotency keys past their TTL.
+     * Runs every 1 hour.
+     */
+    @Scheduled(fixedRate = 3_600_000) // Every hour
+    public void purgeExpiredIdempotencyKeys() {
+        try {
+            final int purged = idempotencyService.purgeExpired();
+            if (purged > 0) {
+                log.info("Purged {} expired idempotency keys", purged);
+            }
+        } catch (final Exception e) {
+            log.error("Error purging idempotency keys", e);
+        }
+    }
+
     /**
      * Cleanup old data (optional).
      * Runs daily at 2 AM.
@@ -0,0 +1,11 @@
+package com.moviereservation.api.service.screen;
+
+import java.time.Instant;
+
+/**
+ * Free time on a screen, long enough for the requested movie.
+ *
+ * @param latestStartTime Latest start that still ends (buffer included) within the gap
+ */
+public record FreeSlot(short screenNumber, Instant startTime, Instant endTime, Instant latestStartTime) {
+}
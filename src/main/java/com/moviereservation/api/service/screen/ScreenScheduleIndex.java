@@ -0,0 +1,264 @@
+package com.moviereservation.api.service.screen;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.repository.ShowtimeRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory schedule of every screen: the upcoming showtimes that are not
+ * deleted, ordered by start time. Cancelled showtimes stay indexed, since
+ * they keep their screen time in showtimes_no_overlap until deleted.
+ *
+ * Showtimes on a screen never overlap (showtimes_no_overlap), so each
+ * screen is a sorted map of disjoint intervals: a conflict check is one
+ * O(log n) lookup plus the overlapping slots, and free time is the space
+ * between neighbours.
+ *
+ * ShowtimeService applies its own changes after commit. Changes made on
+ * other nodes show up with the periodic reload; until then the exclusion
+ * constraint still rejects overlaps, so the index only speeds up checks
+ * and never is the last word. A reload is merged into the live index
+ * under the same lock as those changes, keeping the ones committed while
+ * it read the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScreenScheduleIndex {
+
+    private final ShowtimeRepository showtimeRepository;
+
+    private final Map<Short, ScreenSchedule> screens = new ConcurrentHashMap<>();
+
+    // Guards changes to screens and changedDuringReload
+    private final Object changeLock = new Object();
+
+    // Showtimes changed on this node while a reload reads the database; null otherwise
+    private Set<UUID> changedDuringReload;
+
+    /**
+     * Rebuild from the database. Runs on startup and periodically.
+     */
+    @PostConstruct
+    public synchronized void reload() {
+        synchronized (changeLock) {
+            changedDuringReload = new HashSet<>();
+        }
+
+        final List<ScreenSlot> slots;
+        try {
+            slots = showtimeRepository.findScreenSlotsEndingAfter(Instant.now());
+        } catch (final RuntimeException e) {
+            synchronized (changeLock) {
+                changedDuringReload = null;
+            }
+            throw e;
+        }
+
+        synchronized (changeLock) {
+            final Map<Short, ScreenSchedule> loaded = new HashMap<>();
+            slots.stream()
+                    .filter(slot -> !changedDuringReload.contains(slot.showtimeId()))
+                    .forEach(slot -> loaded.computeIfAbsent(slot.screenNumber(), _ -> new ScreenSchedule()).put(slot));
+
+            // Changes committed while loading are newer than what was read
+            screens.values().stream()
+                    .flatMap(schedule -> schedule.slotsOf(changedDuringReload).stream())
+                    .forEach(slot -> loaded.computeIfAbsent(slot.screenNumber(), _ -> new ScreenSchedule()).put(slot));
+
+            screens.keySet().retainAll(loaded.keySet());
+            screens.putAll(loaded);
+            changedDuringReload = null;
+
+            log.debug("Screen schedule index loaded with {} showtimes on {} screens", slots.size(), loaded.size());
+        }
+    }
+
+    /**
+     * The first indexed showtime overlapping [startTime, endTime) on the screen.
+     *
+     * @param excludeShowtimeId Showtime being moved, ignored; null for a new showtime
+     */
+    public Optional<ScreenSlot> findConflict(
+            final short screenNumber,
+            final Instant startTime,
+            final Instant endTime,
+            final UUID excludeShowtimeId) {
+
+        final ScreenSchedule schedule = screens.get(screenNumber);
+        return schedule != null
+                ? schedule.findConflict(startTime, endTime, excludeShowtimeId)
+                : Optional.empty();
+    }
+
+    /**
+     * Gaps of at least minLength between from and to on the screen.
+     */
+    public List<FreeSlot> findFreeSlots(
+            final short screenNumber,
+            final Instant from,
+            final Instant to,
+            final Duration minLength) {
+
+        final ScreenSchedule schedule = screens.get(screenNumber);
+        final List<ScreenSlot> occupied = schedule != null ? schedule.between(from, to) : List.of();
+
+        final List<FreeSlot> freeSlots = new ArrayList<>();
+        Instant cursor = from;
+        for (final ScreenSlot slot : occupied) {
+            addIfLongEnough(freeSlots, screenNumber, cursor, slot.startTime(), minLength);
+            if (slot.endTime().isAfter(cursor)) {
+                cursor = slot.endTime();
+            }
+        }
+        addIfLongEnough(freeSlots, screenNumber, cursor, to, minLength);
+        return freeSlots;
+    }
+
+    /**
+     * Index the showtime's current state once the transaction commits.
+     * Deleted showtimes are removed.
+     */
+    public void update(final Showtime showtime) {
+        final UUID showtimeId = showtime.getId();
+        if (showtime.getDeletedAt() != null) {
+            remove(showtimeId);
+            return;
+        }
+
+        final ScreenSlot slot = new ScreenSlot(
+                showtimeId, showtime.getScreenNumber(), showtime.getStartTime(), showtime.getEndTime());
+        afterCommit(() -> apply(showtimeId, slot));
+    }
+
+    /**
+     * Drop the showtime from the index once the transaction commits.
+     */
+    public void remove(final UUID showtimeId) {
+        afterCommit(() -> apply(showtimeId, null));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * Move the showtime to its new slot, or drop it when slot is null.
+     */
+    private void apply(final UUID showtimeId, final ScreenSlot slot) {
+        synchronized (changeLock) {
+            screens.values().forEach(schedule -> schedule.remove(showtimeId));
+            if (slot != null) {
+                screens.computeIfAbsent(slot.screenNumber(), _ -> new ScreenSchedule()).put(slot);
+            }
+            if (changedDuringReload != null) {
+                changedDuringReload.add(showtimeId);
+            }
+        }
+    }
+
+    private static void addIfLongEnough(
+            final List<FreeSlot> freeSlots,
+            final short screenNumber,
+            final Instant start,
+            final Instant end,
+            final Duration minLength) {
+
+        if (Duration.between(start, end).compareTo(minLength) >= 0) {
+            freeSlots.add(new FreeSlot(screenNumber, start, end, end.minus(minLength)));
+        }
+    }
+
+    private static void afterCommit(final Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    /**
+     * Disjoint slots of one screen by start time.
+     */
+    private static final class ScreenSchedule {
+
+        private final TreeMap<Instant, ScreenSlot> byStart = new TreeMap<>();
+        private final Map<UUID, ScreenSlot> byId = new HashMap<>();
+
+        synchronized void put(final ScreenSlot slot) {
+            remove(slot.showtimeId());
+            byStart.put(slot.startTime(), slot);
+            byId.put(slot.showtimeId(), slot);
+        }
+
+        synchronized void remove(final UUID showtimeId) {
+            final ScreenSlot slot = byId.remove(showtimeId);
+            if (slot != null) {
+                byStart.remove(slot.startTime(), slot);
+            }
+        }
+
+        synchronized List<ScreenSlot> slotsOf(final Set<UUID> showtimeIds) {
+            return showtimeIds.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        /**
+         * Walk back from the last slot starting before endTime. Slots are
+         * disjoint, so end times fall too, and the walk stops at the first
+         * slot ending at or before startTime.
+         */
+        synchronized Optional<ScreenSlot> findConflict(
+                final Instant startTime,
+                final Instant endTime,
+                final UUID excludeShowtimeId) {
+
+            for (var entry = byStart.lowerEntry(endTime); entry != null; entry = byStart.lowerEntry(entry.getKey())) {
+                final ScreenSlot slot = entry.getValue();
+                if (!slot.endTime().isAfter(startTime)) {
+                    break;
+                }
+                if (!slot.showtimeId().equals(excludeShowtimeId)) {
+                    return Optional.of(slot);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Slots overlapping [from, to) in start order.
+         */
+        synchronized List<ScreenSlot> between(final Instant from, final Instant to) {
+            final Instant first = byStart.floorKey(from);
+            return byStart.subMap(first != null ? first : from, true, to, false).values().stream()
+                    .filter(slot -> slot.endTime().isAfter(from))
+                    .toList();
+        }
+    }
+}
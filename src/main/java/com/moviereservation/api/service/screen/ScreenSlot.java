@@ -0,0 +1,10 @@
+package com.moviereservation.api.service.screen;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Time a showtime occupies its screen, buffer included.
+ */
+public record ScreenSlot(UUID showtimeId, Short screenNumber, Instant startTime, Instant endTime) {
+}
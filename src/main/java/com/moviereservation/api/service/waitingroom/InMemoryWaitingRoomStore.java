@@ -0,0 +1,157 @@
+package com.moviereservation.api.service.waitingroom;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.domain.enums.QueueTicketStatus;
+
+/**
+ * Waiting room queues held in memory. Fair per node only: with several
+ * nodes each one meters its own users, so use the database store there.
+ *
+ * Tickets are numbered per showtime and only ever leave a queue from the
+ * head, so a position is the distance to the head's number.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.waiting-room", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryWaitingRoomStore implements WaitingRoomStore {
+
+    private final Map<UUID, ShowtimeQueue> queues = new ConcurrentHashMap<>();
+    private final Map<UUID, Ticket> tickets = new ConcurrentHashMap<>();
+
+    @Override
+    public QueueTicket join(final UUID showtimeId, final UUID userId, final Instant now) {
+        final ShowtimeQueue queue = queues.computeIfAbsent(showtimeId, _ -> new ShowtimeQueue());
+        synchronized (queue) {
+            final Ticket existing = queue.byUser.get(userId);
+            if (existing != null && !existing.isExpired(now)) {
+                return queue.snapshot(existing);
+            }
+            if (existing != null) {
+                tickets.remove(existing.token);
+            }
+
+            final Ticket ticket = new Ticket(UUID.randomUUID(), showtimeId, userId, queue.nextSequence++);
+            queue.waiting.addLast(ticket);
+            queue.byUser.put(userId, ticket);
+            tickets.put(ticket.token, ticket);
+            return queue.snapshot(ticket);
+        }
+    }
+
+    @Override
+    public Optional<QueueTicket> find(final UUID token, final Instant now) {
+        final Ticket ticket = tickets.get(token);
+        if (ticket == null) {
+            return Optional.empty();
+        }
+
+        final ShowtimeQueue queue = queues.get(ticket.showtimeId);
+        synchronized (queue) {
+            return ticket.isExpired(now) ? Optional.empty() : Optional.of(queue.snapshot(ticket));
+        }
+    }
+
+    @Override
+    public int admit(final UUID showtimeId, final int limit, final Instant now, final Instant expiresAt) {
+        final ShowtimeQueue queue = queues.get(showtimeId);
+        if (queue == null) {
+            return 0;
+        }
+
+        synchronized (queue) {
+            int admitted = 0;
+            while (admitted < limit && !queue.waiting.isEmpty()) {
+                final Ticket ticket = queue.waiting.pollFirst();
+                ticket.status = QueueTicketStatus.ADMITTED;
+                ticket.admittedAt = now;
+                ticket.expiresAt = expiresAt;
+                admitted++;
+            }
+            return admitted;
+        }
+    }
+
+    @Override
+    public Set<UUID> showtimesWithWaiters() {
+        final Set<UUID> showtimeIds = new HashSet<>();
+        queues.forEach((showtimeId, queue) -> {
+            synchronized (queue) {
+                if (!queue.waiting.isEmpty()) {
+                    showtimeIds.add(showtimeId);
+                }
+            }
+        });
+        return showtimeIds;
+    }
+
+    @Override
+    public int purgeExpired(final Instant now) {
+        int purged = 0;
+        for (final ShowtimeQueue queue : queues.values()) {
+            synchronized (queue) {
+                final var iterator = queue.byUser.values().iterator();
+                while (iterator.hasNext()) {
+                    final Ticket ticket = iterator.next();
+                    if (ticket.isExpired(now)) {
+                        iterator.remove();
+                        tickets.remove(ticket.token);
+                        purged++;
+                    }
+                }
+            }
+        }
+        return purged;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    /**
+     * One showtime's queue; guarded by its own monitor.
+     */
+    private static final class ShowtimeQueue {
+        private final Deque<Ticket> waiting = new ArrayDeque<>();
+        private final Map<UUID, Ticket> byUser = new HashMap<>();
+        private long nextSequence;
+
+        private QueueTicket snapshot(final Ticket ticket) {
+            final long position = ticket.status == QueueTicketStatus.WAITING
+                    ? ticket.sequence - waiting.peekFirst().sequence + 1
+                    : 0;
+            return new QueueTicket(ticket.token, ticket.showtimeId, ticket.userId, ticket.status,
+                    position, null, ticket.admittedAt, ticket.expiresAt);
+        }
+    }
+
+    private static final class Ticket {
+        private final UUID token;
+        private final UUID showtimeId;
+        private final UUID userId;
+        private final long sequence;
+        private QueueTicketStatus status = QueueTicketStatus.WAITING;
+        private Instant admittedAt;
+        private Instant expiresAt;
+
+        private Ticket(final UUID token, final UUID showtimeId, final UUID userId, final long sequence) {
+            this.token = token;
+            this.showtimeId = showtimeId;
+            this.userId = userId;
+            this.sequence = sequence;
+        }
+
+        private boolean isExpired(final Instant now) {
+            return status == QueueTicketStatus.ADMITTED && !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.moviereservation.api.service.waitingroom;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.moviereservation.api.config.WaitingRoomProperties;
+import com.moviereservation.api.domain.enums.QueueTicketStatus;
+import com.moviereservation.api.domain.id.UuidV7Generator;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Waiting room queues in the waiting_room_tickets table, shared by all nodes.
+ *
+ * Every node runs the admission tick. A transaction-scoped advisory lock per
+ * showtime lets one node admit at a time, and the node subtracts admissions
+ * made by others within the last tick, so the admission rate holds for the
+ * whole cluster rather than per node.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.waiting-room", name = "store", havingValue = "database")
+@RequiredArgsConstructor
+public class JdbcWaitingRoomStore implements WaitingRoomStore {
+
+    private static final String SELECT_TICKET = """
+            SELECT t.ticket_id, t.showtime_id, t.user_id, t.status, t.admitted_at, t.expires_at,
+                   CASE WHEN t.status = 'WAITING' THEN
+                       (SELECT COUNT(*) + 1 FROM waiting_room_tickets w
+                        WHERE w.showtime_id = t.showtime_id
+                          AND w.status = 'WAITING'
+                          AND w.queue_number < t.queue_number)
+                   ELSE 0 END AS position
+            FROM waiting_room_tickets t
+            """;
+
+    private static final String NOT_EXPIRED = " AND (t.status = 'WAITING' OR t.expires_at > ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WaitingRoomProperties properties;
+
+    @Override
+    @Transactional
+    public QueueTicket join(final UUID showtimeId, final UUID userId, final Instant now) {
+        final Timestamp nowTs = Timestamp.from(now);
+
+        jdbcTemplate.update("""
+                DELETE FROM waiting_room_tickets
+                WHERE showtime_id = ? AND user_id = ? AND status = 'ADMITTED' AND expires_at <= ?
+                """, showtimeId, userId, nowTs);
+        jdbcTemplate.update("""
+                INSERT INTO waiting_room_tickets (ticket_id, showtime_id, user_id)
+                VALUES (?, ?, ?)
+                ON CONFLICT (showtime_id, user_id) DO NOTHING
+                """, UuidV7Generator.next(), showtimeId, userId);
+
+        return jdbcTemplate.queryForObject(
+                SELECT_TICKET + " WHERE t.showtime_id = ? AND t.user_id = ?",
+                (rs, _) -> mapTicket(rs), showtimeId, userId);
+    }
+
+    @Override
+    public Optional<QueueTicket> find(final UUID token, final Instant now) {
+        return jdbcTemplate.query(
+                SELECT_TICKET + " WHERE t.ticket_id = ?" + NOT_EXPIRED,
+                (rs, _) -> mapTicket(rs), token, Timestamp.from(now))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    @Transactional
+    public int admit(final UUID showtimeId, final int limit, final Instant now, final Instant expiresAt) {
+        final Boolean locked = jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?::text))", Boolean.class, showtimeId);
+        if (!Boolean.TRUE.equals(locked)) {
+            return 0; // Another node is admitting this showtime
+        }
+
+        final Integer recentlyAdmitted = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM waiting_room_tickets
+                WHERE showtime_id = ? AND status = 'ADMITTED' AND admitted_at > ?
+                """, Integer.class, showtimeId, Timestamp.from(now.minus(properties.getTickInterval())));
+        final int permits = limit - (recentlyAdmitted != null ? recentlyAdmitted : 0);
+        if (permits <= 0) {
+            return 0;
+        }
+
+        return jdbcTemplate.update("""
+                UPDATE waiting_room_tickets
+                SET status = 'ADMITTED', admitted_at = ?, expires_at = ?
+                WHERE ticket_id IN (
+                    SELECT ticket_id FROM waiting_room_tickets
+                    WHERE showtime_id = ? AND status = 'WAITING'
+                    ORDER BY queue_number
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                """, Timestamp.from(now), Timestamp.from(expiresAt), showtimeId, permits);
+    }
+
+    @Override
+    public Set<UUID> showtimesWithWaiters() {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT showtime_id FROM waiting_room_tickets WHERE status = 'WAITING'",
+                UUID.class));
+    }
+
+    @Override
+    public int purgeExpired(final Instant now) {
+        return jdbcTemplate.update(
+                "DELETE FROM waiting_room_tickets WHERE status = 'ADMITTED' AND expires_at <= ?",
+                Timestamp.from(now));
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static QueueTicket mapTicket(final ResultSet rs) throws SQLException {
+        return new QueueTicket(
+                rs.getObject("ticket_id", UUID.class),
+                rs.getObject("showtime_id", UUID.class),
+                rs.getObject("user_id", UUID.class),
+                QueueTicketStatus.valueOf(rs.getString("status")),
+                rs.getLong("position"),
+                null,
+                toInstant(rs.getTimestamp("admitted_at")),
+                toInstant(rs.getTimestamp("expires_at")));
+    }
+
+    private static Instant toInstant(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
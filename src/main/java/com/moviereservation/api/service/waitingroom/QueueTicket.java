@@ -0,0 +1,34 @@
+package com.moviereservation.api.service.waitingroom;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.moviereservation.api.domain.enums.QueueTicketStatus;
+
+/**
+ * A user's place in a showtime's waiting room.
+ *
+ * @param token         Ticket token, sent back as the waiting room header
+ * @param position      1-based queue position while WAITING, 0 once admitted
+ * @param estimatedWait Expected wait until admission, zero once admitted
+ * @param expiresAt     End of the admission window, null while WAITING
+ */
+public record QueueTicket(
+        UUID token,
+        UUID showtimeId,
+        UUID userId,
+        QueueTicketStatus status,
+        long position,
+        Duration estimatedWait,
+        Instant admittedAt,
+        Instant expiresAt) {
+
+    public boolean isAdmitted() {
+        return status == QueueTicketStatus.ADMITTED;
+    }
+
+    public QueueTicket withEstimatedWait(final Duration wait) {
+        return new QueueTicket(token, showtimeId, userId, status, position, wait, admittedAt, expiresAt);
+    }
+}
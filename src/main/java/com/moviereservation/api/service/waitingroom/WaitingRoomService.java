@@ -0,0 +1,164 @@
+package com.moviereservation.api.service.waitingroom;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.moviereservation.api.config.WaitingRoomProperties;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.enums.ShowtimeStatus;
+import com.moviereservation.api.exception.InvalidShowtimeException;
+import com.moviereservation.api.exception.QueueTicketNotFoundException;
+import com.moviereservation.api.exception.WaitingRoomRequiredException;
+import com.moviereservation.api.repository.ShowtimeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admission control for high-demand showtimes.
+ *
+ * A showtime is high-demand when it or its movie is flagged by an admin.
+ * Users join the showtime's queue and are admitted at the showtime's
+ * admission rate; only admitted users get to the seat map and booking
+ * endpoints, so the seat locking path sees a bounded arrival rate instead
+ * of the whole on-sale spike.
+ *
+ * The set of high-demand showtimes is kept in memory and refreshed
+ * periodically, so checks on ordinary showtimes cost no database access.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomService {
+
+    private final WaitingRoomStore store;
+    private final ShowtimeRepository showtimeRepository;
+    private final WaitingRoomProperties properties;
+
+    // Showtime ID -> admissions per second
+    private volatile Map<UUID, Integer> admissionRates = Map.of();
+
+    /**
+     * Reload the high-demand showtimes and their admission rates.
+     * Called on startup, periodically and after an admin changes a flag.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshHighDemandShowtimes() {
+        admissionRates = showtimeRepository.findHighDemandShowtimes(Instant.now(), ShowtimeStatus.SCHEDULED)
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(Showtime::getId, this::admissionRate));
+        log.debug("Waiting room active for {} showtime(s)", admissionRates.size());
+    }
+
+    public boolean isHighDemand(final UUID showtimeId) {
+        return admissionRates.containsKey(showtimeId);
+    }
+
+    /**
+     * Join the waiting room of a high-demand showtime.
+     * Joining again returns the user's existing ticket.
+     *
+     * @throws InvalidShowtimeException if the showtime has no waiting room
+     */
+    public QueueTicket join(final UUID showtimeId, final UUID userId) {
+        if (!isHighDemand(showtimeId)) {
+            throw new InvalidShowtimeException("Showtime does not require a waiting room: " + showtimeId);
+        }
+
+        final QueueTicket ticket = store.join(showtimeId, userId, Instant.now());
+        log.debug("User {} in waiting room of showtime {} at position {}", userId, showtimeId, ticket.position());
+        return withEstimatedWait(ticket);
+    }
+
+    /**
+     * Get a user's ticket with its current position and estimated wait.
+     *
+     * @throws QueueTicketNotFoundException if the ticket does not exist, has expired or is not the user's
+     */
+    public QueueTicket getTicket(final UUID token, final UUID userId) {
+        return store.find(token, Instant.now())
+                .filter(ticket -> ticket.userId().equals(userId))
+                .map(this::withEstimatedWait)
+                .orElseThrow(() -> new QueueTicketNotFoundException(token.toString()));
+    }
+
+    /**
+     * Reject the request unless the showtime is ordinary or the token is an
+     * admitted ticket of the requesting user for it. Tickets are issued to
+     * signed-in users only, so anonymous requests to high-demand showtimes
+     * are rejected: a token alone would let anyone reuse a shared one.
+     *
+     * @param userId Requesting user, null for anonymous requests
+     * @param token  Waiting room token, null if none was sent
+     * @throws WaitingRoomRequiredException if admission is required and missing
+     */
+    public void requireAdmission(final UUID showtimeId, final UUID userId, final UUID token) {
+        if (!isHighDemand(showtimeId)) {
+            return;
+        }
+
+        if (userId == null) {
+            throw new WaitingRoomRequiredException(
+                    "Showtime is in high demand. Sign in, join the waiting room and retry once admitted.");
+        }
+
+        final boolean admitted = token != null && store.find(token, Instant.now())
+                .filter(ticket -> ticket.showtimeId().equals(showtimeId))
+                .filter(ticket -> ticket.userId().equals(userId))
+                .filter(QueueTicket::isAdmitted)
+                .isPresent();
+
+        if (!admitted) {
+            throw new WaitingRoomRequiredException(
+                    "Showtime is in high demand. Join the waiting room and retry once admitted.");
+        }
+    }
+
+    /**
+     * Admit the next users of every queue and drop expired admissions.
+     * Queues of showtimes that are no longer high-demand are admitted in full.
+     */
+    public void admitWaitingUsers() {
+        final Instant now = Instant.now();
+        final Instant expiresAt = now.plus(properties.getAdmissionWindow());
+
+        for (final UUID showtimeId : store.showtimesWithWaiters()) {
+            final Integer rate = admissionRates.get(showtimeId);
+            final int limit = rate != null ? permitsPerTick(rate) : Integer.MAX_VALUE;
+
+            final int admitted = store.admit(showtimeId, limit, now, expiresAt);
+            if (admitted > 0) {
+                log.debug("Admitted {} user(s) to showtime {}", admitted, showtimeId);
+            }
+        }
+
+        final int purged = store.purgeExpired(now);
+        if (purged > 0) {
+            log.debug("Purged {} expired waiting room admission(s)", purged);
+        }
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private int admissionRate(final Showtime showtime) {
+        return showtime.getAdmissionRate() != null
+                ? showtime.getAdmissionRate()
+                : properties.getAdmissionRate();
+    }
+
+    private int permitsPerTick(final int rate) {
+        return (int) Math.max(1, Math.round(rate * properties.getTickInterval().toMillis() / 1000.0));
+    }
+
+    private QueueTicket withEstimatedWait(final QueueTicket ticket) {
+        final int rate = admissionRates.getOrDefault(ticket.showtimeId(), properties.getAdmissionRate());
+        return ticket.withEstimatedWait(Duration.ofMillis(ticket.position() * 1000 / rate));
+    }
+}
@@ -0,0 +1,40 @@
+package com.moviereservation.api.service.waitingroom;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * FIFO queues of users waiting for a showtime, one queue per showtime.
+ * Admitted tickets whose admission window has passed are treated as gone.
+ */
+public interface WaitingRoomStore {
+
+    /**
+     * Put a user at the end of the showtime's queue. Joining again returns
+     * the user's current ticket instead of a new place in the queue.
+     */
+    QueueTicket join(UUID showtimeId, UUID userId, Instant now);
+
+    Optional<QueueTicket> find(UUID token, Instant now);
+
+    /**
+     * Admit up to limit users from the head of the showtime's queue.
+     *
+     * @return Number of users admitted
+     */
+    int admit(UUID showtimeId, int limit, Instant now, Instant expiresAt);
+
+    /**
+     * Showtimes that currently have users waiting.
+     */
+    Set<UUID> showtimesWithWaiters();
+
+    /**
+     * Drop admitted tickets whose admission window ended.
+     *
+     * @return Number of tickets removed
+     */
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,69 @@
+package com.moviereservation.api.web.actuator;
+
+import java.time.Duration;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import com.moviereservation.api.service.diagnostics.JfrRecordingService;
+import com.moviereservation.api.service.diagnostics.JfrRecordingService.RecordingStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator endpoint controlling the JFR booking recording (admin only).
+ *
+ * GET  /actuator/jfr          recording status
+ * POST /actuator/jfr/start    start, optional body {"settings": "profile", "maxAge": "1h"}
+ * POST /actuator/jfr/dump     write a snapshot to the dump directory
+ * POST /actuator/jfr/stop     write a final dump and stop
+ * GET  /actuator/jfr/{file}   download a dump
+ */
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class JfrEndpoint {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    @ReadOperation
+    public RecordingStatus status() {
+        return jfrRecordingService.status();
+    }
+
+    @WriteOperation
+    public RecordingStatus control(
+            @Selector final String action,
+            @Nullable final String settings,
+            @Nullable final Duration maxAge) {
+
+        try {
+            return switch (action) {
+                case "start" -> jfrRecordingService.start(settings, maxAge);
+                case "dump" -> jfrRecordingService.dump();
+                case "stop" -> jfrRecordingService.stop();
+                default -> throw new InvalidEndpointRequestException(
+                        "Unknown action: " + action, "Action must be start, dump or stop");
+            };
+        } catch (final IllegalArgumentException | IllegalStateException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> download(@Selector final String file) {
+        try {
+            return new WebEndpointResponse<>(new FileSystemResource(jfrRecordingService.resolveDump(file)));
+        } catch (final IllegalArgumentException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+    }
+}
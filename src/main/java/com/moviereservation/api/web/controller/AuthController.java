@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.User;
 import com.moviereservation.api.service.AuthService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.request.user.CreateUserRequest;
 import com.moviereservation.api.web.dto.request.user.LoginRequest;
 import com.moviereservation.api.web.dto.response.user.AuthResponse;
@@ -27,6 +28,7 @@ import lombok.RequiredArgsConstructor;
  * Public access - no authentication required.
  */
 @RestController
+@QueryBudget(5)
 @RequestMapping(Route.AUTH)
 @Tag(name = "Authentication", description = "User registration and login endpoints")
 @RequiredArgsConstructor
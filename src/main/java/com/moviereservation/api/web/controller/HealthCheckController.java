@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +24,7 @@ import lombok.RequiredArgsConstructor;
  * Provides detailed health information beyond standard actuator health.
  */
 @RestController
+@QueryBudget(2)
 @RequestMapping(Route.API_V1)
 @Tag(name = "Health Check", description = "System health and status endpoints")
 @RequiredArgsConstructor
@@ -11,7 +11,9 @@ import org.springframework.web.bind.annotation.*;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.Movie;
 import com.moviereservation.api.domain.enums.MovieStatus;
+import com.moviereservation.api.repository.projection.MovieSummary;
 import com.moviereservation.api.service.MovieService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.request.PagedFilterRequest;
 import com.moviereservation.api.web.dto.request.movie.MovieFilterRequest;
 import com.moviereservation.api.web.dto.response.movie.MovieCustomerResponse;
@@ -29,6 +31,7 @@ import lombok.RequiredArgsConstructor;
  * Only shows ACTIVE and COMING_SOON movies.
  */
 @RestController
+@QueryBudget(3)
 @RequestMapping(Route.MOVIES)
 @Tag(name = "Movies (Customer)", description = "Browse movies - ACTIVE and COMING_SOON only")
 @RequiredArgsConstructor
@@ -49,7 +52,7 @@ public class MovieController {
         Pageable pageable = request.toPageable();
         MovieFilterRequest filters = request.getFiltersOrEmpty(MovieFilterRequest::new);
 
-        Page<Movie> movies = movieService.findAllForCustomer(pageable, filters);
+        Page<MovieSummary> movies = movieService.findAllForCustomer(pageable, filters);
         PagedResponse<MovieCustomerResponse> response = PagedResponse.of(movies, movieMapper::toCustomerResponse);
 
         return ResponseEntity.ok(
@@ -90,7 +93,7 @@ public class MovieController {
                 .statuses(List.of(MovieStatus.ACTIVE))
                 .build();
 
-        Page<Movie> movies = movieService.findAllForCustomer(pageable, activeFilter);
+        Page<MovieSummary> movies = movieService.findAllForCustomer(pageable, activeFilter);
         PagedResponse<MovieCustomerResponse> response = PagedResponse.of(movies, movieMapper::toCustomerResponse);
         return ResponseEntity.ok(
                 ApiResponse.success("Now showing movies retrieved successfully", response));
@@ -113,7 +116,7 @@ public class MovieController {
                 .statuses(List.of(MovieStatus.COMING_SOON))
                 .build();
 
-        Page<Movie> movies = movieService.findAllForCustomer(pageable, comingSoonFilter);
+        Page<MovieSummary> movies = movieService.findAllForCustomer(pageable, comingSoonFilter);
 
         PagedResponse<MovieCustomerResponse> response = PagedResponse.of(movies, movieMapper::toCustomerResponse);
         return ResponseEntity.ok(
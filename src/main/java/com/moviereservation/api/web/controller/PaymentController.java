@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.security.UserPrincipal;
 import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,6 +44,7 @@ public class PaymentController {
      * @return Client secret for Stripe
      */
     @PostMapping("/create-intent/{reservationId}")
+    @QueryBudget(10)
     @Operation(summary = "Create payment intent", description = "Initiates Stripe payment for a PENDING_PAYMENT reservation. "
             +
             "Returns client secret for Stripe.js to complete payment on frontend.")
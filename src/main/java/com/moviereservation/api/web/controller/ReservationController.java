@@ -10,10 +10,15 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.constant.SecurityConstants;
 import com.moviereservation.api.domain.entities.Reservation;
+import com.moviereservation.api.repository.projection.ReservationSummary;
 import com.moviereservation.api.security.UserPrincipal;
 import com.moviereservation.api.service.ReservationService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.waitingroom.WaitingRoomService;
 import com.moviereservation.api.web.dto.request.PagedFilterRequest;
+import com.moviereservation.api.web.dto.request.reservation.CreateBestAvailableReservationRequest;
 import com.moviereservation.api.web.dto.request.reservation.CreateReservationRequest;
 import com.moviereservation.api.web.dto.request.reservation.ReservationFilterRequest;
 import com.moviereservation.api.web.dto.response.reservation.ReservationCustomerResponse;
@@ -33,6 +38,7 @@ import lombok.RequiredArgsConstructor;
  * Users can only view and manage their own reservations.
  */
 @RestController
+@QueryBudget(6)
 @RequestMapping(Route.RESERVATIONS)
 @Tag(name = "Reservations (Customer)", description = "Manage your own reservations")
 @SecurityRequirement(name = "bearerAuth")
@@ -41,20 +47,25 @@ public class ReservationController {
 
         private final ReservationService reservationService;
         private final ReservationMapper reservationMapper;
+        private final WaitingRoomService waitingRoomService;
 
         /**
          * Create a new reservation (book seats).
          * Seats are held for 5 minutes pending payment.
+         * High-demand showtimes require an admitted waiting room token.
          */
         @PostMapping
+        @QueryBudget(20)
         @Operation(summary = "Create reservation", description = "Book seats for a showtime. Seats will be held for 5 minutes pending payment. "
                         +
                         "Returns PENDING_PAYMENT status with booking reference.")
         public ResponseEntity<ApiResponse<ReservationCustomerResponse>> createReservation(
                         @Valid @RequestBody final CreateReservationRequest request,
+                        @RequestHeader(name = SecurityConstants.WAITING_ROOM_TOKEN_HEADER, required = false) final UUID waitingRoomToken,
                         @AuthenticationPrincipal final UserPrincipal principal) {
 
                 final UUID userId = principal.getUserId();
+                waitingRoomService.requireAdmission(request.getShowtimeId(), userId, waitingRoomToken);
                 final Reservation reservation = reservationService.create(userId, request);
 
                 return ResponseEntity.status(HttpStatus.CREATED)
@@ -63,6 +74,30 @@ public class ReservationController {
                                                 reservationMapper.toCustomerResponse(reservation)));
         }
 
+        /**
+         * Create a reservation for the best available adjacent seats.
+         * The server picks and holds the seats; no seat IDs needed.
+         */
+        @PostMapping("/best-available")
+        @QueryBudget(30)
+        @Operation(summary = "Create reservation for best available seats", description = "Book the best available block of adjacent seats "
+                        +
+                        "(optionally of one seat type). Seats will be held for 5 minutes pending payment.")
+        public ResponseEntity<ApiResponse<ReservationCustomerResponse>> createBestAvailableReservation(
+                        @Valid @RequestBody final CreateBestAvailableReservationRequest request,
+                        @RequestHeader(name = SecurityConstants.WAITING_ROOM_TOKEN_HEADER, required = false) final UUID waitingRoomToken,
+                        @AuthenticationPrincipal final UserPrincipal principal) {
+
+                final UUID userId = principal.getUserId();
+                waitingRoomService.requireAdmission(request.getShowtimeId(), userId, waitingRoomToken);
+                final Reservation reservation = reservationService.createBestAvailable(userId, request);
+
+                return ResponseEntity.status(HttpStatus.CREATED)
+                                .body(ApiResponse.success(
+                                                "Reservation created successfully. Complete payment within 5 minutes.",
+                                                reservationMapper.toCustomerResponse(reservation)));
+        }
+
         /**
          * Get all user's own reservations with filters.
          * Automatically scoped to authenticated user.
@@ -79,7 +114,7 @@ public class ReservationController {
                 final ReservationFilterRequest filters = request.getFiltersOrEmpty(ReservationFilterRequest::new);
                 final UUID userId = principal.getUserId();
 
-                final Page<Reservation> reservations = reservationService.findAllForCustomer(userId,
+                final Page<ReservationSummary> reservations = reservationService.findAllForCustomer(userId,
                                 pageable, filters);
 
                 final PagedResponse<ReservationCustomerResponse> reservationsResponse = PagedResponse.of(
@@ -114,6 +149,7 @@ public class ReservationController {
          * Can only cancel CONFIRMED reservations.
          */
         @PostMapping("/{bookingReference}/cancel")
+        @QueryBudget(15)
         @Operation(summary = "Cancel reservation", description = "Cancel a CONFIRMED reservation. Must be at least 2 hours before showtime. "
                         +
                         "Refund will be initiated automatically.")
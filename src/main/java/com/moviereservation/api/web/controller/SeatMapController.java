@@ -3,10 +3,15 @@ package com.moviereservation.api.web.controller;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.constant.SecurityConstants;
+import com.moviereservation.api.security.UserPrincipal;
 import com.moviereservation.api.service.SeatMapService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.waitingroom.WaitingRoomService;
 import com.moviereservation.api.web.dto.request.seat.SeatMapFilterRequest;
 import com.moviereservation.api.web.dto.response.seat.SeatMapResponse;
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
@@ -22,12 +27,14 @@ import lombok.RequiredArgsConstructor;
  * Shows real-time seat availability for showtimes.
  */
 @RestController
+@QueryBudget(4)
 @RequestMapping(Route.SHOWTIMES)
 @Tag(name = "Seat Maps", description = "View seat availability for showtimes")
 @RequiredArgsConstructor
 public class SeatMapController {
 
     private final SeatMapService seatMapService;
+    private final WaitingRoomService waitingRoomService;
 
     /**
      * Get complete seat map for a showtime.
@@ -35,6 +42,9 @@ public class SeatMapController {
      * 
      * Optional filters:
      * - rowLabels: Filter specific rows (e.g., "A,B,C" to show only first 3 rows)
+     *
+     * High-demand showtimes require sign-in and the user's own admitted
+     * waiting room token.
      */
     @GetMapping("/{showtimeId}/seats")
     @Operation(summary = "Get seat map for showtime", description = "Retrieve complete seat layout with real-time availability. "
@@ -44,8 +54,14 @@ public class SeatMapController {
 
             @Parameter(description = "Showtime UUID", required = true) @PathVariable UUID showtimeId,
 
-            @ModelAttribute @Valid @Parameter(description = "Optional row filter (e.g., rowLabels=A,B,C)") SeatMapFilterRequest filterRequest) {
+            @ModelAttribute @Valid @Parameter(description = "Optional row filter (e.g., rowLabels=A,B,C)") SeatMapFilterRequest filterRequest,
 
+            @RequestHeader(name = SecurityConstants.WAITING_ROOM_TOKEN_HEADER, required = false) UUID waitingRoomToken,
+
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        waitingRoomService.requireAdmission(showtimeId, principal != null ? principal.getUserId() : null,
+                waitingRoomToken);
         SeatMapResponse seatMap = seatMapService.getSeatMap(showtimeId, filterRequest);
 
         return ResponseEntity.ok(
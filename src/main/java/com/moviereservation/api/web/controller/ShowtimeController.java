@@ -9,7 +9,9 @@ import org.springframework.web.bind.annotation.*;
 
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.repository.projection.ShowtimeSummary;
 import com.moviereservation.api.service.ShowtimeService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.request.PagedFilterRequest;
 import com.moviereservation.api.web.dto.request.showtime.ShowtimeFilterRequest;
 import com.moviereservation.api.web.dto.response.showtime.ShowtimeCustomerResponse;
@@ -27,6 +29,7 @@ import lombok.RequiredArgsConstructor;
  * Only shows future SCHEDULED showtimes.
  */
 @RestController
+@QueryBudget(3)
 @RequestMapping(Route.SHOWTIMES)
 @Tag(name = "Showtimes (Customer)", description = "Browse showtimes - future SCHEDULED only")
 @RequiredArgsConstructor
@@ -47,7 +50,7 @@ public class ShowtimeController {
         Pageable pageable = request.toPageable();
         ShowtimeFilterRequest filters = request.getFiltersOrEmpty(ShowtimeFilterRequest::new);
 
-        Page<Showtime> showtimes = showtimeService.findAllForCustomer(pageable, filters);
+        Page<ShowtimeSummary> showtimes = showtimeService.findAllForCustomer(pageable, filters);
 
         PagedResponse<ShowtimeCustomerResponse> response = PagedResponse.of(showtimes,
                 showtimeMapper::toCustomerResponse);
@@ -90,7 +93,7 @@ public class ShowtimeController {
                 .movieId(movieId)
                 .build();
 
-        Page<Showtime> showtimes = showtimeService.findAllForCustomer(pageable, movieFilter);
+        Page<ShowtimeSummary> showtimes = showtimeService.findAllForCustomer(pageable, movieFilter);
 
         PagedResponse<ShowtimeCustomerResponse> response = PagedResponse.of(showtimes,
                 showtimeMapper::toCustomerResponse);
@@ -117,7 +120,7 @@ public class ShowtimeController {
                 .screenNumber(screenNumber)
                 .build();
 
-        Page<Showtime> showtimes = showtimeService.findAllForCustomer(pageable, screenFilter);
+        Page<ShowtimeSummary> showtimes = showtimeService.findAllForCustomer(pageable, screenFilter);
 
         PagedResponse<ShowtimeCustomerResponse> response = PagedResponse.of(showtimes,
                 showtimeMapper::toCustomerResponse);
@@ -0,0 +1,70 @@
+package com.moviereservation.api.web.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.security.UserPrincipal;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.waitingroom.QueueTicket;
+import com.moviereservation.api.service.waitingroom.WaitingRoomService;
+import com.moviereservation.api.web.dto.response.waitingroom.QueueTicketResponse;
+import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
+import com.moviereservation.api.web.mapper.WaitingRoomMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Virtual waiting room endpoints for high-demand showtimes.
+ * Seat maps and booking of such showtimes require an admitted ticket.
+ */
+@RestController
+@QueryBudget(4)
+@RequestMapping(Route.WAITING_ROOM)
+@Tag(name = "Waiting Room", description = "Queue for seat maps and booking of high-demand showtimes")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+    private final WaitingRoomMapper waitingRoomMapper;
+
+    /**
+     * Join the waiting room of a high-demand showtime.
+     * Joining again returns the existing ticket, keeping the queue position.
+     */
+    @PostMapping("/showtimes/{showtimeId}/join")
+    @Operation(summary = "Join waiting room", description = "Get a queue ticket for a high-demand showtime with position and estimated wait. "
+            +
+            "Poll the ticket until it is ADMITTED, then send its token in the X-Waiting-Room-Token header.")
+    public ResponseEntity<ApiResponse<QueueTicketResponse>> join(
+            @PathVariable final UUID showtimeId,
+            @AuthenticationPrincipal final UserPrincipal principal) {
+
+        final QueueTicket ticket = waitingRoomService.join(showtimeId, principal.getUserId());
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Joined waiting room", waitingRoomMapper.toResponse(ticket)));
+    }
+
+    /**
+     * Get the current state of a queue ticket.
+     */
+    @GetMapping("/tickets/{token}")
+    @Operation(summary = "Get queue ticket", description = "Current queue position, estimated wait and admission status")
+    public ResponseEntity<ApiResponse<QueueTicketResponse>> getTicket(
+            @PathVariable final UUID token,
+            @AuthenticationPrincipal final UserPrincipal principal) {
+
+        final QueueTicket ticket = waitingRoomService.getTicket(token, principal.getUserId());
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Queue ticket retrieved successfully", waitingRoomMapper.toResponse(ticket)));
+    }
+}
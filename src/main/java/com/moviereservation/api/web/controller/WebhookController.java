@@ -7,6 +7,7 @@ import org.springframework.web.bind.annotation.*;
 import com.moviereservation.api.config.StripeConfig;
 import com.moviereservation.api.constant.PaymentConstants;
 import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.stripe.exception.SignatureVerificationException;
 import com.stripe.model.Event;
 import com.stripe.model.PaymentIntent;
@@ -46,6 +47,7 @@ public class WebhookController {
      * @return 200 OK if processed successfully
      */
     @PostMapping("/stripe")
+    @QueryBudget(15)
     public ResponseEntity<String> handleStripeWebhook(
             @RequestBody String payload,
             @RequestHeader("Stripe-Signature") String sigHeader) {
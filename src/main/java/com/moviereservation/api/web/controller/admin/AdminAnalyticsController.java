@@ -8,8 +8,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.service.AnalyticsService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +26,8 @@ import lombok.RequiredArgsConstructor;
  * Provides revenue, occupancy, and performance metrics.
  */
 @RestController
+@QueryBudget(2)
+@Workload(WorkloadType.ADMIN)
 @RequestMapping(Route.ADMIN + "/analytics")
 @Tag(name = "Admin - Analytics", description = "Revenue and performance analytics")
 @SecurityRequirement(name = "bearerAuth")
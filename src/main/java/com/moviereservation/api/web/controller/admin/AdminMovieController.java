@@ -9,11 +9,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.Movie;
 import com.moviereservation.api.domain.enums.MovieStatus;
 import com.moviereservation.api.security.UserPrincipal;
 import com.moviereservation.api.service.MovieService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.waitingroom.WaitingRoomService;
 import com.moviereservation.api.web.dto.request.PagedFilterRequest;
 import com.moviereservation.api.web.dto.request.movie.CreateMovieRequest;
 import com.moviereservation.api.web.dto.request.movie.MovieFilterRequest;
@@ -34,6 +38,8 @@ import lombok.RequiredArgsConstructor;
  * Full CRUD access to all movies regardless of status.
  */
 @RestController
+@QueryBudget(4)
+@Workload(WorkloadType.ADMIN)
 @RequestMapping(Route.ADMIN + "/movies")
 @Tag(name = "Admin - Movies", description = "Movie management for administrators")
 @SecurityRequirement(name = "bearerAuth")
@@ -42,6 +48,7 @@ public class AdminMovieController {
 
         private final MovieService movieService;
         private final MovieMapper movieMapper;
+        private final WaitingRoomService waitingRoomService;
 
         /**
          * Create a new movie.
@@ -98,6 +105,7 @@ public class AdminMovieController {
          * - Active reservations
          */
         @DeleteMapping("/{id}")
+        @QueryBudget(8)
         @Operation(summary = "Delete movie", description = "Soft delete movie. Cannot delete if it has future showtimes or active reservations.")
         public ResponseEntity<ApiResponse<Void>> deleteMovie(
                         @PathVariable("id") UUID movieId,
@@ -148,4 +156,23 @@ public class AdminMovieController {
                                 ApiResponse.success("Movie status updated successfully",
                                                 movieMapper.toAdminResponse(movie)));
         }
-}
\ No newline at end of file
+
+        /**
+         * Flag a movie as high-demand.
+         * All its upcoming showtimes then require the waiting room.
+         */
+        @PatchMapping("/{id}/high-demand")
+        @QueryBudget(8)
+        @Operation(summary = "Update movie high-demand flag", description = "Route seat maps and booking of all upcoming showtimes of this movie through the waiting room")
+        public ResponseEntity<ApiResponse<MovieAdminResponse>> updateMovieHighDemand(
+                        @PathVariable("id") UUID movieId,
+                        @RequestParam boolean enabled) {
+
+                Movie movie = movieService.updateHighDemand(movieId, enabled);
+                waitingRoomService.refreshHighDemandShowtimes();
+
+                return ResponseEntity.ok(
+                                ApiResponse.success("Movie high-demand flag updated successfully",
+                                                movieMapper.toAdminResponse(movie)));
+        }
+}
@@ -7,9 +7,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.Reservation;
 import com.moviereservation.api.service.ReservationService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.request.PagedFilterRequest;
 import com.moviereservation.api.web.dto.request.reservation.ReservationFilterRequest;
 import com.moviereservation.api.web.dto.response.reservation.ReservationAdminResponse;
@@ -29,6 +32,8 @@ import lombok.RequiredArgsConstructor;
  * Full access to all user reservations with detailed information.
  */
 @RestController
+@QueryBudget(4)
+@Workload(WorkloadType.ADMIN)
 @RequestMapping(Route.ADMIN + "/reservations")
 @Tag(name = "Admin - Reservations", description = "Reservation management for administrators")
 @SecurityRequirement(name = "bearerAuth")
@@ -190,6 +195,7 @@ public class AdminReservationController {
      * Admin can cancel any reservation regardless of cancellation policy.
      */
     @PostMapping("/{id}/cancel")
+    @QueryBudget(20)
     @Operation(summary = "Cancel reservation (Admin)", description = "Cancel any reservation. Bypasses 2-hour cancellation policy. Initiates refund.")
     public ResponseEntity<ApiResponse<ReservationAdminResponse>> cancelReservation(
             @PathVariable("id") UUID reservationId) {
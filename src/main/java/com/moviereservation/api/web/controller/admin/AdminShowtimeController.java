@@ -1,5 +1,6 @@
 package com.moviereservation.api.web.controller.admin;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -8,13 +9,23 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
 import com.moviereservation.api.service.ShowtimeService;
+import com.moviereservation.api.service.cancellation.ShowtimeCancellationJobRunner;
+import com.moviereservation.api.service.cancellation.ShowtimeCancellationJobService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.waitingroom.WaitingRoomService;
 import com.moviereservation.api.web.dto.request.PagedFilterRequest;
 import com.moviereservation.api.web.dto.request.showtime.CreateShowtimeRequest;
+import com.moviereservation.api.web.dto.request.showtime.FreeSlotSearchRequest;
 import com.moviereservation.api.web.dto.request.showtime.ShowtimeFilterRequest;
 import com.moviereservation.api.web.dto.request.showtime.UpdateShowtimeRequest;
+import com.moviereservation.api.web.dto.response.showtime.CancellationJobResponse;
+import com.moviereservation.api.web.dto.response.showtime.FreeSlotResponse;
 import com.moviereservation.api.web.dto.response.showtime.ShowtimeAdminResponse;
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
 import com.moviereservation.api.web.dto.response.wrappers.PagedResponse;
@@ -31,6 +42,8 @@ import lombok.RequiredArgsConstructor;
  * Full control over showtime scheduling and cancellation.
  */
 @RestController
+@QueryBudget(4)
+@Workload(WorkloadType.ADMIN)
 @RequestMapping(Route.ADMIN + "/showtimes")
 @Tag(name = "Admin - Showtimes", description = "Showtime management for administrators")
 @SecurityRequirement(name = "bearerAuth")
@@ -39,6 +52,9 @@ public class AdminShowtimeController {
 
     private final ShowtimeService showtimeService;
     private final ShowtimeMapper showtimeMapper;
+    private final WaitingRoomService waitingRoomService;
+    private final ShowtimeCancellationJobService cancellationJobService;
+    private final ShowtimeCancellationJobRunner cancellationJobRunner;
 
     /**
      * Create a new showtime.
@@ -46,6 +62,7 @@ public class AdminShowtimeController {
      * Auto-calculates end time based on movie duration + 15min buffer.
      */
     @PostMapping
+    @QueryBudget(10)
     @Operation(summary = "Create showtime", description = "Schedule a new showtime. System validates no screen conflicts and calculates end time.")
     public ResponseEntity<ApiResponse<ShowtimeAdminResponse>> createShowtime(
             @Valid @RequestBody CreateShowtimeRequest request) {
@@ -63,6 +80,7 @@ public class AdminShowtimeController {
      * Updates to startTime will recalculate endTime.
      */
     @PatchMapping("/{id}")
+    @QueryBudget(8)
     @Operation(summary = "Update showtime", description = "Update showtime details. Cannot update if reservations exist. "
             +
             "Changing start time will auto-recalculate end time.")
@@ -77,6 +95,25 @@ public class AdminShowtimeController {
                         showtimeMapper.toAdminResponse(showtime)));
     }
 
+    /**
+     * Find free screen time for a movie.
+     * Answered from the in-memory screen schedule, without a database query per screen.
+     */
+    @GetMapping("/free-slots")
+    @Operation(summary = "Find free slots", description = "List gaps in the screen schedule long enough for the movie "
+            +
+            "plus the 15min buffer. Searches all screens unless screenNumber is given.")
+    public ResponseEntity<ApiResponse<List<FreeSlotResponse>>> findFreeSlots(
+            @ModelAttribute @Valid FreeSlotSearchRequest request) {
+
+        List<FreeSlotResponse> freeSlots = showtimeService.findFreeSlots(request).stream()
+                .map(showtimeMapper::toFreeSlotResponse)
+                .toList();
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Free slots retrieved successfully", freeSlots));
+    }
+
     /**
      * Get showtime by ID (admin view with full details).
      * Can retrieve showtimes in any status including CANCELLED.
@@ -99,14 +136,71 @@ public class AdminShowtimeController {
      * Cannot be undone.
      */
     @PostMapping("/{id}/cancel")
-    @Operation(summary = "Cancel showtime", description = "Cancel showtime and auto-refund all reservations. This action cannot be undone.")
+    @QueryBudget(10)
+    @Operation(summary = "Cancel showtime", description = "Cancel showtime and refund all reservations in the background. This action cannot be undone.")
     public ResponseEntity<ApiResponse<ShowtimeAdminResponse>> cancelShowtime(
             @PathVariable("id") UUID showtimeId) {
 
         Showtime showtime = showtimeService.cancel(showtimeId);
 
         return ResponseEntity.ok(
-                ApiResponse.success("Showtime cancelled successfully. All reservations have been refunded.",
+                ApiResponse.success("Showtime cancelled successfully. Reservations are being refunded.",
+                        showtimeMapper.toAdminResponse(showtime)));
+    }
+
+    /**
+     * Get refund progress of a cancelled showtime.
+     */
+    @GetMapping("/{id}/cancellation")
+    @Operation(summary = "Get cancellation progress", description = "Refunded, failed and total reservations of a cancelled showtime's refund job")
+    public ResponseEntity<ApiResponse<CancellationJobResponse>> getCancellationJob(
+            @PathVariable("id") UUID showtimeId) {
+
+        ShowtimeCancellationJob job = cancellationJobService.findByShowtimeId(showtimeId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Cancellation progress retrieved successfully",
+                        showtimeMapper.toCancellationJobResponse(job)));
+    }
+
+    /**
+     * Retry failed refunds of a cancelled showtime.
+     * Only reservations still CONFIRMED are refunded again.
+     */
+    @PostMapping("/{id}/cancellation/retry")
+    @QueryBudget(6)
+    @Operation(summary = "Retry failed refunds", description = "Run another refund pass over reservations whose refund failed. "
+            +
+            "Seats are released once every refund succeeded.")
+    public ResponseEntity<ApiResponse<CancellationJobResponse>> retryCancellationJob(
+            @PathVariable("id") UUID showtimeId) {
+
+        ShowtimeCancellationJob job = cancellationJobRunner.retry(showtimeId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Refund retry started",
+                        showtimeMapper.toCancellationJobResponse(job)));
+    }
+
+    /**
+     * Flag a showtime as high-demand.
+     * Seat maps and booking then require an admitted waiting room ticket.
+     */
+    @PatchMapping("/{id}/high-demand")
+    @QueryBudget(8)
+    @Operation(summary = "Update showtime high-demand flag", description = "Route seat maps and booking through the waiting room. "
+            +
+            "admissionRate is in users per second; omit it to use the configured default.")
+    public ResponseEntity<ApiResponse<ShowtimeAdminResponse>> updateShowtimeHighDemand(
+            @PathVariable("id") UUID showtimeId,
+            @RequestParam boolean enabled,
+            @RequestParam(required = false) Short admissionRate) {
+
+        Showtime showtime = showtimeService.updateHighDemand(showtimeId, enabled, admissionRate);
+        waitingRoomService.refreshHighDemandShowtimes();
+
+        return ResponseEntity.ok(
+                ApiResponse.success("Showtime high-demand flag updated successfully",
                         showtimeMapper.toAdminResponse(showtime)));
     }
 
@@ -116,6 +210,7 @@ public class AdminShowtimeController {
      * Use cancel endpoint for showtimes with reservations.
      */
     @DeleteMapping("/{id}")
+    @QueryBudget(8)
     @Operation(summary = "Delete showtime", description = "Soft delete showtime. Can only delete future showtimes with no reservations. "
             +
             "Use cancel endpoint if reservations exist.")
@@ -7,9 +7,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.moviereservation.api.config.datasource.Workload;
+import com.moviereservation.api.config.datasource.WorkloadType;
 import com.moviereservation.api.constant.Route;
 import com.moviereservation.api.domain.entities.User;
 import com.moviereservation.api.service.UserService;
+import com.moviereservation.api.service.querybudget.QueryBudget;
 import com.moviereservation.api.web.dto.response.user.UserResponse;
 import com.moviereservation.api.web.dto.response.wrappers.ApiResponse;
 import com.moviereservation.api.web.dto.response.wrappers.PagedResponse;
@@ -26,6 +29,8 @@ import lombok.RequiredArgsConstructor;
  * Allows admins to manage user roles and view user information.
  */
 @RestController
+@QueryBudget(3)
+@Workload(WorkloadType.ADMIN)
 @RequestMapping(Route.ADMIN + "/users")
 @Tag(name = "Admin - Users", description = "User management for administrators")
 @SecurityRequirement(name = "bearerAuth")
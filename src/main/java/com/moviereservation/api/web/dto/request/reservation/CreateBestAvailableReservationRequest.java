@@ -0,0 +1,29 @@
+package com.moviereservation.api.web.dto.request.reservation;
+
+import java.util.UUID;
+
+import com.moviereservation.api.domain.enums.SeatType;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class CreateBestAvailableReservationRequest {
+
+    @NotNull(message = "Showtime ID is required")
+    private final UUID showtimeId;
+
+    @NotNull(message = "Seat count is required")
+    @Min(value = 1, message = "You can reserve between 1 and 10 seats per booking")
+    @Max(value = 10, message = "You can reserve between 1 and 10 seats per booking")
+    private final Integer seatCount;
+
+    // Optional: restrict the block to one seat type
+    private final SeatType seatType;
+}
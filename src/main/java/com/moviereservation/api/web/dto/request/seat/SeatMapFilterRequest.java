@@ -4,10 +4,12 @@ import java.util.List;
 
 import jakarta.validation.constraints.Pattern;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
 @Builder(toBuilder = true)
+@EqualsAndHashCode // Value equality for coalesced seat map calls
 public class SeatMapFilterRequest {
 
     @Pattern(regexp = "[A-Z](,[A-Z])*", message = "Row labels must be single uppercase letters, comma-separated")
@@ -0,0 +1,41 @@
+package com.moviereservation.api.web.dto.request.showtime;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Search criteria for free screen time.
+ * Bound from query parameters.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeSlotSearchRequest {
+
+    @NotNull(message = "Movie ID is required")
+    @Schema(description = "Movie to fit; its duration plus the buffer is the minimum slot length")
+    private UUID movieId;
+
+    @NotNull(message = "'from' is required")
+    @Schema(description = "Search range start", example = "2026-03-14T10:00:00Z")
+    private Instant from;
+
+    @NotNull(message = "'to' is required")
+    @Schema(description = "Search range end", example = "2026-03-15T02:00:00Z")
+    private Instant to;
+
+    @Min(value = 1, message = "Screen number must be at least 1")
+    @Max(value = 5, message = "Screen number cannot exceed 5")
+    @Schema(description = "Limit the search to one screen; all screens when omitted", example = "3")
+    private Short screenNumber;
+}
@@ -30,6 +30,7 @@ public class MovieAdminResponse {
     private String posterUrl;
     private String rating;
     private MovieStatus status;
+    private boolean highDemand;
 
     // Administrative metadata
     private Instant createdAt;
@@ -0,0 +1,40 @@
+package com.moviereservation.api.web.dto.response.showtime;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.moviereservation.api.domain.enums.CancellationJobStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a cancelled showtime's refund job.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CancellationJobResponse {
+
+    private UUID id;
+    private UUID showtimeId;
+    private CancellationJobStatus status;
+    private int totalReservations;
+    private int refundedCount;
+    private int failedCount;
+    private int seatsReleased;
+    private String lastError;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant createdAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant updatedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant completedAt;
+}
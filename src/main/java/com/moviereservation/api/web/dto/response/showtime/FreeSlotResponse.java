@@ -0,0 +1,32 @@
+package com.moviereservation.api.web.dto.response.showtime;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Free time on a screen that fits the requested movie.
+ * Any start time from startTime to latestStartTime can be scheduled.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FreeSlotResponse {
+
+    private Short screenNumber;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant startTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant endTime;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant latestStartTime;
+}
@@ -35,6 +35,8 @@ public class ShowtimeAdminResponse {
     private BigDecimal basePrice;
     private ShowtimeStatus status;
     private Short availableSeatsCount;
+    private boolean highDemand;
+    private Short admissionRate;
     
     @JsonFormat(shape = JsonFormat.Shape.STRING)
     private Instant createdAt;
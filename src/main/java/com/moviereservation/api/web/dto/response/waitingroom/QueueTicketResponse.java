@@ -0,0 +1,36 @@
+package com.moviereservation.api.web.dto.response.waitingroom;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.moviereservation.api.domain.enums.QueueTicketStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Waiting room ticket response.
+ * Once ADMITTED, send the token in the X-Waiting-Room-Token header to the
+ * seat map and booking endpoints until expiresAt.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueTicketResponse {
+
+    private UUID token;
+    private UUID showtimeId;
+    private QueueTicketStatus status;
+    private long position;
+    private long estimatedWaitSeconds;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant admittedAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING)
+    private Instant expiresAt;
+}
@@ -0,0 +1,75 @@
+package com.moviereservation.api.web.dto.response.wrappers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * JSON body of {@link ApiResponse#error(String)}, serialized ahead of time.
+ *
+ * Everything up to the timestamp is encoded once; rendering only appends
+ * the current time. Create one per fixed message and keep it in a
+ * constant, or use {@link #render(String)} for messages built per request,
+ * which still skips the ObjectMapper.
+ */
+public final class PreparedErrorResponse {
+
+    private static final byte[] PREFIX = "{\"success\":false".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MESSAGE = ",\"message\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP = ",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] head;
+
+    private PreparedErrorResponse(final String message) {
+        final byte[] quoted = message != null
+                ? JsonStringEncoder.getInstance().quoteAsUTF8(message)
+                : null;
+        final int length = PREFIX.length + TIMESTAMP.length
+                + (quoted != null ? MESSAGE.length + quoted.length + 1 : 0);
+
+        this.head = new byte[length];
+        int position = append(PREFIX, head, 0);
+        if (quoted != null) {
+            position = append(MESSAGE, head, position);
+            position = append(quoted, head, position);
+            head[position++] = '"';
+        }
+        append(TIMESTAMP, head, position);
+    }
+
+    /**
+     * Prepare the body for a message.
+     *
+     * @param message Error message; null omits it, as ApiResponse does
+     */
+    public static PreparedErrorResponse of(final String message) {
+        return new PreparedErrorResponse(message);
+    }
+
+    /**
+     * Render a one-off error body.
+     */
+    public static byte[] render(final String message) {
+        return of(message).render();
+    }
+
+    /**
+     * Render the body with the current timestamp.
+     */
+    public byte[] render() {
+        // ISO-8601, as Jackson writes Instant with shape STRING
+        final byte[] timestamp = Instant.now().toString().getBytes(StandardCharsets.US_ASCII);
+        final byte[] body = new byte[head.length + timestamp.length + SUFFIX.length];
+        append(SUFFIX, body, append(timestamp, body, append(head, body, 0)));
+        return body;
+    }
+
+    // ========== Private Helper Methods ==========
+
+    private static int append(final byte[] source, final byte[] target, final int position) {
+        System.arraycopy(source, 0, target, position, source.length);
+        return position + source.length;
+    }
+}
@@ -4,6 +4,7 @@ import org.mapstruct.*;
 
 import com.moviereservation.api.domain.entities.Movie;
 import com.moviereservation.api.domain.enums.MovieStatus;
+import com.moviereservation.api.repository.projection.MovieSummary;
 import com.moviereservation.api.web.dto.request.movie.CreateMovieRequest;
 import com.moviereservation.api.web.dto.request.movie.UpdateMovieRequest;
 import com.moviereservation.api.web.dto.response.movie.MovieAdminResponse;
@@ -22,6 +23,11 @@ public interface MovieMapper {
      */
     MovieCustomerResponse toCustomerResponse(Movie movie);
 
+    /**
+     * Convert a movie list projection to customer-facing response.
+     */
+    MovieCustomerResponse toCustomerResponse(MovieSummary movie);
+
     /**
      * Convert Movie entity to admin response.
      * Includes full administrative metadata.
@@ -35,6 +41,7 @@ public interface MovieMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "highDemand", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "deletedBy", ignore = true)
     @Mapping(target = "status", expression = "java(getDefaultStatus(req.getStatus()))")
@@ -48,6 +55,7 @@ public interface MovieMapper {
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "highDemand", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "deletedBy", ignore = true)
     void updateEntity(UpdateMovieRequest req, @MappingTarget Movie movie);
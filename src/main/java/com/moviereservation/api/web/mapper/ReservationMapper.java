@@ -8,6 +8,8 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 
 import com.moviereservation.api.domain.entities.*;
+import com.moviereservation.api.repository.projection.ReservationSeatSummary;
+import com.moviereservation.api.repository.projection.ReservationSummary;
 import com.moviereservation.api.web.dto.response.reservation.ReservationAdminResponse;
 import com.moviereservation.api.web.dto.response.reservation.ReservationCustomerResponse;
 
@@ -57,6 +59,39 @@ public interface ReservationMapper {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Convert a reservation list projection to customer response.
+     */
+    default ReservationCustomerResponse toCustomerResponse(final ReservationSummary reservation) {
+        return ReservationCustomerResponse.builder()
+                .id(reservation.id())
+                .bookingReference(reservation.bookingReference())
+                .status(reservation.status())
+                .totalPrice(reservation.totalPrice())
+                .createdAt(reservation.createdAt())
+                .showtime(ReservationCustomerResponse.ShowtimeInfo.builder()
+                        .id(reservation.showtimeId())
+                        .movieTitle(reservation.movieTitle())
+                        .startTime(reservation.startTime())
+                        .endTime(reservation.endTime())
+                        .screenNumber(reservation.screenNumber())
+                        .build())
+                .seats(reservation.seats().stream()
+                        .map(this::toCustomerSeatDetails)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    default ReservationCustomerResponse.BookedSeatDetails toCustomerSeatDetails(final ReservationSeatSummary seat) {
+        return ReservationCustomerResponse.BookedSeatDetails.builder()
+                .seatInstanceId(seat.seatInstanceId())
+                .rowLabel(seat.rowLabel())
+                .seatNumber(seat.seatNumber())
+                .type(seat.type())
+                .pricePaid(seat.pricePaid())
+                .build();
+    }
+
     // ========== Admin Response Mappings ==========
 
     /**
@@ -4,8 +4,13 @@ import org.mapstruct.*;
 
 import com.moviereservation.api.domain.entities.Movie;
 import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
+import com.moviereservation.api.repository.projection.ShowtimeSummary;
+import com.moviereservation.api.service.screen.FreeSlot;
 import com.moviereservation.api.web.dto.request.showtime.CreateShowtimeRequest;
 import com.moviereservation.api.web.dto.request.showtime.UpdateShowtimeRequest;
+import com.moviereservation.api.web.dto.response.showtime.CancellationJobResponse;
+import com.moviereservation.api.web.dto.response.showtime.FreeSlotResponse;
 import com.moviereservation.api.web.dto.response.showtime.ShowtimeAdminResponse;
 import com.moviereservation.api.web.dto.response.showtime.ShowtimeCustomerResponse;
 
@@ -40,6 +45,31 @@ public interface ShowtimeMapper {
                 .build();
     }
 
+    /**
+     * Convert a showtime list projection to customer response.
+     * Movie columns are already on the row; nothing is loaded lazily.
+     */
+    default ShowtimeCustomerResponse toCustomerResponse(final ShowtimeSummary showtime) {
+        return ShowtimeCustomerResponse.builder()
+                .id(showtime.id())
+                .movie(ShowtimeCustomerResponse.MovieInfo.builder()
+                        .id(showtime.movieId())
+                        .title(showtime.movieTitle())
+                        .description(showtime.movieDescription())
+                        .duration(showtime.movieDuration())
+                        .genre(showtime.movieGenre().name())
+                        .rating(showtime.movieRating())
+                        .releaseDate(showtime.movieReleaseDate())
+                        .posterUrl(showtime.moviePosterUrl())
+                        .build())
+                .startTime(showtime.startTime())
+                .endTime(showtime.endTime())
+                .screenNumber(showtime.screenNumber())
+                .basePrice(showtime.basePrice())
+                .availableSeatsCount(showtime.availableSeatsCount())
+                .build();
+    }
+
     // ========== Admin Response Mappings ==========
 
     /**
@@ -65,6 +95,16 @@ public interface ShowtimeMapper {
                 .build();
     }
 
+    /**
+     * Convert a free slot from the screen schedule index.
+     */
+    FreeSlotResponse toFreeSlotResponse(FreeSlot freeSlot);
+
+    /**
+     * Convert a cancellation job to its progress response.
+     */
+    CancellationJobResponse toCancellationJobResponse(ShowtimeCancellationJob job);
+
     // ========== Request to Entity Mappings ==========
 
     /**
@@ -75,7 +115,10 @@ public interface ShowtimeMapper {
     @Mapping(target = "movie", ignore = true)
     @Mapping(target = "endTime", ignore = true)
     @Mapping(target = "status", ignore = true)
-    @Mapping(target = "availableSeatsCount", ignore = true)
+    @Mapping(target = "seatCount", ignore = true)
+    @Mapping(target = "seatStorageMode", ignore = true)
+    @Mapping(target = "highDemand", ignore = true)
+    @Mapping(target = "admissionRate", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -91,7 +134,10 @@ public interface ShowtimeMapper {
     @Mapping(target = "movie", ignore = true)
     @Mapping(target = "endTime", ignore = true)
     @Mapping(target = "status", ignore = true)
-    @Mapping(target = "availableSeatsCount", ignore = true)
+    @Mapping(target = "seatCount", ignore = true)
+    @Mapping(target = "seatStorageMode", ignore = true)
+    @Mapping(target = "highDemand", ignore = true)
+    @Mapping(target = "admissionRate", ignore = true)
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
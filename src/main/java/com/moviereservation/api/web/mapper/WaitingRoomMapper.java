@@ -0,0 +1,25 @@
+package com.moviereservation.api.web.mapper;
+
+import java.time.Duration;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import com.moviereservation.api.service.waitingroom.QueueTicket;
+import com.moviereservation.api.web.dto.response.waitingroom.QueueTicketResponse;
+
+/**
+ * MapStruct mapper for waiting room tickets.
+ */
+@Mapper(componentModel = "spring")
+public interface WaitingRoomMapper {
+
+    @Mapping(target = "estimatedWaitSeconds", source = "estimatedWait", qualifiedByName = "toSecondsRoundedUp")
+    QueueTicketResponse toResponse(QueueTicket ticket);
+
+    @Named("toSecondsRoundedUp")
+    default long toSecondsRoundedUp(final Duration duration) {
+        return duration != null ? (duration.toMillis() + 999) / 1000 : 0;
+    }
+}
@@ -0,0 +1,11 @@
+-- ============================================================================
+-- Payment reconciliation
+-- PENDING payments whose webhook never arrived are re-checked with the
+-- payment provider. reconciled_at records the last check and doubles as a
+-- claim, so nodes running the reconciler do not check the same payment.
+-- ============================================================================
+ALTER TABLE payments
+    ADD COLUMN reconciled_at TIMESTAMPTZ;
+
+-- Oldest PENDING payments first
+CREATE INDEX idx_payments_pending ON payments (created_at) WHERE status = 'PENDING';
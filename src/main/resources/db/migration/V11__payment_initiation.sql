@@ -0,0 +1,18 @@
+-- ============================================================================
+-- Two-phase payment intent creation
+-- A payment row is recorded as INITIATED before the payment provider is
+-- called and completed with the intent ID afterwards, so no transaction
+-- is open during the call. The intent ID is therefore unknown at first.
+-- ============================================================================
+ALTER TABLE payments
+    ALTER COLUMN stripe_payment_intent_id DROP NOT NULL,
+    DROP CONSTRAINT chk_payments_status,
+    ADD CONSTRAINT chk_payments_status
+        CHECK (status IN ('INITIATED','PENDING','PAID','FAILED','CANCELLED','REFUNDED')),
+    ADD CONSTRAINT chk_payments_intent_id
+        CHECK (status = 'INITIATED' OR stripe_payment_intent_id IS NOT NULL);
+
+-- At most one payment in progress per reservation; concurrent checkouts
+-- of the same reservation cannot both record one
+CREATE UNIQUE INDEX uq_payments_reservation_in_progress ON payments (reservation_id)
+    WHERE status IN ('INITIATED', 'PENDING');
@@ -0,0 +1,34 @@
+-- ============================================================================
+-- Idempotency keys
+-- Clients send an Idempotency-Key header with reservation and payment
+-- creation requests. The first request with a key claims it and stores its
+-- response; retries with the same key get that response back instead of
+-- running the booking again. A key whose request is still running is held
+-- IN_PROGRESS with a short expiry, so a node that dies mid-request does not
+-- block the key for long.
+-- ============================================================================
+CREATE TABLE idempotency_keys (
+    user_id UUID NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    idempotency_key VARCHAR(255) NOT NULL,
+    -- SHA-256 of method, path and body; a reused key with another request is rejected
+    request_hash CHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'IN_PROGRESS',
+
+    -- Stored response, replayed byte for byte
+    response_status SMALLINT,
+    response_content_type VARCHAR(100),
+    response_body BYTEA,
+
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMPTZ NOT NULL,
+
+    PRIMARY KEY (user_id, idempotency_key),
+    CONSTRAINT chk_idempotency_keys_status CHECK (status IN ('IN_PROGRESS', 'COMPLETED')),
+    CONSTRAINT chk_idempotency_keys_response
+        CHECK (status = 'IN_PROGRESS' OR response_status IS NOT NULL)
+);
+
+-- Purge of expired keys
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
+
+COMMENT ON TABLE idempotency_keys IS 'Stored responses of idempotent reservation and payment requests';
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- Explicit email queue status
+-- QUEUED marks emails waiting for sendQueuedEmails(); PENDING now only
+-- means a send is in progress. The queue sender therefore never picks up an
+-- email that an asynchronous send is still delivering.
+-- ============================================================================
+ALTER TABLE email_logs
+    DROP CONSTRAINT chk_email_logs_status,
+    ADD CONSTRAINT chk_email_logs_status CHECK (status IN ('QUEUED', 'PENDING', 'SENT', 'FAILED'));
+
+-- Emails left PENDING so far were waiting in the queue
+UPDATE email_logs SET status = 'QUEUED' WHERE status = 'PENDING';
+
+CREATE INDEX idx_email_logs_queued ON email_logs (created_at) WHERE status = 'QUEUED';
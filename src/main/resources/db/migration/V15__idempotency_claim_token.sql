@@ -0,0 +1,10 @@
+-- ============================================================================
+-- Idempotency key claim tokens
+-- A claim that outlives its in-progress timeout can be taken over by another
+-- request. Each claim now carries a random token, and completing or releasing
+-- a key only touches the row if it still holds the caller's token, so a slow
+-- request cannot overwrite or delete the claim that replaced it.
+-- ============================================================================
+-- Existing rows get a token nobody holds; they simply expire
+ALTER TABLE idempotency_keys ADD COLUMN claim_token UUID NOT NULL DEFAULT gen_random_uuid();
+ALTER TABLE idempotency_keys ALTER COLUMN claim_token DROP DEFAULT;
@@ -0,0 +1,21 @@
+-- ============================================================================
+-- Compact seat storage
+-- COMPACT showtimes keep one status byte per template seat (row label, then
+-- seat number order) and only materialize seat_instance rows for seats that
+-- get held or reserved.
+-- ============================================================================
+ALTER TABLE showtimes
+    ADD COLUMN seat_storage_mode VARCHAR(20) NOT NULL DEFAULT 'ROWS',
+    ADD CONSTRAINT chk_showtimes_seat_storage_mode CHECK (seat_storage_mode IN ('ROWS','COMPACT'));
+
+CREATE TABLE showtime_seat_maps (
+    showtime_id UUID PRIMARY KEY REFERENCES showtimes(showtime_id) ON DELETE RESTRICT,
+    seat_count SMALLINT NOT NULL,
+    -- 0 = AVAILABLE, 1 = HELD, 2 = RESERVED
+    status_map BYTEA NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_showtime_seat_maps_length CHECK (octet_length(status_map) = seat_count)
+);
+
+COMMENT ON TABLE showtime_seat_maps IS 'Per-showtime seat status bytes for COMPACT seat storage';
@@ -0,0 +1,35 @@
+-- ============================================================================
+-- Virtual waiting room
+-- High-demand showtimes (or all showtimes of a high-demand movie) only admit
+-- users to seat maps and booking through a metered FIFO queue.
+-- waiting_room_tickets backs the queue when app.waiting-room.store=database.
+-- ============================================================================
+ALTER TABLE movies
+    ADD COLUMN high_demand BOOLEAN NOT NULL DEFAULT FALSE;
+
+ALTER TABLE showtimes
+    ADD COLUMN high_demand BOOLEAN NOT NULL DEFAULT FALSE,
+    -- Admissions per second; NULL uses app.waiting-room.admission-rate
+    ADD COLUMN admission_rate SMALLINT,
+    ADD CONSTRAINT chk_showtimes_admission_rate CHECK (admission_rate IS NULL OR admission_rate > 0);
+
+CREATE TABLE waiting_room_tickets (
+    ticket_id UUID PRIMARY KEY,
+    showtime_id UUID NOT NULL REFERENCES showtimes(showtime_id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    queue_number BIGINT GENERATED ALWAYS AS IDENTITY,
+    status VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+    admitted_at TIMESTAMPTZ,
+    expires_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_waiting_room_tickets_user UNIQUE (showtime_id, user_id),
+    CONSTRAINT chk_waiting_room_tickets_status CHECK (status IN ('WAITING','ADMITTED'))
+);
+
+-- Head of each showtime's queue
+CREATE INDEX idx_waiting_room_tickets_queue ON waiting_room_tickets (showtime_id, queue_number)
+    WHERE status = 'WAITING';
+CREATE INDEX idx_waiting_room_tickets_expiry ON waiting_room_tickets (expires_at)
+    WHERE status = 'ADMITTED';
+
+COMMENT ON TABLE waiting_room_tickets IS 'Waiting room queue positions for high-demand showtimes';
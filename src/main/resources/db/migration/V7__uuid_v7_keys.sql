@@ -0,0 +1,37 @@
+-- ============================================================================
+-- Time-ordered UUIDv7 keys for high-insert tables
+-- The application generates UUIDv7 keys (UuidV7Generator); the column
+-- defaults below do the same for rows inserted directly in SQL.
+--
+-- Existing UUIDv4 keys stay as they are: both are plain UUIDs, and foreign
+-- keys keep pointing at them. New keys append at the right edge of the
+-- primary key index. The pages holding the old random keys only become
+-- compact again after a rebuild, which can run online outside Flyway:
+--   REINDEX INDEX CONCURRENTLY seat_instance_pkey;
+-- ============================================================================
+
+-- RFC 9562 UUIDv7: 48-bit Unix millisecond timestamp, version 7, random bits.
+-- Built from gen_random_uuid() (variant bits already set), with the timestamp
+-- overlaid and the version nibble turned from 4 (0100) into 7 (0111).
+CREATE OR REPLACE FUNCTION uuid_generate_v7()
+RETURNS UUID
+LANGUAGE sql
+VOLATILE
+AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID
+$$;
+
+COMMENT ON FUNCTION uuid_generate_v7() IS 'Time-ordered UUIDv7 (RFC 9562)';
+
+ALTER TABLE seat_instance ALTER COLUMN seat_instance_id SET DEFAULT uuid_generate_v7();
+ALTER TABLE reservations ALTER COLUMN reservation_id SET DEFAULT uuid_generate_v7();
+ALTER TABLE payments ALTER COLUMN payment_id SET DEFAULT uuid_generate_v7();
+ALTER TABLE email_logs ALTER COLUMN email_log_id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,112 @@
+-- ============================================================================
+-- Single round-trip seat booking
+-- book_seats() does the work of ReservationService's JPA booking path in one
+-- call: validate the showtime, claim the seats with a conditional UPDATE,
+-- insert the reservation and its seats and decrement available_seats_count.
+-- Seat row locks are taken by the claiming UPDATE itself, so they are held
+-- for the rest of the call instead of across several JPA round trips.
+--
+-- Failures raise one of these SQLSTATEs (mapped to API errors by the
+-- application) and abort the calling transaction:
+--   MRB01  showtime not found
+--   MRB02  showtime not bookable (past, cancelled, completed or sold out)
+--   MRB03  seat not found
+--   MRB04  seat belongs to another showtime
+--   MRB05  seat already booked or held by another user
+-- Used with app.reservation.booking-mode=FUNCTION, for ROWS showtimes only.
+-- ============================================================================
+CREATE OR REPLACE FUNCTION book_seats(
+    p_user_id UUID,
+    p_showtime_id UUID,
+    p_seat_ids UUID[],
+    p_booking_reference VARCHAR(8),
+    p_hold_minutes INTEGER
+)
+RETURNS TABLE (reservation_id UUID, total_price NUMERIC(10,2), seat_count INTEGER)
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_now TIMESTAMPTZ := now();
+    v_requested INTEGER := cardinality(p_seat_ids);
+    v_status VARCHAR(20);
+    v_start_time TIMESTAMPTZ;
+    v_available SMALLINT;
+    v_claimed INTEGER;
+    v_total NUMERIC(10,2);
+    v_found INTEGER;
+    v_reservation_id UUID := uuid_generate_v7();
+BEGIN
+    SELECT s.status, s.start_time, s.available_seats_count
+    INTO v_status, v_start_time, v_available
+    FROM showtimes s
+    WHERE s.showtime_id = p_showtime_id AND s.deleted_at IS NULL;
+
+    IF NOT FOUND THEN
+        RAISE EXCEPTION 'Showtime not found' USING ERRCODE = 'MRB01';
+    END IF;
+    IF v_start_time < v_now THEN
+        RAISE EXCEPTION 'Cannot book seats for past showtimes' USING ERRCODE = 'MRB02';
+    END IF;
+    IF v_status = 'CANCELLED' THEN
+        RAISE EXCEPTION 'Cannot book seats for cancelled showtimes' USING ERRCODE = 'MRB02';
+    END IF;
+    IF v_status = 'COMPLETED' THEN
+        RAISE EXCEPTION 'Cannot book seats for completed showtimes' USING ERRCODE = 'MRB02';
+    END IF;
+    IF v_available <= 0 THEN
+        RAISE EXCEPTION 'No available seats for the selected showtime' USING ERRCODE = 'MRB02';
+    END IF;
+
+    -- Claim: available seats, expired holds and the user's own holds
+    WITH claimed AS (
+        UPDATE seat_instance si
+        SET status = 'HELD', held_at = v_now, held_by = p_user_id,
+            updated_at = v_now, updated_by = p_user_id
+        WHERE si.seat_instance_id = ANY (p_seat_ids)
+          AND si.showtime_id = p_showtime_id
+          AND si.deleted_at IS NULL
+          AND (si.status = 'AVAILABLE'
+               OR (si.status = 'HELD'
+                   AND (si.held_by = p_user_id
+                        OR si.held_at < v_now - make_interval(mins => p_hold_minutes))))
+        RETURNING si.price
+    )
+    SELECT count(*), coalesce(sum(c.price), 0) INTO v_claimed, v_total FROM claimed c;
+
+    IF v_claimed < v_requested THEN
+        SELECT count(*) INTO v_found
+        FROM seat_instance si
+        WHERE si.seat_instance_id = ANY (p_seat_ids) AND si.deleted_at IS NULL;
+
+        IF v_found < v_requested THEN
+            RAISE EXCEPTION 'One or more seats not found' USING ERRCODE = 'MRB03';
+        END IF;
+        IF EXISTS (SELECT 1 FROM seat_instance si
+                   WHERE si.seat_instance_id = ANY (p_seat_ids) AND si.showtime_id <> p_showtime_id) THEN
+            RAISE EXCEPTION 'All seats must belong to the same showtime' USING ERRCODE = 'MRB04';
+        END IF;
+        RAISE EXCEPTION 'One or more seats are no longer available' USING ERRCODE = 'MRB05';
+    END IF;
+
+    INSERT INTO reservations
+        (reservation_id, booking_reference, user_id, showtime_id, status, total_price,
+         created_at, created_by, updated_at, updated_by)
+    VALUES
+        (v_reservation_id, p_booking_reference, p_user_id, p_showtime_id, 'PENDING_PAYMENT', v_total,
+         v_now, p_user_id, v_now, p_user_id);
+
+    INSERT INTO reservation_seats (reservation_id, seat_instance_id, price_paid)
+    SELECT v_reservation_id, si.seat_instance_id, si.price
+    FROM seat_instance si
+    WHERE si.seat_instance_id = ANY (p_seat_ids);
+
+    -- Last, so the showtime row lock is held as briefly as possible
+    UPDATE showtimes
+    SET available_seats_count = available_seats_count - v_claimed
+    WHERE showtime_id = p_showtime_id;
+
+    RETURN QUERY SELECT v_reservation_id, v_total, v_claimed;
+END;
+$$;
+
+COMMENT ON FUNCTION book_seats IS 'Holds seats and creates a PENDING_PAYMENT reservation in one call';
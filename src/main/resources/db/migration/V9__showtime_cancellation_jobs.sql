@@ -0,0 +1,41 @@
+-- ============================================================================
+-- Showtime cancellation jobs
+-- Cancelling a showtime starts a background job that refunds its confirmed
+-- reservations page by page, queues refund emails and finally releases the
+-- seats. Progress is stored per page, so a job interrupted by a restart
+-- continues where it stopped instead of starting over.
+-- ============================================================================
+CREATE TABLE showtime_cancellation_jobs (
+    job_id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    showtime_id UUID NOT NULL REFERENCES showtimes(showtime_id) ON DELETE CASCADE,
+    status VARCHAR(30) NOT NULL DEFAULT 'RUNNING',
+
+    -- Progress
+    total_reservations INTEGER NOT NULL DEFAULT 0,
+    refunded_count INTEGER NOT NULL DEFAULT 0,
+    failed_count INTEGER NOT NULL DEFAULT 0,
+    seats_released INTEGER NOT NULL DEFAULT 0,
+    -- Last reservation handled; reservations are processed in id order
+    last_reservation_id UUID,
+    last_error TEXT,
+
+    -- Timestamps (updated_at doubles as the heartbeat of the running node)
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMPTZ,
+
+    CONSTRAINT uq_showtime_cancellation_jobs_showtime UNIQUE (showtime_id),
+    CONSTRAINT chk_showtime_cancellation_jobs_status
+        CHECK (status IN ('RUNNING', 'COMPLETED', 'COMPLETED_WITH_FAILURES')),
+    CONSTRAINT chk_showtime_cancellation_jobs_counts
+        CHECK (refunded_count >= 0 AND failed_count >= 0 AND seats_released >= 0)
+);
+
+-- Stalled job lookup
+CREATE INDEX idx_showtime_cancellation_jobs_running ON showtime_cancellation_jobs (updated_at)
+    WHERE status = 'RUNNING';
+
+-- Confirmed reservations of a showtime in id order
+CREATE INDEX idx_reservations_showtime_status ON reservations (showtime_id, status, reservation_id);
+
+COMMENT ON TABLE showtime_cancellation_jobs IS 'Refund progress of cancelled showtimes';
@@ -0,0 +1,210 @@
+package com.moviereservation.api.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.sql.Connection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviereservation.api.config.datasource.BulkheadDataSourceConfig.WorkloadPools;
+import com.moviereservation.api.exception.GlobalExceptionHandler;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Bulkhead DataSource Tests")
+class BulkheadDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(BulkheadDataSourceConfig.class, Infrastructure.class)
+            .withPropertyValues(
+                    "app.datasource.bulkheads.enabled=true",
+                    "spring.datasource.url=jdbc:postgresql://localhost:5432/bulkheads");
+
+    @Test
+    @DisplayName("Should build one pool per workload from spring.datasource.hikari plus the workload settings")
+    void shouldBindPoolSettings() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.hikari.max-lifetime=600000",
+                        "spring.datasource.hikari.leak-detection-threshold=5000",
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "app.datasource.bulkheads.booking.maximum-pool-size=7",
+                        "app.datasource.bulkheads.booking.connection-timeout=750ms")
+                .run(context -> {
+                    final Map<WorkloadType, HikariDataSource> pools = context.getBean(WorkloadPools.class).pools();
+                    assertThat(pools).containsOnlyKeys(WorkloadType.values());
+
+                    final HikariDataSource booking = pools.get(WorkloadType.BOOKING);
+                    assertThat(booking.getPoolName()).isEqualTo("MovieReservation-booking");
+                    assertThat(booking.getMaximumPoolSize()).isEqualTo(7);
+                    assertThat(booking.getConnectionTimeout()).isEqualTo(750);
+                    assertThat(booking.getMaxLifetime()).isEqualTo(600_000);
+                    assertThat(booking.getLeakDetectionThreshold()).isEqualTo(5_000);
+
+                    // Workload sizes replace the shared maximum-pool-size
+                    assertThat(pools.get(WorkloadType.ADMIN).getMaximumPoolSize()).isEqualTo(2);
+                    assertThat(pools.get(WorkloadType.ADMIN).getMaxLifetime()).isEqualTo(600_000);
+
+                    assertThat(context.getBean("primaryDataSource")).isInstanceOf(WorkloadRoutingDataSource.class);
+                });
+    }
+
+    @Test
+    @DisplayName("Should not replace the DataSource unless bulkheads are enabled")
+    void shouldStayOffByDefault() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(BulkheadDataSourceConfig.class, Infrastructure.class)
+                .run(context -> assertThat(context).doesNotHaveBean(WorkloadPools.class));
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After when the workload pool is exhausted, leaving other pools usable")
+    void shouldMapPoolExhaustionTo503() throws Exception {
+        final Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        pools.put(WorkloadType.BOOKING, singleConnectionPool("booking"));
+        pools.put(WorkloadType.BROWSE, singleConnectionPool("browse"));
+
+        try (WorkloadPools workloadPools = new WorkloadPools(pools)) {
+            final WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+            routing.setTargetDataSources(Map.copyOf(pools));
+            routing.setDefaultTargetDataSource(pools.get(WorkloadType.BROWSE));
+            routing.afterPropertiesSet();
+
+            final TransactionTemplate transactionTemplate = new TransactionTemplate(
+                    new DataSourceTransactionManager(routing));
+            final MockMvc mockMvc = MockMvcBuilders
+                    .standaloneSetup(new WorkloadController(
+                            proxy(new BookingWork(transactionTemplate)), proxy(new BrowseWork(transactionTemplate))))
+                    .setControllerAdvice(new GlobalExceptionHandler())
+                    .build();
+
+            // A slow booking holds the only booking connection
+            try (Connection held = pools.get(WorkloadType.BOOKING).getConnection()) {
+                mockMvc.perform(get("/booking"))
+                        .andExpect(status().isServiceUnavailable())
+                        .andExpect(header().string("Retry-After", "1"));
+
+                mockMvc.perform(get("/browse"))
+                        .andExpect(status().isOk());
+            }
+
+            mockMvc.perform(get("/booking"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * A one-connection pool over a stub driver, failing fast when taken.
+     */
+    private static HikariDataSource singleConnectionPool(final String name) throws Exception {
+        final Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        final DataSource driver = mock(DataSource.class);
+        when(driver.getConnection()).thenReturn(connection);
+
+        final HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("test-" + name);
+        pool.setDataSource(driver);
+        pool.setMaximumPoolSize(1);
+        pool.setMinimumIdle(0);
+        pool.setConnectionTimeout(250);
+        return pool;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final T target) {
+        final ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(BulkheadDataSourceConfig.workloadAdvisor());
+        return (T) factory.getProxy();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class Infrastructure {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @RestController
+    static class WorkloadController {
+
+        private final BookingWork booking;
+        private final BrowseWork browse;
+
+        WorkloadController(final BookingWork booking, final BrowseWork browse) {
+            this.booking = booking;
+            this.browse = browse;
+        }
+
+        @GetMapping("/booking")
+        String booking() {
+            booking.run();
+            return "booked";
+        }
+
+        @GetMapping("/browse")
+        String browse() {
+            browse.run();
+            return "browsed";
+        }
+    }
+
+    @Workload(WorkloadType.BOOKING)
+    static class BookingWork {
+
+        private final TransactionTemplate transactionTemplate;
+
+        BookingWork(final TransactionTemplate transactionTemplate) {
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        void run() {
+            transactionTemplate.executeWithoutResult(_ -> {
+            });
+        }
+    }
+
+    @Workload(WorkloadType.BROWSE)
+    static class BrowseWork {
+
+        private final TransactionTemplate transactionTemplate;
+
+        BrowseWork(final TransactionTemplate transactionTemplate) {
+            this.transactionTemplate = transactionTemplate;
+        }
+
+        void run() {
+            transactionTemplate.executeWithoutResult(_ -> {
+            });
+        }
+    }
+}
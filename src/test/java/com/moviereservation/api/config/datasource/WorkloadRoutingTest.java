@@ -0,0 +1,143 @@
+package com.moviereservation.api.config.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+@DisplayName("Workload Routing Tests")
+class WorkloadRoutingTest {
+
+    private final BookingWork booking = proxy(new BookingWork());
+    private final AdminWork admin = proxy(new AdminWork(booking));
+    private final UnannotatedWork unannotated = proxy(new UnannotatedWork(booking));
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.clear();
+    }
+
+    @Test
+    @DisplayName("Should set the class workload for the call and clear it afterwards")
+    void shouldApplyClassWorkload() {
+        assertThat(booking.current()).isEqualTo(WorkloadType.BOOKING);
+        assertThat(WorkloadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should let a method annotation override the class annotation")
+    void shouldPreferMethodWorkload() {
+        assertThat(booking.sweep()).isEqualTo(WorkloadType.BACKGROUND);
+    }
+
+    @Test
+    @DisplayName("Should keep the outermost workload for nested calls")
+    void shouldKeepOutermostWorkload() {
+        assertThat(admin.exportBookings()).isEqualTo(WorkloadType.ADMIN);
+        assertThat(WorkloadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave unannotated calls to the first annotated callee")
+    void shouldIgnoreUnannotatedCallers() {
+        assertThat(unannotated.own()).isNull();
+        assertThat(unannotated.delegate()).isEqualTo(WorkloadType.BOOKING);
+    }
+
+    @Test
+    @DisplayName("Should clear the workload when the call fails")
+    void shouldClearWorkloadOnFailure() {
+        assertThatThrownBy(booking::fail).isInstanceOf(IllegalStateException.class);
+        assertThat(WorkloadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should route connections to the pool of the current workload")
+    void shouldRouteToWorkloadPool() throws Exception {
+        final DataSource bookingPool = poolWithConnection();
+        final DataSource browsePool = poolWithConnection();
+        final WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(Map.of(WorkloadType.BOOKING, bookingPool, WorkloadType.BROWSE, browsePool));
+        routing.setDefaultTargetDataSource(browsePool);
+        routing.afterPropertiesSet();
+
+        WorkloadContext.set(WorkloadType.BOOKING);
+        assertThat(routing.getConnection()).isSameAs(bookingPool.getConnection());
+
+        WorkloadContext.clear();
+        assertThat(routing.getConnection()).isSameAs(browsePool.getConnection());
+    }
+
+    // ========== Helper Methods ==========
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final T target) {
+        final ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(BulkheadDataSourceConfig.workloadAdvisor());
+        return (T) factory.getProxy();
+    }
+
+    private static DataSource poolWithConnection() throws Exception {
+        final DataSource pool = mock(DataSource.class);
+        final Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+        return pool;
+    }
+
+    @Workload(WorkloadType.BOOKING)
+    static class BookingWork {
+
+        WorkloadType current() {
+            return WorkloadContext.current();
+        }
+
+        @Workload(WorkloadType.BACKGROUND)
+        WorkloadType sweep() {
+            return WorkloadContext.current();
+        }
+
+        void fail() {
+            throw new IllegalStateException("lock timeout");
+        }
+    }
+
+    @Workload(WorkloadType.ADMIN)
+    static class AdminWork {
+
+        private final BookingWork booking;
+
+        AdminWork(final BookingWork booking) {
+            this.booking = booking;
+        }
+
+        WorkloadType exportBookings() {
+            return booking.current();
+        }
+    }
+
+    static class UnannotatedWork {
+
+        private final BookingWork booking;
+
+        UnannotatedWork(final BookingWork booking) {
+            this.booking = booking;
+        }
+
+        WorkloadType own() {
+            return WorkloadContext.current();
+        }
+
+        WorkloadType delegate() {
+            return booking.current();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.moviereservation.api.domain.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UuidV7Generator Tests")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Should generate RFC 9562 version 7 UUIDs with the current time")
+    void shouldGenerateVersion7() {
+        final long before = System.currentTimeMillis();
+        final UUID uuid = UuidV7Generator.next();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        // Leading 48 bits are the Unix millisecond timestamp
+        assertThat(uuid.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing UUIDs")
+    void shouldBeMonotonic() {
+        final List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            uuids.add(UuidV7Generator.next());
+        }
+
+        // Compare as unsigned text, the order PostgreSQL uses for uuid
+        final List<String> text = uuids.stream().map(UUID::toString).toList();
+        assertThat(text).isSorted().doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,169 @@
+package com.moviereservation.api.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviereservation.api.exception.InvalidReservationException;
+import com.moviereservation.api.exception.SeatNotFoundException;
+import com.moviereservation.api.exception.SeatUnavailableException;
+import com.moviereservation.api.exception.ShowtimeNotFoundException;
+import com.moviereservation.api.repository.SeatBookingRepository;
+import com.moviereservation.api.repository.SeatBookingRepository.BookedSeats;
+
+/**
+ * book_seats() against the migrated schema: the seat count it keeps,
+ * the lock timeout it applies and the mapping of its MRB01-MRB05 errors.
+ */
+@DisplayName("book_seats() function")
+class BookSeatsFunctionIntegrationTest extends PostgresIntegrationTest {
+
+    private static final int HOLD_MINUTES = 5;
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(2);
+
+    @Autowired
+    private SeatBookingRepository seatBookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private UUID userId;
+    private UUID showtimeId;
+
+    @BeforeEach
+    void setUp() {
+        userId = createUser();
+        showtimeId = createShowtime((short) 1);
+    }
+
+    @Test
+    @DisplayName("Holds the seats, inserts the reservation and decrements the count")
+    void booksSeats() {
+        final List<UUID> seats = seatIds(showtimeId, 3);
+
+        final BookedSeats booked = book(userId, showtimeId, seats, LOCK_TIMEOUT);
+
+        assertThat(booked.seatCount()).isEqualTo(3);
+        assertThat(booked.totalPrice()).isPositive();
+        assertThat(seats).allSatisfy(seatId -> assertThat(seatStatus(seatId)).isEqualTo("HELD"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM reservation_seats WHERE reservation_id = ?", Integer.class,
+                booked.reservationId())).isEqualTo(3);
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 117);
+    }
+
+    @Test
+    @DisplayName("Taking over an expired hold does not decrement the count again")
+    void takesOverExpiredHoldWithoutCountingItTwice() {
+        final List<UUID> seats = seatIds(showtimeId, 2);
+        book(userId, showtimeId, seats, LOCK_TIMEOUT);
+        jdbcTemplate.update("""
+                UPDATE seat_instance SET held_at = now() - interval '10 minutes'
+                WHERE seat_instance_id = ANY (?::uuid[])
+                """, (Object) seats.stream().map(UUID::toString).toArray(String[]::new));
+
+        book(createUser(), showtimeId, seats, LOCK_TIMEOUT);
+
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 118);
+    }
+
+    @Test
+    @DisplayName("MRB01: unknown showtime")
+    void mapsUnknownShowtime() {
+        final List<UUID> seats = seatIds(showtimeId, 1);
+
+        assertThatThrownBy(() -> book(userId, UUID.randomUUID(), seats, LOCK_TIMEOUT))
+                .isInstanceOf(ShowtimeNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("MRB02: cancelled showtime")
+    void mapsUnbookableShowtime() {
+        jdbcTemplate.update("UPDATE showtimes SET status = 'CANCELLED' WHERE showtime_id = ?", showtimeId);
+        final List<UUID> seats = seatIds(showtimeId, 1);
+
+        assertThatThrownBy(() -> book(userId, showtimeId, seats, LOCK_TIMEOUT))
+                .isInstanceOf(InvalidReservationException.class)
+                .hasMessage("Cannot book seats for cancelled showtimes");
+    }
+
+    @Test
+    @DisplayName("MRB03: unknown seat")
+    void mapsUnknownSeat() {
+        final List<UUID> seats = List.of(seatIds(showtimeId, 1).getFirst(), UUID.randomUUID());
+
+        assertThatThrownBy(() -> book(userId, showtimeId, seats, LOCK_TIMEOUT))
+                .isInstanceOf(SeatNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("MRB04: seat of another showtime")
+    void mapsSeatOfAnotherShowtime() {
+        final UUID otherShowtimeId = createShowtime((short) 1);
+        final List<UUID> seats = List.of(seatIds(showtimeId, 1).getFirst(), seatIds(otherShowtimeId, 1).getFirst());
+
+        assertThatThrownBy(() -> book(userId, showtimeId, seats, LOCK_TIMEOUT))
+                .isInstanceOf(InvalidReservationException.class)
+                .hasMessageContaining("same showtime");
+    }
+
+    @Test
+    @DisplayName("MRB05: seat held by another user")
+    void mapsSeatHeldByAnotherUser() {
+        final List<UUID> seats = seatIds(showtimeId, 2);
+        book(createUser(), showtimeId, seats, LOCK_TIMEOUT);
+
+        assertThatThrownBy(() -> book(userId, showtimeId, seats, LOCK_TIMEOUT))
+                .isInstanceOf(SeatUnavailableException.class);
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 118);
+    }
+
+    @Test
+    @DisplayName("Gives up on a locked seat after the lock timeout")
+    void appliesLockTimeout() throws Exception {
+        final List<UUID> seats = seatIds(showtimeId, 1);
+
+        try (Connection blocker = dataSource.getConnection()) {
+            blocker.setAutoCommit(false);
+            try (var statement = blocker.prepareStatement(
+                    "SELECT 1 FROM seat_instance WHERE seat_instance_id = ? FOR UPDATE")) {
+                statement.setObject(1, seats.getFirst());
+                statement.executeQuery();
+            }
+
+            final long start = System.nanoTime();
+            assertThatThrownBy(() -> book(userId, showtimeId, seats, Duration.ofMillis(200)))
+                    .isInstanceOf(PessimisticLockingFailureException.class);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+
+            blocker.rollback();
+        }
+    }
+
+    // ========== Helper Methods ==========
+
+    private BookedSeats book(
+            final UUID bookingUserId,
+            final UUID bookingShowtimeId,
+            final List<UUID> seats,
+            final Duration lockTimeout) {
+        return transactionTemplate.execute(_ -> seatBookingRepository.bookSeats(
+                bookingUserId, bookingShowtimeId, seats, bookingReference(), HOLD_MINUTES, lockTimeout));
+    }
+}
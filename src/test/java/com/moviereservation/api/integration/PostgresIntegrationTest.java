@@ -0,0 +1,119 @@
+package com.moviereservation.api.integration;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Base for tests against a real PostgreSQL migrated by Flyway, so database
+ * functions, constraints and native queries run exactly as in production.
+ * One container is shared by all subclasses; each fixture gets its own
+ * rows, so tests do not clean up after each other.
+ */
+@SpringBootTest
+@ActiveProfiles("integration")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresIntegrationTest {
+
+    private static final Instant FIRST_SHOWTIME = Instant.parse("2035-01-01T10:00:00Z");
+    private static final Duration SHOWTIME_SLOT = Duration.ofHours(3);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15-alpine"));
+
+    static {
+        POSTGRES.start();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    // ========== Helper Methods ==========
+
+    protected UUID createUser() {
+        final int n = SEQUENCE.incrementAndGet();
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO users (full_name, email, role, password_hash)
+                VALUES (?, ?, 'CUSTOMER', 'not-a-real-hash')
+                RETURNING user_id
+                """, UUID.class, "Integration User " + n, "integration-" + n + "@test.com");
+    }
+
+    /**
+     * A scheduled ROWS showtime with one seat_instance per seeded seat
+     * template of the screen, in its own future time slot.
+     */
+    protected UUID createShowtime(final short screenNumber) {
+        final int n = SEQUENCE.incrementAndGet();
+        final UUID movieId = jdbcTemplate.queryForObject("""
+                INSERT INTO movies (title, duration, genre, status)
+                VALUES (?, 120, 'ACTION', 'ACTIVE')
+                RETURNING movie_id
+                """, UUID.class, "Integration Movie " + n);
+
+        final Instant startTime = FIRST_SHOWTIME.plus(SHOWTIME_SLOT.multipliedBy(n));
+        final UUID showtimeId = jdbcTemplate.queryForObject("""
+                INSERT INTO showtimes (movie_id, start_time, end_time, screen_number, base_price)
+                VALUES (?, ?, ?, ?, 10.00)
+                RETURNING showtime_id
+                """, UUID.class, movieId, Timestamp.from(startTime),
+                Timestamp.from(startTime.plus(Duration.ofHours(2))), screenNumber);
+
+        final int seats = jdbcTemplate.update("""
+                INSERT INTO seat_instance (showtime_id, seat_template_id, row_label, seat_number, type, price)
+                SELECT ?, seat_template_id, row_label, seat_number, type, base_price
+                FROM seat_template WHERE screen_number = ?
+                """, showtimeId, screenNumber);
+        jdbcTemplate.update("UPDATE showtimes SET available_seats_count = ? WHERE showtime_id = ?", seats, showtimeId);
+        return showtimeId;
+    }
+
+    /**
+     * The first seats of the showtime in row and seat order.
+     */
+    protected List<UUID> seatIds(final UUID showtimeId, final int count) {
+        return jdbcTemplate.queryForList("""
+                SELECT seat_instance_id FROM seat_instance
+                WHERE showtime_id = ?
+                ORDER BY row_label, seat_number
+                LIMIT ?
+                """, UUID.class, showtimeId, count);
+    }
+
+    /**
+     * A unique value for reservations.booking_reference (^[A-Z0-9]{8}$).
+     */
+    protected static String bookingReference() {
+        return "IT%06d".formatted(SEQUENCE.incrementAndGet());
+    }
+
+    protected short availableSeatsCount(final UUID showtimeId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT available_seats_count FROM showtimes WHERE showtime_id = ?", Short.class, showtimeId);
+    }
+
+    protected String seatStatus(final UUID seatId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM seat_instance WHERE seat_instance_id = ?", String.class, seatId);
+    }
+}
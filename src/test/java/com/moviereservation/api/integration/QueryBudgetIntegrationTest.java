@@ -0,0 +1,393 @@
+package com.moviereservation.api.integration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.jayway.jsonpath.JsonPath;
+import com.moviereservation.api.constant.PaymentConstants;
+import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.domain.enums.UserRole;
+import com.moviereservation.api.security.JwtTokenProvider;
+import com.moviereservation.api.service.payment.FakePaymentGateway;
+import com.stripe.Stripe;
+import com.stripe.net.Webhook;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Calls the endpoints of every controller against the migrated schema.
+ * The integration profile samples every request and fails it when it runs
+ * more SQL statements than its @QueryBudget, so a budget set too low or
+ * an N+1 regression fails here.
+ */
+@AutoConfigureMockMvc
+class QueryBudgetIntegrationTest extends PostgresIntegrationTest {
+
+    private static final AtomicInteger CLIENT = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private FakePaymentGateway paymentGateway;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.stripe.webhook.secret}")
+    private String webhookSecret;
+
+    // Each test is its own client, so the per-IP rate limit never kicks in
+    private String clientIp;
+    private int requests;
+    private long sampledBefore;
+
+    private UUID showtimeId;
+    private UUID movieId;
+    private UUID customerId;
+    private String customerToken;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() {
+        final int client = CLIENT.incrementAndGet();
+        clientIp = "10.0.%d.%d".formatted(client / 250, client % 250);
+        requests = 0;
+        sampledBefore = sampledRequests();
+
+        showtimeId = createShowtime((short) 2);
+        movieId = jdbcTemplate.queryForObject(
+                "SELECT movie_id FROM showtimes WHERE showtime_id = ?", UUID.class, showtimeId);
+        customerId = createUser();
+        customerToken = token(customerId);
+        final UUID adminId = createUser();
+        jdbcTemplate.update("UPDATE users SET role = 'ADMIN' WHERE user_id = ?", adminId);
+        adminToken = token(adminId);
+    }
+
+    @AfterEach
+    void assertEveryRequestWasChecked() {
+        assertThat(sampledRequests() - sampledBefore)
+                .as("Requests counted against their endpoint's budget")
+                .isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("AuthController stays within budget")
+    void authController() throws Exception {
+        final String email = "budget-" + UUID.randomUUID() + "@test.com";
+
+        call(post(Route.AUTH + "/register").contentType(MediaType.APPLICATION_JSON).content("""
+                {"fullName": "Budget User", "email": "%s", "phoneNumber": "+15550100", "password": "Password123!"}
+                """.formatted(email)), null)
+                .andExpect(status().isCreated());
+        call(post(Route.AUTH + "/login").contentType(MediaType.APPLICATION_JSON).content("""
+                {"email": "%s", "password": "Password123!"}
+                """.formatted(email)), null)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accessToken").isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("HealthCheckController stays within budget")
+    void healthCheckController() throws Exception {
+        for (final String path : List.of("/health", "/health/detailed", "/health/ready", "/health/live")) {
+            call(get(Route.API_V1 + path), null).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    @DisplayName("MovieController stays within budget")
+    void movieController() throws Exception {
+        call(get(Route.MOVIES), null).andExpect(status().isOk());
+        call(get(Route.MOVIES + "/" + movieId), null).andExpect(status().isOk());
+        call(get(Route.MOVIES + "/now-showing"), null).andExpect(status().isOk());
+        call(get(Route.MOVIES + "/coming-soon"), null).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("ShowtimeController stays within budget")
+    void showtimeController() throws Exception {
+        call(get(Route.SHOWTIMES), null).andExpect(status().isOk());
+        call(get(Route.SHOWTIMES + "/" + showtimeId), null).andExpect(status().isOk());
+        call(get(Route.SHOWTIMES + "/movie/" + movieId), null).andExpect(status().isOk());
+        call(get(Route.SHOWTIMES + "/screen/2"), null).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("SeatMapController stays within budget")
+    void seatMapController() throws Exception {
+        call(get(Route.SHOWTIMES + "/" + showtimeId + "/seats"), customerToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalSeats").value(120));
+        call(get(Route.SHOWTIMES + "/" + showtimeId + "/available-count"), null)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("ReservationController stays within budget")
+    void reservationController() throws Exception {
+        final String bookingReference = read(reserve(seatIds(showtimeId, 3)), "$.data.bookingReference");
+        call(post(Route.RESERVATIONS + "/best-available").contentType(MediaType.APPLICATION_JSON).content("""
+                {"showtimeId": "%s", "seatCount": 2}
+                """.formatted(showtimeId)), customerToken)
+                .andExpect(status().isCreated());
+
+        call(get(Route.RESERVATIONS), customerToken).andExpect(status().isOk());
+        call(get(Route.RESERVATIONS + "/" + bookingReference), customerToken).andExpect(status().isOk());
+        call(get(Route.RESERVATIONS + "/id/" + bookingReference), customerToken).andExpect(status().isOk());
+
+        final String confirmed = read(confirmedReservation(), "$.data.bookingReference");
+        call(post(Route.RESERVATIONS + "/" + confirmed + "/cancel"), customerToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"));
+    }
+
+    @Test
+    @DisplayName("PaymentController stays within budget")
+    void paymentController() throws Exception {
+        final String reservationId = read(reserve(seatIds(showtimeId, 2)), "$.data.id");
+
+        call(post(Route.PAYMENTS + "/create-intent/" + reservationId), customerToken)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("WebhookController stays within budget")
+    void webhookController() throws Exception {
+        final String reservationId = read(confirmedReservation(), "$.data.id");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM reservations WHERE reservation_id = ?::uuid",
+                String.class, reservationId)).isEqualTo("CONFIRMED");
+    }
+
+    @Test
+    @DisplayName("WaitingRoomController stays within budget")
+    void waitingRoomController() throws Exception {
+        call(patch(Route.ADMIN + "/showtimes/" + showtimeId + "/high-demand").param("enabled", "true"), adminToken)
+                .andExpect(status().isOk());
+
+        final MvcResult ticket = call(post(Route.WAITING_ROOM + "/showtimes/" + showtimeId + "/join"), customerToken)
+                .andExpect(status().isOk())
+                .andReturn();
+        call(get(Route.WAITING_ROOM + "/tickets/" + read(ticket, "$.data.token")), customerToken)
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("AdminAnalyticsController stays within budget")
+    void adminAnalyticsController() throws Exception {
+        final String analytics = Route.ADMIN + "/analytics";
+
+        call(get(analytics + "/revenue/summary"), adminToken).andExpect(status().isOk());
+        call(get(analytics + "/revenue/date-range").param("startDate", "2025-01-01").param("endDate", "2025-12-31"),
+                adminToken).andExpect(status().isOk());
+        call(get(analytics + "/revenue/daily").param("startDate", "2025-01-01").param("endDate", "2025-12-31"),
+                adminToken).andExpect(status().isOk());
+        call(get(analytics + "/revenue/by-genre"), adminToken).andExpect(status().isOk());
+        call(get(analytics + "/movies/top-revenue"), adminToken).andExpect(status().isOk());
+        call(get(analytics + "/movies/performance"), adminToken).andExpect(status().isOk());
+        call(get(analytics + "/occupancy").param("date", "2025-10-21"), adminToken).andExpect(status().isOk());
+        call(get(analytics + "/occupancy/stats"), adminToken).andExpect(status().isOk());
+        call(get(analytics + "/bookings/peak-hours"), adminToken).andExpect(status().isOk());
+        call(post(analytics + "/refresh"), adminToken).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("AdminMovieController stays within budget")
+    void adminMovieController() throws Exception {
+        final String movies = Route.ADMIN + "/movies";
+        final MvcResult created = call(post(movies).contentType(MediaType.APPLICATION_JSON).content("""
+                {"title": "Budget Movie", "duration": 110, "genre": "ACTION", "releaseDate": "2026-01-01T00:00:00Z"}
+                """), adminToken)
+                .andExpect(status().isCreated())
+                .andReturn();
+        final String id = read(created, "$.data.id");
+
+        call(patch(movies + "/" + id).contentType(MediaType.APPLICATION_JSON).content("""
+                {"description": "Updated"}
+                """), adminToken).andExpect(status().isOk());
+        call(get(movies + "/" + id), adminToken).andExpect(status().isOk());
+        call(get(movies), adminToken).andExpect(status().isOk());
+        call(patch(movies + "/" + id + "/status").param("status", "ACTIVE"), adminToken).andExpect(status().isOk());
+        call(patch(movies + "/" + id + "/high-demand").param("enabled", "true"), adminToken)
+                .andExpect(status().isOk());
+        call(delete(movies + "/" + id), adminToken).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("AdminReservationController stays within budget")
+    void adminReservationController() throws Exception {
+        final MvcResult confirmed = confirmedReservation();
+        final String id = read(confirmed, "$.data.id");
+        final String reservations = Route.ADMIN + "/reservations";
+
+        call(get(reservations), adminToken).andExpect(status().isOk());
+        call(get(reservations + "/booking/" + read(confirmed, "$.data.bookingReference")), adminToken)
+                .andExpect(status().isOk());
+        call(get(reservations + "/" + id), adminToken).andExpect(status().isOk());
+        call(get(reservations + "/user/" + customerId), adminToken).andExpect(status().isOk());
+        call(get(reservations + "/movie/" + movieId), adminToken).andExpect(status().isOk());
+        call(get(reservations + "/showtime/" + showtimeId), adminToken).andExpect(status().isOk());
+        call(post(reservations + "/" + id + "/cancel"), adminToken)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"));
+    }
+
+    @Test
+    @DisplayName("AdminShowtimeController stays within budget")
+    void adminShowtimeController() throws Exception {
+        final String showtimes = Route.ADMIN + "/showtimes";
+        final Instant startTime = Instant.now().plus(Duration.ofDays(30)).truncatedTo(ChronoUnit.HOURS);
+
+        final MvcResult created = call(post(showtimes).contentType(MediaType.APPLICATION_JSON).content("""
+                {"movieId": "%s", "startTime": "%s", "screenNumber": 5, "basePrice": 10.00}
+                """.formatted(movieId, startTime)), adminToken)
+                .andExpect(status().isCreated())
+                .andReturn();
+        final String id = read(created, "$.data.id");
+
+        call(patch(showtimes + "/" + id).contentType(MediaType.APPLICATION_JSON).content("""
+                {"basePrice": 12.50}
+                """), adminToken).andExpect(status().isOk());
+        call(get(showtimes + "/free-slots")
+                .param("movieId", movieId.toString())
+                .param("from", startTime.minus(Duration.ofDays(1)).toString())
+                .param("to", startTime.plus(Duration.ofDays(1)).toString()), adminToken)
+                .andExpect(status().isOk());
+        call(get(showtimes + "/" + id), adminToken).andExpect(status().isOk());
+        call(get(showtimes), adminToken).andExpect(status().isOk());
+        call(get(showtimes + "/movie/" + movieId), adminToken).andExpect(status().isOk());
+        call(get(showtimes + "/screen/5"), adminToken).andExpect(status().isOk());
+        call(patch(showtimes + "/" + id + "/high-demand").param("enabled", "true"), adminToken)
+                .andExpect(status().isOk());
+        call(delete(showtimes + "/" + id), adminToken).andExpect(status().isOk());
+
+        call(post(showtimes + "/" + showtimeId + "/cancel"), adminToken).andExpect(status().isOk());
+        call(get(showtimes + "/" + showtimeId + "/cancellation"), adminToken).andExpect(status().isOk());
+        awaitCancellationJob();
+        jdbcTemplate.update("UPDATE showtime_cancellation_jobs SET status = 'COMPLETED_WITH_FAILURES' WHERE showtime_id = ?",
+                showtimeId);
+        call(post(showtimes + "/" + showtimeId + "/cancellation/retry"), adminToken)
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    @DisplayName("AdminUserController stays within budget")
+    void adminUserController() throws Exception {
+        final String users = Route.ADMIN + "/users";
+
+        call(get(users + "/" + customerId), adminToken).andExpect(status().isOk());
+        call(get(users), adminToken).andExpect(status().isOk());
+        call(post(users + "/" + customerId + "/promote"), adminToken).andExpect(status().isOk());
+    }
+
+    // ========== Helper Methods ==========
+
+    private ResultActions call(final MockHttpServletRequestBuilder request, final String token) throws Exception {
+        request.header("X-Forwarded-For", clientIp);
+        if (token != null) {
+            request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        requests++;
+        return mockMvc.perform(request);
+    }
+
+    private MvcResult reserve(final List<UUID> seats) throws Exception {
+        return call(post(Route.RESERVATIONS).contentType(MediaType.APPLICATION_JSON).content("""
+                {"showtimeId": "%s", "seatInstanceIds": ["%s"]}
+                """.formatted(showtimeId, String.join("\", \"", seats.stream().map(UUID::toString).toList()))),
+                customerToken)
+                .andExpect(status().isCreated())
+                .andReturn();
+    }
+
+    /**
+     * Reserve two seats, create the payment intent and deliver the signed
+     * success webhook, as the provider would.
+     */
+    private MvcResult confirmedReservation() throws Exception {
+        final List<UUID> seats = jdbcTemplate.queryForList("""
+                SELECT seat_instance_id FROM seat_instance
+                WHERE showtime_id = ? AND status = 'AVAILABLE'
+                ORDER BY row_label DESC, seat_number
+                LIMIT 2
+                """, UUID.class, showtimeId);
+        final MvcResult reservation = reserve(seats);
+        final String reservationId = read(reservation, "$.data.id");
+
+        call(post(Route.PAYMENTS + "/create-intent/" + reservationId), customerToken)
+                .andExpect(status().isOk());
+        final String paymentIntentId = jdbcTemplate.queryForObject(
+                "SELECT stripe_payment_intent_id FROM payments WHERE reservation_id = ?::uuid",
+                String.class, reservationId);
+        paymentGateway.markPaid(paymentIntentId);
+
+        final String payload = """
+                {"id": "evt_%s", "object": "event", "api_version": "%s", "type": "%s",
+                 "data": {"object": {"id": "%s", "object": "payment_intent"}}}
+                """.formatted(UUID.randomUUID().toString().replace("-", ""), Stripe.API_VERSION,
+                PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED, paymentIntentId);
+        final long timestamp = Webhook.Util.getTimeNow();
+        final String signature = Webhook.Util.computeHmacSha256(webhookSecret, timestamp + "." + payload);
+
+        call(post("/api/webhooks/stripe")
+                .header("Stripe-Signature", "t=" + timestamp + ",v1=" + signature)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(payload), null)
+                .andExpect(status().isOk());
+        return reservation;
+    }
+
+    private String token(final UUID userId) {
+        final String email = jdbcTemplate.queryForObject(
+                "SELECT email FROM users WHERE user_id = ?", String.class, userId);
+        final String role = jdbcTemplate.queryForObject(
+                "SELECT role FROM users WHERE user_id = ?", String.class, userId);
+        return jwtTokenProvider.generateToken(userId, email, UserRole.valueOf(role));
+    }
+
+    private void awaitCancellationJob() throws InterruptedException {
+        final Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (Instant.now().isBefore(deadline) && "RUNNING".equals(jdbcTemplate.queryForObject(
+                "SELECT status FROM showtime_cancellation_jobs WHERE showtime_id = ?", String.class, showtimeId))) {
+            Thread.sleep(100);
+        }
+    }
+
+    private long sampledRequests() {
+        return meterRegistry.find("db.queries.per.request").summaries().stream()
+                .mapToLong(DistributionSummary::count)
+                .sum();
+    }
+
+    private static String read(final MvcResult result, final String path) throws Exception {
+        return JsonPath.read(result.getResponse().getContentAsString(), path);
+    }
+}
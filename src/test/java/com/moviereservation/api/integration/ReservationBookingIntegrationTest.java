@@ -56,6 +56,8 @@ class ReservationBookingIntegrationTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.flyway.enabled", () -> "false"); // Disable Flyway for tests
+        registry.add("app.query-budget.sample-rate", () -> "1.0");
+        registry.add("app.query-budget.fail-on-exceed", () -> "true"); // Over-budget endpoints fail the test
     }
 
     @Autowired
@@ -159,7 +161,6 @@ class ReservationBookingIntegrationTest {
         testShowtime.setScreenNumber((short) 1);
         testShowtime.setBasePrice(new BigDecimal("10.00"));
         testShowtime.setStatus(ShowtimeStatus.SCHEDULED);
-        testShowtime.setAvailableSeatsCount((short) 120);
         testShowtime = showtimeRepository.save(testShowtime);
 
         // Create seat instances for showtime
@@ -226,7 +227,16 @@ class ReservationBookingIntegrationTest {
                 .andExpect(jsonPath("$.data.seats").isArray())
                 .andExpect(jsonPath("$.data.seats.length()").value(3));
 
-        // Step 4: Verify seats are held
+        // Step 4: Verify reservation list, read through projections
+        mockMvc.perform(get("/api/reservations")
+                        .header("Authorization", "Bearer " + jwtToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].bookingReference").value(bookingReference))
+                .andExpect(jsonPath("$.data.content[0].showtime.movieTitle").value("Test Movie"))
+                .andExpect(jsonPath("$.data.content[0].seats.length()").value(3));
+
+        // Step 5: Verify seats are held
         mockMvc.perform(get("/api/showtimes/" + testShowtime.getId() + "/seats")
                         .header("Authorization", "Bearer " + jwtToken))
                 .andExpect(status().isOk())
@@ -134,7 +134,6 @@ class SeatBookingConcurrencyTest {
         testShowtime.setScreenNumber((short) 1);
         testShowtime.setBasePrice(new BigDecimal("10.00"));
         testShowtime.setStatus(ShowtimeStatus.SCHEDULED);
-        testShowtime.setAvailableSeatsCount((short) 120);
         testShowtime = showtimeRepository.save(testShowtime);
 
         // Create seat instances
@@ -0,0 +1,150 @@
+package com.moviereservation.api.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviereservation.api.constant.PaymentConstants;
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
+import com.moviereservation.api.domain.enums.CancellationJobStatus;
+import com.moviereservation.api.repository.SeatBookingRepository;
+import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.ShowtimeService;
+import com.moviereservation.api.service.cancellation.ShowtimeCancellationJobService;
+import com.moviereservation.api.service.payment.FakePaymentGateway;
+
+/**
+ * A paid reservation's seats are RESERVED, and cancelling the showtime
+ * refunds the reservation and releases exactly those seats. Unpaid
+ * reservations are cancelled, and a payment that still succeeds is refunded.
+ */
+@DisplayName("Showtime cancellation")
+class ShowtimeCancellationIntegrationTest extends PostgresIntegrationTest {
+
+    private static final Duration JOB_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private SeatBookingRepository seatBookingRepository;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private FakePaymentGateway paymentGateway;
+
+    @Autowired
+    private ShowtimeService showtimeService;
+
+    @Autowired
+    private ShowtimeCancellationJobService jobService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID showtimeId;
+    private List<UUID> seats;
+
+    @BeforeEach
+    void setUp() {
+        userId = createUser();
+        showtimeId = createShowtime((short) 1);
+        seats = seatIds(showtimeId, 3);
+    }
+
+    @Test
+    @DisplayName("Refunds a confirmed reservation and releases its reserved seats")
+    void refundsConfirmedReservationAndReleasesSeats() throws InterruptedException {
+        final UUID reservationId = confirmedReservation();
+        assertThat(seats).allSatisfy(seatId -> assertThat(seatStatus(seatId)).isEqualTo("RESERVED"));
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 117);
+
+        showtimeService.cancel(showtimeId);
+        final ShowtimeCancellationJob job = awaitJob();
+
+        assertThat(job.getStatus()).isEqualTo(CancellationJobStatus.COMPLETED);
+        assertThat(job.getRefundedCount()).isEqualTo(1);
+        assertThat(job.getSeatsReleased()).isEqualTo(3);
+        assertThat(reservationStatus(reservationId)).isEqualTo("REFUNDED");
+        assertThat(seats).allSatisfy(seatId -> assertThat(seatStatus(seatId)).isEqualTo("AVAILABLE"));
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 120);
+    }
+
+    @Test
+    @DisplayName("Cancels an unpaid reservation and refunds its payment if it still succeeds")
+    void cancelsUnpaidReservationAndRefundsLatePayment() throws InterruptedException {
+        final UUID reservationId = heldReservation();
+        final String paymentIntentId = pendingPayment(reservationId);
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 117);
+
+        showtimeService.cancel(showtimeId);
+        final ShowtimeCancellationJob job = awaitJob();
+
+        assertThat(job.getStatus()).isEqualTo(CancellationJobStatus.COMPLETED);
+        assertThat(reservationStatus(reservationId)).isEqualTo("CANCELLED");
+        assertThat(seats).allSatisfy(seatId -> assertThat(seatStatus(seatId)).isEqualTo("AVAILABLE"));
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 120);
+
+        paymentGateway.markPaid(paymentIntentId);
+        paymentService.processWebhookEvent(paymentIntentId, PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED);
+
+        assertThat(reservationStatus(reservationId)).isEqualTo("CANCELLED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM payments WHERE stripe_payment_intent_id = ?", String.class, paymentIntentId))
+                .isEqualTo("REFUNDED");
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Book the seats and complete the payment through the success webhook.
+     */
+    private UUID confirmedReservation() {
+        final UUID reservationId = heldReservation();
+        final String paymentIntentId = pendingPayment(reservationId);
+        paymentGateway.markPaid(paymentIntentId);
+        paymentService.processWebhookEvent(paymentIntentId, PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED);
+
+        assertThat(reservationStatus(reservationId)).isEqualTo("CONFIRMED");
+        return reservationId;
+    }
+
+    private UUID heldReservation() {
+        return transactionTemplate.execute(_ -> seatBookingRepository.bookSeats(
+                userId, showtimeId, seats, bookingReference(), 5, Duration.ofSeconds(2))).reservationId();
+    }
+
+    private String pendingPayment(final UUID reservationId) {
+        final String paymentIntentId = "pi_it_" + UUID.randomUUID().toString().replace("-", "");
+        jdbcTemplate.update("""
+                INSERT INTO payments (reservation_id, user_id, amount, status, stripe_payment_intent_id)
+                SELECT reservation_id, user_id, total_price, 'PENDING', ?
+                FROM reservations WHERE reservation_id = ?
+                """, paymentIntentId, reservationId);
+        return paymentIntentId;
+    }
+
+    private ShowtimeCancellationJob awaitJob() throws InterruptedException {
+        final Instant deadline = Instant.now().plus(JOB_TIMEOUT);
+        ShowtimeCancellationJob job = jobService.findByShowtimeId(showtimeId);
+        while (job.getStatus() == CancellationJobStatus.RUNNING && Instant.now().isBefore(deadline)) {
+            Thread.sleep(100);
+            job = jobService.findByShowtimeId(showtimeId);
+        }
+        return job;
+    }
+
+    private String reservationStatus(final UUID reservationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM reservations WHERE reservation_id = ?", String.class, reservationId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.moviereservation.api.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.repository.SeatBookingRepository;
+import com.moviereservation.api.repository.ShowtimeRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The seat count written by book_seats() is read past the cached Showtime,
+ * so it is never served stale and the cached entry survives bookings; a
+ * later entity flush must not overwrite it either.
+ */
+@DisplayName("Showtime second-level cache")
+class ShowtimeSecondLevelCacheIntegrationTest extends PostgresIntegrationTest {
+
+    private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(2);
+
+    @Autowired
+    private ShowtimeRepository showtimeRepository;
+
+    @Autowired
+    private SeatBookingRepository seatBookingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID userId;
+    private UUID showtimeId;
+
+    @BeforeEach
+    void setUp() {
+        userId = createUser();
+        showtimeId = createShowtime((short) 1);
+    }
+
+    @Test
+    @DisplayName("Reads through the cache see the count after book_seats()")
+    void readsFreshCountAfterNativeUpdate() {
+        assertThat(loadAvailableSeatsCount()).isEqualTo((short) 120);
+        assertThat(entityManagerFactory.getCache().contains(Showtime.class, showtimeId)).isTrue();
+
+        transactionTemplate.executeWithoutResult(_ -> seatBookingRepository.bookSeats(
+                userId, showtimeId, seatIds(showtimeId, 2), bookingReference(), 5, LOCK_TIMEOUT));
+
+        assertThat(entityManagerFactory.getCache().contains(Showtime.class, showtimeId)).isTrue();
+        assertThat(loadAvailableSeatsCount()).isEqualTo((short) 118);
+    }
+
+    @Test
+    @DisplayName("Entity update after book_seats() keeps the database count")
+    void entityFlushDoesNotOverwriteNativeCount() {
+        transactionTemplate.executeWithoutResult(_ -> {
+            final Showtime showtime = showtimeRepository.findById(showtimeId).orElseThrow();
+            seatBookingRepository.bookSeats(userId, showtimeId, seatIds(showtimeId, 3), bookingReference(), 5, LOCK_TIMEOUT);
+            showtime.setHighDemand(true);
+        });
+
+        assertThat(availableSeatsCount(showtimeId)).isEqualTo((short) 117);
+        assertThat(loadShowtime().isHighDemand()).isTrue();
+    }
+
+    // ========== Helper Methods ==========
+
+    private Short loadAvailableSeatsCount() {
+        return transactionTemplate.execute(
+                _ -> showtimeRepository.findById(showtimeId).orElseThrow().getAvailableSeatsCount());
+    }
+
+    private Showtime loadShowtime() {
+        return transactionTemplate.execute(_ -> showtimeRepository.findById(showtimeId).orElseThrow());
+    }
+}
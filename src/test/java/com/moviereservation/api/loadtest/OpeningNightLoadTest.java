@@ -0,0 +1,533 @@
+package com.moviereservation.api.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviereservation.api.constant.PaymentConstants;
+import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.domain.entities.Movie;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.entities.User;
+import com.moviereservation.api.domain.enums.Genre;
+import com.moviereservation.api.domain.enums.MovieStatus;
+import com.moviereservation.api.domain.enums.UserRole;
+import com.moviereservation.api.repository.UserRepository;
+import com.moviereservation.api.security.JwtTokenProvider;
+import com.moviereservation.api.service.MovieService;
+import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.ReservationService;
+import com.moviereservation.api.service.ShowtimeService;
+import com.moviereservation.api.service.payment.FakePaymentGateway;
+import com.moviereservation.api.web.dto.request.movie.CreateMovieRequest;
+import com.moviereservation.api.web.dto.request.showtime.CreateShowtimeRequest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Opening-night booking rush against a running application and a local PostgreSQL.
+ * Seeds showtimes through ShowtimeService, then simulates virtual users that browse
+ * movies, poll the seat map, race for the same hot seats, pay through the fake
+ * gateway or abandon their hold, and finally lets abandoned holds expire.
+ *
+ * Reports throughput, latency percentiles, lock wait time and double bookings to
+ * the log and target/load-test-report.txt. Only runs with -Pload-test.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@DisplayName("Opening Night Load Test")
+@Slf4j
+class OpeningNightLoadTest {
+
+    private static final short SCREEN_COUNT = 5;
+    private static final int MAX_BOOKING_ATTEMPTS = 3;
+    private static final int MAX_SEATS_PER_BOOKING = 4;
+    private static final Duration LOCK_SAMPLE_INTERVAL = Duration.ofMillis(100);
+    private static final Path REPORT_FILE = Path.of("target", "load-test-report.txt");
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadtest.showtimes:10}")
+    private int showtimeCount;
+
+    @Value("${loadtest.users:2000}")
+    private int userCount;
+
+    @Value("${loadtest.ramp-up:20s}")
+    private Duration rampUp;
+
+    @Value("${loadtest.hot-seats:40}")
+    private int hotSeats;
+
+    @Value("${loadtest.pay-ratio:0.7}")
+    private double payRatio;
+
+    @Autowired
+    private MovieService movieService;
+
+    @Autowired
+    private ShowtimeService showtimeService;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private FakePaymentGateway paymentGateway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<String, OperationStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger bookings = new AtomicInteger();
+    private final AtomicInteger seatConflicts = new AtomicInteger();
+    private final AtomicInteger gaveUp = new AtomicInteger();
+    private final AtomicInteger payments = new AtomicInteger();
+    private final AtomicInteger abandoned = new AtomicInteger();
+    private final AtomicInteger serverErrors = new AtomicInteger();
+    private final AtomicLong lockWaitSamples = new AtomicLong();
+    private final AtomicInteger peakLockWaiters = new AtomicInteger();
+
+    private HttpClient httpClient;
+    private UUID movieId;
+    private List<UUID> showtimeIds;
+
+    @Test
+    @DisplayName("Should survive an opening-night rush without double bookings")
+    void openingNightRush() throws Exception {
+        final String runId = Long.toString(System.currentTimeMillis(), 36);
+        movieId = seedMovie(runId).getId();
+        showtimeIds = seedShowtimes(movieId);
+        final List<String> tokens = seedUsers(runId);
+
+        log.info("Seeded {} showtimes and {} users, starting rush (ramp-up {})",
+                showtimeIds.size(), tokens.size(), rampUp);
+
+        final ScheduledExecutorService lockSampler = Executors.newSingleThreadScheduledExecutor();
+        lockSampler.scheduleAtFixedRate(this::sampleLockWaits,
+                0, LOCK_SAMPLE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        final Instant rushStart = Instant.now();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            httpClient = HttpClient.newBuilder()
+                    .executor(users)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            for (int i = 0; i < tokens.size(); i++) {
+                final String token = tokens.get(i);
+                final String clientIp = "10.%d.%d.%d".formatted(i >> 16 & 0xFF, i >> 8 & 0xFF, i & 0xFF);
+                users.submit(() -> runVirtualUser(token, clientIp));
+            }
+        } finally {
+            lockSampler.shutdownNow();
+        }
+        final Duration rushDuration = Duration.between(rushStart, Instant.now());
+
+        final long doubleBookingsAfterRush = countDoubleBookings();
+        final ExpiryResult expiry = expireAbandonedHolds();
+        final long doubleBookingsAfterExpiry = countDoubleBookings();
+
+        writeReport(rushDuration, expiry, doubleBookingsAfterRush + doubleBookingsAfterExpiry);
+
+        assertThat(doubleBookingsAfterRush).as("double bookings after rush").isZero();
+        assertThat(doubleBookingsAfterExpiry).as("double bookings after hold expiry").isZero();
+    }
+
+    // ========== Virtual User ==========
+
+    private void runVirtualUser(final String token, final String clientIp) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(Math.max(1, rampUp.toMillis())));
+
+            send("browse-movies", get(Route.MOVIES, token, clientIp));
+            send("browse-showtimes", get(Route.SHOWTIMES + "/movie/" + movieId, token, clientIp));
+            thinkTime();
+
+            final UUID showtimeId = pickShowtime();
+            for (int attempt = 1; attempt <= MAX_BOOKING_ATTEMPTS; attempt++) {
+                final HttpResponse<String> seatMap = send("seat-map",
+                        get(Route.SHOWTIMES + "/" + showtimeId + "/seats", token, clientIp));
+                if (seatMap.statusCode() != 200) {
+                    return;
+                }
+
+                final List<String> seatIds = pickSeats(objectMapper.readTree(seatMap.body()));
+                if (seatIds.isEmpty()) {
+                    gaveUp.incrementAndGet();
+                    return;
+                }
+                thinkTime();
+
+                final HttpResponse<String> reservation = send("reserve",
+                        post(Route.RESERVATIONS, token, clientIp, reservationBody(showtimeId, seatIds)));
+                if (reservation.statusCode() == 201) {
+                    bookings.incrementAndGet();
+                    completeOrAbandon(objectMapper.readTree(reservation.body()), token, clientIp);
+                    return;
+                }
+                if (reservation.statusCode() != 409) {
+                    return;
+                }
+                seatConflicts.incrementAndGet();
+            }
+            gaveUp.incrementAndGet();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            log.warn("Virtual user failed: {}", e.toString());
+            serverErrors.incrementAndGet();
+        }
+    }
+
+    private void completeOrAbandon(final JsonNode reservation, final String token, final String clientIp)
+            throws IOException, InterruptedException {
+
+        if (ThreadLocalRandom.current().nextDouble() >= payRatio) {
+            abandoned.incrementAndGet();
+            return;
+        }
+
+        final UUID reservationId = UUID.fromString(reservation.path("data").path("id").asText());
+        thinkTime();
+
+        final HttpResponse<String> intent = send("payment-intent",
+                post(Route.PAYMENTS + "/create-intent/" + reservationId, token, clientIp, ""));
+        if (intent.statusCode() != 200) {
+            return;
+        }
+
+        // The fake gateway has no webhook sender; deliver the success event in-process
+        final String paymentIntentId = paymentService.findByReservationId(reservationId).getPaymentIntentId();
+        paymentGateway.markPaid(paymentIntentId);
+        timed("payment-webhook", () -> paymentService.processWebhookEvent(
+                paymentIntentId, PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED));
+        payments.incrementAndGet();
+    }
+
+    /**
+     * Half of the crowd goes for the premiere, the rest spread over later showtimes.
+     */
+    private UUID pickShowtime() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextBoolean() ? showtimeIds.getFirst() : showtimeIds.get(random.nextInt(showtimeIds.size()));
+    }
+
+    /**
+     * Pick a block of adjacent available seats among the first hot seats of the map,
+     * so users deliberately collide on the same seats.
+     */
+    private List<String> pickSeats(final JsonNode seatMap) {
+        final List<String> available = new ArrayList<>();
+        for (final JsonNode row : seatMap.path("data").path("rows")) {
+            for (final JsonNode seat : row.path("seats")) {
+                if ("AVAILABLE".equals(seat.path("status").asText())) {
+                    available.add(seat.path("seatInstanceId").asText());
+                }
+            }
+        }
+        if (available.isEmpty()) {
+            return List.of();
+        }
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final int candidates = Math.min(hotSeats, available.size());
+        final int count = Math.min(1 + random.nextInt(MAX_SEATS_PER_BOOKING), candidates);
+        final int start = random.nextInt(candidates - count + 1);
+        return available.subList(start, start + count);
+    }
+
+    private void thinkTime() throws InterruptedException {
+        Thread.sleep(ThreadLocalRandom.current().nextLong(50, 300));
+    }
+
+    // ========== HTTP Helpers ==========
+
+    private HttpRequest get(final String path, final String token, final String clientIp) {
+        return request(path, token, clientIp).GET().build();
+    }
+
+    private HttpRequest post(final String path, final String token, final String clientIp, final String body) {
+        return request(path, token, clientIp)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(final String path, final String token, final String clientIp) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                // One bucket per virtual user instead of one for the whole test client
+                .header("X-Forwarded-For", clientIp);
+    }
+
+    private HttpResponse<String> send(final String operation, final HttpRequest request)
+            throws IOException, InterruptedException {
+
+        final long start = System.nanoTime();
+        final HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        stats.computeIfAbsent(operation, _ -> new OperationStats()).record(System.nanoTime() - start);
+
+        if (response.statusCode() >= 500) {
+            serverErrors.incrementAndGet();
+            log.warn("{} returned {}: {}", operation, response.statusCode(), response.body());
+        }
+        return response;
+    }
+
+    private void timed(final String operation, final Runnable action) {
+        final long start = System.nanoTime();
+        action.run();
+        stats.computeIfAbsent(operation, _ -> new OperationStats()).record(System.nanoTime() - start);
+    }
+
+    private String reservationBody(final UUID showtimeId, final List<String> seatIds) throws IOException {
+        return objectMapper.writeValueAsString(Map.of("showtimeId", showtimeId, "seatInstanceIds", seatIds));
+    }
+
+    // ========== Seeding ==========
+
+    private Movie seedMovie(final String runId) {
+        return movieService.create(CreateMovieRequest.builder()
+                .title("Opening Night " + runId)
+                .description("Load test feature")
+                .duration(150)
+                .genre(Genre.ACTION)
+                .status(MovieStatus.ACTIVE)
+                .releaseDate(Instant.now())
+                .rating("PG-13")
+                .build());
+    }
+
+    /**
+     * Create showtimes round-robin over all screens, after anything already scheduled.
+     */
+    private List<UUID> seedShowtimes(final UUID movieId) {
+        final List<UUID> ids = new ArrayList<>(showtimeCount);
+        final Instant[] nextStart = new Instant[SCREEN_COUNT + 1];
+
+        for (int i = 0; i < showtimeCount; i++) {
+            final short screen = (short) (i % SCREEN_COUNT + 1);
+            if (nextStart[screen] == null) {
+                nextStart[screen] = firstFreeStart(screen);
+            }
+
+            final Showtime showtime = showtimeService.create(CreateShowtimeRequest.builder()
+                    .movieId(movieId)
+                    .screenNumber(screen)
+                    .startTime(nextStart[screen])
+                    .basePrice(new BigDecimal("250.00"))
+                    .build());
+
+            ids.add(showtime.getId());
+            nextStart[screen] = showtime.getEndTime().plus(1, ChronoUnit.MINUTES);
+        }
+        return ids;
+    }
+
+    private Instant firstFreeStart(final short screen) {
+        final Instant latestEnd = jdbcTemplate.queryForObject(
+                "SELECT MAX(end_time) FROM showtimes WHERE screen_number = ?", Instant.class, screen);
+        final Instant soon = Instant.now().plus(1, ChronoUnit.HOURS);
+        return latestEnd == null || latestEnd.isBefore(soon) ? soon : latestEnd.plus(1, ChronoUnit.MINUTES);
+    }
+
+    private List<String> seedUsers(final String runId) {
+        final List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            final User user = new User();
+            user.setFullName("Load User " + i);
+            user.setEmail("loadtest-" + runId + "-" + i + "@example.com");
+            user.setRole(UserRole.CUSTOMER);
+            // Never used to log in; tokens are issued directly
+            user.setPasswordHash("{noop}not-a-password");
+            users.add(user);
+        }
+
+        return userRepository.saveAll(users).stream()
+                .map(user -> jwtTokenProvider.generateToken(user.getId(), user.getEmail(), user.getRole()))
+                .toList();
+    }
+
+    // ========== Measurements ==========
+
+    private void sampleLockWaits() {
+        try {
+            final Integer waiting = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM pg_stat_activity
+                    WHERE datname = current_database() AND wait_event_type = 'Lock'
+                    """, Integer.class);
+            lockWaitSamples.addAndGet(waiting);
+            peakLockWaiters.accumulateAndGet(waiting, Math::max);
+        } catch (final Exception e) {
+            log.debug("Lock wait sample failed: {}", e.toString());
+        }
+    }
+
+    /**
+     * Seats held by more than one live reservation of the seeded showtimes.
+     */
+    private long countDoubleBookings() {
+        return new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT rs.seat_instance_id
+                    FROM reservation_seats rs
+                    JOIN reservations r ON r.reservation_id = rs.reservation_id
+                    WHERE r.showtime_id IN (:showtimeIds)
+                      AND r.status IN ('PENDING_PAYMENT', 'CONFIRMED')
+                    GROUP BY rs.seat_instance_id
+                    HAVING COUNT(*) > 1
+                ) violations
+                """, Map.of("showtimeIds", showtimeIds), Long.class);
+    }
+
+    /**
+     * Age the abandoned holds past the hold window instead of waiting for it,
+     * then run the expiry job once and time it.
+     */
+    private ExpiryResult expireAbandonedHolds() {
+        final NamedParameterJdbcTemplate jdbc = new NamedParameterJdbcTemplate(jdbcTemplate);
+        final Map<String, Object> params = Map.of("showtimeIds", showtimeIds);
+
+        jdbc.update("""
+                UPDATE seat_instance SET held_at = held_at - INTERVAL '10 minutes'
+                WHERE seat_instance_id IN (
+                    SELECT rs.seat_instance_id
+                    FROM reservation_seats rs
+                    JOIN reservations r ON r.reservation_id = rs.reservation_id
+                    WHERE r.showtime_id IN (:showtimeIds) AND r.status = 'PENDING_PAYMENT')
+                """, params);
+        final int pending = jdbc.update("""
+                UPDATE reservations SET created_at = created_at - INTERVAL '10 minutes'
+                WHERE showtime_id IN (:showtimeIds) AND status = 'PENDING_PAYMENT'
+                """, params);
+
+        final long start = System.nanoTime();
+        reservationService.processExpiredHolds();
+        final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        final Integer stillPending = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM reservations
+                WHERE showtime_id IN (:showtimeIds) AND status = 'PENDING_PAYMENT'
+                """, params, Integer.class);
+        return new ExpiryResult(pending, pending - stillPending, duration);
+    }
+
+    private void writeReport(final Duration rushDuration, final ExpiryResult expiry, final long doubleBookings)
+            throws IOException {
+
+        final long requests = stats.values().stream().mapToLong(OperationStats::count).sum();
+        final double seconds = Math.max(rushDuration.toMillis(), 1) / 1000.0;
+
+        final StringBuilder report = new StringBuilder()
+                .append("=== Opening night load test ===\n")
+                .append("Users: %d, showtimes: %d, hot seats: %d, pay ratio: %.2f%n"
+                        .formatted(userCount, showtimeIds.size(), hotSeats, payRatio))
+                .append("Rush duration: %.1fs, throughput: %.1f req/s%n".formatted(seconds, requests / seconds))
+                .append("Bookings: %d, seat conflicts: %d, gave up: %d, paid: %d, abandoned: %d, server errors: %d%n"
+                        .formatted(bookings.get(), seatConflicts.get(), gaveUp.get(), payments.get(),
+                                abandoned.get(), serverErrors.get()))
+                .append("Lock wait: ~%.1fs total, peak %d waiting sessions%n"
+                        .formatted(lockWaitSamples.get() * LOCK_SAMPLE_INTERVAL.toMillis() / 1000.0,
+                                peakLockWaiters.get()))
+                .append("Hold expiry: %d of %d pending expired in %dms%n"
+                        .formatted(expiry.expired(), expiry.pending(), expiry.duration().toMillis()))
+                .append("Double bookings: %d%n".formatted(doubleBookings))
+                .append("%n%-18s %8s %10s %10s %10s %10s%n".formatted("operation", "count", "p50 ms", "p95 ms",
+                        "p99 ms", "max ms"));
+
+        stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> report.append(entry.getValue().format(entry.getKey())));
+
+        log.info("\n{}", report);
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.writeString(REPORT_FILE, report);
+    }
+
+    private record ExpiryResult(int pending, int expired, Duration duration) {
+    }
+
+    /**
+     * Latency samples of one operation; percentiles are computed once at the end.
+     */
+    private static final class OperationStats {
+
+        private final ConcurrentLinkedQueue<Long> samples = new ConcurrentLinkedQueue<>();
+
+        void record(final long nanos) {
+            samples.add(nanos);
+        }
+
+        long count() {
+            return samples.size();
+        }
+
+        String format(final String operation) {
+            final List<Long> sorted = new ArrayList<>(samples);
+            Collections.sort(sorted);
+            return "%-18s %8d %10.1f %10.1f %10.1f %10.1f%n".formatted(operation, sorted.size(),
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                    percentile(sorted, 1.0));
+        }
+
+        private static double percentile(final List<Long> sorted, final double quantile) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            final int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+            return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+        }
+    }
+}
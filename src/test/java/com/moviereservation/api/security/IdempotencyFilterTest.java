@@ -0,0 +1,230 @@
+package com.moviereservation.api.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviereservation.api.config.IdempotencyProperties;
+import com.moviereservation.api.constant.Route;
+import com.moviereservation.api.constant.SecurityConstants;
+import com.moviereservation.api.domain.enums.UserRole;
+import com.moviereservation.api.repository.IdempotencyKeyRepository;
+import com.moviereservation.api.repository.IdempotencyKeyRepository.StoredKey;
+import com.moviereservation.api.service.idempotency.IdempotencyService;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+
+@DisplayName("IdempotencyFilter Tests")
+class IdempotencyFilterTest {
+
+    private static final String KEY = "retry-7f3a";
+    private static final String BODY = "{\"showtimeId\":\"0192\",\"seatIds\":[\"a\",\"b\"]}";
+
+    private final IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final BookingController controller = new BookingController();
+
+    private MockMvc mockMvc;
+
+    /**
+     * Answers with a body that differs on every call, so a replay is
+     * told apart from a second execution.
+     */
+    @RestController
+    static class BookingController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @PostMapping(Route.RESERVATIONS)
+        ResponseEntity<String> create(@RequestParam(defaultValue = "201") final int status,
+                @RequestBody final String body) {
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body("{\"call\":" + calls.incrementAndGet() + ",\"nonce\":\"" + UUID.randomUUID() + "\"}");
+        }
+
+        @PostMapping(Route.RESERVATIONS + "/best-available")
+        ResponseEntity<String> bestAvailable(@RequestBody final String body) {
+            return ResponseEntity.status(201).body("{\"call\":" + calls.incrementAndGet() + "}");
+        }
+
+        @PostMapping(Route.PAYMENTS + "/create-intent/{reservationId}")
+        ResponseEntity<String> createIntent(@PathVariable final String reservationId) {
+            return ResponseEntity.ok("{\"call\":" + calls.incrementAndGet() + "}");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(repository.claim(any(), any(), any(), any(), any(), any())).thenReturn(true);
+        when(repository.complete(any(), any(), any(), any(), any())).thenReturn(true);
+
+        final IdempotencyService idempotencyService = new IdempotencyService(
+                repository, properties, mock(BookingMetrics.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new IdempotencyFilter(idempotencyService, properties))
+                .build();
+
+        final UserPrincipal principal = new UserPrincipal(
+                UUID.randomUUID(), "customer@example.com", "hash", UserRole.CUSTOMER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should replay the stored response byte for byte without reaching the controller")
+    void shouldReplayResponseByteForByte() throws Exception {
+        final MvcResult first = mockMvc.perform(reserve(KEY, BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(SecurityConstants.IDEMPOTENT_REPLAYED_HEADER))
+                .andReturn();
+
+        final MvcResult retry = mockMvc.perform(reserve(KEY, BODY))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(SecurityConstants.IDEMPOTENT_REPLAYED_HEADER, "true"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        assertThat(retry.getResponse().getContentAsByteArray())
+                .isEqualTo(first.getResponse().getContentAsByteArray());
+        assertThat(controller.calls).hasValue(1);
+        verify(repository, times(1)).claim(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different body or endpoint")
+    void shouldRejectKeyReusedForAnotherRequest() throws Exception {
+        mockMvc.perform(reserve(KEY, BODY)).andExpect(status().isCreated());
+
+        mockMvc.perform(reserve(KEY, BODY.replace("\"b\"", "\"c\"")))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(post(Route.RESERVATIONS + "/best-available")
+                .header(SecurityConstants.IDEMPOTENCY_KEY_HEADER, KEY)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(BODY))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should answer 409 while the original request runs on another node")
+    void shouldRejectKeyInProgress() throws Exception {
+        final ArgumentCaptor<String> requestHash = ArgumentCaptor.forClass(String.class);
+        when(repository.claim(any(), eq(KEY), requestHash.capture(), any(), any(), any())).thenReturn(false);
+        when(repository.find(any(), eq(KEY), any()))
+                .thenAnswer(_ -> Optional.of(new StoredKey(requestHash.getValue(), null)));
+
+        mockMvc.perform(reserve(KEY, BODY))
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        assertThat(controller.calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed keys")
+    void shouldRejectMalformedKey() throws Exception {
+        mockMvc.perform(reserve("has space", BODY)).andExpect(status().isBadRequest());
+        mockMvc.perform(reserve("k".repeat(256), BODY)).andExpect(status().isBadRequest());
+
+        assertThat(controller.calls).hasValue(0);
+        verifyNoInteractions(repository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 200, 201, 400, 404 })
+    @DisplayName("Should store successes and client errors")
+    void shouldStoreFinalResponses(final int status) throws Exception {
+        mockMvc.perform(reserve(KEY, BODY).param("status", String.valueOf(status)))
+                .andExpect(status().is(status));
+        mockMvc.perform(reserve(KEY, BODY).param("status", String.valueOf(status)))
+                .andExpect(status().is(status))
+                .andExpect(header().string(SecurityConstants.IDEMPOTENT_REPLAYED_HEADER, "true"));
+
+        assertThat(controller.calls).hasValue(1);
+        verify(repository, never()).release(any(), any(), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 409, 429, 500, 503 })
+    @DisplayName("Should release the key on responses a retry may change")
+    void shouldReleaseRetryableResponses(final int status) throws Exception {
+        mockMvc.perform(reserve(KEY, BODY).param("status", String.valueOf(status)))
+                .andExpect(status().is(status));
+        mockMvc.perform(reserve(KEY, BODY).param("status", String.valueOf(status)))
+                .andExpect(status().is(status))
+                .andExpect(header().doesNotExist(SecurityConstants.IDEMPOTENT_REPLAYED_HEADER));
+
+        assertThat(controller.calls).hasValue(2);
+        verify(repository, times(2)).release(any(), eq(KEY), any());
+        verify(repository, never()).complete(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cover payment intent creation")
+    void shouldReplayPaymentIntentCreation() throws Exception {
+        final String path = Route.PAYMENTS + "/create-intent/" + UUID.randomUUID();
+
+        mockMvc.perform(post(path).header(SecurityConstants.IDEMPOTENCY_KEY_HEADER, KEY))
+                .andExpect(status().isOk());
+        mockMvc.perform(post(path).header(SecurityConstants.IDEMPOTENCY_KEY_HEADER, KEY))
+                .andExpect(header().string(SecurityConstants.IDEMPOTENT_REPLAYED_HEADER, "true"));
+
+        assertThat(controller.calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not touch requests without a key")
+    void shouldIgnoreRequestsWithoutKey() throws Exception {
+        mockMvc.perform(post(Route.RESERVATIONS).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post(Route.RESERVATIONS).contentType(MediaType.APPLICATION_JSON).content(BODY))
+                .andExpect(status().isCreated());
+
+        assertThat(controller.calls).hasValue(2);
+        verifyNoInteractions(repository);
+    }
+
+    // ========== Helper Methods ==========
+
+    private static MockHttpServletRequestBuilder reserve(final String key, final String body) {
+        return post(Route.RESERVATIONS)
+                .header(SecurityConstants.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+}
@@ -0,0 +1,112 @@
+package com.moviereservation.api.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.moviereservation.api.config.QueryBudgetProperties;
+import com.moviereservation.api.service.querybudget.QueryBudget;
+import com.moviereservation.api.service.querybudget.QueryBudgetExceededException;
+import com.moviereservation.api.service.querybudget.QueryCountingStatementInspector;
+import com.moviereservation.api.service.querybudget.SqlFingerprint;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+@DisplayName("QueryBudgetFilter Tests")
+class QueryBudgetFilterTest {
+
+    private static final String FIND_MOVIE = "select m.id, m.title from movies m where m.id=?";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryBudgetProperties properties = new QueryBudgetProperties();
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @QueryBudget(2)
+    static class BudgetedController {
+
+        public void list() {
+        }
+
+        @QueryBudget(5)
+        public void create() {
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties.setSampleRate(1.0);
+    }
+
+    @Test
+    @DisplayName("Should pass requests within their endpoint's budget")
+    void shouldPassWithinBudget() throws Exception {
+        properties.setFailOnExceed(true);
+
+        assertThatCode(() -> run("create", 5)).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("db.queries.per.request").summary().max()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should fail requests over budget with the repeated statement")
+    void shouldFailOverBudget() {
+        properties.setFailOnExceed(true);
+
+        assertThatThrownBy(() -> run("list", 3))
+                .isInstanceOf(QueryBudgetExceededException.class)
+                .hasMessageContaining("GET /api/v1/movies ran 3 SQL statements, budget is 2")
+                .hasMessageContaining("3x select m.id, m.title from movies m where m.id=?");
+    }
+
+    @Test
+    @DisplayName("Should only count requests over budget when not failing")
+    void shouldCountOverBudget() throws Exception {
+        run("list", 3);
+
+        assertThat(meterRegistry.get("db.query.budget.exceeded")
+                .tag("endpoint", "GET /api/v1/movies")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should skip requests outside the sample")
+    void shouldSkipUnsampledRequests() throws Exception {
+        properties.setSampleRate(0.0);
+        properties.setFailOnExceed(true);
+
+        assertThatCode(() -> run("list", 10)).doesNotThrowAnyException();
+        assertThat(meterRegistry.find("db.queries.per.request").summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should group statements that differ only in literals and IN list length")
+    void shouldFingerprintStatements() {
+        assertThat(SqlFingerprint.of("select * from seats where id in (?, ?, ?) and row_label = 'A'"))
+                .isEqualTo(SqlFingerprint.of("select *  from seats\n where id in (?) and row_label = 'B'"))
+                .isEqualTo("select * from seats where id in (?...) and row_label = ?");
+        assertThat(SqlFingerprint.of("select * from showtimes s1_0 where s1_0.screen_number = 3"))
+                .isEqualTo("select * from showtimes s1_0 where s1_0.screen_number = ?");
+    }
+
+    // ========== Helper Methods ==========
+
+    private void run(final String handler, final int statements) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/movies");
+        final HandlerMethod handlerMethod = new HandlerMethod(
+                new BudgetedController(), BudgetedController.class.getMethod(handler));
+        final FilterChain chain = (_, _) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect(FIND_MOVIE);
+            }
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/movies");
+        };
+        new QueryBudgetFilter(properties, meterRegistry).doFilter(request, new MockHttpServletResponse(), chain);
+    }
+}
@@ -0,0 +1,93 @@
+package com.moviereservation.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviereservation.api.config.ResilienceProperties;
+import com.moviereservation.api.domain.entities.EmailLog;
+import com.moviereservation.api.domain.enums.EmailStatus;
+import com.moviereservation.api.repository.EmailLogRepository;
+import com.moviereservation.api.service.resilience.DependencyGuard;
+import com.moviereservation.api.service.resilience.ExternalDependency;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailService Tests")
+class EmailServiceTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailLogRepository emailLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailService = new EmailService(mailSender, emailLogRepository,
+                new DependencyGuard(new ResilienceProperties(), circuitBreakerRegistry, BulkheadRegistry.ofDefaults()),
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Should claim queued emails, send them outside the transaction and requeue the rest when the mail circuit opens")
+    void shouldSendClaimedEmailsOutsideTransaction() {
+        final List<EmailLog> queued = List.of(queuedEmail(1), queuedEmail(2), queuedEmail(3));
+        when(emailLogRepository.findByStatusOrderByCreatedAtAsc(eq(EmailStatus.QUEUED), any())).thenReturn(queued);
+        when(emailLogRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mailSender.createMimeMessage()).thenAnswer(_ -> new MimeMessage((Session) null));
+        doAnswer(_ -> {
+            // Claimed before the send, so no other sender picks the email up
+            assertThat(queued).allSatisfy(email -> assertThat(email.getStatus()).isEqualTo(EmailStatus.PENDING));
+            circuitBreakerRegistry.circuitBreaker(ExternalDependency.MAIL.id()).transitionToOpenState();
+            return null;
+        }).when(mailSender).send(any(MimeMessage.class));
+
+        emailService.sendQueuedEmails();
+
+        assertThat(queued).extracting(EmailLog::getStatus)
+                .containsExactly(EmailStatus.SENT, EmailStatus.QUEUED, EmailStatus.QUEUED);
+
+        final InOrder inOrder = inOrder(transactionManager, mailSender, emailLogRepository);
+        inOrder.verify(emailLogRepository).findByStatusOrderByCreatedAtAsc(eq(EmailStatus.QUEUED), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(mailSender).send(any(MimeMessage.class));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(emailLogRepository).saveAll(queued);
+    }
+
+    // ========== Helper Methods ==========
+
+    private static EmailLog queuedEmail(final int n) {
+        final EmailLog emailLog = new EmailLog();
+        emailLog.setRecipientEmail("customer" + n + "@example.com");
+        emailLog.setSubject("Refund Processed - " + n);
+        emailLog.setEmailBody("<p>Refunded</p>");
+        emailLog.setStatus(EmailStatus.QUEUED);
+        return emailLog;
+    }
+}
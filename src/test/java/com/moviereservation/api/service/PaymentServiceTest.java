@@ -0,0 +1,326 @@
+package com.moviereservation.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.moviereservation.api.config.ResilienceProperties;
+import com.moviereservation.api.config.StripeConfig;
+import com.moviereservation.api.constant.PaymentConstants;
+import com.moviereservation.api.domain.entities.Payment;
+import com.moviereservation.api.domain.entities.Reservation;
+import com.moviereservation.api.domain.entities.User;
+import com.moviereservation.api.domain.enums.PaymentStatus;
+import com.moviereservation.api.domain.enums.ReservationStatus;
+import com.moviereservation.api.exception.PaymentException;
+import com.moviereservation.api.exception.PaymentUnavailableException;
+import com.moviereservation.api.repository.PaymentRepository;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+import com.moviereservation.api.service.payment.GatewayIntentStatus;
+import com.moviereservation.api.service.payment.GatewayPaymentIntent;
+import com.moviereservation.api.service.payment.PaymentGateway;
+import com.moviereservation.api.service.payment.PaymentGatewayException;
+import com.moviereservation.api.service.resilience.DependencyGuard;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentService Tests")
+class PaymentServiceTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private StripeConfig stripeConfig;
+
+    @Mock
+    private PaymentGateway paymentGateway;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ResilienceProperties resilienceProperties = new ResilienceProperties();
+
+    private PaymentService paymentService;
+
+    private User testUser;
+    private Reservation testReservation;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentService(paymentRepository, reservationService, stripeConfig,
+                paymentGateway, bookingMetrics, new TransactionTemplate(transactionManager),
+                new DependencyGuard(resilienceProperties,
+                        CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()));
+
+        testUser = new User();
+        testUser.setId(UUID.randomUUID());
+
+        testReservation = new Reservation();
+        testReservation.setId(UUID.randomUUID());
+        testReservation.setUser(testUser);
+        testReservation.setStatus(ReservationStatus.PENDING_PAYMENT);
+        testReservation.setTotalPrice(new BigDecimal("450.00"));
+        testReservation.setBookingReference("0ABCDEFG");
+        testReservation.setCreatedAt(Instant.now());
+
+        lenient().when(stripeConfig.getCurrency()).thenReturn("INR");
+        lenient().when(reservationService.findById(testReservation.getId())).thenReturn(testReservation);
+    }
+
+    @Test
+    @DisplayName("Should record the attempt, call the gateway between transactions, then store the intent")
+    void shouldCreatePaymentIntentInThreeSteps() {
+        final UUID paymentId = UUID.randomUUID();
+        when(paymentRepository.findByReservationIdAndStatusIn(eq(testReservation.getId()), any()))
+                .thenReturn(Optional.empty());
+        when(paymentRepository.countByReservationId(testReservation.getId())).thenReturn(1L);
+        when(paymentRepository.saveAndFlush(any(Payment.class))).thenAnswer(invocation -> {
+            final Payment payment = invocation.getArgument(0);
+            payment.setId(paymentId);
+            return payment;
+        });
+        final Payment recorded = new Payment();
+        recorded.setStatus(PaymentStatus.INITIATED);
+        when(paymentRepository.findById(paymentId)).thenReturn(Optional.of(recorded));
+        when(paymentGateway.createPaymentIntent(anyLong(), eq("inr"), anyString(), anyMap(), anyString()))
+                .thenReturn(new GatewayPaymentIntent("pi_1", "pi_1_secret"));
+
+        final String clientSecret = paymentService.createPaymentIntent(testReservation.getId(), testUser.getId());
+
+        assertThat(clientSecret).isEqualTo("pi_1_secret");
+        assertThat(recorded.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(recorded.getPaymentIntentId()).isEqualTo("pi_1");
+
+        final ArgumentCaptor<Payment> initiated = ArgumentCaptor.forClass(Payment.class);
+        final InOrder inOrder = inOrder(paymentRepository, transactionManager, paymentGateway);
+        inOrder.verify(paymentRepository).saveAndFlush(initiated.capture());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGateway).createPaymentIntent(eq(45_000L), eq("inr"), anyString(), anyMap(),
+                eq("payment-intent-" + testReservation.getId() + "-2"));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(paymentRepository).save(recorded);
+        assertThat(initiated.getValue().getAttemptNumber()).isEqualTo((short) 2);
+    }
+
+    @Test
+    @DisplayName("Should refund between transactions with an idempotency key per payment")
+    void shouldRefundInThreeSteps() {
+        final Payment paid = new Payment();
+        paid.setId(UUID.randomUUID());
+        paid.setReservation(testReservation);
+        paid.setStatus(PaymentStatus.PAID);
+        paid.setPaymentIntentId("pi_1");
+        testReservation.setStatus(ReservationStatus.CONFIRMED);
+        when(paymentRepository.findByReservationIdAndStatus(testReservation.getId(), PaymentStatus.PAID))
+                .thenReturn(Optional.of(paid));
+        when(paymentRepository.findById(paid.getId())).thenReturn(Optional.of(paid));
+        when(paymentGateway.refund(eq("pi_1"), anyMap(), anyString())).thenReturn("re_1");
+
+        paymentService.processRefund(testReservation.getId(), "Showtime cancelled");
+
+        assertThat(paid.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.REFUNDED);
+
+        final InOrder inOrder = inOrder(paymentRepository, transactionManager, paymentGateway);
+        inOrder.verify(paymentRepository).findByReservationIdAndStatus(testReservation.getId(), PaymentStatus.PAID);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGateway).refund(eq("pi_1"), anyMap(), eq("refund-" + paid.getId()));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(paymentRepository).save(paid);
+    }
+
+    @Test
+    @DisplayName("Should resume the attempt in progress with the same idempotency key")
+    void shouldResumeAttemptInProgress() {
+        final Payment inProgress = new Payment();
+        inProgress.setId(UUID.randomUUID());
+        inProgress.setAmount(testReservation.getTotalPrice());
+        inProgress.setStatus(PaymentStatus.PENDING);
+        inProgress.setPaymentIntentId("pi_1");
+        inProgress.setAttemptNumber((short) 1);
+        when(paymentRepository.findByReservationIdAndStatusIn(eq(testReservation.getId()), any()))
+                .thenReturn(Optional.of(inProgress));
+        when(paymentRepository.findById(inProgress.getId())).thenReturn(Optional.of(inProgress));
+        when(paymentGateway.createPaymentIntent(anyLong(), anyString(), anyString(), anyMap(),
+                eq("payment-intent-" + testReservation.getId() + "-1")))
+                .thenReturn(new GatewayPaymentIntent("pi_1", "pi_1_secret"));
+
+        assertThat(paymentService.createPaymentIntent(testReservation.getId(), testUser.getId()))
+                .isEqualTo("pi_1_secret");
+        verify(paymentRepository, never()).saveAndFlush(any());
+        verify(paymentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should leave the attempt INITIATED when the gateway call fails")
+    void shouldKeepAttemptWhenGatewayFails() {
+        final Payment initiated = new Payment();
+        initiated.setId(UUID.randomUUID());
+        initiated.setAmount(testReservation.getTotalPrice());
+        initiated.setStatus(PaymentStatus.INITIATED);
+        initiated.setAttemptNumber((short) 1);
+        when(paymentRepository.findByReservationIdAndStatusIn(eq(testReservation.getId()), any()))
+                .thenReturn(Optional.of(initiated));
+        when(paymentGateway.createPaymentIntent(anyLong(), anyString(), anyString(), anyMap(), anyString()))
+                .thenThrow(new PaymentGatewayException("timeout", null));
+
+        assertThatThrownBy(() -> paymentService.createPaymentIntent(testReservation.getId(), testUser.getId()))
+                .isInstanceOf(PaymentException.class);
+        assertThat(initiated.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 without calling the gateway once its circuit is open")
+    void shouldRejectWhileCircuitOpen() {
+        final Payment initiated = new Payment();
+        initiated.setId(UUID.randomUUID());
+        initiated.setAmount(testReservation.getTotalPrice());
+        initiated.setStatus(PaymentStatus.INITIATED);
+        initiated.setAttemptNumber((short) 1);
+        when(paymentRepository.findByReservationIdAndStatusIn(eq(testReservation.getId()), any()))
+                .thenReturn(Optional.of(initiated));
+        when(paymentGateway.createPaymentIntent(anyLong(), anyString(), anyString(), anyMap(), anyString()))
+                .thenThrow(new PaymentGatewayException("api.stripe.com unreachable", null));
+
+        final int minimumCalls = resilienceProperties.getPaymentGateway().getMinimumCalls();
+        for (int i = 0; i < minimumCalls; i++) {
+            assertThatThrownBy(() -> paymentService.createPaymentIntent(testReservation.getId(), testUser.getId()))
+                    .isInstanceOf(PaymentException.class);
+        }
+
+        assertThatThrownBy(() -> paymentService.createPaymentIntent(testReservation.getId(), testUser.getId()))
+                .isInstanceOfSatisfying(PaymentUnavailableException.class, e -> assertThat(e.getRetryAfter())
+                        .isEqualTo(resilienceProperties.getPaymentGateway().getOpenDuration()));
+        verify(paymentGateway, times(minimumCalls))
+                .createPaymentIntent(anyLong(), anyString(), anyString(), anyMap(), anyString());
+        assertThat(initiated.getStatus()).isEqualTo(PaymentStatus.INITIATED);
+    }
+
+    @Test
+    @DisplayName("Should confirm a pending payment and fetch its charge after the transaction")
+    void shouldConfirmPendingPayment() {
+        final Payment pending = pendingPayment();
+        when(paymentRepository.findByPaymentIntentId("pi_1")).thenReturn(Optional.of(pending));
+        when(reservationService.confirmPaid(testReservation)).thenReturn(true);
+        when(paymentGateway.getLatestChargeId("pi_1")).thenReturn("ch_1");
+
+        paymentService.processWebhookEvent("pi_1", PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED);
+
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(pending.getChargeId()).isEqualTo("ch_1");
+
+        final InOrder inOrder = inOrder(reservationService, transactionManager, paymentGateway);
+        inOrder.verify(reservationService).confirmPaid(testReservation);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGateway).getLatestChargeId("pi_1");
+        inOrder.verify(transactionManager).getTransaction(any());
+    }
+
+    @Test
+    @DisplayName("Should ignore a repeated success event for a settled payment")
+    void shouldIgnoreRepeatedSuccessEvent() {
+        final Payment paid = pendingPayment();
+        paid.setStatus(PaymentStatus.PAID);
+        testReservation.setStatus(ReservationStatus.CONFIRMED);
+        when(paymentRepository.findByPaymentIntentId("pi_1")).thenReturn(Optional.of(paid));
+
+        paymentService.processWebhookEvent("pi_1", PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED);
+
+        assertThat(paid.getStatus()).isEqualTo(PaymentStatus.PAID);
+        verify(reservationService, never()).confirmPaid(any());
+        verifyNoInteractions(paymentGateway);
+    }
+
+    @Test
+    @DisplayName("Should refund a success for an expired reservation between transactions")
+    void shouldRefundLatePaymentOutsideTransaction() {
+        final Payment pending = pendingPayment();
+        testReservation.setStatus(ReservationStatus.EXPIRED);
+        when(paymentRepository.findByPaymentIntentId("pi_1")).thenReturn(Optional.of(pending));
+        when(paymentGateway.refund(eq("pi_1"), anyMap(), anyString())).thenReturn("re_1");
+
+        paymentService.processWebhookEvent("pi_1", PaymentConstants.EVENT_PAYMENT_INTENT_SUCCEEDED);
+
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+        assertThat(testReservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        verify(reservationService, never()).confirmPaid(any());
+
+        final InOrder inOrder = inOrder(paymentRepository, transactionManager, paymentGateway);
+        inOrder.verify(paymentRepository).findByIdWithLock(pending.getId());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(paymentGateway).refund(eq("pi_1"), anyMap(), eq("refund-" + pending.getId()));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(paymentRepository).save(pending);
+    }
+
+    @Test
+    @DisplayName("Should refund a success whose reservation lost seats instead of confirming it")
+    void shouldRefundPaymentWhenSeatsWereLost() {
+        final Payment pending = pendingPayment();
+        when(reservationService.confirmPaid(testReservation)).thenAnswer(_ -> {
+            testReservation.setStatus(ReservationStatus.EXPIRED);
+            return false;
+        });
+        when(paymentGateway.refund(eq("pi_1"), anyMap(), anyString())).thenReturn("re_1");
+
+        assertThat(paymentService.reconcile(pending.getId(), GatewayIntentStatus.SUCCEEDED))
+                .isEqualTo(PaymentStatus.REFUNDED);
+        verify(paymentGateway).refund(eq("pi_1"), argThat(metadata -> metadata.get("reason").equals(
+                "Reservation expired")), eq("refund-" + pending.getId()));
+        verify(paymentGateway, never()).getLatestChargeId(any());
+    }
+
+    @Test
+    @DisplayName("Should leave a late payment PENDING when its refund fails, for the reconciler to retry")
+    void shouldKeepLatePaymentPendingWhenRefundFails() {
+        final Payment pending = pendingPayment();
+        testReservation.setStatus(ReservationStatus.EXPIRED);
+        when(paymentGateway.refund(eq("pi_1"), anyMap(), anyString()))
+                .thenThrow(new PaymentGatewayException("timeout", null));
+
+        assertThatThrownBy(() -> paymentService.reconcile(pending.getId(), GatewayIntentStatus.SUCCEEDED))
+                .isInstanceOf(PaymentException.class);
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        verify(paymentRepository, never()).save(any());
+    }
+
+    // ========== Helper Methods ==========
+
+    private Payment pendingPayment() {
+        final Payment payment = new Payment();
+        payment.setId(UUID.randomUUID());
+        payment.setReservation(testReservation);
+        payment.setStatus(PaymentStatus.PENDING);
+        payment.setPaymentIntentId("pi_1");
+        payment.setCreatedAt(Instant.now());
+        lenient().when(paymentRepository.findByIdWithLock(payment.getId())).thenReturn(Optional.of(payment));
+        lenient().when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        return payment;
+    }
+}
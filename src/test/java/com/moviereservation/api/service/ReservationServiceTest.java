@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -16,14 +17,30 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.moviereservation.api.config.LockingProperties;
 import com.moviereservation.api.domain.entities.*;
 import com.moviereservation.api.domain.enums.*;
 import com.moviereservation.api.exception.*;
 import com.moviereservation.api.repository.*;
+import com.moviereservation.api.repository.SeatBookingRepository.BookedSeats;
+import com.moviereservation.api.service.allocation.BestSeatAllocator;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+import com.moviereservation.api.service.metrics.BookingMetrics.HoldOutcome;
+import com.moviereservation.api.service.reference.BookingReferenceGenerator;
+import com.moviereservation.api.web.dto.request.reservation.CreateBestAvailableReservationRequest;
 import com.moviereservation.api.web.dto.request.reservation.CreateReservationRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +59,30 @@ class ReservationServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private SeatStatusMapService seatStatusMapService;
+
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    @Mock
+    private BookingReferenceGenerator bookingReferenceGenerator;
+
+    @Mock
+    private SeatBookingRepository seatBookingRepository;
+
+    @Mock
+    private ShowtimeSeatCountRepository showtimeSeatCountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private LockingProperties lockingProperties = new LockingProperties();
+
+    @Spy
+    private BestSeatAllocator bestSeatAllocator = new BestSeatAllocator();
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -76,7 +117,10 @@ class ReservationServiceTest {
         testShowtime.setScreenNumber((short) 1);
         testShowtime.setBasePrice(new BigDecimal("10.00"));
         testShowtime.setStatus(ShowtimeStatus.SCHEDULED);
-        testShowtime.setAvailableSeatsCount((short) 120);
+        final ShowtimeSeatCount seatCount = new ShowtimeSeatCount();
+        seatCount.setShowtimeId(testShowtime.getId());
+        seatCount.setAvailableSeatsCount((short) 120);
+        testShowtime.setSeatCount(seatCount);
 
         // Setup test seats
         testSeats = new ArrayList<>();
@@ -124,11 +168,42 @@ class ReservationServiceTest {
 
         verify(seatInstanceRepository).findAllByIdWithLock(anyList());
         verify(reservationRepository).save(any(Reservation.class));
+        verify(showtimeSeatCountRepository).adjust(testShowtime.getId(), -3);
+        verify(bookingMetrics).recordHold(eq(testShowtime.getId()), eq(HoldOutcome.SUCCESS), anyLong());
 
         // Verify seats are marked as HELD
         testSeats.forEach(seat -> assertThat(seat.getStatus()).isEqualTo(SeatStatus.HELD));
     }
 
+    @Test
+    @DisplayName("Should book through the database function in FUNCTION mode")
+    void shouldCreateReservationWithBookingFunction() {
+        // Arrange
+        ReflectionTestUtils.setField(reservationService, "bookingMode", BookingMode.FUNCTION);
+        UUID reservationId = UUID.randomUUID();
+        Reservation booked = new Reservation();
+        booked.setId(reservationId);
+        booked.setStatus(ReservationStatus.PENDING_PAYMENT);
+        Duration lockTimeout = lockingProperties.getLockTimeout();
+
+        when(showtimeRepository.findById(testShowtime.getId())).thenReturn(Optional.of(testShowtime));
+        when(bookingReferenceGenerator.next()).thenReturn("0A1B2C3D");
+        when(seatBookingRepository.bookSeats(eq(testUser.getId()), eq(testShowtime.getId()),
+                eq(createReservationRequest.getSeatInstanceIds()), eq("0A1B2C3D"), anyInt(), eq(lockTimeout)))
+                .thenReturn(new BookedSeats(reservationId, new BigDecimal("30.00"), 3));
+        when(reservationRepository.findWithSeatsById(reservationId)).thenReturn(Optional.of(booked));
+
+        // Act
+        Reservation result = reservationService.create(testUser.getId(), createReservationRequest);
+
+        // Assert
+        assertThat(result).isSameAs(booked);
+        verify(showtimeSeatCountRepository, never()).adjust(any(), anyInt());
+        verify(seatInstanceRepository, never()).findAllByIdWithLock(anyList());
+        verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(bookingMetrics).recordHold(eq(testShowtime.getId()), eq(HoldOutcome.SUCCESS), anyLong());
+    }
+
     @Test
     @DisplayName("Should throw exception when booking more than 10 seats")
     void shouldThrowExceptionWhenBookingTooManySeats() {
@@ -184,6 +259,119 @@ class ReservationServiceTest {
                 .isInstanceOf(SeatUnavailableException.class);
 
         verify(reservationRepository, never()).save(any(Reservation.class));
+        verify(bookingMetrics).recordHold(eq(testShowtime.getId()), eq(HoldOutcome.CONFLICT), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should record unexpected hold failures as errors")
+    void shouldRecordUnexpectedHoldFailureAsError() {
+        // Arrange
+        when(userService.findById(testUser.getId())).thenReturn(testUser);
+        when(showtimeRepository.findById(any(UUID.class))).thenReturn(Optional.of(testShowtime));
+        when(seatInstanceRepository.findAllByIdWithLock(anyList()))
+                .thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> reservationService.create(testUser.getId(), createReservationRequest))
+                .isInstanceOf(CannotAcquireLockException.class);
+
+        verify(bookingMetrics).recordHoldError(eq(testShowtime.getId()), eq("CannotAcquireLockException"), anyLong());
+        verify(bookingMetrics, never()).recordHold(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should record a hold rolled back at commit as an error, not a success")
+    void shouldRecordHoldOutcomeAfterTransactionCompletes() {
+        // Arrange
+        when(userService.findById(testUser.getId())).thenReturn(testUser);
+        when(showtimeRepository.findById(any(UUID.class))).thenReturn(Optional.of(testShowtime));
+        when(seatInstanceRepository.findAllByIdWithLock(anyList())).thenReturn(testSeats);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            reservationService.create(testUser.getId(), createReservationRequest);
+            verify(bookingMetrics, never()).recordHold(any(), any(), anyLong());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        verify(bookingMetrics).recordHoldError(eq(testShowtime.getId()), eq("rollback"), anyLong());
+        verify(bookingMetrics, never()).recordHold(any(), eq(HoldOutcome.SUCCESS), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should release a partly locked block at its savepoint and claim the next best block")
+    void shouldClaimNextBlockWhenBestBlockIsContested() {
+        // Arrange: seats A1-A4; A2+A3 ranks best but A3 is locked by another booking
+        final SeatInstance fourth = new SeatInstance();
+        fourth.setId(UUID.randomUUID());
+        fourth.setShowtime(testShowtime);
+        fourth.setRowLabel('A');
+        fourth.setSeatNumber((short) 4);
+        fourth.setType(SeatType.REGULAR);
+        fourth.setPrice(new BigDecimal("10.00"));
+        fourth.setStatus(SeatStatus.AVAILABLE);
+        testSeats.add(fourth);
+
+        final SeatInstance a1 = testSeats.get(0);
+        final SeatInstance a2 = testSeats.get(1);
+        final SeatInstance a3 = testSeats.get(2);
+        final SimpleTransactionStatus contested = new SimpleTransactionStatus();
+        final SimpleTransactionStatus claimed = new SimpleTransactionStatus();
+
+        stubBestAvailable();
+        when(transactionManager.getTransaction(any())).thenReturn(contested, claimed);
+        when(seatInstanceRepository.findClaimableByIdSkipLocked(
+                eq(List.of(a2.getId(), a3.getId())), any(), eq(SeatStatus.AVAILABLE), eq(SeatStatus.HELD)))
+                .thenReturn(List.of(a2));
+        when(seatInstanceRepository.findClaimableByIdSkipLocked(
+                eq(List.of(a1.getId(), a2.getId())), any(), eq(SeatStatus.AVAILABLE), eq(SeatStatus.HELD)))
+                .thenReturn(List.of(a1, a2));
+
+        // Act
+        final Reservation result = reservationService.createBestAvailable(testUser.getId(), bestAvailableRequest(2));
+
+        // Assert
+        assertThat(result.getReservationSeats()).extracting(ReservationSeat::getSeatInstance).containsExactly(a1, a2);
+        assertThat(contested.isRollbackOnly()).isTrue();
+        assertThat(claimed.isRollbackOnly()).isFalse();
+        verify(transactionManager).commit(contested);
+        verify(transactionManager).commit(claimed);
+    }
+
+    @Test
+    @DisplayName("Should claim seats whose holds have expired for best-available booking")
+    void shouldClaimExpiredHoldsForBestAvailable() {
+        // Arrange: all seats held by someone else, 10 minutes ago
+        final User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        testSeats.forEach(seat -> {
+            seat.setStatus(SeatStatus.HELD);
+            seat.setHeldBy(otherUser);
+            seat.setHeldAt(Instant.now().minus(10, ChronoUnit.MINUTES));
+        });
+        final List<UUID> seatIds = testSeats.stream().map(SeatInstance::getId).toList();
+
+        stubBestAvailable();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(seatInstanceRepository.findClaimableByIdSkipLocked(
+                eq(seatIds), any(), eq(SeatStatus.AVAILABLE), eq(SeatStatus.HELD)))
+                .thenReturn(testSeats);
+
+        // Act
+        reservationService.createBestAvailable(testUser.getId(), bestAvailableRequest(3));
+
+        // Assert
+        verify(seatInstanceRepository).findClaimableByIdSkipLocked(eq(seatIds),
+                argThat(heldBefore -> heldBefore.isBefore(Instant.now().minus(4, ChronoUnit.MINUTES))),
+                eq(SeatStatus.AVAILABLE), eq(SeatStatus.HELD));
+        testSeats.forEach(seat -> assertThat(seat.getHeldBy()).isEqualTo(testUser));
     }
 
     @Test
@@ -306,4 +494,184 @@ class ReservationServiceTest {
 
         verify(reservationRepository).findByBookingReference("ABC12345");
     }
+
+    @Test
+    @DisplayName("Should expire holds, locking all their seats in one query in id order")
+    void shouldExpireHoldsLockingAllSeatsAtOnce() {
+        // Arrange: two expired reservations; seat 1 was taken over by another user since
+        final Instant heldAt = Instant.now().minus(20, ChronoUnit.MINUTES);
+        testSeats.forEach(seat -> {
+            seat.setStatus(SeatStatus.HELD);
+            seat.setHeldBy(testUser);
+            seat.setHeldAt(heldAt);
+        });
+        final User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        testSeats.get(1).setHeldBy(otherUser);
+        testSeats.get(1).setHeldAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        final Reservation first = heldReservation(heldAt, testSeats.get(0), testSeats.get(1));
+        final Reservation second = heldReservation(heldAt, testSeats.get(2));
+        final List<UUID> sortedSeatIds = testSeats.stream().map(SeatInstance::getId).sorted().toList();
+
+        when(reservationRepository.findExpiredPendingReservations(any(), eq(ReservationStatus.PENDING_PAYMENT)))
+                .thenReturn(List.of(first, second));
+        when(seatInstanceRepository.findAllByIdWithLock(sortedSeatIds)).thenReturn(testSeats);
+
+        // Act
+        reservationService.processExpiredHolds();
+
+        // Assert
+        verify(seatInstanceRepository).findAllByIdWithLock(anyList());
+        assertThat(first.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(second.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(testSeats.get(0).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(testSeats.get(1).getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(testSeats.get(1).getHeldBy()).isSameAs(otherUser);
+        assertThat(testSeats.get(2).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        verify(showtimeSeatCountRepository, times(2)).adjust(testShowtime.getId(), 1);
+    }
+
+    @Test
+    @DisplayName("Should confirm a paid reservation and reserve its seats")
+    void shouldConfirmPaidReservation() {
+        // Arrange
+        final Instant heldAt = Instant.now().minus(3, ChronoUnit.MINUTES);
+        testSeats.forEach(seat -> {
+            seat.setStatus(SeatStatus.HELD);
+            seat.setHeldBy(testUser);
+            seat.setHeldAt(heldAt);
+        });
+        final Reservation reservation = heldReservation(heldAt, testSeats.toArray(SeatInstance[]::new));
+        when(seatInstanceRepository.findAllByIdWithLock(anyList())).thenReturn(testSeats);
+
+        // Act
+        final boolean confirmed = reservationService.confirmPaid(reservation);
+
+        // Assert
+        assertThat(confirmed).isTrue();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CONFIRMED);
+        assertThat(testSeats).allSatisfy(seat -> {
+            assertThat(seat.getStatus()).isEqualTo(SeatStatus.RESERVED);
+            assertThat(seat.getHeldBy()).isNull();
+        });
+        verify(showtimeSeatCountRepository, never()).adjust(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should expire a paid reservation that lost a seat instead of confirming part of it")
+    void shouldExpirePaidReservationWithLostSeats() {
+        // Arrange: seat 1 was taken over by another user after the hold expired
+        final Instant heldAt = Instant.now().minus(3, ChronoUnit.MINUTES);
+        testSeats.forEach(seat -> {
+            seat.setStatus(SeatStatus.HELD);
+            seat.setHeldBy(testUser);
+            seat.setHeldAt(heldAt);
+        });
+        final User otherUser = new User();
+        otherUser.setId(UUID.randomUUID());
+        testSeats.get(1).setHeldBy(otherUser);
+        testSeats.get(1).setHeldAt(Instant.now());
+
+        final Reservation reservation = heldReservation(heldAt, testSeats.toArray(SeatInstance[]::new));
+        when(seatInstanceRepository.findAllByIdWithLock(anyList())).thenReturn(testSeats);
+
+        // Act
+        final boolean confirmed = reservationService.confirmPaid(reservation);
+
+        // Assert
+        assertThat(confirmed).isFalse();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(testSeats.get(0).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(testSeats.get(1).getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(testSeats.get(1).getHeldBy()).isEqualTo(otherUser);
+        assertThat(testSeats.get(2).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        verify(showtimeSeatCountRepository).adjust(testShowtime.getId(), 2);
+    }
+
+    @Test
+    @DisplayName("Should cancel a paid reservation of a cancelled showtime instead of confirming it")
+    void shouldCancelPaidReservationOfCancelledShowtime() {
+        // Arrange
+        final Instant heldAt = Instant.now().minus(3, ChronoUnit.MINUTES);
+        testSeats.forEach(seat -> {
+            seat.setStatus(SeatStatus.HELD);
+            seat.setHeldBy(testUser);
+            seat.setHeldAt(heldAt);
+        });
+        testShowtime.setStatus(ShowtimeStatus.CANCELLED);
+        final Reservation reservation = heldReservation(heldAt, testSeats.toArray(SeatInstance[]::new));
+        when(seatInstanceRepository.findAllByIdWithLock(anyList())).thenReturn(testSeats);
+
+        // Act
+        final boolean confirmed = reservationService.confirmPaid(reservation);
+
+        // Assert
+        assertThat(confirmed).isFalse();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(testSeats).allSatisfy(seat -> assertThat(seat.getStatus()).isEqualTo(SeatStatus.AVAILABLE));
+        verify(showtimeSeatCountRepository).adjust(testShowtime.getId(), 3);
+    }
+
+    @Test
+    @DisplayName("Should cancel the unpaid reservations of a cancelled showtime and release their seats")
+    void shouldCancelPendingReservationsOfShowtime() {
+        // Arrange: the second reservation was booked after the seats were locked
+        final Instant heldAt = Instant.now().minus(1, ChronoUnit.MINUTES);
+        testSeats.forEach(seat -> {
+            seat.setStatus(SeatStatus.HELD);
+            seat.setHeldBy(testUser);
+            seat.setHeldAt(heldAt);
+        });
+        final Reservation pending = heldReservation(heldAt, testSeats.get(0), testSeats.get(1));
+        final Reservation booked = heldReservation(heldAt, testSeats.get(2));
+        when(seatInstanceRepository.findIdsByReservationStatus(testShowtime.getId(), ReservationStatus.PENDING_PAYMENT))
+                .thenReturn(List.of(testSeats.get(0).getId(), testSeats.get(1).getId()));
+        when(seatInstanceRepository.findAllByIdWithLock(anyList())).thenReturn(testSeats.subList(0, 2));
+        when(reservationRepository.findByShowtimeIdAndStatus(testShowtime.getId(), ReservationStatus.PENDING_PAYMENT))
+                .thenReturn(List.of(pending, booked));
+
+        // Act
+        final int cancelled = reservationService.cancelPendingForShowtime(testShowtime.getId());
+
+        // Assert
+        assertThat(cancelled).isEqualTo(1);
+        assertThat(pending.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(booked.getStatus()).isEqualTo(ReservationStatus.PENDING_PAYMENT);
+        assertThat(testSeats.get(0).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(testSeats.get(1).getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(testSeats.get(2).getStatus()).isEqualTo(SeatStatus.HELD);
+        verify(showtimeSeatCountRepository).adjust(testShowtime.getId(), 2);
+    }
+
+    // ========== Helper Methods ==========
+
+    private void stubBestAvailable() {
+        when(userService.findById(testUser.getId())).thenReturn(testUser);
+        when(showtimeRepository.findById(testShowtime.getId())).thenReturn(Optional.of(testShowtime));
+        when(seatInstanceRepository.findAll(ArgumentMatchers.<Specification<SeatInstance>>any())).thenReturn(testSeats);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private CreateBestAvailableReservationRequest bestAvailableRequest(final int seatCount) {
+        return CreateBestAvailableReservationRequest.builder()
+                .showtimeId(testShowtime.getId())
+                .seatCount(seatCount)
+                .build();
+    }
+
+    private Reservation heldReservation(final Instant createdAt, final SeatInstance... seats) {
+        final Reservation reservation = new Reservation();
+        reservation.setId(UUID.randomUUID());
+        reservation.setUser(testUser);
+        reservation.setShowtime(testShowtime);
+        reservation.setStatus(ReservationStatus.PENDING_PAYMENT);
+        reservation.setCreatedAt(createdAt);
+        for (final SeatInstance seat : seats) {
+            final ReservationSeat reservationSeat = new ReservationSeat();
+            reservationSeat.setSeatInstance(seat);
+            reservation.addSeat(reservationSeat);
+        }
+        return reservation;
+    }
 }
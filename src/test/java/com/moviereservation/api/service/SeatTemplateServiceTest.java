@@ -0,0 +1,102 @@
+package com.moviereservation.api.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviereservation.api.domain.entities.SeatTemplate;
+import com.moviereservation.api.domain.enums.SeatStorageMode;
+import com.moviereservation.api.domain.enums.SeatType;
+import com.moviereservation.api.exception.SeatLayoutInUseException;
+import com.moviereservation.api.repository.SeatTemplateRepository;
+import com.moviereservation.api.repository.ShowtimeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SeatTemplateService Tests")
+class SeatTemplateServiceTest {
+
+    private static final Short SCREEN = 1;
+
+    @Mock
+    private SeatTemplateRepository seatTemplateRepository;
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    @InjectMocks
+    private SeatTemplateService seatTemplateService;
+
+    @Test
+    @DisplayName("Should allow price changes while compact showtimes use the layout")
+    void shouldAllowPriceChangeInUse() {
+        final SeatTemplate existing = template('A', (short) 1);
+        final SeatTemplate updated = template('A', (short) 1);
+        updated.setId(existing.getId());
+        updated.setBasePrice(new BigDecimal("12.00"));
+        when(seatTemplateRepository.findById(existing.getId())).thenReturn(Optional.of(existing));
+
+        seatTemplateService.updateSeatTemplate(updated);
+
+        verify(seatTemplateRepository).save(updated);
+        verifyNoInteractions(showtimeRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse moving a seat while compact showtimes use the layout")
+    void shouldRefuseMoveInUse() {
+        final SeatTemplate existing = template('A', (short) 1);
+        final SeatTemplate moved = template('B', (short) 1);
+        moved.setId(existing.getId());
+        when(seatTemplateRepository.findById(existing.getId())).thenReturn(Optional.of(existing));
+        when(showtimeRepository.existsByScreenNumberAndSeatStorageModeAndEndTimeAfter(
+                eq(SCREEN), eq(SeatStorageMode.COMPACT), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> seatTemplateService.updateSeatTemplate(moved))
+                .isInstanceOf(SeatLayoutInUseException.class);
+        verify(seatTemplateRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse deleting a screen layout while compact showtimes use it")
+    void shouldRefuseDeleteInUse() {
+        when(showtimeRepository.existsByScreenNumberAndSeatStorageModeAndEndTimeAfter(
+                eq(SCREEN), eq(SeatStorageMode.COMPACT), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> seatTemplateService.deleteTemplatesForScreen(SCREEN))
+                .isInstanceOf(SeatLayoutInUseException.class);
+        verify(seatTemplateRepository, never()).deleteByScreenNumber(any());
+    }
+
+    @Test
+    @DisplayName("Should add seats to a screen without compact showtimes")
+    void shouldAddSeatWhenNotInUse() {
+        final SeatTemplate added = template('K', (short) 1);
+        added.setId(null);
+
+        seatTemplateService.updateSeatTemplate(added);
+
+        verify(seatTemplateRepository).save(added);
+    }
+
+    private static SeatTemplate template(final char row, final short seat) {
+        final SeatTemplate template = new SeatTemplate();
+        template.setId(UUID.randomUUID());
+        template.setScreenNumber(SCREEN);
+        template.setRowLabel(row);
+        template.setSeatNumber(seat);
+        template.setType(SeatType.REGULAR);
+        template.setBasePrice(new BigDecimal("10.00"));
+        return template;
+    }
+}
@@ -0,0 +1,130 @@
+package com.moviereservation.api.service.allocation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.moviereservation.api.domain.entities.SeatInstance;
+import com.moviereservation.api.domain.enums.SeatStatus;
+import com.moviereservation.api.domain.enums.SeatType;
+import com.moviereservation.api.service.allocation.BestSeatAllocator.SeatBlock;
+
+@DisplayName("BestSeatAllocator Tests")
+class BestSeatAllocatorTest {
+
+    private static final String ROWS = "ABCDEFGHIJ";
+    private static final int SEATS_PER_ROW = 12;
+    private static final Instant HELD_BEFORE = Instant.parse("2030-01-01T18:00:00Z");
+
+    private final BestSeatAllocator allocator = new BestSeatAllocator();
+
+    private List<SeatInstance> layout;
+
+    @BeforeEach
+    void setUp() {
+        // Same grid as the seeded screens: rows A-J, 12 seats, H-J premium
+        layout = new ArrayList<>();
+        for (final char row : ROWS.toCharArray()) {
+            for (short number = 1; number <= SEATS_PER_ROW; number++) {
+                final SeatInstance seat = new SeatInstance();
+                seat.setId(UUID.randomUUID());
+                seat.setRowLabel(row);
+                seat.setSeatNumber(number);
+                seat.setType(row >= 'H' ? SeatType.PREMIUM : SeatType.REGULAR);
+                seat.setStatus(SeatStatus.AVAILABLE);
+                layout.add(seat);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should prefer centered seats about two thirds back in an empty hall")
+    void shouldPreferCenteredSeatsInEmptyHall() {
+        // Act
+        final List<SeatBlock> blocks = allocator.rankBlocks(layout, 2, null, HELD_BEFORE, 10);
+
+        // Assert
+        final List<SeatInstance> best = blocks.getFirst().seats();
+        assertThat(best).extracting(SeatInstance::getRowLabel).containsOnly('G');
+        assertThat(best).extracting(SeatInstance::getSeatNumber).containsExactly((short) 6, (short) 7);
+    }
+
+    @Test
+    @DisplayName("Should only return contiguous blocks of available seats")
+    void shouldSkipBlocksWithUnavailableSeats() {
+        // Arrange: leave only seats 1-3 of row A free
+        layout.forEach(seat -> {
+            if (seat.getRowLabel() != 'A' || seat.getSeatNumber() > 3) {
+                seat.setStatus(SeatStatus.RESERVED);
+            }
+        });
+        seat('A', 2).setStatus(SeatStatus.HELD);
+
+        // Act
+        final List<SeatBlock> pairs = allocator.rankBlocks(layout, 2, null, HELD_BEFORE, 10);
+        final List<SeatBlock> singles = allocator.rankBlocks(layout, 1, null, HELD_BEFORE, 10);
+
+        // Assert
+        assertThat(pairs).isEmpty();
+        assertThat(singles).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should treat seats with expired holds as free")
+    void shouldTreatExpiredHoldsAsFree() {
+        // Arrange: row A seats 1-3 free except a hold on A2 that has expired
+        layout.forEach(seat -> {
+            if (seat.getRowLabel() != 'A' || seat.getSeatNumber() > 3) {
+                seat.setStatus(SeatStatus.RESERVED);
+            }
+        });
+        seat('A', 2).setStatus(SeatStatus.HELD);
+        seat('A', 2).setHeldAt(HELD_BEFORE.minusSeconds(1));
+
+        // Act
+        final List<SeatBlock> blocks = allocator.rankBlocks(layout, 3, null, HELD_BEFORE, 10);
+
+        // Assert
+        assertThat(blocks).hasSize(1);
+        assertThat(blocks.getFirst().seats()).extracting(SeatInstance::getSeatNumber)
+                .containsExactly((short) 1, (short) 2, (short) 3);
+    }
+
+    @Test
+    @DisplayName("Should respect the requested seat type")
+    void shouldRespectSeatType() {
+        // Act
+        final List<SeatBlock> blocks = allocator.rankBlocks(layout, 4, SeatType.PREMIUM, HELD_BEFORE, 100);
+
+        // Assert
+        assertThat(blocks).isNotEmpty();
+        assertThat(blocks).allSatisfy(block -> assertThat(block.seats())
+                .extracting(SeatInstance::getType)
+                .containsOnly(SeatType.PREMIUM));
+    }
+
+    @Test
+    @DisplayName("Should rank blocks best first and honour the limit")
+    void shouldRankBlocksBestFirst() {
+        // Act
+        final List<SeatBlock> blocks = allocator.rankBlocks(layout, 3, SeatType.REGULAR, HELD_BEFORE, 5);
+
+        // Assert
+        assertThat(blocks).hasSize(5);
+        assertThat(blocks).extracting(SeatBlock::score).isSorted();
+    }
+
+    private SeatInstance seat(final char row, final int number) {
+        return layout.stream()
+                .filter(seat -> seat.getRowLabel() == row && seat.getSeatNumber() == number)
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,108 @@
+package com.moviereservation.api.service.cancellation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.moviereservation.api.config.ShowtimeCancellationProperties;
+import com.moviereservation.api.domain.entities.ShowtimeCancellationJob;
+import com.moviereservation.api.exception.PaymentException;
+
+@DisplayName("ShowtimeCancellationJobRunner Tests")
+class ShowtimeCancellationJobRunnerTest {
+
+    private final ShowtimeCancellationJobService jobService = mock(ShowtimeCancellationJobService.class);
+    private final ShowtimeCancellationProperties properties = new ShowtimeCancellationProperties();
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID showtimeId = UUID.randomUUID();
+    private final List<UUID> firstPage = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    private final List<UUID> secondPage = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+    private ShowtimeCancellationJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        properties.setPageSize(3);
+        properties.setRefundConcurrency(2);
+        properties.setRefundsPerSecond(1_000);
+        runner = new ShowtimeCancellationJobRunner(jobService, properties);
+
+        final ShowtimeCancellationJob job = new ShowtimeCancellationJob();
+        job.setId(jobId);
+        job.setShowtimeId(showtimeId);
+        job.setTotalReservations(5);
+
+        when(jobService.claimStalled(any())).thenReturn(List.of(jobId));
+        when(jobService.findById(jobId)).thenReturn(job);
+        when(jobService.nextReservations(showtimeId, null, 3)).thenReturn(firstPage);
+        when(jobService.nextReservations(showtimeId, firstPage.getLast(), 3)).thenReturn(secondPage);
+        when(jobService.nextReservations(showtimeId, secondPage.getLast(), 3)).thenReturn(List.of());
+        when(jobService.complete(jobId)).thenReturn(job);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should cancel unpaid reservations, then refund page by page, saving progress after each page")
+    void shouldRefundAllPages() {
+        doThrow(new PaymentException("card expired")).when(jobService).refund(firstPage.get(1));
+
+        runner.resumeStalledJobs();
+
+        verify(jobService, timeout(5_000)).complete(jobId);
+        final InOrder inOrder = inOrder(jobService);
+        inOrder.verify(jobService).cancelPendingReservations(showtimeId);
+        inOrder.verify(jobService).nextReservations(showtimeId, null, 3);
+        verify(jobService).recordProgress(eq(jobId), eq(firstPage.getLast()), eq(2), eq(1),
+                contains(firstPage.get(1).toString()));
+        verify(jobService).recordProgress(jobId, secondPage.getLast(), 2, 0, null);
+        verify(jobService, times(5)).refund(any());
+    }
+
+    @Test
+    @DisplayName("Should keep refunds in flight within the concurrency limit")
+    void shouldBoundConcurrency() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(_ -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(jobService).refund(any());
+
+        runner.resumeStalledJobs();
+
+        verify(jobService, timeout(5_000)).complete(jobId);
+        assertThat(maxInFlight.get()).isBetween(1, properties.getRefundConcurrency());
+    }
+
+    @Test
+    @DisplayName("Should not run a job twice on the same node")
+    void shouldNotRunJobTwice() {
+        doAnswer(_ -> {
+            Thread.sleep(100);
+            return null;
+        }).when(jobService).refund(any());
+
+        runner.resumeStalledJobs();
+        runner.resumeStalledJobs();
+
+        verify(jobService, timeout(5_000)).complete(jobId);
+        verify(jobService, times(5)).refund(any());
+    }
+}
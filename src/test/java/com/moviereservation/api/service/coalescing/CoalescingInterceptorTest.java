@@ -0,0 +1,146 @@
+package com.moviereservation.api.service.coalescing;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import com.moviereservation.api.config.CoalescingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("CoalescingInterceptor Tests")
+class CoalescingInterceptorTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoalescingProperties properties = new CoalescingProperties();
+
+    private SlowLookup target;
+    private SlowLookup proxy;
+
+    static class SlowLookup {
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Coalesced("lookup")
+        public String find(final String key) throws InterruptedException {
+            executions.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            if (key.equals("missing")) {
+                throw new IllegalArgumentException("not found: " + key);
+            }
+            return "value-" + key;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        target = new SlowLookup();
+        final ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class),
+                new CoalescingInterceptor(properties, meterRegistry)));
+        proxy = (SlowLookup) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should share one execution between concurrent identical calls")
+    void shouldShareOneExecution() throws Exception {
+        final List<Future<String>> results = callConcurrently("a", 1);
+
+        for (final Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value-a");
+        }
+        assertThat(target.executions).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("follower")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("Should share the leader's exception with followers")
+    void shouldShareException() throws Exception {
+        final List<Future<String>> results = callConcurrently("missing", 1);
+
+        for (final Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(target.executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run separately after the wait timeout")
+    void shouldRunSeparatelyAfterTimeout() throws Exception {
+        properties.setTimeout(Duration.ofMillis(50));
+
+        final List<Future<String>> results = callConcurrently("a", CALLERS);
+
+        for (final Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value-a");
+        }
+        assertThat(target.executions).hasValue(CALLERS);
+        assertThat(count("timeout")).isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("Should not coalesce when disabled for the method")
+    void shouldBypassWhenDisabled() throws Exception {
+        final CoalescingProperties.MethodSettings settings = new CoalescingProperties.MethodSettings();
+        settings.setEnabled(false);
+        properties.getMethods().put("lookup", settings);
+        target.release.countDown();
+
+        assertThat(proxy.find("a")).isEqualTo("value-a");
+        assertThat(proxy.find("a")).isEqualTo("value-a");
+        assertThat(count("bypassed")).isEqualTo(2);
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * Start CALLERS identical calls, wait until the expected number of them
+     * run the target and the rest had time to queue, then let the target finish.
+     */
+    private List<Future<String>> callConcurrently(final String key, final int expectedExecutions)
+            throws InterruptedException {
+        final List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> proxy.find(key)));
+            }
+            awaitExecutions(expectedExecutions);
+            Thread.sleep(100);
+            target.release.countDown();
+        }
+        return results;
+    }
+
+    private void awaitExecutions(final int executions) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.executions.get() < executions && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(final String role) {
+        final var counter = meterRegistry.find("coalescing.calls").tag("role", role).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,133 @@
+package com.moviereservation.api.service.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.moviereservation.api.config.IdempotencyProperties;
+import com.moviereservation.api.repository.IdempotencyKeyRepository;
+import com.moviereservation.api.repository.IdempotencyKeyRepository.StoredKey;
+import com.moviereservation.api.repository.IdempotencyKeyRepository.StoredResponse;
+import com.moviereservation.api.service.idempotency.IdempotencyService.Outcome;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final String KEY = "retry-7f3a";
+    private static final String HASH = "a".repeat(64);
+    private static final StoredResponse CREATED = new StoredResponse(
+            201, "application/json", "{\"success\":true}".getBytes(StandardCharsets.UTF_8));
+
+    private final IdempotencyKeyRepository repository = mock(IdempotencyKeyRepository.class);
+    private final IdempotencyService service = new IdempotencyService(
+            repository, new IdempotencyProperties(), mock(BookingMetrics.class));
+
+    @Test
+    @DisplayName("Should run the first request and replay its response from memory")
+    void shouldReplayCompletedResponse() {
+        when(repository.claim(eq(USER_ID), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(true);
+        when(repository.complete(any(), any(), any(), any(), any())).thenReturn(true);
+
+        final Outcome first = service.begin(USER_ID, KEY, HASH);
+        assertThat(first).isInstanceOf(Outcome.Execute.class);
+        service.complete(((Outcome.Execute) first).ticket(), CREATED);
+
+        assertThat(service.begin(USER_ID, KEY, HASH))
+                .isInstanceOfSatisfying(Outcome.Replay.class, r -> assertThat(r.response()).isSameAs(CREATED));
+        assertThat(service.begin(USER_ID, KEY, "b".repeat(64))).isInstanceOf(Outcome.Mismatch.class);
+        verify(repository, times(1)).claim(any(), any(), any(), any(), any(), any());
+        verify(repository).complete(eq(USER_ID), eq(KEY), any(), eq(CREATED), any());
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent duplicates into one execution")
+    void shouldCollapseConcurrentDuplicates() throws Exception {
+        when(repository.claim(eq(USER_ID), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(true);
+        when(repository.complete(any(), any(), any(), any(), any())).thenReturn(true);
+        final Outcome.Execute leader = (Outcome.Execute) service.begin(USER_ID, KEY, HASH);
+
+        final List<Future<Outcome>> duplicates = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                duplicates.add(executor.submit(() -> service.begin(USER_ID, KEY, HASH)));
+            }
+            Thread.sleep(50); // Duplicates are waiting for the leader
+            service.complete(leader.ticket(), CREATED);
+        }
+
+        for (final Future<Outcome> duplicate : duplicates) {
+            assertThat(duplicate.get()).isInstanceOf(Outcome.Replay.class);
+        }
+        verify(repository, times(1)).claim(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should resolve keys claimed on another node from the database")
+    void shouldResolveKeysClaimedElsewhere() {
+        when(repository.claim(any(), any(), any(), any(), any(), any())).thenReturn(false);
+        when(repository.find(eq(USER_ID), eq("running"), any())).thenReturn(Optional.of(new StoredKey(HASH, null)));
+        when(repository.find(eq(USER_ID), eq(KEY), any())).thenReturn(Optional.of(new StoredKey(HASH, CREATED)));
+
+        assertThat(service.begin(USER_ID, "running", HASH)).isInstanceOf(Outcome.InProgress.class);
+        assertThat(service.begin(USER_ID, KEY, HASH)).isInstanceOf(Outcome.Replay.class);
+        assertThat(service.begin(USER_ID, KEY, HASH)).isInstanceOf(Outcome.Replay.class);
+
+        verify(repository, times(1)).find(eq(USER_ID), eq(KEY), any()); // Then served from memory
+    }
+
+    @Test
+    @DisplayName("Should let a retry run again after the key is released")
+    void shouldRunAgainAfterRelease() {
+        when(repository.claim(eq(USER_ID), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(true);
+
+        final Outcome.Execute first = (Outcome.Execute) service.begin(USER_ID, KEY, HASH);
+        service.release(first.ticket());
+
+        assertThat(service.begin(USER_ID, KEY, HASH)).isInstanceOf(Outcome.Execute.class);
+        verify(repository).release(eq(USER_ID), eq(KEY), any());
+    }
+
+    @Test
+    @DisplayName("Should complete and release with the token of its own claim")
+    void shouldUseClaimToken() {
+        final ArgumentCaptor<UUID> claimToken = ArgumentCaptor.forClass(UUID.class);
+        when(repository.claim(eq(USER_ID), any(), eq(HASH), claimToken.capture(), any(), any())).thenReturn(true);
+
+        final Outcome.Execute completed = (Outcome.Execute) service.begin(USER_ID, KEY, HASH);
+        service.complete(completed.ticket(), CREATED);
+        final Outcome.Execute released = (Outcome.Execute) service.begin(USER_ID, "other", HASH);
+        service.release(released.ticket());
+
+        assertThat(claimToken.getAllValues()).doesNotHaveDuplicates();
+        verify(repository).complete(eq(USER_ID), eq(KEY), eq(claimToken.getAllValues().get(0)), eq(CREATED), any());
+        verify(repository).release(USER_ID, "other", claimToken.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("Should not replay a response whose claim was taken over")
+    void shouldNotCacheResponseOfExpiredClaim() {
+        when(repository.claim(eq(USER_ID), eq(KEY), eq(HASH), any(), any(), any())).thenReturn(true);
+        when(repository.complete(any(), any(), any(), any(), any())).thenReturn(false);
+
+        final Outcome.Execute first = (Outcome.Execute) service.begin(USER_ID, KEY, HASH);
+        service.complete(first.ticket(), CREATED);
+
+        assertThat(service.begin(USER_ID, KEY, HASH)).isInstanceOf(Outcome.Execute.class);
+        verify(repository, times(2)).claim(any(), any(), any(), any(), any(), any());
+    }
+}
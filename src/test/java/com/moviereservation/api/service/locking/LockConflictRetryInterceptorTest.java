@@ -0,0 +1,104 @@
+package com.moviereservation.api.service.locking;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.moviereservation.api.config.LockingProperties;
+import com.moviereservation.api.exception.LockConflictException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("LockConflictRetryInterceptor Tests")
+class LockConflictRetryInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LockingProperties properties = new LockingProperties();
+
+    private Booking target;
+    private Booking proxy;
+
+    static class Booking {
+        final AtomicInteger attempts = new AtomicInteger();
+        int failures;
+        String sqlState = "40P01";
+
+        @RetryOnLockConflict
+        public String book() {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new CannotAcquireLockException("could not lock seats",
+                        new SQLException("lock conflict", sqlState));
+            }
+            return "booked";
+        }
+
+        @RetryOnLockConflict
+        public String fail() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not a lock conflict");
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(2));
+
+        target = new Booking();
+        final ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryOnLockConflict.class),
+                new LockConflictRetryInterceptor(properties, meterRegistry)));
+        proxy = (Booking) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should retry after a deadlock and succeed")
+    void shouldRecoverFromDeadlock() {
+        target.failures = 2;
+
+        assertThat(proxy.book()).isEqualTo("booked");
+        assertThat(target.attempts).hasValue(3);
+        assertThat(count("deadlock", "retried")).isEqualTo(2);
+        assertThat(count("deadlock", "recovered")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should give up with a conflict after the last attempt")
+    void shouldGiveUpAfterMaxAttempts() {
+        target.failures = Integer.MAX_VALUE;
+        target.sqlState = "55P03";
+
+        assertThatThrownBy(proxy::book).isInstanceOf(LockConflictException.class);
+        assertThat(target.attempts).hasValue(properties.getRetry().getMaxAttempts());
+        assertThat(count("lock_timeout", "exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry other failures")
+    void shouldNotRetryOtherFailures() {
+        assertThatThrownBy(proxy::fail).isInstanceOf(IllegalStateException.class);
+        assertThat(target.attempts).hasValue(1);
+    }
+
+    // ========== Helper Methods ==========
+
+    private double count(final String conflict, final String outcome) {
+        final var counter = meterRegistry.find("lock.conflicts")
+                .tag("conflict", conflict)
+                .tag("outcome", outcome)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
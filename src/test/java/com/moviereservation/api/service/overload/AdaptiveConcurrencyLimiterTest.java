@@ -0,0 +1,82 @@
+package com.moviereservation.api.service.overload;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.moviereservation.api.config.ConcurrencyLimitProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+
+    @Test
+    @DisplayName("Should grow while latency is steady and shrink once it rises")
+    void shouldFollowLatency() {
+        runSaturated(3, FAST);
+        final int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(properties.getInitialLimit());
+
+        runSaturated(1, SLOW);
+
+        assertThat(limiter.getLimit()).isLessThan(grown / 2).isGreaterThanOrEqualTo(properties.getMinLimit());
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore latency while the limit is barely used")
+    void shouldIgnoreSamplesWhenUnderused() {
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RequestPriority.NORMAL).orElseThrow().release(i < 50 ? FAST : SLOW, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(properties.getInitialLimit());
+    }
+
+    @Test
+    @DisplayName("Should shed new holds first and keep the rest of the limit for payments")
+    void shouldShedByPriority() {
+        final int limit = limiter.getLimit();
+        final int holds = (int) (limit * properties.getSheddableShare());
+
+        for (int i = 0; i < holds; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.SHEDDABLE)).isPresent();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.SHEDDABLE)).isEmpty();
+
+        for (int i = holds; i < limit; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isPresent();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isEmpty();
+        assertThat(meterRegistry.get("booking.concurrency.rejected").tag("priority", "sheddable").counter().count())
+                .isEqualTo(1);
+    }
+
+    /**
+     * Fill the limit, then complete every request with the given latency.
+     */
+    private void runSaturated(final int rounds, final long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            final List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            Optional<AdaptiveConcurrencyLimiter.Permit> permit;
+            while ((permit = limiter.tryAcquire(RequestPriority.CRITICAL)).isPresent()) {
+                permits.add(permit.get());
+            }
+            permits.forEach(p -> p.release(rttNanos, false));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.moviereservation.api.service.payment;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.moviereservation.api.config.PaymentReconciliationProperties;
+import com.moviereservation.api.config.ResilienceProperties;
+import com.moviereservation.api.domain.enums.PaymentStatus;
+import com.moviereservation.api.repository.PaymentReconciliationRepository;
+import com.moviereservation.api.repository.PaymentReconciliationRepository.StalePayment;
+import com.moviereservation.api.service.PaymentService;
+import com.moviereservation.api.service.metrics.BookingMetrics;
+import com.moviereservation.api.service.resilience.DependencyGuard;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@DisplayName("PaymentReconciler Tests")
+class PaymentReconcilerTest {
+
+    private final PaymentReconciliationRepository reconciliationRepository = mock(PaymentReconciliationRepository.class);
+    private final PaymentGateway paymentGateway = mock(PaymentGateway.class);
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final BookingMetrics bookingMetrics = mock(BookingMetrics.class);
+    private final PaymentReconciliationProperties properties = new PaymentReconciliationProperties();
+
+    private final PaymentReconciler reconciler = new PaymentReconciler(
+            reconciliationRepository, paymentGateway, paymentService, bookingMetrics, properties,
+            new DependencyGuard(new ResilienceProperties(),
+                    CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()));
+
+    private final StalePayment paid = new StalePayment(UUID.randomUUID(), "pi_paid");
+    private final StalePayment declined = new StalePayment(UUID.randomUUID(), "pi_declined");
+    private final StalePayment unreachable = new StalePayment(UUID.randomUUID(), "pi_unreachable");
+
+    @BeforeEach
+    void setUp() {
+        when(reconciliationRepository.claimStalePayments(any(), any(), eq(properties.getBatchSize())))
+                .thenReturn(List.of(paid, declined, unreachable));
+        when(paymentGateway.getPaymentIntentStatus("pi_paid")).thenReturn(GatewayIntentStatus.SUCCEEDED);
+        when(paymentGateway.getPaymentIntentStatus("pi_declined")).thenReturn(GatewayIntentStatus.FAILED);
+        when(paymentGateway.getPaymentIntentStatus("pi_unreachable"))
+                .thenThrow(new PaymentGatewayException("timeout", null));
+        when(paymentService.reconcile(paid.paymentId(), GatewayIntentStatus.SUCCEEDED)).thenReturn(PaymentStatus.PAID);
+        when(paymentService.reconcile(declined.paymentId(), GatewayIntentStatus.FAILED))
+                .thenReturn(PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should apply gateway statuses and leave failed lookups for the next run")
+    void shouldReconcileClaimedPayments() throws Exception {
+        assertThat(reconciler.reconcileStalePayments()).isEqualTo(3);
+
+        verify(paymentService).reconcile(paid.paymentId(), GatewayIntentStatus.SUCCEEDED);
+        verify(paymentService).reconcile(declined.paymentId(), GatewayIntentStatus.FAILED);
+        verify(paymentService, never()).reconcile(eq(unreachable.paymentId()), any());
+
+        verify(bookingMetrics).recordReconciliation("PAID");
+        verify(bookingMetrics).recordReconciliation("FAILED");
+        verify(bookingMetrics).recordReconciliation("error");
+        verify(bookingMetrics).recordGatewayCall(eq("get_intent_status"), eq(false), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should keep reconciling after one payment fails to apply")
+    void shouldIsolateFailures() throws Exception {
+        when(paymentService.reconcile(paid.paymentId(), GatewayIntentStatus.SUCCEEDED))
+                .thenThrow(new IllegalStateException("boom"));
+
+        reconciler.reconcileStalePayments();
+
+        verify(paymentService).reconcile(declined.paymentId(), GatewayIntentStatus.FAILED);
+        verify(bookingMetrics, times(2)).recordReconciliation("error");
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldSkipWhenDisabled() throws Exception {
+        properties.setEnabled(false);
+
+        assertThat(reconciler.reconcileStalePayments()).isZero();
+        verifyNoInteractions(reconciliationRepository, paymentGateway, paymentService);
+    }
+}
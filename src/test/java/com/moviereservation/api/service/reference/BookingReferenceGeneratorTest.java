@@ -0,0 +1,192 @@
+package com.moviereservation.api.service.reference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.moviereservation.api.repository.ReservationRepository;
+
+@DisplayName("BookingReferenceGenerator Tests")
+class BookingReferenceGeneratorTest {
+
+    // chk_reservations_booking_reference
+    private static final Pattern DB_FORMAT = Pattern.compile("^[A-Z0-9]{8}$");
+
+    private static final Instant NOW = Instant.parse("2026-03-14T19:30:00Z");
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Should issue unique, valid references across nodes at high rates")
+    void shouldNeverCollideAcrossNodes() throws Exception {
+        // Opening night on a frozen clock: every node far exceeds 256 references per minute
+        final int nodes = BookingReferenceGenerator.MAX_NODE_ID + 1;
+        final int threadsPerNode = 4;
+        final int referencesPerThread = 25_000;
+        final Set<String> references = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int node = 0; node < nodes; node++) {
+                final BookingReferenceGenerator generator = new BookingReferenceGenerator(clock, node);
+                for (int t = 0; t < threadsPerNode; t++) {
+                    executor.submit(() -> {
+                        for (int i = 0; i < referencesPerThread; i++) {
+                            references.add(generator.next());
+                        }
+                    });
+                }
+            }
+        }
+
+        assertThat(references).hasSize(nodes * threadsPerNode * referencesPerThread);
+        assertThat(references).allSatisfy(reference -> {
+            assertThat(reference).matches(DB_FORMAT);
+            assertThat(BookingReferenceGenerator.isValid(reference)).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should issue references in ascending order")
+    void shouldBeTimeSortable() {
+        final BookingReferenceGenerator generator = new BookingReferenceGenerator(clock, 3);
+
+        final List<String> references = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            references.add(generator.next());
+        }
+
+        assertThat(references).isSorted();
+        assertThat(BookingReferenceGenerator.issuedAt(references.getFirst())).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Should continue after seeded references of the same node")
+    void shouldContinueAfterSeed() {
+        final BookingReferenceGenerator before = new BookingReferenceGenerator(clock, 2);
+        final List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            issued.add(before.next());
+        }
+        issued.add("BK1A2B3C"); // legacy format
+
+        final BookingReferenceGenerator restarted = new BookingReferenceGenerator(clock, 2);
+        restarted.seed(issued);
+
+        assertThat(restarted.next()).isGreaterThan(issued.get(599)).isNotIn(issued);
+    }
+
+    @Test
+    @DisplayName("Should detect typos through the check character")
+    void shouldDetectTypos() {
+        final String reference = new BookingReferenceGenerator(clock, 0).next();
+        final char[] chars = reference.toCharArray();
+
+        // Single wrong character
+        chars[3] = chars[3] == 'A' ? 'B' : 'A';
+        assertThat(BookingReferenceGenerator.isValid(new String(chars))).isFalse();
+
+        assertThat(BookingReferenceGenerator.isValid("ABC12345")).isFalse();
+        assertThat(BookingReferenceGenerator.isValid("abc")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should detect swapped neighbours through the check character")
+    void shouldDetectSwappedNeighbours() {
+        final BookingReferenceGenerator generator = new BookingReferenceGenerator(clock, 5);
+
+        for (int n = 0; n < 500; n++) {
+            final String reference = generator.next();
+            for (int i = 0; i + 1 < BookingReferenceGenerator.LENGTH - 1; i++) {
+                final char[] chars = reference.toCharArray();
+                if (chars[i] == chars[i + 1]) {
+                    continue;
+                }
+                final char swapped = chars[i];
+                chars[i] = chars[i + 1];
+                chars[i + 1] = swapped;
+                assertThat(BookingReferenceGenerator.isValid(new String(chars))).as(reference).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should use every character of the alphabet as check character")
+    void shouldUseWholeAlphabetForCheckCharacter() {
+        final BookingReferenceGenerator generator = new BookingReferenceGenerator(clock, 1);
+
+        final Set<Character> checkCharacters = new HashSet<>();
+        for (int i = 0; i < 5_000; i++) {
+            checkCharacters.add(generator.next().charAt(BookingReferenceGenerator.LENGTH - 1));
+        }
+
+        assertThat(checkCharacters).hasSize(BookingReferenceGenerator.ALPHABET.length()).contains('Z');
+    }
+
+    @Test
+    @DisplayName("Should continue after references issued with the previous check character")
+    void shouldContinueAfterLegacyCheckReferences() {
+        final BookingReferenceGenerator before = new BookingReferenceGenerator(clock, 4);
+        final List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            issued.add(withLegacyCheck(before.next()));
+        }
+
+        final BookingReferenceGenerator restarted = new BookingReferenceGenerator(clock, 4);
+        restarted.seed(issued);
+
+        assertThat(restarted.next().substring(0, 7)).isGreaterThan(issued.getLast().substring(0, 7));
+    }
+
+    @Test
+    @DisplayName("Should seed from recent reservations before issuing the first reference")
+    void shouldSeedBeforeFirstReference() {
+        final BookingReferenceGenerator before = new BookingReferenceGenerator(Clock.systemUTC(), 6);
+        final List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            issued.add(before.next());
+        }
+        final ReservationRepository reservationRepository = mock(ReservationRepository.class);
+        when(reservationRepository.findBookingReferencesCreatedAfter(any())).thenReturn(issued);
+
+        final BookingReferenceGenerator restarted = new BookingReferenceGenerator(6, reservationRepository);
+
+        assertThat(restarted.next()).isGreaterThan(issued.getLast());
+        restarted.seedFromRecentReservations();
+        restarted.next();
+        verify(reservationRepository, times(1)).findBookingReferencesCreatedAfter(any());
+    }
+
+    @Test
+    @DisplayName("Should reject node ids outside the encoded range")
+    void shouldRejectInvalidNodeId() {
+        assertThatThrownBy(() -> new BookingReferenceGenerator(clock, BookingReferenceGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ========== Helper Methods ==========
+
+    /**
+     * The reference with the position-weighted mod 31 check character used before.
+     */
+    private static String withLegacyCheck(final String reference) {
+        int sum = 0;
+        for (int i = 0; i < BookingReferenceGenerator.LENGTH - 1; i++) {
+            sum += (i + 1) * BookingReferenceGenerator.ALPHABET.indexOf(reference.charAt(i));
+        }
+        return reference.substring(0, 7) + BookingReferenceGenerator.ALPHABET.charAt(sum % 31);
+    }
+}
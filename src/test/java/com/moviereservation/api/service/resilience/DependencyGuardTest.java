@@ -0,0 +1,96 @@
+package com.moviereservation.api.service.resilience;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.moviereservation.api.config.ResilienceProperties;
+import com.moviereservation.api.service.payment.PaymentGatewayException;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@DisplayName("DependencyGuard Tests")
+class DependencyGuardTest {
+
+    private final ResilienceProperties properties = new ResilienceProperties();
+
+    @Test
+    @DisplayName("Should open after provider failures, then close after successful probes")
+    void shouldOpenAndRecover() throws Exception {
+        final ResilienceProperties.Dependency settings = properties.getPaymentGateway();
+        settings.setOpenDuration(Duration.ofMillis(50));
+        final DependencyGuard guard = newGuard();
+
+        for (int i = 0; i < settings.getMinimumCalls(); i++) {
+            assertThatThrownBy(() -> guard.call(ExternalDependency.PAYMENT_GATEWAY, () -> {
+                throw new PaymentGatewayException("503 from provider", null);
+            })).isInstanceOf(PaymentGatewayException.class);
+        }
+        assertThat(guard.state(ExternalDependency.PAYMENT_GATEWAY)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> guard.call(ExternalDependency.PAYMENT_GATEWAY, () -> "not called"))
+                .isInstanceOfSatisfying(DependencyUnavailableException.class,
+                        e -> assertThat(e.getRetryAfter()).isEqualTo(settings.getOpenDuration()));
+
+        Thread.sleep(settings.getOpenDuration().multipliedBy(2));
+        for (int i = 0; i < settings.getHalfOpenCalls(); i++) {
+            assertThat(guard.call(ExternalDependency.PAYMENT_GATEWAY, () -> "ok")).isEqualTo("ok");
+        }
+        assertThat(guard.state(ExternalDependency.PAYMENT_GATEWAY)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should not count rejected requests as provider failures")
+    void shouldIgnoreRequestErrors() {
+        final DependencyGuard guard = newGuard();
+
+        for (int i = 0; i < properties.getPaymentGateway().getMinimumCalls() * 2; i++) {
+            assertThatThrownBy(() -> guard.call(ExternalDependency.PAYMENT_GATEWAY, () -> {
+                throw new PaymentGatewayException("card declined", null, false);
+            })).isInstanceOf(PaymentGatewayException.class);
+        }
+
+        assertThat(guard.state(ExternalDependency.PAYMENT_GATEWAY)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reject calls beyond the bulkhead without waiting on the dependency")
+    void shouldRejectWhenBulkheadFull() throws Exception {
+        properties.getMail().setMaxConcurrentCalls(2);
+        final DependencyGuard guard = newGuard();
+        final CountDownLatch inFlight = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2; i++) {
+                executor.submit(() -> guard.run(ExternalDependency.MAIL, () -> {
+                    inFlight.countDown();
+                    try {
+                        release.await(); // SMTP server hanging
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            inFlight.await();
+
+            assertThatThrownBy(() -> guard.run(ExternalDependency.MAIL, () -> { }))
+                    .isInstanceOfSatisfying(DependencyUnavailableException.class,
+                            e -> assertThat(e.getDependency()).isEqualTo(ExternalDependency.MAIL));
+            release.countDown();
+        }
+
+        guard.run(ExternalDependency.MAIL, () -> { });
+    }
+
+    private DependencyGuard newGuard() {
+        return new DependencyGuard(properties, CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+    }
+}
@@ -0,0 +1,138 @@
+package com.moviereservation.api.service.screen;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.enums.ShowtimeStatus;
+import com.moviereservation.api.repository.ShowtimeRepository;
+
+@DisplayName("ScreenScheduleIndex Tests")
+class ScreenScheduleIndexTest {
+
+    private static final short SCREEN = 2;
+    private static final Instant DAY = Instant.parse("2026-03-14T00:00:00Z");
+
+    private final ShowtimeRepository showtimeRepository = mock(ShowtimeRepository.class);
+    private final ScreenScheduleIndex index = new ScreenScheduleIndex(showtimeRepository);
+
+    private final UUID morning = UUID.randomUUID();
+    private final UUID evening = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // 10:00-12:15 and 18:00-20:30 on screen 2
+        when(showtimeRepository.findScreenSlotsEndingAfter(any()))
+                .thenReturn(List.of(
+                        new ScreenSlot(morning, SCREEN, at(10, 0), at(12, 15)),
+                        new ScreenSlot(evening, SCREEN, at(18, 0), at(20, 30))));
+        index.reload();
+    }
+
+    @Test
+    @DisplayName("Should find overlapping showtimes and allow back-to-back ones")
+    void shouldFindConflicts() {
+        assertThat(index.findConflict(SCREEN, at(12, 0), at(14, 0), null))
+                .map(ScreenSlot::showtimeId).contains(morning);
+        assertThat(index.findConflict(SCREEN, at(9, 0), at(22, 0), null)).isPresent();
+        assertThat(index.findConflict(SCREEN, at(19, 0), at(19, 30), null))
+                .map(ScreenSlot::showtimeId).contains(evening);
+
+        assertThat(index.findConflict(SCREEN, at(12, 15), at(18, 0), null)).isEmpty();
+        assertThat(index.findConflict((short) 3, at(10, 0), at(12, 0), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore the showtime being moved")
+    void shouldExcludeShowtime() {
+        assertThat(index.findConflict(SCREEN, at(11, 0), at(13, 15), morning)).isEmpty();
+        assertThat(index.findConflict(SCREEN, at(11, 0), at(18, 30), morning))
+                .map(ScreenSlot::showtimeId).contains(evening);
+    }
+
+    @Test
+    @DisplayName("Should list gaps long enough for the movie")
+    void shouldFindFreeSlots() {
+        final List<FreeSlot> freeSlots = index.findFreeSlots(SCREEN, at(8, 0), at(23, 0), Duration.ofMinutes(150));
+
+        assertThat(freeSlots).containsExactly(
+                new FreeSlot(SCREEN, at(12, 15), at(18, 0), at(15, 30)),
+                new FreeSlot(SCREEN, at(20, 30), at(23, 0), at(20, 30)));
+    }
+
+    @Test
+    @DisplayName("Should apply moves and deletions, keeping cancelled showtimes")
+    void shouldApplyChanges() {
+        final Showtime moved = new Showtime();
+        moved.setId(evening);
+        moved.setScreenNumber((short) 3);
+        moved.setStartTime(at(18, 0));
+        moved.setEndTime(at(20, 30));
+        moved.setStatus(ShowtimeStatus.SCHEDULED);
+        index.update(moved);
+
+        assertThat(index.findConflict(SCREEN, at(19, 0), at(19, 30), null)).isEmpty();
+        assertThat(index.findConflict((short) 3, at(19, 0), at(19, 30), null)).isPresent();
+
+        // A cancelled showtime keeps its screen time until deleted, like showtimes_no_overlap
+        moved.setStatus(ShowtimeStatus.CANCELLED);
+        index.update(moved);
+
+        assertThat(index.findConflict((short) 3, at(19, 0), at(19, 30), null)).isPresent();
+
+        moved.setDeletedAt(at(21, 0));
+        index.update(moved);
+
+        assertThat(index.findConflict((short) 3, at(19, 0), at(19, 30), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep changes committed while a reload reads the database")
+    void shouldKeepChangesMadeDuringReload() {
+        final Showtime moved = new Showtime();
+        moved.setId(evening);
+        moved.setScreenNumber((short) 3);
+        moved.setStartTime(at(18, 0));
+        moved.setEndTime(at(20, 30));
+        final Showtime added = new Showtime();
+        added.setId(UUID.randomUUID());
+        added.setScreenNumber(SCREEN);
+        added.setStartTime(at(13, 0));
+        added.setEndTime(at(15, 0));
+
+        // The reload reads the old schedule; both changes commit before it is merged
+        when(showtimeRepository.findScreenSlotsEndingAfter(any())).thenAnswer(_ -> {
+            index.update(moved);
+            index.update(added);
+            return List.of(
+                    new ScreenSlot(morning, SCREEN, at(10, 0), at(12, 15)),
+                    new ScreenSlot(evening, SCREEN, at(18, 0), at(20, 30)));
+        });
+
+        index.reload();
+
+        assertThat(index.findConflict(SCREEN, at(19, 0), at(19, 30), null)).isEmpty();
+        assertThat(index.findConflict((short) 3, at(19, 0), at(19, 30), null))
+                .map(ScreenSlot::showtimeId).contains(evening);
+        assertThat(index.findConflict(SCREEN, at(14, 0), at(14, 30), null))
+                .map(ScreenSlot::showtimeId).contains(added.getId());
+        assertThat(index.findConflict(SCREEN, at(11, 0), at(11, 30), null))
+                .map(ScreenSlot::showtimeId).contains(morning);
+    }
+
+    // ========== Helper Methods ==========
+
+    private static Instant at(final int hour, final int minute) {
+        return DAY.plus(Duration.ofHours(hour).plusMinutes(minute));
+    }
+}
@@ -0,0 +1,100 @@
+package com.moviereservation.api.service.waitingroom;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.moviereservation.api.config.WaitingRoomProperties;
+import com.moviereservation.api.domain.entities.Showtime;
+import com.moviereservation.api.domain.enums.ShowtimeStatus;
+import com.moviereservation.api.exception.WaitingRoomRequiredException;
+import com.moviereservation.api.repository.ShowtimeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WaitingRoomService Tests")
+class WaitingRoomServiceTest {
+
+    @Mock
+    private ShowtimeRepository showtimeRepository;
+
+    private WaitingRoomService waitingRoomService;
+
+    private UUID showtimeId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomService = new WaitingRoomService(
+                new InMemoryWaitingRoomStore(), showtimeRepository, new WaitingRoomProperties());
+
+        final Showtime showtime = new Showtime();
+        showtime.setId(UUID.randomUUID());
+        showtime.setHighDemand(true);
+        showtimeId = showtime.getId();
+        userId = UUID.randomUUID();
+
+        when(showtimeRepository.findHighDemandShowtimes(any(), eq(ShowtimeStatus.SCHEDULED)))
+                .thenReturn(List.of(showtime));
+        waitingRoomService.refreshHighDemandShowtimes();
+    }
+
+    @Test
+    @DisplayName("Should admit the user holding an admitted ticket")
+    void shouldAdmitTicketOwner() {
+        // Arrange
+        final UUID token = admittedTicket(userId);
+
+        // Act & Assert
+        assertThatCode(() -> waitingRoomService.requireAdmission(showtimeId, userId, token))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject an admitted ticket presented by another user")
+    void shouldRejectTicketOfAnotherUser() {
+        // Arrange
+        final UUID token = admittedTicket(userId);
+
+        // Act & Assert
+        assertThatThrownBy(() -> waitingRoomService.requireAdmission(showtimeId, UUID.randomUUID(), token))
+                .isInstanceOf(WaitingRoomRequiredException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject anonymous requests even with an admitted ticket")
+    void shouldRejectAnonymousRequestWithAdmittedTicket() {
+        // Arrange
+        final UUID token = admittedTicket(userId);
+
+        // Act & Assert
+        assertThatThrownBy(() -> waitingRoomService.requireAdmission(showtimeId, null, token))
+                .isInstanceOf(WaitingRoomRequiredException.class)
+                .hasMessageContaining("Sign in");
+    }
+
+    @Test
+    @DisplayName("Should not require admission for ordinary showtimes")
+    void shouldIgnoreOrdinaryShowtimes() {
+        // Act & Assert
+        assertThatCode(() -> waitingRoomService.requireAdmission(UUID.randomUUID(), null, null))
+                .doesNotThrowAnyException();
+    }
+
+    // ========== Helper Methods ==========
+
+    private UUID admittedTicket(final UUID owner) {
+        final UUID token = waitingRoomService.join(showtimeId, owner).token();
+        waitingRoomService.admitWaitingUsers();
+        return token;
+    }
+}
@@ -0,0 +1,54 @@
+package com.moviereservation.api.web.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.moviereservation.api.security.QueryBudgetFilter;
+
+/**
+ * Every endpoint must declare how many SQL statements it may run, so a new
+ * endpoint or an N+1 regression cannot slip in without a budget.
+ */
+@DisplayName("Query Budget Coverage Tests")
+class QueryBudgetCoverageTest {
+
+    @Test
+    @DisplayName("Should declare a positive query budget on every endpoint in web.controller")
+    void shouldDeclareBudgetOnEveryEndpoint() throws Exception {
+        final ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+
+        final List<String> endpoints = new ArrayList<>();
+        final List<String> missing = new ArrayList<>();
+        for (final var candidate : scanner.findCandidateComponents(getClass().getPackageName())) {
+            final Class<?> controller = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+            for (final Method method : controller.getDeclaredMethods()) {
+                if (!AnnotatedElementUtils.hasAnnotation(method, RequestMapping.class)) {
+                    continue;
+                }
+                final String endpoint = controller.getSimpleName() + "." + method.getName();
+                endpoints.add(endpoint);
+                final OptionalInt budget = QueryBudgetFilter.budgetOf(method);
+                if (budget.isEmpty() || budget.getAsInt() <= 0) {
+                    missing.add(endpoint);
+                }
+            }
+        }
+
+        assertThat(endpoints).isNotEmpty();
+        assertThat(missing).as("Endpoints without a positive @QueryBudget").isEmpty();
+    }
+}
@@ -0,0 +1,40 @@
+package com.moviereservation.api.web.dto.response.wrappers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@DisplayName("PreparedErrorResponse Tests")
+class PreparedErrorResponseTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {
+            "Seat A5 is no longer available",
+            "Showtime \"Dune\" not found\n",
+            "Séance complète – 🎬 \\ retry" })
+    @DisplayName("Should render the same JSON as ApiResponse.error")
+    void shouldMatchApiResponse(final String message) throws Exception {
+        final Instant before = Instant.now();
+
+        final JsonNode prepared = objectMapper.readTree(PreparedErrorResponse.render(message));
+        final JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsBytes(ApiResponse.error(message)));
+
+        assertThat(Instant.parse(prepared.get("timestamp").asText())).isBetween(before, Instant.now());
+        ((ObjectNode) prepared).remove("timestamp");
+        ((ObjectNode) expected).remove("timestamp");
+        assertThat(prepared).isEqualTo(expected);
+    }
+}